@@ -84,6 +84,8 @@ public interface ConfigFacade {
 
 	boolean isDuplicateChecksExcludePersonsOfArchivedEntries();
 
+	int getDuplicateChecksIndexMaxPersons();
+
 	double getNameSimilarityThreshold();
 
 	int getInfrastructureSyncThreshold();
@@ -142,6 +144,16 @@ public interface ConfigFacade {
 
 	int getStepSizeForCsvExport();
 
+	/**
+	 * @return The number of threads used to import the lines of an import file at once, for imports that support it
+	 */
+	int getImportParallelism();
+
+	/**
+	 * @return The number of cases whose completeness is calculated in one transaction
+	 */
+	int getCaseCompletenessBatchSize();
+
 	long getDocumentUploadSizeLimitMb();
 
 	long getImportFileSizeLimitMb();
@@ -150,6 +162,14 @@ public interface ConfigFacade {
 
 	String getAuditSourceSite();
 
+	int getAuditLoggerCollectionLimit();
+
+	int getAuditLoggerQueueSize();
+
+	int getAuditLogQueueSize();
+
+	boolean isAuditLogWriteWhenQueueFull();
+
 	void setRequestContext(RequestContextTO requestContext);
 
 	void resetRequestContext();
@@ -56,6 +56,16 @@ public interface CampaignFormDataFacade {
 
 	List<CampaignDiagramDataDto> getDiagramData(List<CampaignDiagramSeries> diagramSeries, CampaignDiagramCriteria campaignDiagramCriteria);
 
+	/**
+	 * Same as {@link #getDiagramData(List, CampaignDiagramCriteria)} for multiple diagrams at once, e.g. all diagrams of a
+	 * dashboard tab.
+	 *
+	 * @return The diagram data in the order of the given series lists.
+	 */
+	List<List<CampaignDiagramDataDto>> getDashboardDiagramData(
+		List<List<CampaignDiagramSeries>> diagramsSeries,
+		CampaignDiagramCriteria campaignDiagramCriteria);
+
 	List<CampaignDiagramDataDto> getDiagramDataByAgeGroup(
 		CampaignDiagramSeries diagramSeriesTotal,
 		CampaignDiagramSeries diagramSeries,
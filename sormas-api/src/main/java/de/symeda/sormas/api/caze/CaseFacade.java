@@ -85,6 +85,19 @@ public interface CaseFacade extends CoreFacade<CaseDataDto, CaseIndexDto, CaseRe
 		ExportConfigurationDto exportConfiguration,
 		Language userLanguage);
 
+	/**
+	 * Returns the next batch of at most {@code max} cases in descending id order after the case with {@code lastId}
+	 * ({@code null} for the first batch).
+	 */
+	List<CaseExportDto> getExportListAfter(
+		CaseCriteria caseCriteria,
+		Collection<String> selectedRows,
+		CaseExportType exportType,
+		Long lastId,
+		int max,
+		ExportConfigurationDto exportConfiguration,
+		Language userLanguage);
+
 	CaseDataDto getCaseDataByUuid(String uuid);
 
 	CaseDataDto updateFollowUpComment(@Valid @NotNull CaseDataDto dto) throws ValidationRuntimeException;
@@ -19,6 +19,7 @@ package de.symeda.sormas.api.caze.classification;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import javax.ejb.Remote;
 
@@ -31,6 +32,19 @@ public interface CaseClassificationFacade {
 
 	CaseClassification getClassification(CaseDataDto caze);
 
+	/**
+	 * Classifies all of the passed cases, loading their persons, pathogen tests and events with one query each.
+	 *
+	 * @return The classification by case uuid.
+	 */
+	Map<String, CaseClassification> getClassifications(List<CaseDataDto> cases);
+
+	/**
+	 * Starts the automatic classification of all active cases of the disease in the background, e.g. after its case definition has
+	 * changed. The progress is logged and the result is stored as a system event.
+	 */
+	void reclassifyCases(Disease disease);
+
 	DiseaseClassificationCriteriaDto getByDisease(Disease disease);
 
 	List<DiseaseClassificationCriteriaDto> getAllSince(Date changeDate);
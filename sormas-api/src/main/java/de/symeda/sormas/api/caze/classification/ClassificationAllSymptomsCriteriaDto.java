@@ -1,6 +1,7 @@
 package de.symeda.sormas.api.caze.classification;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -19,6 +20,7 @@ public class ClassificationAllSymptomsCriteriaDto extends ClassificationCriteria
 
 	private SymptomState symptomState;
 	private FieldVisibilityCheckers fieldVisibilityCheckers;
+	private transient volatile List<Field> symptomFields;
 
 	public ClassificationAllSymptomsCriteriaDto(SymptomState symptomState, Disease disease, String countryLocale) {
 		this.symptomState = symptomState;
@@ -28,25 +30,39 @@ public class ClassificationAllSymptomsCriteriaDto extends ClassificationCriteria
 	@Override
 	public boolean eval(CaseDataDto caze, PersonDto person, List<PathogenTestDto> pathogenTests, List<EventDto> events, Date lastVaccinationDate) {
 
-		for (Field field : SymptomsDto.class.getDeclaredFields()) {
-
-			SymptomsDto symptomsDto = caze.getSymptoms();
-			if (field.getType() == SymptomState.class && fieldVisibilityCheckers.isVisible(SymptomsDto.class, field.getName())) {
-				field.setAccessible(true);
-				try {
-					boolean matchedFieldState = field.get(symptomsDto) == symptomState;
-					field.setAccessible(false);
-					if (!matchedFieldState) {
-						return false;
-					}
-				} catch (IllegalAccessException e) {
-					throw new RuntimeException(e);
+		SymptomsDto symptomsDto = caze.getSymptoms();
+		for (Field field : getSymptomFields()) {
+			try {
+				boolean matchedFieldState = field.get(symptomsDto) == symptomState;
+				if (!matchedFieldState) {
+					return false;
 				}
+			} catch (IllegalAccessException e) {
+				throw new RuntimeException(e);
 			}
 		}
 		return true;
 	}
 
+	/**
+	 * @return The symptom fields that are visible for the disease and country, resolved on first use because they don't change.
+	 */
+	private List<Field> getSymptomFields() {
+
+		List<Field> fields = symptomFields;
+		if (fields == null) {
+			fields = new ArrayList<>();
+			for (Field field : SymptomsDto.class.getDeclaredFields()) {
+				if (field.getType() == SymptomState.class && fieldVisibilityCheckers.isVisible(SymptomsDto.class, field.getName())) {
+					field.setAccessible(true);
+					fields.add(field);
+				}
+			}
+			symptomFields = fields;
+		}
+		return fields;
+	}
+
 	@Override
 	public String buildDescription() {
 		StringBuilder stringBuilder = new StringBuilder();
@@ -46,6 +46,7 @@ public class ClassificationCaseCriteriaDto extends ClassificationCriteriaDto {
 
 	protected String propertyId;
 	protected List<Object> propertyValues;
+	private transient volatile Method propertyGetter;
 
 	public ClassificationCaseCriteriaDto() {
 
@@ -67,11 +68,41 @@ public class ClassificationCaseCriteriaDto extends ClassificationCriteriaDto {
 	@Override
 	public boolean eval(CaseDataDto caze, PersonDto person, List<PathogenTestDto> pathogenTests, List<EventDto> events, Date lastVaccinationDate) {
 
+		Object value = getPropertyValue(getInvokeObject(caze));
+		return propertyValues.contains(value);
+	}
+
+	/**
+	 * @return The value of the criteria's property of {@code invokeObject}, which has to be an instance of {@link #getInvokeClass()}.
+	 *         The getter is only resolved on the first call.
+	 */
+	protected Object getPropertyValue(Object invokeObject) {
+
+		Method getter = propertyGetter;
+		if (getter == null) {
+			getter = resolvePropertyGetter();
+			propertyGetter = getter;
+		}
+
+		try {
+			return getter.invoke(invokeObject);
+		} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private Method resolvePropertyGetter() {
+
+		String capitalizedPropertyId = propertyId.substring(0, 1).toUpperCase() + propertyId.substring(1);
 		try {
-			Method method = getInvokeClass().getMethod("get" + propertyId.substring(0, 1).toUpperCase() + propertyId.substring(1));
-			Object value = method.invoke(getInvokeObject(caze));
-			return propertyValues.contains(value);
-		} catch (NoSuchMethodException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | SecurityException e) {
+			return getInvokeClass().getMethod("get" + capitalizedPropertyId);
+		} catch (NoSuchMethodException e) {
+			try {
+				return getInvokeClass().getMethod("is" + capitalizedPropertyId);
+			} catch (NoSuchMethodException newE) {
+				throw new RuntimeException(newE);
+			}
+		} catch (SecurityException e) {
 			throw new RuntimeException(e);
 		}
 	}
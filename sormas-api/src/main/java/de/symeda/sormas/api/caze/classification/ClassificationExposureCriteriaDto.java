@@ -15,8 +15,6 @@
 
 package de.symeda.sormas.api.caze.classification;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.Date;
 import java.util.List;
 
@@ -60,26 +58,9 @@ public class ClassificationExposureCriteriaDto extends ClassificationCaseCriteri
 				continue;
 			}
 
-			Method method;
-			try {
-				method = getInvokeClass().getMethod("get" + propertyId.substring(0, 1).toUpperCase() + propertyId.substring(1));
-			} catch (NoSuchMethodException e) {
-				try {
-					method = getInvokeClass().getMethod("is" + propertyId.substring(0, 1).toUpperCase() + propertyId.substring(1));
-				} catch (NoSuchMethodException newE) {
-					throw new RuntimeException(newE);
-				}
-			} catch (SecurityException e) {
-				throw new RuntimeException(e);
-			}
-
-			try {
-				Object value = method.invoke(exposure);
-				if (propertyValues.contains(value) || CollectionUtils.isEmpty(propertyValues) && YesNoUnknown.YES.equals(value)) {
-					return true;
-				}
-			} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException | SecurityException e) {
-				throw new RuntimeException(e);
+			Object value = getPropertyValue(exposure);
+			if (propertyValues.contains(value) || CollectionUtils.isEmpty(propertyValues) && YesNoUnknown.YES.equals(value)) {
+				return true;
 			}
 		}
 
@@ -88,6 +88,18 @@ public interface ContactFacade extends CoreFacade<ContactDto, ContactIndexDto, C
 		ExportConfigurationDto exportConfiguration,
 		Language userLanguage);
 
+	/**
+	 * Returns the next batch of at most {@code max} contacts in descending id order after the contact with {@code lastId}
+	 * ({@code null} for the first batch).
+	 */
+	List<ContactExportDto> getExportListAfter(
+		ContactCriteria contactCriteria,
+		Collection<String> selectedRows,
+		Long lastId,
+		int max,
+		ExportConfigurationDto exportConfiguration,
+		Language userLanguage);
+
 	List<VisitSummaryExportDto> getVisitSummaryExportList(
 		ContactCriteria contactCriteria,
 		Collection<String> selectedRows,
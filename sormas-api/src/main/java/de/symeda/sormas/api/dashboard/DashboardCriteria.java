@@ -37,6 +37,11 @@ public class DashboardCriteria extends BaseDashboardCriteria<DashboardCriteria>
 		return epiCurveGrouping;
 	}
 
+	public DashboardCriteria epiCurveGrouping(EpiCurveGrouping epiCurveGrouping) {
+		this.epiCurveGrouping = epiCurveGrouping;
+		return self;
+	}
+
 	public boolean isIncludeNotACaseClassification() {
 		return includeNotACaseClassification;
 	}
@@ -45,6 +50,11 @@ public class DashboardCriteria extends BaseDashboardCriteria<DashboardCriteria>
 		return showMinimumEntries;
 	}
 
+	public DashboardCriteria showMinimumEntries(boolean showMinimumEntries) {
+		this.showMinimumEntries = showMinimumEntries;
+		return self;
+	}
+
 	public CaseMeasure getCaseMeasure() {
 		return caseMeasure;
 	}
@@ -0,0 +1,52 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.api.docgeneneration;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A zip archive of generated documents that has been written to the temp files directory of the server.
+ */
+public class GeneratedDocumentsArchive implements Serializable {
+
+	private static final long serialVersionUID = 4416516396383474722L;
+
+	private final String filePath;
+	private final int documentCount;
+	private final List<String> uploadSizeLimitExceededUuids;
+
+	public GeneratedDocumentsArchive(String filePath, int documentCount, List<String> uploadSizeLimitExceededUuids) {
+		this.filePath = filePath;
+		this.documentCount = documentCount;
+		this.uploadSizeLimitExceededUuids = uploadSizeLimitExceededUuids;
+	}
+
+	public String getFilePath() {
+		return filePath;
+	}
+
+	public int getDocumentCount() {
+		return documentCount;
+	}
+
+	/**
+	 * @return The uuids of the root entities whose documents have not been uploaded because they exceed the upload size limit.
+	 */
+	public List<String> getUploadSizeLimitExceededUuids() {
+		return uploadSizeLimitExceededUuids;
+	}
+}
@@ -58,6 +58,26 @@ public interface QuarantineOrderFacade {
 			Boolean shouldUploadGeneratedDoc)
 			throws DocumentTemplateException;
 
+	/**
+	 * Generates the documents like {@link #getGeneratedDocuments} and writes them into a zip archive as soon as they are
+	 * rendered, so that only a few documents are held in memory at once.
+	 */
+	GeneratedDocumentsArchive getGeneratedDocumentsArchive(
+		String templateName,
+		DocumentWorkflow workflow,
+		List<ReferenceDto> rootEntityReferences,
+		Properties extraProperties,
+		Boolean shouldUploadGeneratedDoc)
+		throws DocumentTemplateException;
+
+	GeneratedDocumentsArchive getGeneratedDocumentsArchiveForEventParticipants(
+		String templateName,
+		List<EventParticipantReferenceDto> rootEntityReferences,
+		Disease eventDisease,
+		Properties extraProperties,
+		Boolean shouldUploadGeneratedDoc)
+		throws DocumentTemplateException;
+
 	List<String> getAvailableTemplates(DocumentWorkflow workflow);
 
 	DocumentVariables getDocumentVariables(DocumentWorkflow documentWorkflow, String templateName) throws DocumentTemplateException;
@@ -67,6 +67,18 @@ public interface EventParticipantFacade
 		Language userLanguage,
 		ExportConfigurationDto exportConfiguration);
 
+	/**
+	 * Returns the next batch of at most {@code max} event participants in descending id order after the event participant with
+	 * {@code lastId} ({@code null} for the first batch).
+	 */
+	List<EventParticipantExportDto> getExportListAfter(
+		EventParticipantCriteria eventParticipantCriteria,
+		Collection<String> selectedRows,
+		Long lastId,
+		int max,
+		Language userLanguage,
+		ExportConfigurationDto exportConfiguration);
+
 	List<EventParticipantDto> getByEventUuids(List<String> eventUuids);
 
 	List<SimilarEventParticipantDto> getMatchingEventParticipants(EventParticipantCriteria criteria);
@@ -17,6 +17,8 @@
  *******************************************************************************/
 package de.symeda.sormas.api.geo;
 
+import java.util.List;
+
 import de.symeda.sormas.api.infrastructure.district.DistrictReferenceDto;
 import de.symeda.sormas.api.infrastructure.region.RegionReferenceDto;
 
@@ -32,6 +34,11 @@ public interface GeoShapeProvider {
 
 	RegionReferenceDto getRegionByCoord(GeoLatLon latLon);
 
+	/**
+	 * @return the region of each of the given coordinates, in the same order; {@code null} for coordinates outside of all regions
+	 */
+	List<RegionReferenceDto> getRegionsByCoords(List<GeoLatLon> latLons);
+
 	GeoLatLon getCenterOfAllRegions();
 
 	GeoLatLon getCenterOfRegion(RegionReferenceDto region);
@@ -40,6 +47,11 @@ public interface GeoShapeProvider {
 
 	DistrictReferenceDto getDistrictByCoord(GeoLatLon latLon);
 
+	/**
+	 * @return the district of each of the given coordinates, in the same order; {@code null} for coordinates outside of all districts
+	 */
+	List<DistrictReferenceDto> getDistrictsByCoords(List<GeoLatLon> latLons);
+
 	GeoLatLon getCenterOfDistrict(DistrictReferenceDto district);
 
 	GeoLatLon[][] getCountryShape();
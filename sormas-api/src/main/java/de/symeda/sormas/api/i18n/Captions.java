@@ -103,6 +103,7 @@ public interface Captions {
 	String actionOverwrite = "actionOverwrite";
 	String actionPick = "actionPick";
 	String actionProceed = "actionProceed";
+	String actionReclassifyCases = "actionReclassifyCases";
 	String actionReject = "actionReject";
 	String actionRemindMeLater = "actionRemindMeLater";
 	String actionReset = "actionReset";
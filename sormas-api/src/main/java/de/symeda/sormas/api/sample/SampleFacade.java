@@ -47,6 +47,14 @@ public interface SampleFacade extends DeletableFacade {
 
 	List<SampleExportDto> getExportList(CaseCriteria caseCriteria, Collection<String> selectedRows, int first, int max);
 
+	/**
+	 * Returns the next batch of at most {@code max} samples in descending id order after the sample with {@code lastId}
+	 * ({@code null} for the first batch).
+	 */
+	List<SampleExportDto> getExportListAfter(SampleCriteria sampleCriteria, Collection<String> selectedRows, Long lastId, int max);
+
+	List<SampleExportDto> getExportListAfter(CaseCriteria caseCriteria, Collection<String> selectedRows, Long lastId, int max);
+
 	long count(SampleCriteria sampleCriteria);
 
 	SampleDto getSampleByUuid(String uuid);
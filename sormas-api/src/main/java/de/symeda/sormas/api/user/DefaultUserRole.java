@@ -431,6 +431,7 @@ public enum DefaultUserRole {
 					EXPORT_DATA_PROTECTION_DATA,
 					OUTBREAK_VIEW,
 					OUTBREAK_EDIT,
+					CASE_RECLASSIFY,
 					SORMAS_REST,
 					SORMAS_UI,
 					DEV_MODE));
@@ -51,6 +51,10 @@ public enum UserRight {
 	CASE_TRANSFER(UserRightGroup.CASE, UserRight._CASE_EDIT),
 	CASE_REFER_FROM_POE(UserRightGroup.CASE, UserRight._CASE_EDIT),
 	CASE_MERGE(UserRightGroup.CASE, UserRight._CASE_EDIT),
+	/*
+	 * Start the automatic classification of all active cases of a disease
+	 */
+	CASE_RECLASSIFY(UserRightGroup.CASE, UserRight._CASE_EDIT),
 	CASE_SHARE(UserRightGroup.CASE, UserRight._CASE_VIEW),
 	CASE_RESPONSIBLE(UserRightGroup.CASE, UserRight._CASE_EDIT),
 
@@ -278,6 +282,7 @@ public enum UserRight {
 	public static final String _CASE_SHARE = "CASE_SHARE";
 	public static final String _CASE_ARCHIVE = "CASE_ARCHIVE";
 	public static final String _CASE_MERGE = "CASE_MERGE";
+	public static final String _CASE_RECLASSIFY = "CASE_RECLASSIFY";
 	public static final String _IMMUNIZATION_VIEW = "IMMUNIZATION_VIEW";
 	public static final String _IMMUNIZATION_CREATE = "IMMUNIZATION_CREATE";
 	public static final String _IMMUNIZATION_EDIT = "IMMUNIZATION_EDIT";
@@ -17,16 +17,20 @@ package de.symeda.sormas.api.utils;
 
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.Predicate;
@@ -46,6 +50,8 @@ import de.symeda.sormas.api.utils.fieldvisibility.checkers.CountryFieldVisibilit
 
 public class CsvStreamUtils {
 
+	private static final Map<Class<?>, List<ExportColumn>> EXPORT_COLUMNS = new ConcurrentHashMap<>();
+
 	public static <T> void writeCsvContentToStream(
 		Class<T> csvRowClass,
 		SupplierBiFunction<Integer, Integer, List<T>> exportRowsSupplier,
@@ -55,71 +61,75 @@ public class CsvStreamUtils {
 		ConfigFacade configFacade,
 		OutputStream out) {
 
-		try (
-			CSVWriter writer = CSVUtils.createCSVWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8.name()), configFacade.getCsvSeparator())) {
-
-			// 1. fields in order of declaration - not using Introspector here, because it gives properties in alphabetical order
-			List<Method> readMethods =
-				getExportRowClassReadMethods(csvRowClass, exportConfiguration, redMethodFilter, configFacade.getCountryLocale());
+		AtomicInteger startIndex = new AtomicInteger();
+		writeCsvBatchesToStream(
+			csvRowClass,
+			(previousExportRows, stepSize) -> exportRowsSupplier.apply(startIndex.getAndAdd(stepSize), stepSize),
+			propertyIdCaptionSupplier,
+			exportConfiguration,
+			redMethodFilter,
+			configFacade,
+			out);
+	}
 
-			// 2. replace entity fields with all the columns of the entity
-			Map<Method, SubEntityProvider<T>> subEntityProviders = new HashMap<Method, SubEntityProvider<T>>();
-			for (int i = 0; i < readMethods.size(); i++) {
-				final Method method = readMethods.get(i);
-				if (EntityDto.class.isAssignableFrom(method.getReturnType())) {
+	/**
+	 * Writes the export rows fetched batch-wise by {@code exportRowsAfterIdSupplier}, which is called with the id of the last row of
+	 * the previous batch ({@code null} for the first batch) and the step size. Should be preferred for big exports, because the
+	 * supplier can seek to the next batch instead of skipping all previous rows.
+	 */
+	public static <T> void writeCsvContentToStream(
+		Class<T> csvRowClass,
+		SupplierBiFunction<Long, Integer, List<T>> exportRowsAfterIdSupplier,
+		Function<T, Long> exportRowIdGetter,
+		SupplierBiFunction<String, Class<?>, String> propertyIdCaptionSupplier,
+		ExportConfigurationDto exportConfiguration,
+		final Predicate redMethodFilter,
+		ConfigFacade configFacade,
+		OutputStream out) {
 
-					// allows us to access the sub entity
-					SubEntityProvider<T> subEntityProvider = createSubEntityProvider(method);
+		writeCsvBatchesToStream(
+			csvRowClass,
+			(previousExportRows, stepSize) -> exportRowsAfterIdSupplier.apply(
+				previousExportRows != null ? exportRowIdGetter.apply(previousExportRows.get(previousExportRows.size() - 1)) : null,
+				stepSize),
+			propertyIdCaptionSupplier,
+			exportConfiguration,
+			redMethodFilter,
+			configFacade,
+			out);
+	}
 
-					// remove entity field
-					readMethods.remove(i);
+	private static <T> void writeCsvBatchesToStream(
+		Class<T> csvRowClass,
+		ExportRowsBatchSupplier<T> exportRowsBatchSupplier,
+		SupplierBiFunction<String, Class<?>, String> propertyIdCaptionSupplier,
+		ExportConfigurationDto exportConfiguration,
+		final Predicate redMethodFilter,
+		ConfigFacade configFacade,
+		OutputStream out) {
 
-					// add columns of the entity
-					List<Method> subReadMethods = getReadMethods(method.getReturnType(), null);
-					readMethods.addAll(i, subReadMethods);
-					i--;
+		try (
+			CSVWriter writer = CSVUtils.createCSVWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8.name()), configFacade.getCsvSeparator())) {
 
-					for (Method subReadMethod : subReadMethods) {
-						subEntityProviders.put(subReadMethod, subEntityProvider);
-					}
-				}
-			}
+			List<ExportColumn> columns =
+				getExportRowClassColumns(csvRowClass, exportConfiguration, redMethodFilter, configFacade.getCountryLocale());
 
 			Class<?> entityClass = null;
 			if (csvRowClass.isAnnotationPresent(ExportEntity.class)) {
 				entityClass = csvRowClass.getAnnotation(ExportEntity.class).value();
 			}
-			String[] fieldClassNames = new String[readMethods.size()];
-			String[] fieldIds = new String[readMethods.size()];
-			String[] labels = new String[readMethods.size()];
-			for (int i = 0; i < readMethods.size(); i++) {
-				final Method method = readMethods.get(i);
-				String fieldName = getFieldNameFromMethod(method);
-
-				String propertyId = fieldName;
-
-				if (method.isAnnotationPresent(ExportProperty.class)) {
-					final ExportProperty exportProperty = method.getAnnotation(ExportProperty.class);
-					if (!exportProperty.combined()) {
-						propertyId = StringUtils.join(exportProperty.value(), ".");
-					}
-				}
-
-				Class<?> fieldEntityClass = entityClass;
-				if (method.isAnnotationPresent(ExportEntity.class)) {
-					fieldEntityClass = method.getAnnotation(ExportEntity.class).value();
-				}
-
-				if (subEntityProviders.containsKey(method)) {
-					fieldEntityClass = subEntityProviders.get(method).getEntityClass();
-					propertyId = subEntityProviders.get(method).getName() + "." + propertyId;
-				}
+			String[] fieldClassNames = new String[columns.size()];
+			String[] fieldIds = new String[columns.size()];
+			String[] labels = new String[columns.size()];
+			for (int i = 0; i < columns.size(); i++) {
+				final ExportColumn column = columns.get(i);
 
+				Class<?> fieldEntityClass = column.entityClass != null ? column.entityClass : entityClass;
 				if (fieldEntityClass != null) {
 					fieldClassNames[i] = DataHelper.getHumanClassName(fieldEntityClass);
 				}
-				fieldIds[i] = propertyId;
-				labels[i] = propertyIdCaptionSupplier.apply(fieldName, method.getReturnType());
+				fieldIds[i] = column.propertyId;
+				labels[i] = propertyIdCaptionSupplier.apply(column.fieldName, column.readMethod.getReturnType());
 			}
 
 			if (entityClass != null) {
@@ -129,42 +139,19 @@ public class CsvStreamUtils {
 			labels[0] = CSVCommentLineValidator.DEFAULT_COMMENT_LINE_PREFIX + labels[0];
 			writer.writeNext(labels, false);
 
-			int startIndex = 0;
 			int stepSize = configFacade.getStepSizeForCsvExport();
 
-			List<T> exportRows;
+			List<T> exportRows = null;
 			do {
-				exportRows = exportRowsSupplier.apply(startIndex, stepSize);
-				try {
-					for (T exportRow : exportRows) {
-						for (int i = 0; i < readMethods.size(); i++) {
-							Method method = readMethods.get(i);
-							SubEntityProvider<T> subEntityProvider = subEntityProviders.get(method);
-							Object entity = subEntityProvider != null ? subEntityProvider.get(exportRow) : exportRow;
-							// Sub entity might be null
-							Object value = entity != null ? method.invoke(entity) : null;
-
-							String formattedValue;
-							ExportFormat formatterAnnotation = method.getAnnotation(ExportFormat.class);
-							if (formatterAnnotation != null) {
-								IExportFormatter<Object> formatter = FormatterProvider.getExportFormatter(formatterAnnotation.value());
-								formattedValue = formatter.format(value);
-							} else {
-								formattedValue = DataHelper.valueToString(value);
-							}
-
-							labels[i] = formattedValue;
-						}
-						writer.writeNext(labels);
+				exportRows = exportRowsBatchSupplier.get(exportRows, stepSize);
+				for (T exportRow : exportRows) {
+					for (int i = 0; i < columns.size(); i++) {
+						labels[i] = columns.get(i).getFormattedValue(exportRow);
 					}
-				} catch (InvocationTargetException | IllegalAccessException | IllegalArgumentException e) {
-					throw new RuntimeException(e);
-				} catch (Exception e) {
-					throw new RuntimeException(e);
+					writer.writeNext(labels);
 				}
 
 				writer.flush();
-				startIndex += stepSize;
 			}
 			while (!(exportRows.size() < stepSize));
 		} catch (Exception e) {
@@ -178,24 +165,50 @@ public class CsvStreamUtils {
 		return propertyId;
 	}
 
-	private static <T> List<Method> getExportRowClassReadMethods(
+	/**
+	 * Selects the columns of {@code exportRowClass} to be exported; entity columns are replaced by all the columns of the entity.
+	 * The columns are resolved once per export row class, so only the filtering has to be done for each export.
+	 */
+	private static <T> List<ExportColumn> getExportRowClassColumns(
 		Class<T> exportRowClass,
 		final ExportConfigurationDto exportConfiguration,
 		final Predicate redMethodFilter,
 		String countryLocale) {
 		final CountryFieldVisibilityChecker countryFieldVisibilityChecker = new CountryFieldVisibilityChecker(countryLocale);
 
-		return getReadMethods(exportRowClass, new Predicate() {
+		List<ExportColumn> columns = new ArrayList<>();
+		for (ExportColumn column : EXPORT_COLUMNS.computeIfAbsent(exportRowClass, CsvStreamUtils::createExportColumns)) {
+			Method m = column.readMethod;
+			if (countryFieldVisibilityChecker.isVisible(m)
+				&& (redMethodFilter == null || redMethodFilter.evaluate(m))
+				&& (exportConfiguration == null || isConfiguredForExport(m, exportConfiguration))) {
+				if (column.subEntityColumns != null) {
+					columns.addAll(column.subEntityColumns);
+				} else {
+					columns.add(column);
+				}
+			}
+		}
 
-			@Override
-			public boolean evaluate(Object o) {
-				Method m = (Method) o;
+		return columns;
+	}
 
-				return (countryFieldVisibilityChecker.isVisible(m))
-					&& (redMethodFilter == null || redMethodFilter.evaluate(o))
-					&& (exportConfiguration == null || isConfiguredForExport(m, exportConfiguration));
+	private static List<ExportColumn> createExportColumns(Class<?> exportRowClass) {
+
+		List<ExportColumn> columns = new ArrayList<>();
+		for (Method readMethod : getReadMethods(exportRowClass, null)) {
+			ExportColumn column = new ExportColumn(readMethod, null);
+			if (EntityDto.class.isAssignableFrom(readMethod.getReturnType())) {
+				List<ExportColumn> subEntityColumns = new ArrayList<>();
+				for (Method subReadMethod : getReadMethods(readMethod.getReturnType(), null)) {
+					subEntityColumns.add(new ExportColumn(subReadMethod, column));
+				}
+				column.subEntityColumns = Collections.unmodifiableList(subEntityColumns);
 			}
-		});
+			columns.add(column);
+		}
+
+		return Collections.unmodifiableList(columns);
 	}
 
 	private static boolean isConfiguredForExport(Method m, ExportConfigurationDto exportConfiguration) {
@@ -240,36 +253,89 @@ public class CsvStreamUtils {
 		R apply(T t, U u);
 	}
 
-	private interface SubEntityProvider<T> {
+	private interface ExportRowsBatchSupplier<T> {
 
-		String getName();
+		/**
+		 * @param previousExportRows
+		 *            The previous batch, {@code null} for the first one
+		 */
+		List<T> get(List<T> previousExportRows, int stepSize);
+	}
 
-		Class<?> getEntityClass();
+	/**
+	 * A column of an export row class with its getter and formatter resolved in advance, so that writing the rows does not need
+	 * any reflection.
+	 */
+	private static final class ExportColumn {
+
+		private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+		private final Method readMethod;
+		private final MethodHandle getter;
+		private final IExportFormatter<Object> formatter;
+		/**
+		 * The entity column of the export row this column is read from; {@code null} if it is read from the export row itself.
+		 */
+		private final ExportColumn parentEntityColumn;
+		/**
+		 * The columns this entity column is replaced with; {@code null} if this is no entity column.
+		 */
+		private List<ExportColumn> subEntityColumns;
+
+		private final String fieldName;
+		private final String propertyId;
+		private final Class<?> entityClass;
+
+		private ExportColumn(Method readMethod, ExportColumn parentEntityColumn) {
+
+			this.readMethod = readMethod;
+			this.parentEntityColumn = parentEntityColumn;
+
+			try {
+				getter = MethodHandles.publicLookup().unreflect(readMethod).asType(GETTER_TYPE);
+			} catch (IllegalAccessException e) {
+				throw new RuntimeException(e);
+			}
 
-		Object get(T parent);
-	}
+			ExportFormat formatterAnnotation = readMethod.getAnnotation(ExportFormat.class);
+			formatter = formatterAnnotation != null ? FormatterProvider.getExportFormatter(formatterAnnotation.value()) : null;
 
-	private static <T> SubEntityProvider<T> createSubEntityProvider(final Method getter) {
-		return new SubEntityProvider<T>() {
+			fieldName = getFieldNameFromMethod(readMethod);
 
-			@Override
-			public String getName() {
-				return getFieldNameFromMethod(getter);
+			String propertyId = fieldName;
+			if (readMethod.isAnnotationPresent(ExportProperty.class)) {
+				final ExportProperty exportProperty = readMethod.getAnnotation(ExportProperty.class);
+				if (!exportProperty.combined()) {
+					propertyId = StringUtils.join(exportProperty.value(), ".");
+				}
 			}
 
-			@Override
-			public Class<?> getEntityClass() {
-				return getter.getReturnType();
+			if (parentEntityColumn != null) {
+				this.propertyId = parentEntityColumn.fieldName + "." + propertyId;
+				this.entityClass = parentEntityColumn.readMethod.getReturnType();
+			} else {
+				this.propertyId = propertyId;
+				this.entityClass = readMethod.isAnnotationPresent(ExportEntity.class) ? readMethod.getAnnotation(ExportEntity.class).value() : null;
 			}
+		}
 
-			@Override
-			public Object get(T parent) {
-				try {
-					return getter.invoke(parent);
-				} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-					throw new RuntimeException(e);
-				}
+		private Object getValue(Object exportRow) {
+
+			try {
+				Object entity = parentEntityColumn != null ? (Object) parentEntityColumn.getter.invokeExact(exportRow) : exportRow;
+				// Sub entity might be null
+				return entity != null ? (Object) getter.invokeExact(entity) : null;
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new RuntimeException(e);
 			}
-		};
+		}
+
+		private String getFormattedValue(Object exportRow) {
+
+			Object value = getValue(exportRow);
+			return formatter != null ? formatter.format(value) : DataHelper.valueToString(value);
+		}
 	}
 }
@@ -15,10 +15,17 @@
 
 package de.symeda.sormas.api.utils.pseudonymization;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import de.symeda.sormas.api.user.UserRight;
 import de.symeda.sormas.api.utils.fieldaccess.FieldAccessChecker;
@@ -29,13 +36,30 @@ import de.symeda.sormas.api.utils.pseudonymization.valuepseudonymizers.DefaultVa
 
 public class DtoPseudonymizer {
 
+	/**
+	 * Instance fields of the DTO classes including the ones of their super classes, with their accessors resolved in advance.
+	 */
+	private static final Map<Class<?>, List<DtoField>> DTO_FIELDS = new ConcurrentHashMap<>();
+
+	/**
+	 * Value pseudonymizers are stateless, so one instance of each type can be shared.
+	 */
+	private static final Map<Class<? extends ValuePseudonymizer>, ValuePseudonymizer<?>> VALUE_PSEUDONYMIZERS = new ConcurrentHashMap<>();
+
 	protected FieldAccessCheckers inJurisdictionCheckers;
 	protected FieldAccessCheckers outsideJurisdictionCheckers;
 
-	private final String stringValuePlaceholder;
+	private final ValuePseudonymizer<?> defaultValuePseudonymizer;
 
 	protected final boolean pseudonymizeMandatoryFields;
 
+	/**
+	 * Fields of the DTO classes to be checked by the field access checkers of this instance. Depends on the checkers, so it has to be
+	 * cleared whenever a checker is added.
+	 */
+	private final Map<Class<?>, DtoMetadata> inJurisdictionMetadata = new ConcurrentHashMap<>();
+	private final Map<Class<?>, DtoMetadata> outsideJurisdictionMetadata = new ConcurrentHashMap<>();
+
 	protected DtoPseudonymizer(
 		FieldAccessCheckers inJurisdictionCheckers,
 		FieldAccessCheckers outsideJurisdictionCheckers,
@@ -44,13 +68,16 @@ public class DtoPseudonymizer {
 		this.inJurisdictionCheckers = inJurisdictionCheckers;
 		this.outsideJurisdictionCheckers = outsideJurisdictionCheckers;
 
-		this.stringValuePlaceholder = stringValuePlaceholder;
+		this.defaultValuePseudonymizer = new DefaultValuePseudonymizer<>(stringValuePlaceholder);
 		this.pseudonymizeMandatoryFields = pseudonymizeMandatoryFields;
 	}
 
 	public void addFieldAccessChecker(FieldAccessChecker inJurisdictionChecker, FieldAccessChecker outsideJurisdictionChecker) {
 		this.inJurisdictionCheckers.add(inJurisdictionChecker);
 		this.outsideJurisdictionCheckers.add(outsideJurisdictionChecker);
+
+		inJurisdictionMetadata.clear();
+		outsideJurisdictionMetadata.clear();
 	}
 
 	public <DTO> void pseudonymizeDtoCollection(
@@ -69,17 +96,14 @@ public class DtoPseudonymizer {
 		final CustomCollectionItemPseudonymization<DTO> customPseudonymization,
 		boolean skipEmbeddedFields) {
 
-		List<Field> pseudonymizableFieldsInJurisdiction = getPseudonymizableFields(type, true);
-		List<Field> pseudonymizableFieldsOutsideJurisdiction = getPseudonymizableFields(type, false);
-		List<Field> embeddedFieldsInJurisdiction = getEmbeddedFields(type, true);
-		List<Field> embeddedFieldsOutsideJurisdiction = getEmbeddedFields(type, false);
+		DtoMetadata metadataInJurisdiction = getMetadata(type, true);
+		DtoMetadata metadataOutsideJurisdiction = getMetadata(type, false);
 
 		for (final DTO dto : dtos) {
 			final boolean isInJurisdiction = jurisdictionValidator.validate(dto);
 			pseudonymizeDto(
 				dto,
-				isInJurisdiction ? pseudonymizableFieldsInJurisdiction : pseudonymizableFieldsOutsideJurisdiction,
-				isInJurisdiction ? embeddedFieldsInJurisdiction : embeddedFieldsOutsideJurisdiction,
+				isInJurisdiction ? metadataInJurisdiction : metadataOutsideJurisdiction,
 				isInJurisdiction,
 				null,
 				customPseudonymization == null ? null : (CustomPseudonymization<DTO>) d -> customPseudonymization.pseudonymize(dto, isInJurisdiction),
@@ -88,17 +112,13 @@ public class DtoPseudonymizer {
 	}
 
 	public <DTO> void pseudonymizeDto(Class<DTO> type, DTO dto, boolean isInJurisdiction, CustomPseudonymization<DTO> customPseudonymization) {
-		List<Field> declaredFields = getPseudonymizableFields(type, isInJurisdiction);
-		List<Field> embeddedFields = getEmbeddedFields(type, isInJurisdiction);
-
-		pseudonymizeDto(dto, declaredFields, embeddedFields, isInJurisdiction, null, customPseudonymization, false);
+		pseudonymizeDto(dto, getMetadata(type, isInJurisdiction), isInJurisdiction, null, customPseudonymization, false);
 	}
 
 	public <DTO> boolean isAccessible(Class<DTO> type, String fieldName, boolean isInJurisdiction) {
-		List<Field> pseudonymizableFields = getPseudonymizableFields(type, isInJurisdiction);
-		for (Field field : pseudonymizableFields) {
-			if (fieldName.equals(field.getName())) {
-				return getFieldAccessCheckers(isInJurisdiction).isAccessible(field, pseudonymizeMandatoryFields);
+		for (PseudonymizableField field : getMetadata(type, isInJurisdiction).pseudonymizableFields) {
+			if (fieldName.equals(field.dtoField.field.getName())) {
+				return field.accessible;
 			}
 		}
 		throw new RuntimeException("Could not find field: " + fieldName);
@@ -109,80 +129,36 @@ public class DtoPseudonymizer {
 			return;
 		}
 
-		List<Field> pseudonymizableFields = getPseudonymizableFields(type, isInJurisdiction);
-		List<Field> embeddedFields = getEmbeddedFields(type, isInJurisdiction);
+		DtoMetadata metadata = getMetadata(type, isInJurisdiction);
 
-		for (Field pseudonymizedField : pseudonymizableFields) {
-			try {
-				if (!getFieldAccessCheckers(isInJurisdiction).isAccessible(pseudonymizedField, pseudonymizeMandatoryFields)
-					|| dto.isPseudonymized() && isFieldValuePseudonymized(pseudonymizedField, dto)) {
-					restoreOriginalValue(dto, pseudonymizedField, originalDto);
-				}
-			} catch (IllegalAccessException | InstantiationException e) {
-				throw new RuntimeException(e);
+		for (PseudonymizableField pseudonymizedField : metadata.pseudonymizableFields) {
+			if (!pseudonymizedField.accessible || dto.isPseudonymized() && isFieldValuePseudonymized(pseudonymizedField.dtoField, dto)) {
+				restoreOriginalValue(dto, pseudonymizedField.dtoField, originalDto);
 			}
 		}
-		for (Field embeddedField : embeddedFields) {
-			Class<?> fieldType = embeddedField.getType();
+		for (DtoField embeddedField : metadata.embeddedFields) {
+			Class<?> fieldType = embeddedField.field.getType();
 
 			if (Pseudonymizable.class.isAssignableFrom(fieldType)) {
-				boolean isAccessible = embeddedField.isAccessible();
-				try {
-					embeddedField.setAccessible(true);
-
-					restorePseudonymizedValues(
-						(Class<Pseudonymizable>) fieldType,
-						(Pseudonymizable) embeddedField.get(dto),
-						(Pseudonymizable) embeddedField.get(originalDto),
-						isInJurisdiction);
-				} catch (IllegalAccessException e) {
-					throw new RuntimeException("Couldn't restore embedded field " + dto.getClass().getName() + "." + embeddedField.getName(), e);
-				} finally {
-					embeddedField.setAccessible(isAccessible);
-				}
+				restorePseudonymizedValues(
+					(Class<Pseudonymizable>) fieldType,
+					(Pseudonymizable) embeddedField.get(dto),
+					(Pseudonymizable) embeddedField.get(originalDto),
+					isInJurisdiction);
 			}
 		}
 	}
 
-	private <DTO extends Pseudonymizable> boolean isFieldValuePseudonymized(Field pseudonymizedField, DTO dto)
-		throws IllegalAccessException, InstantiationException {
+	private <DTO extends Pseudonymizable> boolean isFieldValuePseudonymized(DtoField pseudonymizedField, DTO dto) {
 
 		ValuePseudonymizer<Object> pseudonymizer = (ValuePseudonymizer<Object>) getPseudonymizer(pseudonymizedField, null);
 
-		boolean accessible = pseudonymizedField.isAccessible();
-		pseudonymizedField.setAccessible(true);
-
-		Object fieldValue = pseudonymizedField.get(dto);
-
-		pseudonymizedField.setAccessible(accessible);
-
-		return pseudonymizer.isValuePseudonymized(fieldValue);
-	}
-
-	private <DTO> boolean pseudonymizeDto(
-		Class<DTO> type,
-		DTO dto,
-		boolean isInJurisdiction,
-		Class<? extends ValuePseudonymizer> defaultPseudonymizerClass,
-		CustomPseudonymization<DTO> customPseudonymization,
-		boolean skipEmbeddedFields) {
-		List<Field> declaredFields = getPseudonymizableFields(type, isInJurisdiction);
-		List<Field> embeddedFields = getEmbeddedFields(type, isInJurisdiction);
-
-		return pseudonymizeDto(
-			dto,
-			declaredFields,
-			embeddedFields,
-			isInJurisdiction,
-			defaultPseudonymizerClass,
-			customPseudonymization,
-			skipEmbeddedFields);
+		return pseudonymizer.isValuePseudonymized(pseudonymizedField.get(dto));
 	}
 
 	private <DTO> boolean pseudonymizeDto(
 		DTO dto,
-		List<Field> pseudonymizableFields,
-		List<Field> embeddedFields,
+		DtoMetadata metadata,
 		boolean inJurisdiction,
 		Class<? extends ValuePseudonymizer> defaultPseudonymizerClass,
 		CustomPseudonymization<DTO> customPseudonymization,
@@ -193,47 +169,30 @@ public class DtoPseudonymizer {
 
 		boolean didPersonalOrSensitiveDataPseudonymization = false;
 
-		for (Field field : pseudonymizableFields) {
-			FieldAccessCheckers fieldAccessCheckers = getFieldAccessCheckers(inJurisdiction);
-			if (!fieldAccessCheckers.isAccessible(field, pseudonymizeMandatoryFields)) {
-				pseudonymizeField(dto, field, defaultPseudonymizerClass);
+		for (PseudonymizableField field : metadata.pseudonymizableFields) {
+			if (!field.accessible) {
+				pseudonymizeField(dto, field.dtoField, defaultPseudonymizerClass);
 				// only personal and sensitive data pseudonymization needs special handling on the client side
 				// other not accessible data is hidden on the client side, so just cleanup and don't mark the DTO as pseudonymized
-				if (!didPersonalOrSensitiveDataPseudonymization) {
-					didPersonalOrSensitiveDataPseudonymization = !fieldAccessCheckers.isAccessibleBy(
-						field,
-						pseudonymizeMandatoryFields,
-						PersonalDataFieldAccessChecker.class,
-						SensitiveDataFieldAccessChecker.class);
+				if (field.personalOrSensitiveData) {
+					didPersonalOrSensitiveDataPseudonymization = true;
 				}
 			}
 		}
 
 		if (!skipEmbeddedFields) {
-			for (Field embeddedField : embeddedFields) {
-				boolean accessible = embeddedField.isAccessible();
-				try {
-
-					embeddedField.setAccessible(true);
-					Pseudonymizer pseudonymizerAnnotation = embeddedField.getAnnotation(Pseudonymizer.class);
-					Class<? extends ValuePseudonymizer> psudonomyzerClass =
-						pseudonymizerAnnotation != null ? pseudonymizerAnnotation.value() : defaultPseudonymizerClass;
-
-					if (pseudonymizeDto(
-						(Class<Object>) embeddedField.getType(),
-						embeddedField.get(dto),
-						inJurisdiction,
-						psudonomyzerClass,
-						null,
-						skipEmbeddedFields)) {
-						didPersonalOrSensitiveDataPseudonymization = true;
-					}
-				} catch (IllegalAccessException e) {
-					throw new RuntimeException(
-						"Failed to pseudonymize embedded field " + dto.getClass().getName() + "." + embeddedField.getName(),
-						e);
-				} finally {
-					embeddedField.setAccessible(accessible);
+			for (DtoField embeddedField : metadata.embeddedFields) {
+				Class<? extends ValuePseudonymizer> psudonomyzerClass =
+					embeddedField.pseudonymizerClass != null ? embeddedField.pseudonymizerClass : defaultPseudonymizerClass;
+
+				if (pseudonymizeDto(
+					embeddedField.get(dto),
+					getMetadata(embeddedField.field.getType(), inJurisdiction),
+					inJurisdiction,
+					psudonomyzerClass,
+					null,
+					skipEmbeddedFields)) {
+					didPersonalOrSensitiveDataPseudonymization = true;
 				}
 			}
 		}
@@ -250,87 +209,86 @@ public class DtoPseudonymizer {
 		return didPersonalOrSensitiveDataPseudonymization;
 	}
 
-	private <DTO> void pseudonymizeField(DTO dto, Field field, Class<? extends ValuePseudonymizer> pseudonymizerClass) {
-
-		try {
-			field.setAccessible(true);
+	private <DTO> void pseudonymizeField(DTO dto, DtoField field, Class<? extends ValuePseudonymizer> pseudonymizerClass) {
 
-			ValuePseudonymizer<?> pseudonymizer = getPseudonymizer(field, pseudonymizerClass);
-			Object emptyValue = pseudonymizer.pseudonymize(field.get(dto));
-			field.set(dto, emptyValue);
-		} catch (IllegalAccessException | InstantiationException e) {
-			throw new RuntimeException(e);
-		} finally {
-			field.setAccessible(false);
-		}
+		ValuePseudonymizer<?> pseudonymizer = getPseudonymizer(field, pseudonymizerClass);
+		Object emptyValue = pseudonymizer.pseudonymize(field.get(dto));
+		field.set(dto, emptyValue);
 	}
 
-	private ValuePseudonymizer<?> getPseudonymizer(Field field, Class<? extends ValuePseudonymizer> defaultPseudonymizerClass)
-		throws IllegalAccessException, InstantiationException {
-		Pseudonymizer pseudonymizerAnnotation = field.getAnnotation(Pseudonymizer.class);
+	private ValuePseudonymizer<?> getPseudonymizer(DtoField field, Class<? extends ValuePseudonymizer> defaultPseudonymizerClass) {
 
-		if (pseudonymizerAnnotation == null) {
+		if (field.pseudonymizerClass == null) {
 			if (defaultPseudonymizerClass != null) {
-				return defaultPseudonymizerClass.newInstance();
+				return getValuePseudonymizer(defaultPseudonymizerClass);
 			}
 
-			return new DefaultValuePseudonymizer<>(stringValuePlaceholder);
+			return defaultValuePseudonymizer;
 		}
 
-		return pseudonymizerAnnotation.value().newInstance();
+		return getValuePseudonymizer(field.pseudonymizerClass);
 	}
 
-	private <DTO extends Pseudonymizable> void restoreOriginalValue(DTO dto, Field field, DTO originalDto) {
-
-		try {
-			field.setAccessible(true);
-			Object originalValue = field.get(originalDto);
-			field.set(dto, originalValue);
-		} catch (IllegalAccessException e) {
-			throw new RuntimeException(e);
-		} finally {
-			field.setAccessible(false);
-		}
-	}
+	private static ValuePseudonymizer<?> getValuePseudonymizer(Class<? extends ValuePseudonymizer> pseudonymizerClass) {
 
-	private List<Field> getPseudonymizableFields(Class<?> type, boolean inJurisdiction) {
-		final FieldAccessCheckers fieldAccessCheckers = getFieldAccessCheckers(inJurisdiction);
-
-		return filterFields(type, new FieldFilter() {
-
-			@Override
-			public boolean apply(Field field) {
-				return fieldAccessCheckers.isConfiguredForCheck(field, pseudonymizeMandatoryFields);
+		return VALUE_PSEUDONYMIZERS.computeIfAbsent(pseudonymizerClass, c -> {
+			try {
+				return c.getDeclaredConstructor().newInstance();
+			} catch (ReflectiveOperationException e) {
+				throw new RuntimeException(e);
 			}
 		});
 	}
 
-	private List<Field> getEmbeddedFields(Class<?> type, boolean inJurisdiction) {
-		final FieldAccessCheckers fieldAccessCheckers = getFieldAccessCheckers(inJurisdiction);
+	private <DTO extends Pseudonymizable> void restoreOriginalValue(DTO dto, DtoField field, DTO originalDto) {
+		field.set(dto, field.get(originalDto));
+	}
 
-		return filterFields(type, new FieldFilter() {
+	private DtoMetadata getMetadata(Class<?> type, boolean inJurisdiction) {
 
-			@Override
-			public boolean apply(Field field) {
-				return fieldAccessCheckers.isEmbedded(field);
-			}
-		});
+		Map<Class<?>, DtoMetadata> metadata = inJurisdiction ? inJurisdictionMetadata : outsideJurisdictionMetadata;
+		return metadata.computeIfAbsent(type, t -> createMetadata(t, getFieldAccessCheckers(inJurisdiction)));
 	}
 
-	private List<Field> filterFields(Class<?> type, FieldFilter filter) {
-		List<Field> declaredFields = new ArrayList<>();
-
-		for (Field field : type.getDeclaredFields()) {
-			if (filter.apply(field)) {
-				declaredFields.add(field);
+	private DtoMetadata createMetadata(Class<?> type, FieldAccessCheckers fieldAccessCheckers) {
+
+		List<PseudonymizableField> pseudonymizableFields = new ArrayList<>();
+		List<DtoField> embeddedFields = new ArrayList<>();
+
+		for (DtoField dtoField : getDtoFields(type)) {
+			Field field = dtoField.field;
+			if (fieldAccessCheckers.isConfiguredForCheck(field, pseudonymizeMandatoryFields)) {
+				pseudonymizableFields.add(
+					new PseudonymizableField(
+						dtoField,
+						fieldAccessCheckers.isAccessible(field, pseudonymizeMandatoryFields),
+						!fieldAccessCheckers.isAccessibleBy(
+							field,
+							pseudonymizeMandatoryFields,
+							PersonalDataFieldAccessChecker.class,
+							SensitiveDataFieldAccessChecker.class)));
+			}
+			if (fieldAccessCheckers.isEmbedded(field)) {
+				embeddedFields.add(dtoField);
 			}
 		}
 
-		if (type.getSuperclass() != null) {
-			declaredFields.addAll(filterFields(type.getSuperclass(), filter));
-		}
+		return new DtoMetadata(pseudonymizableFields, embeddedFields);
+	}
 
-		return declaredFields;
+	private static List<DtoField> getDtoFields(Class<?> type) {
+		return DTO_FIELDS.computeIfAbsent(type, t -> {
+			List<DtoField> dtoFields = new ArrayList<>();
+			for (Class<?> c = t; c != null; c = c.getSuperclass()) {
+				for (Field field : c.getDeclaredFields()) {
+					if (!Modifier.isStatic(field.getModifiers())) {
+						dtoFields.add(new DtoField(field));
+					}
+				}
+			}
+
+			return Collections.unmodifiableList(dtoFields);
+		});
 	}
 
 	protected FieldAccessCheckers getFieldAccessCheckers(boolean inJurisdiction) {
@@ -357,9 +315,80 @@ public class DtoPseudonymizer {
 		void pseudonymize(DTO dto);
 	}
 
-	private interface FieldFilter {
+	/**
+	 * Instance field of a DTO class with a getter and setter that don't need any access checks.
+	 */
+	private static final class DtoField {
+
+		private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+		private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+		private final Field field;
+		private final MethodHandle getter;
+		private final MethodHandle setter;
+		private final Class<? extends ValuePseudonymizer> pseudonymizerClass;
+
+		private DtoField(Field field) {
+			this.field = field;
+
+			try {
+				field.setAccessible(true);
+				MethodHandles.Lookup lookup = MethodHandles.lookup();
+				getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+				setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+			} catch (IllegalAccessException e) {
+				throw new RuntimeException("Couldn't access field " + field.getDeclaringClass().getName() + "." + field.getName(), e);
+			}
+
+			Pseudonymizer pseudonymizerAnnotation = field.getAnnotation(Pseudonymizer.class);
+			pseudonymizerClass = pseudonymizerAnnotation != null ? pseudonymizerAnnotation.value() : null;
+		}
+
+		private Object get(Object dto) {
+			try {
+				return (Object) getter.invokeExact(dto);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		private void set(Object dto, Object value) {
+			try {
+				setter.invokeExact(dto, value);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	private static final class PseudonymizableField {
 
-		boolean apply(Field field);
+		private final DtoField dtoField;
+		private final boolean accessible;
+		/**
+		 * Whether the field is inaccessible because of the personal or sensitive data checkers.
+		 */
+		private final boolean personalOrSensitiveData;
+
+		private PseudonymizableField(DtoField dtoField, boolean accessible, boolean personalOrSensitiveData) {
+			this.dtoField = dtoField;
+			this.accessible = accessible;
+			this.personalOrSensitiveData = personalOrSensitiveData;
+		}
 	}
 
+	private static final class DtoMetadata {
+
+		private final List<PseudonymizableField> pseudonymizableFields;
+		private final List<DtoField> embeddedFields;
+
+		private DtoMetadata(List<PseudonymizableField> pseudonymizableFields, List<DtoField> embeddedFields) {
+			this.pseudonymizableFields = pseudonymizableFields;
+			this.embeddedFields = embeddedFields;
+		}
+	}
 }
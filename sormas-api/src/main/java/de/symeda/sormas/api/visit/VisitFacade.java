@@ -58,6 +58,18 @@ public interface VisitFacade extends BaseFacade<VisitDto, VisitIndexDto, VisitRe
 		int max,
 		ExportConfigurationDto exportConfiguration);
 
+	/**
+	 * Returns the next batch of at most {@code max} visits in descending id order after the visit with {@code lastId}
+	 * ({@code null} for the first batch).
+	 */
+	List<VisitExportDto> getVisitsExportListAfter(
+		VisitCriteria visitCriteria,
+		Collection<String> selectedRows,
+		VisitExportType exportType,
+		Long lastId,
+		int max,
+		ExportConfigurationDto exportConfiguration);
+
 	VisitDto getLastVisitByContact(ContactReferenceDto contactRef);
 
 	List<VisitDto> getVisitsByContact(ContactReferenceDto contactRef);
@@ -0,0 +1,132 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.api.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import de.symeda.sormas.api.ConfigFacade;
+
+public class CsvStreamUtilsTest {
+
+	@Test
+	public void testWriteCsvContentToStream() {
+
+		List<TestExportRow> rows = Arrays.asList(new TestExportRow(3L, "Anna", 31), new TestExportRow(2L, null, null), new TestExportRow(1L, "Ben", 7));
+
+		String offsetCsv = writeCsv(
+			out -> CsvStreamUtils.writeCsvContentToStream(
+				TestExportRow.class,
+				(start, max) -> rows.subList(Math.min(start, rows.size()), Math.min(start + max, rows.size())),
+				(propertyId, type) -> propertyId.toUpperCase(),
+				null,
+				null,
+				createConfigFacade(2),
+				out));
+
+		assertEquals("\"id\",\"name\",\"age\"\n#ID,NAME,AGE\n\"3\",\"Anna\",\"31\"\n\"2\",\"\",\"\"\n\"1\",\"Ben\",\"7\"\n", offsetCsv);
+
+		String afterIdCsv = writeCsv(out -> CsvStreamUtils.writeCsvContentToStream(TestExportRow.class, (lastId, max) -> {
+			List<TestExportRow> batch = new ArrayList<>();
+			for (TestExportRow row : rows) {
+				if ((lastId == null || row.getId() < lastId) && batch.size() < max) {
+					batch.add(row);
+				}
+			}
+			return batch;
+		}, TestExportRow::getId, (propertyId, type) -> propertyId.toUpperCase(), null, null, createConfigFacade(2), out));
+
+		assertEquals(offsetCsv, afterIdCsv);
+	}
+
+	@Test
+	public void testWriteCsvContentToStreamWithFilter() {
+
+		String csv = writeCsv(
+			out -> CsvStreamUtils.writeCsvContentToStream(
+				TestExportRow.class,
+				(start, max) -> start == 0 ? Arrays.asList(new TestExportRow(1L, "Anna", 31)) : new ArrayList<>(),
+				(propertyId, type) -> propertyId,
+				null,
+				method -> !"getAge".equals(((Method) method).getName()),
+				createConfigFacade(100),
+				out));
+
+		assertEquals("\"id\",\"name\"\n#id,name\n\"1\",\"Anna\"\n", csv);
+	}
+
+	private static String writeCsv(Consumer<ByteArrayOutputStream> writer) {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		writer.accept(out);
+		return new String(out.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	private static ConfigFacade createConfigFacade(int stepSize) {
+
+		return (ConfigFacade) Proxy.newProxyInstance(ConfigFacade.class.getClassLoader(), new Class<?>[] {
+			ConfigFacade.class }, (proxy, method, args) -> {
+				switch (method.getName()) {
+				case "getCsvSeparator":
+					return ',';
+				case "getCountryLocale":
+					return "en";
+				case "getStepSizeForCsvExport":
+					return stepSize;
+				default:
+					throw new UnsupportedOperationException(method.getName());
+				}
+			});
+	}
+
+	public static class TestExportRow {
+
+		private final Long id;
+		private final String name;
+		private final Integer age;
+
+		public TestExportRow(Long id, String name, Integer age) {
+			this.id = id;
+			this.name = name;
+			this.age = age;
+		}
+
+		@Order(0)
+		public Long getId() {
+			return id;
+		}
+
+		@Order(1)
+		public String getName() {
+			return name;
+		}
+
+		@Order(2)
+		public Integer getAge() {
+			return age;
+		}
+	}
+}
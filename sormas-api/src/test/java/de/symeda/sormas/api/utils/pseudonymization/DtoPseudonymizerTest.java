@@ -0,0 +1,119 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.api.utils.pseudonymization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.symeda.sormas.api.utils.PersonalData;
+import de.symeda.sormas.api.utils.SensitiveData;
+import de.symeda.sormas.api.utils.fieldaccess.FieldAccessCheckers;
+import de.symeda.sormas.api.utils.fieldaccess.checkers.PersonalDataFieldAccessChecker;
+import de.symeda.sormas.api.utils.fieldaccess.checkers.SensitiveDataFieldAccessChecker;
+import de.symeda.sormas.api.utils.pseudonymization.valuepseudonymizers.PostalCodePseudonymizer;
+
+public class DtoPseudonymizerTest {
+
+	@Test
+	public void testPseudonymizeDtoCollection() {
+
+		DtoPseudonymizer pseudonymizer = new DtoPseudonymizer(
+			FieldAccessCheckers.withCheckers(PersonalDataFieldAccessChecker.forcedNoAccess()),
+			FieldAccessCheckers.withCheckers(PersonalDataFieldAccessChecker.forcedNoAccess()),
+			"***",
+			true);
+
+		List<TestDto> dtos = Arrays.asList(new TestDto("Anna", "12345", 42), new TestDto("Ben", "54321", null));
+		pseudonymizer.pseudonymizeDtoCollection(TestDto.class, dtos, dto -> dto.getAge() != null, null);
+
+		assertEquals("***", dtos.get(0).name);
+		assertEquals("123", dtos.get(0).postalCode);
+		assertEquals(Integer.valueOf(42), dtos.get(0).getAge());
+		assertTrue(dtos.get(0).isPseudonymized());
+		assertTrue(dtos.get(0).isInJurisdiction());
+
+		assertEquals("***", dtos.get(1).name);
+		assertEquals("543", dtos.get(1).postalCode);
+		assertFalse(dtos.get(1).isInJurisdiction());
+	}
+
+	@Test
+	public void testAddFieldAccessCheckerAfterPseudonymization() {
+
+		DtoPseudonymizer pseudonymizer = new DtoPseudonymizer(new FieldAccessCheckers(), new FieldAccessCheckers(), "", true);
+
+		TestDto dto = new TestDto("Anna", "12345", 42);
+		pseudonymizer.pseudonymizeDto(TestDto.class, dto, true, null);
+		assertEquals(Integer.valueOf(42), dto.getAge());
+		assertFalse(dto.isPseudonymized());
+
+		pseudonymizer.addFieldAccessChecker(SensitiveDataFieldAccessChecker.forcedNoAccess(), SensitiveDataFieldAccessChecker.forcedNoAccess());
+
+		pseudonymizer.pseudonymizeDto(TestDto.class, dto, true, null);
+		assertNull(dto.getAge());
+		assertEquals("Anna", dto.name);
+		assertTrue(dto.isPseudonymized());
+		assertFalse(pseudonymizer.isAccessible(TestDto.class, "age", true));
+	}
+
+	@Test
+	public void testRestorePseudonymizedValues() {
+
+		DtoPseudonymizer pseudonymizer = new DtoPseudonymizer(
+			FieldAccessCheckers.withCheckers(PersonalDataFieldAccessChecker.forcedNoAccess()),
+			FieldAccessCheckers.withCheckers(PersonalDataFieldAccessChecker.forcedNoAccess()),
+			"",
+			true);
+
+		TestDto originalDto = new TestDto("Anna", "12345", 42);
+		TestDto dto = new TestDto("Ben", "54321", 43);
+		pseudonymizer.restorePseudonymizedValues(TestDto.class, dto, originalDto, true);
+
+		assertEquals("Anna", dto.name);
+		assertEquals("12345", dto.postalCode);
+		assertEquals(Integer.valueOf(43), dto.getAge());
+	}
+
+	public static class TestDto extends PseudonymizableDto {
+
+		private static final long serialVersionUID = 1L;
+
+		@PersonalData
+		private String name;
+		@PersonalData
+		@Pseudonymizer(PostalCodePseudonymizer.class)
+		private String postalCode;
+		@SensitiveData
+		private Integer age;
+
+		public TestDto(String name, String postalCode, Integer age) {
+			this.name = name;
+			this.postalCode = postalCode;
+			this.age = age;
+		}
+
+		public Integer getAge() {
+			return age;
+		}
+	}
+}
@@ -21,7 +21,10 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.persistence.ManyToMany;
 import javax.persistence.OneToMany;
@@ -50,6 +53,11 @@ public class EntityInspector {
 		"get",
 		"is" };
 
+	/**
+	 * The audited attributes only depend on the class, so the reflection is done once per class.
+	 */
+	private static final Map<Class<?>, List<Method>> AUDITED_ATTRIBUTES = new ConcurrentHashMap<>();
+
 	private final Object entity;
 
 	public EntityInspector(Object entity) {
@@ -61,14 +69,12 @@ public class EntityInspector {
 	 */
 	public List<Method> getAuditedAttributes() {
 
-		List<Method> auditedMethods = new ArrayList<>();
-
-		if (this.entity != null) {
-			Class<?> clazz = this.entity.getClass();
-			auditedMethods.addAll(getAuditedAttributes(clazz));
+		if (this.entity == null) {
+			return Collections.emptyList();
 		}
 
-		return auditedMethods;
+		return AUDITED_ATTRIBUTES
+			.computeIfAbsent(this.entity.getClass(), clazz -> Collections.unmodifiableList(getAuditedAttributes(clazz)));
 	}
 
 	/**
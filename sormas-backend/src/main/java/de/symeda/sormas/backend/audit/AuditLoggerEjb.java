@@ -44,14 +44,26 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.annotation.Resource;
+import javax.ejb.ConcurrencyManagement;
+import javax.ejb.ConcurrencyManagementType;
 import javax.ejb.EJB;
 import javax.ejb.LocalBean;
 import javax.ejb.SessionContext;
 import javax.ejb.Singleton;
+import javax.enterprise.concurrent.ManagedScheduledExecutorService;
 
 import org.hl7.fhir.r4.model.AuditEvent;
 import org.hl7.fhir.r4.model.CodeableConcept;
@@ -79,8 +91,15 @@ import de.symeda.sormas.backend.common.ConfigFacadeEjb;
 import de.symeda.sormas.backend.user.CurrentUserService;
 import de.symeda.sormas.backend.user.User;
 
+/**
+ * Writes the SORMAS audit trail as FHIR {@link AuditEvent}s to the {@link LogSink}.
+ * <p>
+ * The events are built on the calling thread, but encoded and written in the background, so audited calls do not wait for
+ * the serialization. When the queue is full, the calling thread writes the queued events itself.
+ */
 @AuditIgnore
 @Singleton(name = "AuditLoggerFacade")
+@ConcurrencyManagement(ConcurrencyManagementType.BEAN)
 public class AuditLoggerEjb implements AuditLoggerFacade {
 
 	private static final Logger logger = LoggerFactory.getLogger(AuditLoggerEjb.class);
@@ -97,9 +116,13 @@ public class AuditLoggerEjb implements AuditLoggerFacade {
 	public static final Reference LAB_MESSAGE_CONVERT_TO_HTML = new Reference("convertToHTML");
 	public static final Reference GET_EXTERNAL_LAB_MESSAGES = new Reference("getExternalLabMessages");
 
+	private static final long WRITE_INTERVAL_MILLIS = 500;
+	private static final long DELAY_WARNING_MILLIS = 10000;
+
 	private IParser fhirJsonParser;
 	private String auditSourceSite;
 	private Reflections reflections;
+	private int collectionLimit;
 	private Map<String, AuditEvent.AuditEventAction> actionBackendMap;
 	private static final Map<String, AuditEvent.AuditEventAction> actionRestMap;
 
@@ -112,10 +135,18 @@ public class AuditLoggerEjb implements AuditLoggerFacade {
 		actionRestMap = Collections.unmodifiableMap(map);
 	}
 
-	private final Map<Class<?>, String> cachedClassName = new HashMap<>();
+	private final Map<Class<?>, Optional<String>> cachedClassName = new ConcurrentHashMap<>();
 
-	private final Map<Class<?>, List<Field>> cachedAnnotatedFields = new HashMap<>();
-	private final Map<Class<?>, List<Method>> cachedAnnotatedMethods = new HashMap<>();
+	private final Map<Class<?>, List<Field>> cachedAnnotatedFields = new ConcurrentHashMap<>();
+	private final Map<Class<?>, List<Method>> cachedAnnotatedMethods = new ConcurrentHashMap<>();
+
+	private BlockingQueue<AuditEvent> queue;
+	/**
+	 * The FHIR parser is not thread-safe, so only one thread may write at a time.
+	 */
+	private final ReentrantLock writeLock = new ReentrantLock();
+	private ScheduledFuture<?> writeTask;
+	private final AtomicLong overflowCount = new AtomicLong();
 
 	@EJB
 	private ConfigFacadeEjb.ConfigFacadeEjbLocal configFacade;
@@ -127,6 +158,8 @@ public class AuditLoggerEjb implements AuditLoggerFacade {
 	// todo we need the session context in addition to the UserService as SYSTEM/ANONYMOUS do return null in the currentUserService
 	@Resource
 	private SessionContext sessionContext;
+	@Resource
+	private ManagedScheduledExecutorService executorService;
 
 	private static boolean loggingDisabled = false;
 
@@ -149,7 +182,8 @@ public class AuditLoggerEjb implements AuditLoggerFacade {
 			loggingDisabled = true;
 		}
 
-		actionBackendMap = new HashMap<>();
+		collectionLimit = configFacade.getAuditLoggerCollectionLimit();
+		actionBackendMap = new ConcurrentHashMap<>();
 
 		FhirContext fhirContext = FhirContext.forR4();
 		fhirJsonParser = fhirContext.newJsonParser();
@@ -160,11 +194,73 @@ public class AuditLoggerEjb implements AuditLoggerFacade {
 			.setParallel(false); // <-- DO NOT USE PARALLEL SCANNING: Blocks deployment in some cases
 
 		reflections = new Reflections(configurationBuilder);
+
+		queue = new ArrayBlockingQueue<>(configFacade.getAuditLoggerQueueSize());
+		if (!loggingDisabled) {
+			writeTask = executorService
+				.scheduleWithFixedDelay(this::writeQueuedEvents, WRITE_INTERVAL_MILLIS, WRITE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@PreDestroy
+	private void shutdown() {
+
+		if (writeTask != null) {
+			writeTask.cancel(false);
+		}
+		writeQueuedEvents();
 	}
 
 	private void accept(AuditEvent event) {
-		String serialized = fhirJsonParser.encodeResourceToString(event);
-		auditLogger.getAuditLogger().info(serialized);
+
+		if (loggingDisabled) {
+			// the log sink is a NOP logger anyway
+			return;
+		}
+
+		if (!queue.offer(event)) {
+			// queue is full: write on the calling thread instead of losing the event
+			long overflows = overflowCount.incrementAndGet();
+			if (overflows == 1 || overflows % 1000 == 0) {
+				logger.warn("Audit log queue is full, {} events had to be written by the calling thread so far", overflows);
+			}
+			writeQueuedEvents();
+			write(Stream.of(event));
+		}
+	}
+
+	/**
+	 * Writes the events queued so far. Called periodically in the background.
+	 */
+	public void writeQueuedEvents() {
+
+		List<AuditEvent> events = new ArrayList<>();
+		queue.drainTo(events);
+		if (events.isEmpty()) {
+			return;
+		}
+
+		long delay = System.currentTimeMillis() - events.get(0).getRecorded().getTime();
+		if (delay > DELAY_WARNING_MILLIS) {
+			logger.warn("Writing {} audit events delayed by {} ms", events.size(), delay);
+		}
+		write(events.stream());
+	}
+
+	private void write(Stream<AuditEvent> events) {
+
+		writeLock.lock();
+		try {
+			events.forEach(event -> {
+				try {
+					auditLogger.getAuditLogger().info(fhirJsonParser.encodeResourceToString(event));
+				} catch (RuntimeException e) {
+					logger.error("Could not write audit event", e);
+				}
+			});
+		} finally {
+			writeLock.unlock();
+		}
 	}
 
 	public void logApplicationStart() {
@@ -214,7 +310,9 @@ public class AuditLoggerEjb implements AuditLoggerFacade {
 		entity.setType(new Coding(entityType.getSystem(), entityType.toCode(), entityType.getDisplay()));
 		applicationStartAudit.addEntity(entity);
 
-		accept(applicationStartAudit);
+		// written right away, so the stop event is not lost on shutdown
+		writeQueuedEvents();
+		write(Stream.of(applicationStartAudit));
 	}
 
 	public void logBackendCall(Method calledMethod, Object[] params, Object returnValue, Date start, Date end) {
@@ -567,8 +665,9 @@ public class AuditLoggerEjb implements AuditLoggerFacade {
 			Collection<Object> collection = (Collection<Object>) object;
 
 			if (!collection.isEmpty()) {
-				String str = collection.stream().map(this::tryPrintFromAnnotation).collect(Collectors.joining(","));
-				return String.format("[%s]", str);
+				String str =
+					limit(collection.stream(), collection.size()).map(this::tryPrintFromAnnotation).collect(Collectors.joining(","));
+				return String.format("[%s%s]", str, printOmitted(collection.size()));
 			} else {
 				return "[]";
 			}
@@ -578,11 +677,10 @@ public class AuditLoggerEjb implements AuditLoggerFacade {
 			Map<Object, Object> map = (Map<Object, Object>) object;
 
 			if (!map.isEmpty()) {
-				String str = map.entrySet()
-					.stream()
+				String str = limit(map.entrySet().stream(), map.size())
 					.map(e -> String.format("%s=%s", tryPrintFromAnnotation(e.getKey()), tryPrintFromAnnotation(e.getValue())))
 					.collect(Collectors.joining(","));
-				return String.format("{%s}", str);
+				return String.format("{%s%s}", str, printOmitted(map.size()));
 			} else {
 				return "{}";
 			}
@@ -592,6 +690,14 @@ public class AuditLoggerEjb implements AuditLoggerFacade {
 
 	}
 
+	private <T> Stream<T> limit(Stream<T> elements, int size) {
+		return collectionLimit > 0 && size > collectionLimit ? elements.limit(collectionLimit) : elements;
+	}
+
+	private String printOmitted(int size) {
+		return collectionLimit > 0 && size > collectionLimit ? String.format(",... (%d more)", size - collectionLimit) : "";
+	}
+
 	private String tryPrintFromAnnotation(Object object) {
 		if (object == null) {
 			return "null";
@@ -693,9 +799,9 @@ public class AuditLoggerEjb implements AuditLoggerFacade {
 		return cachedClassName.computeIfAbsent(type, k -> {
 			Optional<Class<?>> foundName =
 				reflections.get(SubTypes.of(TypesAnnotated.with(AuditedClass.class)).asClass()).stream().filter(c -> c.equals(type)).findFirst();
-			return foundName.map(Class::getSimpleName).orElse(null);
+			return foundName.map(Class::getSimpleName);
 
-		});
+		}).orElse(null);
 	}
 
 	private List<Field> getFieldsAnnotatedWithAuditIncludeOrIncludeAll(Class<?> type) {
@@ -746,6 +852,7 @@ public class AuditLoggerEjb implements AuditLoggerFacade {
 
 	@LocalBean
 	@Singleton
+	@ConcurrencyManagement(ConcurrencyManagementType.BEAN)
 	public static class AuditLoggerEjbLocal extends AuditLoggerEjb {
 
 	}
@@ -18,7 +18,9 @@
 package de.symeda.sormas.backend.auditlog;
 
 import java.util.Date;
+import java.util.List;
 
+import javax.ejb.EJB;
 import javax.ejb.Stateless;
 import javax.ejb.TransactionAttribute;
 import javax.ejb.TransactionAttributeType;
@@ -33,6 +35,9 @@ import de.symeda.sormas.backend.util.ModelConstants;
 
 /**
  * Turns {@link ChangeEvent}s to {@link AuditLogEntry} and saves it.
+ * <p>
+ * The entries are only created once the transaction that caused the change has been committed and are handed to the
+ * {@link AuditLogWriter}, which saves them in batches in the background.
  * 
  * @author Oliver Milke
  */
@@ -40,11 +45,19 @@ import de.symeda.sormas.backend.util.ModelConstants;
 @AuditIgnore
 public class AuditLogServiceBean {
 
+	/**
+	 * Should match hibernate.jdbc.batch_size of the auditlogPU.
+	 */
+	static final int JDBC_BATCH_SIZE = 100;
+
 	@PersistenceContext(unitName = ModelConstants.PERSISTENCE_UNIT_NAME_AUDITLOG)
 	private EntityManager entityManager;
 
-	@TransactionAttribute(TransactionAttributeType.MANDATORY)
-	public void receiveChanges(@Observes(during = TransactionPhase.IN_PROGRESS) ChangeEvent event) {
+	@EJB
+	private AuditLogWriter auditLogWriter;
+
+	@TransactionAttribute(TransactionAttributeType.NOT_SUPPORTED)
+	public void receiveChanges(@Observes(during = TransactionPhase.AFTER_SUCCESS) ChangeEvent event) {
 
 		Date changeDate = AuditLogDateHelper.from(event.getChangeDate());
 
@@ -57,6 +70,21 @@ public class AuditLogServiceBean {
 		log.setUuid(event.getOid().getEntityUuid());
 		log.setClazz(event.getOid().getEntityClass().getName());
 
-		this.entityManager.persist(log);
+		auditLogWriter.enqueue(log);
+	}
+
+	/**
+	 * Saves the entries in one transaction, so the inserts are sent to the database in JDBC batches.
+	 */
+	@TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
+	public void persist(List<AuditLogEntry> entries) {
+
+		for (int i = 0; i < entries.size(); i++) {
+			entityManager.persist(entries.get(i));
+			if ((i + 1) % JDBC_BATCH_SIZE == 0) {
+				entityManager.flush();
+				entityManager.clear();
+			}
+		}
 	}
 }
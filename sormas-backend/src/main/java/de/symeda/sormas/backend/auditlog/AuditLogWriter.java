@@ -0,0 +1,164 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.auditlog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.ejb.ConcurrencyManagement;
+import javax.ejb.ConcurrencyManagementType;
+import javax.ejb.EJB;
+import javax.ejb.Schedule;
+import javax.ejb.Singleton;
+import javax.ejb.TransactionAttribute;
+import javax.ejb.TransactionAttributeType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.symeda.sormas.api.audit.AuditIgnore;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
+
+/**
+ * Queues {@link AuditLogEntry}s of committed transactions and saves them in batches, so saving entities does not have to
+ * wait for the auditlog database.
+ * <p>
+ * Entries that could not be saved are kept in the queue and retried with the next run. Remaining entries are written on shutdown.
+ * When the queue is full, e.g. because the auditlog database is not available, new entries are dropped and counted by default.
+ * With {@code auditlog.queue.writewhenfull} the thread adding an entry writes the queued entries itself instead.
+ */
+@Singleton
+@ConcurrencyManagement(ConcurrencyManagementType.BEAN)
+@TransactionAttribute(TransactionAttributeType.NOT_SUPPORTED)
+@AuditIgnore
+public class AuditLogWriter {
+
+	static final int FLUSH_BATCH_SIZE = 1000;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final ReentrantLock flushLock = new ReentrantLock();
+	private final AtomicLong droppedEntries = new AtomicLong();
+
+	private LinkedBlockingDeque<AuditLogEntry> queue;
+	private boolean writeWhenQueueFull;
+
+	@EJB
+	private AuditLogServiceBean auditLogService;
+	@EJB
+	private ConfigFacadeEjbLocal configFacade;
+
+	@PostConstruct
+	public void init() {
+
+		queue = new LinkedBlockingDeque<>(configFacade.getAuditLogQueueSize());
+		writeWhenQueueFull = configFacade.isAuditLogWriteWhenQueueFull();
+	}
+
+	public void enqueue(AuditLogEntry entry) {
+
+		if (queue.offerLast(entry)) {
+			return;
+		}
+
+		if (writeWhenQueueFull) {
+			// back-pressure: the queue is full, so write it before continuing
+			flushAll();
+			if (queue.offerLast(entry)) {
+				return;
+			}
+		}
+		droppedEntries.incrementAndGet();
+	}
+
+	@Schedule(hour = "*", minute = "*", second = "*/5", persistent = false)
+	public void flushScheduled() {
+
+		flushAll();
+		logDroppedEntries();
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+
+		flushAll();
+		logDroppedEntries();
+		if (!queue.isEmpty()) {
+			logger.error("{} auditlog entries could not be saved before shutdown", queue.size());
+		}
+	}
+
+	/**
+	 * Writes the queued entries until the queue is empty or writing fails.
+	 */
+	public void flushAll() {
+
+		flushLock.lock();
+		try {
+			boolean success = true;
+			while (success && !queue.isEmpty()) {
+				success = flushBatch();
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	int getQueueSize() {
+		return queue.size();
+	}
+
+	private boolean flushBatch() {
+
+		List<AuditLogEntry> batch = new ArrayList<>(FLUSH_BATCH_SIZE);
+		queue.drainTo(batch, FLUSH_BATCH_SIZE);
+		if (batch.isEmpty()) {
+			return true;
+		}
+
+		try {
+			auditLogService.persist(batch);
+			return true;
+		} catch (RuntimeException e) {
+			logger.error("Saving {} auditlog entries failed, retrying with the next run", batch.size(), e);
+
+			// put the entries back in their original order, detached from the rolled back persistence context
+			for (int i = batch.size() - 1; i >= 0; i--) {
+				AuditLogEntry entry = batch.get(i);
+				entry.setId(null);
+				entry.setAttributes(new HashMap<>(entry.getAttributes()));
+				if (!queue.offerFirst(entry)) {
+					droppedEntries.incrementAndGet();
+				}
+			}
+			return false;
+		}
+	}
+
+	private void logDroppedEntries() {
+
+		long dropped = droppedEntries.getAndSet(0);
+		if (dropped > 0) {
+			logger.error("Auditlog queue was full, {} entries have been dropped", dropped);
+		}
+	}
+}
@@ -23,11 +23,15 @@ import java.util.Collections;
 
 import javax.enterprise.event.Event;
 import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import javax.persistence.PostLoad;
 import javax.persistence.PrePersist;
 import javax.persistence.PreRemove;
 import javax.persistence.PreUpdate;
 
+import org.hibernate.Session;
+
 import de.symeda.auditlog.api.AuditListener;
 import de.symeda.auditlog.api.Auditor;
 import de.symeda.auditlog.api.ChangeEvent;
@@ -37,6 +41,7 @@ import de.symeda.auditlog.api.EntityId;
 import de.symeda.auditlog.api.TransactionId;
 import de.symeda.auditlog.api.UserId;
 import de.symeda.sormas.api.uuid.HasUuid;
+import de.symeda.sormas.backend.util.ModelConstants;
 
 /**
  * Entity life cycle listener that can detect changes on entities.
@@ -63,6 +68,9 @@ public class DefaultAuditListener implements Serializable, AuditListener {
 	@Inject
 	Event<ChangeEvent> event;
 
+	@PersistenceContext(unitName = ModelConstants.PERSISTENCE_UNIT_NAME)
+	private EntityManager em;
+
 	@Override
 	@PrePersist
 	@PreUpdate
@@ -76,7 +84,16 @@ public class DefaultAuditListener implements Serializable, AuditListener {
 	@PostLoad
 	public void postLoad(HasUuid o) {
 
-		auditor.register(o);
+		// Entities loaded read-only (e.g. with ModelConstants.READ_ONLY) are never flushed, so there is nothing to compare against
+		if (!isReadOnly(o)) {
+			auditor.register(o);
+		}
+	}
+
+	private boolean isReadOnly(HasUuid o) {
+
+		Session session = em.unwrap(Session.class);
+		return session.contains(o) && session.isReadOnly(o);
 	}
 
 	@Override
@@ -23,7 +23,9 @@ package de.symeda.sormas.backend.campaign.data;
 import java.util.Date;
 import java.util.List;
 
+import javax.persistence.CollectionTable;
 import javax.persistence.Column;
+import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.JoinColumn;
@@ -62,6 +64,7 @@ public class CampaignFormData extends AbstractDomainObject {
 	public static final String COMMUNITY = "community";
 	public static final String ARCHIVED = "archived";
 	public static final String CREATING_USER = "creatingUser";
+	public static final String EXTRACTED_VALUES = "extractedValues";
 
 	private static final long serialVersionUID = -8021065433714419288L;
 
@@ -75,6 +78,7 @@ public class CampaignFormData extends AbstractDomainObject {
 	private User creatingUser;
 	@NotExposedToApi
 	private boolean archived;
+	private List<CampaignFormValue> extractedValues;
 
 	@AuditedIgnore
 	@Type(type = ModelConstants.HIBERNATE_TYPE_JSON)
@@ -162,6 +166,20 @@ public class CampaignFormData extends AbstractDomainObject {
 		this.archived = archived;
 	}
 
+	@AuditedIgnore
+	@ElementCollection(fetch = FetchType.LAZY)
+	@CollectionTable(name = CampaignFormValue.TABLE_NAME,
+		joinColumns = @JoinColumn(name = CampaignFormValue.CAMPAIGN_FORM_DATA_ID,
+			referencedColumnName = CampaignFormData.ID,
+			nullable = false))
+	public List<CampaignFormValue> getExtractedValues() {
+		return extractedValues;
+	}
+
+	public void setExtractedValues(List<CampaignFormValue> extractedValues) {
+		this.extractedValues = extractedValues;
+	}
+
 	public CampaignFormDataReferenceDto toReference() {
 		return new CampaignFormDataReferenceDto(getUuid());
 	}
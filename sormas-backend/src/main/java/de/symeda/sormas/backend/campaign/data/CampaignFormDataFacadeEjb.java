@@ -21,10 +21,16 @@
 package de.symeda.sormas.backend.campaign.data;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.ejb.EJB;
@@ -44,8 +50,9 @@ import javax.persistence.criteria.Root;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
+import org.apache.commons.lang3.tuple.Pair;
+
 import de.symeda.sormas.api.campaign.CampaignJurisdictionLevel;
-import de.symeda.sormas.api.campaign.CampaignReferenceDto;
 import de.symeda.sormas.api.campaign.data.CampaignFormDataCriteria;
 import de.symeda.sormas.api.campaign.data.CampaignFormDataDto;
 import de.symeda.sormas.api.campaign.data.CampaignFormDataEntry;
@@ -181,6 +188,7 @@ public class CampaignFormDataFacadeEjb implements CampaignFormDataFacade {
 		final ArrayList<CampaignFormDataEntry> removableEntries = new ArrayList<>(entries);
 		removableEntries.removeIf(entry -> entry.getValue() == null);
 		campaignFormData.setFormValues(removableEntries);
+		campaignFormDataService.updateExtractedValues(campaignFormData);
 
 		validate(campaignFormDataDto);
 
@@ -513,88 +521,268 @@ public class CampaignFormDataFacadeEjb implements CampaignFormDataFacade {
 
 	@Override
 	public List<CampaignDiagramDataDto> getDiagramData(List<CampaignDiagramSeries> diagramSeries, CampaignDiagramCriteria campaignDiagramCriteria) {
+		return getDashboardDiagramData(Collections.singletonList(diagramSeries), campaignDiagramCriteria).get(0);
+	}
 
-		List<CampaignDiagramDataDto> resultData = new ArrayList<>();
-		final AreaReferenceDto area = campaignDiagramCriteria.getArea();
-		final RegionReferenceDto region = campaignDiagramCriteria.getRegion();
-		final DistrictReferenceDto district = campaignDiagramCriteria.getDistrict();
-		final CampaignReferenceDto campaign = campaignDiagramCriteria.getCampaign();
+	@Override
+	public List<List<CampaignDiagramDataDto>> getDashboardDiagramData(
+		List<List<CampaignDiagramSeries>> diagramsSeries,
+		CampaignDiagramCriteria campaignDiagramCriteria) {
 
-		for (CampaignDiagramSeries series : diagramSeries) {
-			//@formatter:off
+		Set<CampaignDiagramSeries> allSeries = new LinkedHashSet<>();
+		diagramsSeries.forEach(allSeries::addAll);
+		Map<CampaignDiagramSeries, List<CampaignDiagramDataDto>> seriesData = getSeriesData(allSeries, campaignDiagramCriteria);
 
-				final String areaFilter = area != null ? " AND " + Area.TABLE_NAME + "." + Area.UUID + " = :areaUuid" : "";
-				final String regionFilter = region != null ? " AND " + CampaignFormData.REGION + "." + Region.UUID + " = :regionUuid" : "";
-				final String districtFilter = district != null ? " AND " + CampaignFormData.DISTRICT + "." + District.UUID + " = :districtUuid" : "";
-				final String campaignFilter = campaign != null ? " AND " + Campaign.TABLE_NAME + "." + Campaign.UUID + " = :campaignUuid" : "";
-				//@formatter:on
+		return diagramsSeries.stream()
+			.map(series -> series.stream().flatMap(s -> seriesData.get(s).stream()).collect(Collectors.toList()))
+			.collect(Collectors.toList());
+	}
 
-			// SELECT
-			StringBuilder selectBuilder = new StringBuilder("SELECT ").append(CampaignFormMeta.TABLE_NAME)
-				.append(".")
-				.append(CampaignFormMeta.UUID)
-				.append(" as formUuid,")
-				.append(CampaignFormMeta.TABLE_NAME)
-				.append(".")
-				.append(CampaignFormMeta.FORM_ID)
-				.append(" as formId");
-
-			if (series.getFieldId() != null) {
-				selectBuilder.append(", jsonData->>'")
-					.append(CampaignFormDataEntry.ID)
-					.append("' as fieldId, jsonMeta->>'")
-					.append(CampaignFormElement.CAPTION)
-					.append("' as fieldCaption,")
-					.append("CASE WHEN (jsonMeta ->> '")
-					.append(CampaignFormElement.TYPE)
-					.append("') = '")
-					.append(CampaignFormElementType.NUMBER.toString())
-					.append("' THEN sum(cast_to_int(jsonData->>'")
-					.append(CampaignFormDataEntry.VALUE)
-					.append("', 0)) ELSE sum(CASE WHEN(jsonData->>'")
-					.append(CampaignFormDataEntry.VALUE)
-					.append("') = '")
-					.append(series.getReferenceValue())
-					.append("' THEN 1 ELSE 0 END) END as sumValue,");
-			} else {
-				selectBuilder.append(", null as fieldId, null as fieldCaption, count(formId) as sumValue,");
+	/**
+	 * Aggregates the series of field values in one pass over the extracted form values and the series counting forms in one pass
+	 * over the form data.
+	 */
+	private Map<CampaignDiagramSeries, List<CampaignDiagramDataDto>> getSeriesData(
+		Collection<CampaignDiagramSeries> allSeries,
+		CampaignDiagramCriteria campaignDiagramCriteria) {
+
+		Map<CampaignDiagramSeries, List<CampaignDiagramDataDto>> seriesData = new HashMap<>();
+		allSeries.forEach(series -> seriesData.put(series, new ArrayList<>()));
+
+		Long campaignId = null;
+		if (campaignDiagramCriteria.getCampaign() != null) {
+			Campaign campaign = campaignService.getByUuid(campaignDiagramCriteria.getCampaign().getUuid());
+			if (campaign == null) {
+				return seriesData;
+			}
+			campaignId = campaign.getId();
+		}
+
+		Set<String> formIds = allSeries.stream().map(CampaignDiagramSeries::getFormId).filter(Objects::nonNull).collect(Collectors.toSet());
+		Map<Long, CampaignFormMeta> formMetas = getFormMetasByFormIds(formIds);
+		if (formMetas.isEmpty()) {
+			return seriesData;
+		}
+
+		final String jurisdictionTable;
+		final String jurisdictionNameField;
+		switch (campaignDiagramCriteria.getCampaignJurisdictionLevelGroupBy()) {
+		case REGION:
+			jurisdictionTable = Region.TABLE_NAME;
+			jurisdictionNameField = Region.NAME;
+			break;
+		case DISTRICT:
+			jurisdictionTable = District.TABLE_NAME;
+			jurisdictionNameField = District.NAME;
+			break;
+		case COMMUNITY:
+			jurisdictionTable = Community.TABLE_NAME;
+			jurisdictionNameField = Community.NAME;
+			break;
+		case AREA:
+		default:
+			jurisdictionTable = Area.TABLE_NAME;
+			jurisdictionNameField = Area.NAME;
+		}
+
+		//@formatter:off
+		DiagramDataQueryBuilder fieldQueryBuilder = new DiagramDataQueryBuilder(
+			CampaignFormValue.TABLE_NAME, jurisdictionTable, jurisdictionNameField, campaignDiagramCriteria, campaignId, formMetas.keySet());
+		DiagramDataQueryBuilder formQueryBuilder = new DiagramDataQueryBuilder(
+			CampaignFormData.TABLE_NAME, jurisdictionTable, jurisdictionNameField, campaignDiagramCriteria, campaignId, formMetas.keySet());
+		//@formatter:on
+
+		Map<Pair<String, String>, List<CampaignDiagramSeries>> fieldSeries = allSeries.stream()
+			.filter(series -> series.getFieldId() != null)
+			.collect(Collectors.groupingBy(series -> Pair.of(series.getFormId(), series.getFieldId())));
+		if (!fieldSeries.isEmpty()) {
+			addFieldSeriesData(fieldSeries, fieldQueryBuilder, formMetas, seriesData);
+		}
+
+		Map<String, List<CampaignDiagramSeries>> formSeries = allSeries.stream()
+			.filter(series -> series.getFieldId() == null && series.getFormId() != null)
+			.collect(Collectors.groupingBy(CampaignDiagramSeries::getFormId));
+		if (!formSeries.isEmpty()) {
+			addFormSeriesData(formSeries, formQueryBuilder, formMetas, seriesData);
+		}
+
+		return seriesData;
+	}
+
+	private Map<Long, CampaignFormMeta> getFormMetasByFormIds(Set<String> formIds) {
+
+		if (formIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<CampaignFormMeta> cq = cb.createQuery(CampaignFormMeta.class);
+		Root<CampaignFormMeta> root = cq.from(CampaignFormMeta.class);
+		cq.where(root.get(CampaignFormMeta.FORM_ID).in(formIds));
+
+		return em.createQuery(cq).getResultList().stream().collect(Collectors.toMap(CampaignFormMeta::getId, Function.identity()));
+	}
+
+	private void addFieldSeriesData(
+		Map<Pair<String, String>, List<CampaignDiagramSeries>> fieldSeries,
+		DiagramDataQueryBuilder queryBuilder,
+		Map<Long, CampaignFormMeta> formMetas,
+		Map<CampaignDiagramSeries, List<CampaignDiagramDataDto>> seriesData) {
+
+		// the values of other fields than numbers are counted per reference value
+		List<String> referenceValues = fieldSeries.values()
+			.stream()
+			.flatMap(List::stream)
+			.map(CampaignDiagramSeries::getReferenceValue)
+			.filter(Objects::nonNull)
+			.distinct()
+			.collect(Collectors.toList());
+
+		String elementIdColumn = queryBuilder.column(CampaignFormValue.ELEMENT_ID);
+		StringBuilder selectBuilder = new StringBuilder(", ").append(elementIdColumn)
+			.append(", sum(")
+			.append(queryBuilder.column(CampaignFormValue.NUMERIC_VALUE))
+			.append(")");
+		for (int i = 0; i < referenceValues.size(); i++) {
+			selectBuilder.append(", sum(CASE WHEN ")
+				.append(queryBuilder.column(CampaignFormValue.TEXT_VALUE))
+				.append(" = :referenceValue")
+				.append(i)
+				.append(" THEN 1 ELSE 0 END)");
+		}
+
+		String whereClause = " AND " + elementIdColumn + " IN (:fieldIds)";
+		Query seriesDataQuery = queryBuilder.createQuery(selectBuilder.toString(), whereClause, elementIdColumn);
+		seriesDataQuery.setParameter("fieldIds", fieldSeries.keySet().stream().map(Pair::getRight).collect(Collectors.toSet()));
+		for (int i = 0; i < referenceValues.size(); i++) {
+			seriesDataQuery.setParameter("referenceValue" + i, referenceValues.get(i));
+		}
+
+		Map<Long, Map<String, CampaignFormElement>> formElements = new HashMap<>();
+
+		@SuppressWarnings("unchecked")
+		List<Object[]> resultList = seriesDataQuery.getResultList();
+		for (Object[] result : resultList) {
+			CampaignFormMeta formMeta = formMetas.get(((Number) result[0]).longValue());
+			String fieldId = (String) result[3];
+			CampaignFormElement formElement = formElements
+				.computeIfAbsent(
+					formMeta.getId(),
+					id -> formMeta.getCampaignFormElementsList()
+						.stream()
+						.filter(element -> element.getId() != null)
+						.collect(Collectors.toMap(CampaignFormElement::getId, Function.identity(), (element1, element2) -> element1)))
+				.get(fieldId);
+			if (formElement == null) {
+				continue;
+			}
+
+			boolean numeric = CampaignFormElementType.NUMBER.toString().equals(formElement.getType());
+			for (CampaignDiagramSeries series : fieldSeries.getOrDefault(Pair.of(formMeta.getFormId(), fieldId), Collections.emptyList())) {
+				long valueSum;
+				if (numeric) {
+					valueSum = result[4] != null ? ((Number) result[4]).longValue() : 0;
+				} else if (series.getReferenceValue() != null) {
+					valueSum = ((Number) result[5 + referenceValues.indexOf(series.getReferenceValue())]).longValue();
+				} else {
+					valueSum = 0;
+				}
+
+				seriesData.get(series)
+					.add(
+						new CampaignDiagramDataDto(
+							formMeta.getUuid(),
+							formMeta.getFormId(),
+							fieldId,
+							formElement.getCaption(),
+							valueSum,
+							(String) result[1],
+							(String) result[2],
+							series.getStack()));
 			}
+		}
+	}
 
-			final String jurisdictionGrouping;
-			switch (campaignDiagramCriteria.getCampaignJurisdictionLevelGroupBy()) {
-			case REGION:
-				appendInfrastructureSelection(selectBuilder, Region.TABLE_NAME, Region.NAME);
-				break;
-			case DISTRICT:
-				appendInfrastructureSelection(selectBuilder, District.TABLE_NAME, District.NAME);
-				break;
-			case COMMUNITY:
-				appendInfrastructureSelection(selectBuilder, Community.TABLE_NAME, Community.NAME);
-				break;
-			case AREA:
-			default:
-				appendInfrastructureSelection(selectBuilder, Area.TABLE_NAME, Area.NAME);
+	private void addFormSeriesData(
+		Map<String, List<CampaignDiagramSeries>> formSeries,
+		DiagramDataQueryBuilder queryBuilder,
+		Map<Long, CampaignFormMeta> formMetas,
+		Map<CampaignDiagramSeries, List<CampaignDiagramDataDto>> seriesData) {
+
+		Query seriesDataQuery = queryBuilder.createQuery(", count(" + queryBuilder.column(CampaignFormData.ID) + ")", "", null);
+
+		@SuppressWarnings("unchecked")
+		List<Object[]> resultList = seriesDataQuery.getResultList();
+		for (Object[] result : resultList) {
+			CampaignFormMeta formMeta = formMetas.get(((Number) result[0]).longValue());
+			for (CampaignDiagramSeries series : formSeries.getOrDefault(formMeta.getFormId(), Collections.emptyList())) {
+				seriesData.get(series)
+					.add(
+						new CampaignDiagramDataDto(
+							formMeta.getUuid(),
+							formMeta.getFormId(),
+							null,
+							null,
+							((Number) result[3]).longValue(),
+							(String) result[1],
+							(String) result[2],
+							series.getStack()));
 			}
+		}
+	}
+
+	/**
+	 * Builds the diagram data queries of {@link CampaignFormData} and {@link CampaignFormValue}, which both have the form and
+	 * jurisdiction ids as columns. The form meta id, jurisdiction uuid and jurisdiction name are selected first.
+	 */
+	private class DiagramDataQueryBuilder {
+
+		private final String tableName;
+		private final String jurisdictionTable;
+		private final String jurisdictionNameField;
+		private final CampaignDiagramCriteria criteria;
+		private final Long campaignId;
+		private final Set<Long> formMetaIds;
+
+		private DiagramDataQueryBuilder(
+			String tableName,
+			String jurisdictionTable,
+			String jurisdictionNameField,
+			CampaignDiagramCriteria criteria,
+			Long campaignId,
+			Set<Long> formMetaIds) {
+
+			this.tableName = tableName;
+			this.jurisdictionTable = jurisdictionTable;
+			this.jurisdictionNameField = jurisdictionNameField;
+			this.criteria = criteria;
+			this.campaignId = campaignId;
+			this.formMetaIds = formMetaIds;
+		}
+
+		private String column(String columnName) {
+			return tableName + "." + columnName;
+		}
+
+		private Query createQuery(String selection, String whereClause, String grouping) {
+
+			StringBuilder selectBuilder = new StringBuilder("SELECT ").append(column(CampaignFormValue.CAMPAIGN_FORM_META_ID)).append(", ");
+			appendInfrastructureSelection(selectBuilder, jurisdictionTable, jurisdictionNameField);
+			selectBuilder.append(selection);
 
 			// JOINS
-			StringBuilder joinBuilder = new StringBuilder(" LEFT JOIN ").append(CampaignFormMeta.TABLE_NAME)
-				.append(" ON ")
-				.append(CampaignFormData.CAMPAIGN_FORM_META)
-				.append("_id = ")
-				.append(CampaignFormMeta.TABLE_NAME)
-				.append(".")
-				.append(CampaignFormMeta.ID)
-				.append(" LEFT JOIN ")
-				.append(Region.TABLE_NAME)
+			StringBuilder joinBuilder = new StringBuilder(" LEFT JOIN ").append(Region.TABLE_NAME)
 				.append(" ON ")
-				.append(CampaignFormData.REGION)
-				.append("_id =")
+				.append(column(CampaignFormValue.REGION_ID))
+				.append(" = ")
 				.append(Region.TABLE_NAME)
 				.append(".")
 				.append(Region.ID)
 				.append(" LEFT JOIN ")
 				.append(Area.TABLE_NAME)
 				.append(" ON ")
+				.append(Region.TABLE_NAME)
+				.append(".")
 				.append(Region.AREA)
 				.append("_id = ")
 				.append(Area.TABLE_NAME)
@@ -603,135 +791,61 @@ public class CampaignFormDataFacadeEjb implements CampaignFormDataFacade {
 				.append(" LEFT JOIN ")
 				.append(District.TABLE_NAME)
 				.append(" ON ")
-				.append(CampaignFormData.DISTRICT)
-				.append("_id = ")
+				.append(column(CampaignFormValue.DISTRICT_ID))
+				.append(" = ")
 				.append(District.TABLE_NAME)
 				.append(".")
 				.append(District.ID)
 				.append(" LEFT JOIN ")
 				.append(Community.TABLE_NAME)
 				.append(" ON ")
-				.append(CampaignFormData.COMMUNITY)
-				.append("_id = ")
+				.append(column(CampaignFormValue.COMMUNITY_ID))
+				.append(" = ")
 				.append(Community.TABLE_NAME)
 				.append(".")
-				.append(Community.ID)
-				.append(" LEFT JOIN ")
-				.append(Campaign.TABLE_NAME)
-				.append(" ON ")
-				.append(CampaignFormData.CAMPAIGN)
-				.append("_id = ")
-				.append(Campaign.TABLE_NAME)
-				.append(".")
-				.append(Campaign.ID);
-
-			if (series.getFieldId() != null) {
-				joinBuilder.append(", json_array_elements(")
-					.append(CampaignFormData.FORM_VALUES)
-					.append(") as jsonData, json_array_elements(")
-					.append(CampaignFormMeta.CAMPAIGN_FORM_ELEMENTS)
-					.append(") as jsonMeta");
-			}
+				.append(Community.ID);
 
 			// WHERE
-			StringBuilder whereBuilder = new StringBuilder(" WHERE ").append(CampaignFormMeta.TABLE_NAME)
-				.append(".")
-				.append(CampaignFormMeta.FORM_ID)
-				.append(" = :campaignFormMetaId");
-
-			if (series.getFieldId() != null) {
-				whereBuilder.append(" AND jsonData->>'")
-					.append(CampaignFormDataEntry.ID)
-					.append("' = :campaignFormDataId")
-					.append(" AND jsonData->>'")
-					.append(CampaignFormDataEntry.VALUE)
-					.append("' IS NOT NULL AND jsonData->>'")
-					.append(CampaignFormDataEntry.ID)
-					.append("' = jsonMeta->>'")
-					.append(CampaignFormElement.ID)
-					.append("'");
+			StringBuilder whereBuilder = new StringBuilder(" WHERE ").append(column(CampaignFormValue.CAMPAIGN_FORM_META_ID))
+				.append(" IN (:formMetaIds)")
+				.append(whereClause);
+			if (campaignId != null) {
+				whereBuilder.append(" AND ").append(column(CampaignFormValue.CAMPAIGN_ID)).append(" = :campaignId");
 			}
-
-			whereBuilder.append(areaFilter).append(regionFilter).append(districtFilter).append(campaignFilter);
-
-			// GROUP BY
-			StringBuilder groupByBuilder = new StringBuilder(" GROUP BY ").append(CampaignFormMeta.TABLE_NAME)
-				.append(".")
-				.append(CampaignFormMeta.UUID)
-				.append(",")
-				.append(CampaignFormMeta.TABLE_NAME)
-				.append(".")
-				.append(CampaignFormMeta.FORM_ID);
-
-			if (series.getFieldId() != null) {
-				groupByBuilder.append(", jsonData->>'")
-					.append(CampaignFormDataEntry.ID)
-					.append("', jsonMeta->>'")
-					.append(CampaignFormElement.CAPTION)
-					.append("', jsonMeta->>'")
-					.append(CampaignFormElement.TYPE)
-					.append("'");
+			if (criteria.getArea() != null) {
+				whereBuilder.append(" AND ").append(Area.TABLE_NAME).append(".").append(Area.UUID).append(" = :areaUuid");
 			}
-
-			switch (campaignDiagramCriteria.getCampaignJurisdictionLevelGroupBy()) {
-			case REGION:
-				jurisdictionGrouping = ", " + Region.TABLE_NAME + "." + Region.UUID + ", " + Region.TABLE_NAME + "." + Region.NAME;
-				break;
-			case DISTRICT:
-				jurisdictionGrouping = ", " + District.TABLE_NAME + "." + District.UUID + ", " + District.TABLE_NAME + "." + District.NAME;
-				break;
-			case COMMUNITY:
-				jurisdictionGrouping = ", " + Community.TABLE_NAME + "." + Community.UUID + ", " + Community.TABLE_NAME + "." + Community.NAME;
-				break;
-			case AREA:
-			default:
-				jurisdictionGrouping = ", " + Area.TABLE_NAME + "." + Area.UUID + ", " + Area.TABLE_NAME + "." + Area.NAME;
+			if (criteria.getRegion() != null) {
+				whereBuilder.append(" AND ").append(Region.TABLE_NAME).append(".").append(Region.UUID).append(" = :regionUuid");
+			}
+			if (criteria.getDistrict() != null) {
+				whereBuilder.append(" AND ").append(District.TABLE_NAME).append(".").append(District.UUID).append(" = :districtUuid");
 			}
 
-			groupByBuilder.append(jurisdictionGrouping);
-
-			//@formatter:off
-			Query seriesDataQuery = em.createNativeQuery(
-					selectBuilder.toString() + " FROM " + CampaignFormData.TABLE_NAME + joinBuilder + whereBuilder + groupByBuilder);
-			//@formatter:on
-
-			seriesDataQuery.setParameter("campaignFormMetaId", series.getFormId());
-			if (area != null) {
-				seriesDataQuery.setParameter("areaUuid", area.getUuid());
+			// GROUP BY
+			StringBuilder groupByBuilder =
+				new StringBuilder(" GROUP BY ").append(column(CampaignFormValue.CAMPAIGN_FORM_META_ID)).append(", ");
+			appendInfrastructureSelection(groupByBuilder, jurisdictionTable, jurisdictionNameField);
+			if (grouping != null) {
+				groupByBuilder.append(", ").append(grouping);
 			}
-			if (region != null) {
-				seriesDataQuery.setParameter("regionUuid", region.getUuid());
+
+			Query query = em.createNativeQuery(selectBuilder + " FROM " + tableName + joinBuilder + whereBuilder + groupByBuilder);
+			query.setParameter("formMetaIds", formMetaIds);
+			if (campaignId != null) {
+				query.setParameter("campaignId", campaignId);
 			}
-			if (district != null) {
-				seriesDataQuery.setParameter("districtUuid", district.getUuid());
+			if (criteria.getArea() != null) {
+				query.setParameter("areaUuid", criteria.getArea().getUuid());
 			}
-			if (campaign != null) {
-				seriesDataQuery.setParameter("campaignUuid", campaign.getUuid());
+			if (criteria.getRegion() != null) {
+				query.setParameter("regionUuid", criteria.getRegion().getUuid());
 			}
-
-			if (series.getFieldId() != null) {
-				seriesDataQuery.setParameter("campaignFormDataId", series.getFieldId());
+			if (criteria.getDistrict() != null) {
+				query.setParameter("districtUuid", criteria.getDistrict().getUuid());
 			}
-
-			@SuppressWarnings("unchecked")
-			List<Object[]> resultList = seriesDataQuery.getResultList();
-
-			resultData.addAll(
-				resultList.stream()
-					.map(
-						(result) -> new CampaignDiagramDataDto(
-							(String) result[0],
-							(String) result[1],
-							(String) result[2],
-							(String) result[3],
-							(Number) result[4],
-							(String) result[5],
-							(String) result[6],
-							series.getStack()))
-					.collect(Collectors.toList()));
+			return query;
 		}
-
-		return resultData;
 	}
 
 	private void appendInfrastructureSelection(StringBuilder sb, String tableNameField, String nameField) {
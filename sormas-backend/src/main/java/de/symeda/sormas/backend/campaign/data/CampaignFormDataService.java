@@ -20,7 +20,9 @@
 
 package de.symeda.sormas.backend.campaign.data;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
@@ -33,10 +35,12 @@ import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
 import de.symeda.sormas.api.campaign.data.CampaignFormDataCriteria;
+import de.symeda.sormas.api.campaign.data.CampaignFormDataEntry;
 import de.symeda.sormas.api.user.JurisdictionLevel;
 import de.symeda.sormas.api.utils.DateHelper;
 import de.symeda.sormas.backend.campaign.Campaign;
 import de.symeda.sormas.backend.campaign.form.CampaignFormMeta;
+import de.symeda.sormas.backend.common.AbstractDomainObject;
 import de.symeda.sormas.backend.common.AdoServiceWithUserFilterAndJurisdiction;
 import de.symeda.sormas.backend.common.CriteriaBuilderHelper;
 import de.symeda.sormas.backend.infrastructure.community.Community;
@@ -48,6 +52,11 @@ import de.symeda.sormas.backend.user.User;
 @LocalBean
 public class CampaignFormDataService extends AdoServiceWithUserFilterAndJurisdiction<CampaignFormData> {
 
+	/**
+	 * Same as the check in the schema migration that extracted the existing values, so both result in the same numeric values.
+	 */
+	private static final Pattern NUMERIC_VALUE_PATTERN = Pattern.compile("\\s*[+-]?[0-9]{1,18}\\s*");
+
 	public CampaignFormDataService() {
 		super(CampaignFormData.class);
 	}
@@ -161,6 +170,40 @@ public class CampaignFormDataService extends AdoServiceWithUserFilterAndJurisdic
 		return filter;
 	}
 
+	/**
+	 * Replaces the extracted values of the campaign form data by its current form values. Has to be called whenever the form
+	 * values, form or jurisdiction of the campaign form data change.
+	 */
+	public void updateExtractedValues(CampaignFormData campaignFormData) {
+
+		List<CampaignFormValue> extractedValues = new ArrayList<>();
+		if (campaignFormData.getFormValues() != null) {
+			for (CampaignFormDataEntry entry : campaignFormData.getFormValues()) {
+				if (entry.getValue() == null) {
+					continue;
+				}
+
+				String textValue = entry.getValue().toString();
+				CampaignFormValue value = new CampaignFormValue();
+				value.setCampaignId(getId(campaignFormData.getCampaign()));
+				value.setCampaignFormMetaId(getId(campaignFormData.getCampaignFormMeta()));
+				value.setRegionId(getId(campaignFormData.getRegion()));
+				value.setDistrictId(getId(campaignFormData.getDistrict()));
+				value.setCommunityId(getId(campaignFormData.getCommunity()));
+				value.setElementId(entry.getId());
+				value.setNumericValue(NUMERIC_VALUE_PATTERN.matcher(textValue).matches() ? Long.valueOf(textValue.trim()) : null);
+				value.setTextValue(textValue);
+				extractedValues.add(value);
+			}
+		}
+
+		campaignFormData.setExtractedValues(extractedValues);
+	}
+
+	private static Long getId(AbstractDomainObject ado) {
+		return ado != null ? ado.getId() : null;
+	}
+
 	@Override
 	public boolean inJurisdictionOrOwned(CampaignFormData campaignFormData) {
 		return fulfillsCondition(campaignFormData, this::inJurisdictionOrOwned);
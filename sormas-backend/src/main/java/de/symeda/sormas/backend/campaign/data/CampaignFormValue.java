@@ -0,0 +1,129 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.campaign.data;
+
+import static de.symeda.sormas.api.utils.FieldConstraints.CHARACTER_LIMIT_TEXT;
+
+import java.io.Serializable;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+/**
+ * A single value of {@link CampaignFormData#getFormValues()}, extracted into its own row together with the form and jurisdiction
+ * ids, so campaign diagrams can be aggregated without parsing the form values json.
+ */
+@Embeddable
+public class CampaignFormValue implements Serializable {
+
+	public static final String TABLE_NAME = "campaignformvalue";
+
+	public static final String CAMPAIGN_FORM_DATA_ID = "campaignformdata_id";
+	public static final String CAMPAIGN_ID = "campaign_id";
+	public static final String CAMPAIGN_FORM_META_ID = "campaignformmeta_id";
+	public static final String REGION_ID = "region_id";
+	public static final String DISTRICT_ID = "district_id";
+	public static final String COMMUNITY_ID = "community_id";
+	public static final String ELEMENT_ID = "elementid";
+	public static final String NUMERIC_VALUE = "numericvalue";
+	public static final String TEXT_VALUE = "textvalue";
+
+	private static final long serialVersionUID = 2315787396475513471L;
+
+	private Long campaignId;
+	private Long campaignFormMetaId;
+	private Long regionId;
+	private Long districtId;
+	private Long communityId;
+	private String elementId;
+	private Long numericValue;
+	private String textValue;
+
+	@Column(name = CAMPAIGN_ID)
+	public Long getCampaignId() {
+		return campaignId;
+	}
+
+	public void setCampaignId(Long campaignId) {
+		this.campaignId = campaignId;
+	}
+
+	@Column(name = CAMPAIGN_FORM_META_ID)
+	public Long getCampaignFormMetaId() {
+		return campaignFormMetaId;
+	}
+
+	public void setCampaignFormMetaId(Long campaignFormMetaId) {
+		this.campaignFormMetaId = campaignFormMetaId;
+	}
+
+	@Column(name = REGION_ID)
+	public Long getRegionId() {
+		return regionId;
+	}
+
+	public void setRegionId(Long regionId) {
+		this.regionId = regionId;
+	}
+
+	@Column(name = DISTRICT_ID)
+	public Long getDistrictId() {
+		return districtId;
+	}
+
+	public void setDistrictId(Long districtId) {
+		this.districtId = districtId;
+	}
+
+	@Column(name = COMMUNITY_ID)
+	public Long getCommunityId() {
+		return communityId;
+	}
+
+	public void setCommunityId(Long communityId) {
+		this.communityId = communityId;
+	}
+
+	@Column(name = ELEMENT_ID)
+	public String getElementId() {
+		return elementId;
+	}
+
+	public void setElementId(String elementId) {
+		this.elementId = elementId;
+	}
+
+	/**
+	 * @return The value as a number if it is an integer, {@code null} otherwise.
+	 */
+	@Column(name = NUMERIC_VALUE)
+	public Long getNumericValue() {
+		return numericValue;
+	}
+
+	public void setNumericValue(Long numericValue) {
+		this.numericValue = numericValue;
+	}
+
+	@Column(name = TEXT_VALUE, length = CHARACTER_LIMIT_TEXT)
+	public String getTextValue() {
+		return textValue;
+	}
+
+	public void setTextValue(String textValue) {
+		this.textValue = textValue;
+	}
+}
@@ -174,8 +174,6 @@ import de.symeda.sormas.api.person.PersonReferenceDto;
 import de.symeda.sormas.api.person.PresentCondition;
 import de.symeda.sormas.api.sample.AdditionalTestDto;
 import de.symeda.sormas.api.sample.PathogenTestDto;
-import de.symeda.sormas.api.sample.PathogenTestResultType;
-import de.symeda.sormas.api.sample.PathogenTestType;
 import de.symeda.sormas.api.sample.SampleCriteria;
 import de.symeda.sormas.api.sample.SampleDto;
 import de.symeda.sormas.api.sormastosormas.ShareTreeCriteria;
@@ -740,6 +738,36 @@ public class CaseFacadeEjb extends AbstractCoreFacadeEjb<Case, CaseDataDto, Case
 		int max,
 		ExportConfigurationDto exportConfiguration,
 		Language userLanguage) {
+		return getExportList(caseCriteria, selectedRows, exportType, first, null, max, exportConfiguration, userLanguage);
+	}
+
+	@Override
+	@TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
+	@RightsAllowed(UserRight._CASE_EXPORT)
+	public List<CaseExportDto> getExportListAfter(
+		CaseCriteria caseCriteria,
+		Collection<String> selectedRows,
+		CaseExportType exportType,
+		Long lastId,
+		int max,
+		ExportConfigurationDto exportConfiguration,
+		Language userLanguage) {
+		return getExportList(caseCriteria, selectedRows, exportType, null, lastId, max, exportConfiguration, userLanguage);
+	}
+
+	/**
+	 * @param first
+	 *            Offset of the batch; if {@code null}, the batch after the case with {@code lastId} is fetched in descending id order.
+	 */
+	private List<CaseExportDto> getExportList(
+		CaseCriteria caseCriteria,
+		Collection<String> selectedRows,
+		CaseExportType exportType,
+		Integer first,
+		Long lastId,
+		int max,
+		ExportConfigurationDto exportConfiguration,
+		Language userLanguage) {
 
 		Boolean previousCaseManagementDataCriteria = caseCriteria.getMustHaveCaseManagementData();
 		if (CaseExportType.CASE_MANAGEMENT == exportType) {
@@ -902,7 +930,9 @@ public class CaseFacadeEjb extends AbstractCoreFacadeEjb<Case, CaseDataDto, Case
 		 */
 		cq.orderBy(cb.desc(caseRoot.get(Case.REPORT_DATE)), cb.desc(caseRoot.get(Case.ID)));
 
-		List<CaseExportDto> resultList = QueryHelper.getResultList(em, cq, first, max);
+		List<CaseExportDto> resultList = first != null
+			? QueryHelper.getResultList(em, cq, first, max)
+			: QueryHelper.getResultListAfterId(em, cq, caseRoot.get(Case.ID), lastId, max);
 
 		List<Long> resultCaseIds = resultList.stream().map(CaseExportDto::getId).collect(Collectors.toList());
 		if (!resultList.isEmpty()) {
@@ -2042,6 +2072,9 @@ public class CaseFacadeEjb extends AbstractCoreFacadeEjb<Case, CaseDataDto, Case
 
 	@PermitAll
 	public void onCaseSampleChanged(Case associatedCase) {
+		// the sample count is part of the completeness, recalculate it with the next run of the cron job
+		service.clearCompleteness(associatedCase);
+
 		// Update case classification if the feature is enabled
 		if (configFacade.isFeatureAutomaticCaseClassification()) {
 			if (associatedCase.getCaseClassification() != CaseClassification.NO_CASE) {
@@ -2302,24 +2335,11 @@ public class CaseFacadeEjb extends AbstractCoreFacadeEjb<Case, CaseDataDto, Case
 	private boolean evaluateFulfilledCondition(CaseDataDto newCase, CaseClassification caseClassification) {
 
 		if (newCase.getCaseClassification() != CaseClassification.NO_CASE) {
-			List<CaseClassification> fulfilledCaseClassificationOptions =
-				Arrays.asList(CaseClassification.CONFIRMED, CaseClassification.CONFIRMED_NO_SYMPTOMS, CaseClassification.CONFIRMED_UNKNOWN_SYMPTOMS);
-
 			if (caseClassification == null) {
 				caseClassification = caseClassificationFacade.getClassification(newCase);
 			}
 
-			List<PathogenTest> casePathogenTests = null;
-			if (fulfilledCaseClassificationOptions.contains(caseClassification)) {
-				casePathogenTests = pathogenTestService.getAllByCase(newCase.getUuid());
-				casePathogenTests = casePathogenTests.stream()
-					.filter(
-						pathogenTest -> (Arrays.asList(PathogenTestType.PCR_RT_PCR, PathogenTestType.ISOLATION, PathogenTestType.SEQUENCING)
-							.contains(pathogenTest.getTestType())
-							&& PathogenTestResultType.POSITIVE.equals(pathogenTest.getTestResult())))
-					.collect(Collectors.toList());
-			}
-			return casePathogenTests != null && !casePathogenTests.isEmpty();
+			return service.isCaseReferenceDefinitionFulfilled(caseClassification, () -> pathogenTestService.getAllByCase(newCase.getUuid()));
 		} else {
 			return false;
 		}
@@ -2423,11 +2443,14 @@ public class CaseFacadeEjb extends AbstractCoreFacadeEjb<Case, CaseDataDto, Case
 	@Override
 	@RightsAllowed(UserRight._SYSTEM)
 	public int updateCompleteness() {
-		List<String> getCompletenessCheckCaseList = getCompletenessCheckNeededCaseList();
+		List<Long> completenessCheckCaseIds = getCompletenessCheckNeededCaseList();
 
-		IterableHelper.executeBatched(getCompletenessCheckCaseList, 10, caseCompletionBatch -> service.updateCompleteness(caseCompletionBatch));
+		IterableHelper.executeBatched(
+			completenessCheckCaseIds,
+			configFacade.getCaseCompletenessBatchSize(),
+			caseCompletionBatch -> service.updateCompleteness(caseCompletionBatch));
 
-		return getCompletenessCheckCaseList.size();
+		return completenessCheckCaseIds.size();
 	}
 
 	@Override
@@ -2436,15 +2459,15 @@ public class CaseFacadeEjb extends AbstractCoreFacadeEjb<Case, CaseDataDto, Case
 		return service.getMostRecentPreviousCase(person.getUuid(), disease, startDate);
 	}
 
-	private List<String> getCompletenessCheckNeededCaseList() {
+	private List<Long> getCompletenessCheckNeededCaseList() {
 		CriteriaBuilder cb = em.getCriteriaBuilder();
-		CriteriaQuery<String> cq = cb.createQuery(String.class);
+		CriteriaQuery<Long> cq = cb.createQuery(Long.class);
 		Root<Case> caze = cq.from(Case.class);
 
 		cq.where(cb.isNull(caze.get(Case.COMPLETENESS)));
 
 		cq.orderBy(cb.desc(caze.get(Case.CHANGE_DATE)));
-		cq.select(caze.get(Case.UUID));
+		cq.select(caze.get(Case.ID));
 
 		return em.createQuery(cq).getResultList();
 	}
@@ -21,12 +21,15 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.ejb.EJB;
@@ -46,6 +49,7 @@ import javax.persistence.criteria.From;
 import javax.persistence.criteria.Join;
 import javax.persistence.criteria.JoinType;
 import javax.persistence.criteria.ParameterExpression;
+import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 import javax.persistence.criteria.Subquery;
@@ -94,6 +98,8 @@ import de.symeda.sormas.api.infrastructure.district.DistrictReferenceDto;
 import de.symeda.sormas.api.infrastructure.facility.FacilityType;
 import de.symeda.sormas.api.infrastructure.region.RegionReferenceDto;
 import de.symeda.sormas.api.person.Sex;
+import de.symeda.sormas.api.sample.PathogenTestResultType;
+import de.symeda.sormas.api.sample.PathogenTestType;
 import de.symeda.sormas.api.sormastosormas.SormasToSormasException;
 import de.symeda.sormas.api.sormastosormas.share.incoming.ShareRequestStatus;
 import de.symeda.sormas.api.therapy.PrescriptionCriteria;
@@ -149,6 +155,7 @@ import de.symeda.sormas.backend.infrastructure.region.RegionService;
 import de.symeda.sormas.backend.location.Location;
 import de.symeda.sormas.backend.person.Person;
 import de.symeda.sormas.backend.person.PersonQueryContext;
+import de.symeda.sormas.backend.sample.PathogenTest;
 import de.symeda.sormas.backend.sample.Sample;
 import de.symeda.sormas.backend.sample.SampleJoins;
 import de.symeda.sormas.backend.sample.SampleService;
@@ -1502,6 +1509,28 @@ public class CaseService extends AbstractCoreAdoService<Case, CaseJoins> {
 		return newCaseFilter;
 	}
 
+	/**
+	 * Returns the date that {@link #createNewCaseFilter(CaseQueryContext, Date, Date, CriteriaDateType)} checks for the given
+	 * {@code dateType}, so that cases can be grouped by it. Returns null for date types that can't be expressed by a single date
+	 * of the case (e.g. the latest share with the external surveillance tool).
+	 */
+	public Expression<Date> getNewCaseDateExpression(CaseQueryContext caseQueryContext, CriteriaDateType dateType) {
+
+		final CriteriaBuilder cb = caseQueryContext.getCriteriaBuilder();
+		final From<?, Case> caze = caseQueryContext.getRoot();
+		final Join<Case, Symptoms> symptoms = caseQueryContext.getJoins().getSymptoms();
+
+		if (dateType == null || dateType == NewCaseDateType.MOST_RELEVANT) {
+			return cb.coalesce(symptoms.<Date> get(Symptoms.ONSET_DATE), caze.<Date> get(Case.REPORT_DATE));
+		} else if (dateType == NewCaseDateType.ONSET) {
+			return symptoms.get(Symptoms.ONSET_DATE);
+		} else if (dateType == NewCaseDateType.REPORT) {
+			return caze.get(Case.REPORT_DATE);
+		}
+
+		return null;
+	}
+
 	public Case getRelevantCaseForFollowUp(Person person, Disease disease, Date referenceDate) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
@@ -2090,10 +2119,75 @@ public class CaseService extends AbstractCoreAdoService<Case, CaseJoins> {
 		updateCompleteness(getByUuid(caseUuid));
 	}
 
+	/**
+	 * Calculates the completeness of the given cases with one query for the case data and one for the samples and contacts each,
+	 * then sets it with one update per distinct completeness value.
+	 */
 	@TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
-	public void updateCompleteness(List<String> caseUuids) {
-		List<Case> casesForUpdate = getByUuids(caseUuids);
-		casesForUpdate.forEach(this::updateCompleteness);
+	public void updateCompleteness(List<Long> caseIds) {
+
+		if (caseIds.isEmpty()) {
+			return;
+		}
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+		Root<Case> caze = cq.from(Case.class);
+		Join<Case, Symptoms> symptoms = caze.join(Case.SYMPTOMS, JoinType.LEFT);
+		Join<Case, Person> person = caze.join(Case.PERSON, JoinType.LEFT);
+
+		cq.multiselect(
+			caze.get(Case.ID),
+			caze.get(Case.INVESTIGATION_STATUS),
+			caze.get(Case.CASE_CLASSIFICATION),
+			caze.get(Case.OUTCOME),
+			symptoms.get(Symptoms.SYMPTOMATIC),
+			symptoms.get(Symptoms.ONSET_DATE),
+			person.get(Person.BIRTHDATE_YYYY),
+			person.get(Person.APPROXIMATE_AGE),
+			person.get(Person.SEX));
+		cq.where(caze.get(Case.ID).in(caseIds));
+
+		List<Tuple> cases = em.createQuery(cq).getResultList();
+
+		CriteriaQuery<Long> samplesCq = cb.createQuery(Long.class);
+		Root<Sample> sample = samplesCq.from(Sample.class);
+		Path<Long> sampleCaseId = sample.get(Sample.ASSOCIATED_CASE).get(Case.ID);
+		samplesCq.select(sampleCaseId).distinct(true);
+		samplesCq.where(cb.and(sampleService.createDefaultFilter(cb, sample), sampleCaseId.in(caseIds)));
+		Set<Long> casesWithSamples = new HashSet<>(em.createQuery(samplesCq).getResultList());
+
+		CriteriaQuery<Long> contactsCq = cb.createQuery(Long.class);
+		Root<Contact> contact = contactsCq.from(Contact.class);
+		Path<Long> contactCaseId = contact.get(Contact.CAZE).get(Case.ID);
+		contactsCq.select(contactCaseId).distinct(true);
+		contactsCq.where(cb.and(contactService.createDefaultFilter(cb, contact), contactCaseId.in(caseIds)));
+		Set<Long> casesWithContacts = new HashSet<>(em.createQuery(contactsCq).getResultList());
+
+		Map<Float, List<Long>> caseIdsByCompleteness = new HashMap<>();
+		for (Tuple c : cases) {
+			Long caseId = (Long) c.get(0);
+			float completeness = calculateCompleteness(
+				(InvestigationStatus) c.get(1),
+				(CaseClassification) c.get(2),
+				(CaseOutcome) c.get(3),
+				(Boolean) c.get(4),
+				(Date) c.get(5),
+				c.get(6) != null || c.get(7) != null,
+				(Sex) c.get(8),
+				casesWithSamples.contains(caseId),
+				casesWithContacts.contains(caseId));
+			caseIdsByCompleteness.computeIfAbsent(completeness, k -> new ArrayList<>()).add(caseId);
+		}
+
+		// Set the calculated values without updating the changeDate, see updateCompleteness(Case)
+		for (Map.Entry<Float, List<Long>> entry : caseIdsByCompleteness.entrySet()) {
+			CriteriaUpdate<Case> cu = cb.createCriteriaUpdate(Case.class);
+			Root<Case> root = cu.from(Case.class);
+			cu.set(root.get(Case.COMPLETENESS), entry.getKey());
+			cu.where(root.get(Case.ID).in(entry.getValue()));
+			em.createQuery(cu).executeUpdate();
+		}
 	}
 
 	public void updateCompleteness(Case caze) {
@@ -2123,6 +2217,47 @@ public class CaseService extends AbstractCoreAdoService<Case, CaseJoins> {
 		em.createQuery(cu).executeUpdate();
 	}
 
+	/**
+	 * @return The ids of the active cases of the disease that are greater than {@code lastId} (if set), in ascending order.
+	 */
+	public List<Long> getActiveIdsByDisease(Disease disease, Long lastId, int maxResults) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+		Root<Case> from = cq.from(getElementClass());
+
+		Predicate filter = cb.and(createActiveCasesFilter(cb, from), cb.equal(from.get(Case.DISEASE), disease));
+		if (lastId != null) {
+			filter = cb.and(filter, cb.greaterThan(from.get(Case.ID), lastId));
+		}
+
+		cq.where(filter);
+		cq.select(from.get(Case.ID));
+		cq.orderBy(cb.asc(from.get(Case.ID)));
+
+		return em.createQuery(cq).setMaxResults(maxResults).getResultList();
+	}
+
+	/**
+	 * The case reference definition is fulfilled when the case is confirmed and there is a positive PCR, isolation or sequencing
+	 * test. The pathogen tests are only requested for confirmed cases.
+	 */
+	public boolean isCaseReferenceDefinitionFulfilled(CaseClassification caseClassification, Supplier<List<PathogenTest>> pathogenTests) {
+
+		List<CaseClassification> fulfilledCaseClassificationOptions =
+			Arrays.asList(CaseClassification.CONFIRMED, CaseClassification.CONFIRMED_NO_SYMPTOMS, CaseClassification.CONFIRMED_UNKNOWN_SYMPTOMS);
+		if (!fulfilledCaseClassificationOptions.contains(caseClassification)) {
+			return false;
+		}
+
+		return pathogenTests.get()
+			.stream()
+			.anyMatch(
+				pathogenTest -> Arrays.asList(PathogenTestType.PCR_RT_PCR, PathogenTestType.ISOLATION, PathogenTestType.SEQUENCING)
+					.contains(pathogenTest.getTestType())
+					&& PathogenTestResultType.POSITIVE.equals(pathogenTest.getTestResult()));
+	}
+
 	public PreviousCaseDto getMostRecentPreviousCase(String personUuid, Disease disease, Date startDate) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
@@ -2212,34 +2347,57 @@ public class CaseService extends AbstractCoreAdoService<Case, CaseJoins> {
 
 	private float calculateCompleteness(Case caze) {
 
+		return calculateCompleteness(
+			caze.getInvestigationStatus(),
+			caze.getCaseClassification(),
+			caze.getOutcome(),
+			caze.getSymptoms().getSymptomatic(),
+			caze.getSymptoms().getOnsetDate(),
+			caze.getPerson().getBirthdateYYYY() != null || caze.getPerson().getApproximateAge() != null,
+			caze.getPerson().getSex(),
+			sampleService
+				.exists((cb, root, cq) -> cb.and(sampleService.createDefaultFilter(cb, root), cb.equal(root.get(Sample.ASSOCIATED_CASE), caze))),
+			contactService.exists((cb, root, cq) -> cb.and(contactService.createDefaultFilter(cb, root), cb.equal(root.get(Contact.CAZE), caze))));
+	}
+
+	private static float calculateCompleteness(
+		InvestigationStatus investigationStatus,
+		CaseClassification caseClassification,
+		CaseOutcome outcome,
+		Boolean symptomatic,
+		Date onsetDate,
+		boolean hasBirthdateOrAge,
+		Sex sex,
+		boolean hasSamples,
+		boolean hasContacts) {
+
 		float completeness = 0f;
 
-		if (InvestigationStatus.DONE.equals(caze.getInvestigationStatus())) {
+		if (InvestigationStatus.DONE.equals(investigationStatus)) {
 			completeness += 0.2f;
 		}
-		if (!CaseClassification.NOT_CLASSIFIED.equals(caze.getCaseClassification())) {
+		if (!CaseClassification.NOT_CLASSIFIED.equals(caseClassification)) {
 			completeness += 0.2f;
 		}
-		if (sampleService
-			.exists((cb, root, cq) -> cb.and(sampleService.createDefaultFilter(cb, root), cb.equal(root.get(Sample.ASSOCIATED_CASE), caze)))) {
+		if (hasSamples) {
 			completeness += 0.15f;
 		}
-		if (Boolean.TRUE.equals(caze.getSymptoms().getSymptomatic())) {
+		if (Boolean.TRUE.equals(symptomatic)) {
 			completeness += 0.15f;
 		}
-		if (contactService.exists((cb, root, cq) -> cb.and(contactService.createDefaultFilter(cb, root), cb.equal(root.get(Contact.CAZE), caze)))) {
+		if (hasContacts) {
 			completeness += 0.10f;
 		}
-		if (!CaseOutcome.NO_OUTCOME.equals(caze.getOutcome())) {
+		if (!CaseOutcome.NO_OUTCOME.equals(outcome)) {
 			completeness += 0.05f;
 		}
-		if (caze.getPerson().getBirthdateYYYY() != null || caze.getPerson().getApproximateAge() != null) {
+		if (hasBirthdateOrAge) {
 			completeness += 0.05f;
 		}
-		if (caze.getPerson().getSex() != null) {
+		if (sex != null) {
 			completeness += 0.05f;
 		}
-		if (caze.getSymptoms().getOnsetDate() != null) {
+		if (onsetDate != null) {
 			completeness += 0.05f;
 		}
 
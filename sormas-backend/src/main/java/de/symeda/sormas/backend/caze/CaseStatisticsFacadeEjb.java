@@ -53,7 +53,10 @@ import de.symeda.sormas.api.statistics.StatisticsCaseSubAttribute;
 import de.symeda.sormas.api.statistics.StatisticsGroupingKey;
 import de.symeda.sormas.api.statistics.StatisticsHelper;
 import de.symeda.sormas.api.user.UserDto;
+import de.symeda.sormas.api.user.UserRight;
 import de.symeda.sormas.api.user.UserRoleReferenceDto;
+import de.symeda.sormas.api.utils.DateHelper;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
 import de.symeda.sormas.backend.disease.DiseaseConfigurationFacadeEjb;
 import de.symeda.sormas.backend.infrastructure.PopulationData;
 import de.symeda.sormas.backend.infrastructure.community.Community;
@@ -76,6 +79,7 @@ import de.symeda.sormas.backend.user.UserRoleFacadeEjb;
 import de.symeda.sormas.backend.user.UserRoleService;
 import de.symeda.sormas.backend.util.ModelConstants;
 import de.symeda.sormas.backend.util.QueryHelper;
+import de.symeda.sormas.backend.util.RightsAllowed;
 
 @Stateless(name = "CaseStatisticsFacade")
 public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
@@ -85,6 +89,13 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 	private static final String MISSING_COLUMN_MIN = "missingColumnMin";
 	private static final String MISSING_COLUMN_MAX = "missingColumnMax";
 
+	/**
+	 * Case counts per report, onset and outcome date, jurisdiction, disease, classification, outcome, sex and age. The view sums up
+	 * the changes appended by database triggers on cases, symptoms and persons and uses the column names of these tables.
+	 */
+	private static final String CASE_STATISTICS_TABLE = "casestatistics";
+	private static final String CASE_COUNT = "casecount";
+
 	@PersistenceContext(unitName = ModelConstants.PERSISTENCE_UNIT_NAME)
 	private EntityManager em;
 
@@ -113,6 +124,8 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 	private FacilityFacadeEjbLocal facilityFacade;
 	@EJB
 	private UserRoleFacadeEjb.UserRoleFacadeEjbLocal userRoleFacade;
+	@EJB
+	private ConfigFacadeEjbLocal configFacade;
 
 	@SuppressWarnings("unchecked")
 	@Override
@@ -127,8 +140,9 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 		Integer populationReferenceYear) {
 
 		// case counts
+		boolean fromRollup = isRollupApplicable(caseCriteria, rowGrouping, columnGrouping);
 		Pair<String, List<Object>> caseCountQueryAndParams =
-			buildCaseCountQuery(caseCriteria, rowGrouping, rowSubGrouping, columnGrouping, columnSubGrouping);
+			buildCaseCountQuery(caseCriteria, rowGrouping, rowSubGrouping, columnGrouping, columnSubGrouping, fromRollup);
 
 		Query caseCountQuery = em.createNativeQuery(caseCountQueryAndParams.getKey());
 		for (int i = 0; i < caseCountQueryAndParams.getValue().size(); i++) {
@@ -173,7 +187,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 
 			if (rowSubGrouping != null || columnSubGrouping != null) {
 				Pair<String, List<Object>> caseCountQueryAndParamsForVisualization =
-					buildVisualizationQuery(caseCriteria, rowGrouping, rowSubGrouping, columnGrouping, columnSubGrouping);
+					buildVisualizationQuery(caseCriteria, rowGrouping, rowSubGrouping, columnGrouping, columnSubGrouping, fromRollup);
 
 				Query caseCountQueryForVisualization = em.createNativeQuery(caseCountQueryAndParamsForVisualization.getKey());
 				for (int i = 0; i < caseCountQueryAndParamsForVisualization.getValue().size(); i++) {
@@ -295,6 +309,66 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 		return caseCountResults;
 	}
 
+	/**
+	 * Adds the changes appended by the triggers to the merged case counts, so the casestatistics view doesn't have to sum up
+	 * more and more changes.
+	 *
+	 * @return The number of merged case count rows.
+	 */
+	@RightsAllowed(UserRight._SYSTEM)
+	public int mergeCaseStatistics() {
+		return ((Number) em.createNativeQuery("SELECT merge_casestatistics()").getSingleResult()).intValue();
+	}
+
+	/**
+	 * The rollup table can be used when the groupings and filters only refer to attributes it contains. Date ranges have to cover
+	 * whole days, because the rollup table only contains the dates.
+	 */
+	private boolean isRollupApplicable(
+		StatisticsCaseCriteria caseCriteria,
+		StatisticsCaseAttribute rowGrouping,
+		StatisticsCaseAttribute columnGrouping) {
+
+		if (!configFacade.isStatisticsRollupEnabled()
+			|| rowGrouping == StatisticsCaseAttribute.REPORTING_USER_ROLE
+			|| columnGrouping == StatisticsCaseAttribute.REPORTING_USER_ROLE
+			|| CollectionUtils.isNotEmpty(caseCriteria.getReportingUserRoles())) {
+			return false;
+		}
+
+		if (CollectionUtils.isNotEmpty(caseCriteria.getPersonRegions())
+			|| CollectionUtils.isNotEmpty(caseCriteria.getPersonDistricts())
+			|| CollectionUtils.isNotEmpty(caseCriteria.getPersonCommunities())
+			|| StringUtils.isNotEmpty(caseCriteria.getPersonCity())
+			|| StringUtils.isNotEmpty(caseCriteria.getPersonPostcode())) {
+			return false;
+		}
+
+		return isWholeDays(caseCriteria.getOnsetDateFrom(), caseCriteria.getOnsetDateTo())
+			&& isWholeDays(caseCriteria.getReportDateFrom(), caseCriteria.getReportDateTo())
+			&& isWholeDays(caseCriteria.getOutcomeDateFrom(), caseCriteria.getOutcomeDateTo());
+	}
+
+	private boolean isWholeDays(Date from, Date to) {
+		return (from == null || from.equals(DateHelper.getStartOfDay(from))) && (to == null || to.equals(DateHelper.getEndOfDay(to)));
+	}
+
+	private String getJurisdictionColumn(StatisticsCaseSubAttribute subGrouping) {
+
+		switch (subGrouping) {
+		case REGION:
+			return Case.RESPONSIBLE_REGION + "_id";
+		case DISTRICT:
+			return Case.RESPONSIBLE_DISTRICT + "_id";
+		case COMMUNITY:
+			return Case.RESPONSIBLE_COMMUNITY + "_id";
+		case FACILITY:
+			return Case.HEALTH_FACILITY + "_id";
+		default:
+			throw new IllegalArgumentException(subGrouping.toString());
+		}
+	}
+
 	/**
 	 * private void replaceIdsWithGroupingKeys(List<StatisticsCaseCountDto> results, StatisticsCaseAttribute groupingA,
 	 * for (StatisticsCaseCountDto result : results) {
@@ -306,11 +380,13 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 		StatisticsCaseAttribute groupingA,
 		StatisticsCaseSubAttribute subGroupingA,
 		StatisticsCaseAttribute groupingB,
-		StatisticsCaseSubAttribute subGroupingB) {
+		StatisticsCaseSubAttribute subGroupingB,
+		boolean fromRollup) {
 
-		StringBuilder caseJoinBuilder = buildStatisticsQueryJoins(caseCriteria, groupingA, subGroupingA, groupingB, subGroupingB);
+		StringBuilder caseJoinBuilder =
+			fromRollup ? new StringBuilder() : buildStatisticsQueryJoins(caseCriteria, groupingA, subGroupingA, groupingB, subGroupingB);
 		StringBuilder caseFilterBuilder = new StringBuilder(" WHERE ");
-		List<Object> filterBuilderParameters = getFilterBuilderParameters(caseCriteria, caseFilterBuilder);
+		List<Object> filterBuilderParameters = getFilterBuilderParameters(caseCriteria, caseFilterBuilder, fromRollup);
 
 		StringBuilder queryBuilder = new StringBuilder();
 
@@ -338,7 +414,10 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			queryBuilder.delete(queryBuilder.length() - 2, queryBuilder.length() - 1);
 		}
 
-		queryBuilder.append(" FROM ").append(Case.TABLE_NAME).append(caseJoinBuilder).append(caseFilterBuilder);
+		queryBuilder.append(" FROM ")
+			.append(fromRollup ? CASE_STATISTICS_TABLE : Case.TABLE_NAME)
+			.append(caseJoinBuilder)
+			.append(caseFilterBuilder);
 
 		return new ImmutablePair<>(queryBuilder.toString(), filterBuilderParameters);
 	}
@@ -415,7 +494,8 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 		StatisticsCaseAttribute groupingA,
 		StatisticsCaseSubAttribute subGroupingA,
 		StatisticsCaseAttribute groupingB,
-		StatisticsCaseSubAttribute subGroupingB) {
+		StatisticsCaseSubAttribute subGroupingB,
+		boolean fromRollup) {
 
 		// Steps to build the query:
 		// 1. Join the required tables
@@ -423,9 +503,10 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 		// 3. Add selected groupings
 		// 4. Retrieve and prepare the results
 
-		StringBuilder caseJoinBuilder = buildStatisticsQueryJoins(caseCriteria, groupingA, subGroupingA, groupingB, subGroupingB);
+		StringBuilder caseJoinBuilder =
+			fromRollup ? new StringBuilder() : buildStatisticsQueryJoins(caseCriteria, groupingA, subGroupingA, groupingB, subGroupingB);
 		StringBuilder caseFilterBuilder = new StringBuilder(" WHERE ");
-		List<Object> filterBuilderParameters = getFilterBuilderParameters(caseCriteria, caseFilterBuilder);
+		List<Object> filterBuilderParameters = getFilterBuilderParameters(caseCriteria, caseFilterBuilder, fromRollup);
 
 		//////////////
 		// 3. Add selected groupings
@@ -441,11 +522,11 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			caseGroupByBuilder.append(" GROUP BY ");
 
 			if (groupingA != null) {
-				groupingSelectQueryA = buildCaseGroupingSelectQuery(groupingA, subGroupingA, groupAAlias);
+				groupingSelectQueryA = buildCaseGroupingSelectQuery(groupingA, subGroupingA, groupAAlias, fromRollup);
 				caseGroupByBuilder.append(groupAAlias);
 			}
 			if (groupingB != null) {
-				groupingSelectQueryB = buildCaseGroupingSelectQuery(groupingB, subGroupingB, groupBAlias);
+				groupingSelectQueryB = buildCaseGroupingSelectQuery(groupingB, subGroupingB, groupBAlias, fromRollup);
 				if (groupingA != null) {
 					caseGroupByBuilder.append(",");
 				}
@@ -470,7 +551,11 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 
 		StringBuilder queryBuilder = new StringBuilder();
 
-		queryBuilder.append("SELECT COUNT(*) AS casecount ");
+		if (fromRollup) {
+			queryBuilder.append("SELECT SUM(").append(CASE_STATISTICS_TABLE).append(".").append(CASE_COUNT).append(") AS casecount ");
+		} else {
+			queryBuilder.append("SELECT COUNT(*) AS casecount ");
+		}
 
 		if (groupingSelectQueryA != null) {
 			queryBuilder.append(", ").append(groupingSelectQueryA);
@@ -483,7 +568,10 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			queryBuilder.append(", null\\:\\:text AS ").append(groupBAlias);
 		}
 
-		queryBuilder.append(" FROM ").append(Case.TABLE_NAME).append(caseJoinBuilder).append(caseFilterBuilder);
+		queryBuilder.append(" FROM ")
+			.append(fromRollup ? CASE_STATISTICS_TABLE : Case.TABLE_NAME)
+			.append(caseJoinBuilder)
+			.append(caseFilterBuilder);
 
 		queryBuilder.append(caseGroupByBuilder);
 
@@ -493,15 +581,28 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 		return new ImmutablePair<>(queryBuilder.toString(), filterBuilderParameters);
 	}
 
-	private List<Object> getFilterBuilderParameters(StatisticsCaseCriteria caseCriteria, StringBuilder caseFilterBuilder) {
+	private List<Object> getFilterBuilderParameters(
+		StatisticsCaseCriteria caseCriteria,
+		StringBuilder caseFilterBuilder,
+		boolean fromRollup) {
 		/////////////
 		// 2. Build filter based on caseCriteria
 		/////////////
 
-		caseFilterBuilder.append("(").append(Case.TABLE_NAME).append(".").append(Case.DELETED).append(" = false");
-		// needed for the full join on population
-		caseFilterBuilder.append(" OR ").append(Case.TABLE_NAME).append(".").append(Case.DELETED).append(" IS NULL ");
-		caseFilterBuilder.append(")");
+		// the rollup table uses the column names of the tables it is built from
+		String caseTable = fromRollup ? CASE_STATISTICS_TABLE : Case.TABLE_NAME;
+		String symptomsTable = fromRollup ? CASE_STATISTICS_TABLE : Symptoms.TABLE_NAME;
+		String personTable = fromRollup ? CASE_STATISTICS_TABLE : Person.TABLE_NAME;
+
+		if (fromRollup) {
+			// deleted cases are not counted in the rollup table
+			caseFilterBuilder.append(CASE_STATISTICS_TABLE).append(".").append(CASE_COUNT).append(" > 0");
+		} else {
+			caseFilterBuilder.append("(").append(Case.TABLE_NAME).append(".").append(Case.DELETED).append(" = false");
+			// needed for the full join on population
+			caseFilterBuilder.append(" OR ").append(Case.TABLE_NAME).append(".").append(Case.DELETED).append(" IS NULL ");
+			caseFilterBuilder.append(")");
+		}
 		List<Object> filterBuilderParameters = new ArrayList<Object>();
 
 		if (CollectionUtils.isNotEmpty(caseCriteria.getOnsetYears())) {
@@ -509,7 +610,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 				caseFilterBuilder,
 				filterBuilderParameters,
 				"YEAR",
-				Symptoms.TABLE_NAME,
+				symptomsTable,
 				Symptoms.ONSET_DATE,
 				caseCriteria.getOnsetYears(),
 				dateValue -> (dateValue.getValue()));
@@ -520,7 +621,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 				caseFilterBuilder,
 				filterBuilderParameters,
 				"QUARTER",
-				Symptoms.TABLE_NAME,
+				symptomsTable,
 				Symptoms.ONSET_DATE,
 				caseCriteria.getOnsetQuarters(),
 				dateValue -> (dateValue.getValue()));
@@ -531,7 +632,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 				caseFilterBuilder,
 				filterBuilderParameters,
 				"MONTH",
-				Symptoms.TABLE_NAME,
+				symptomsTable,
 				Symptoms.ONSET_DATE,
 				caseCriteria.getOnsetMonths(),
 				dateValue -> (dateValue.ordinal() + 1));
@@ -541,7 +642,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			extendFilterBuilderWithEpiWeek(
 				caseFilterBuilder,
 				filterBuilderParameters,
-				Symptoms.TABLE_NAME,
+				symptomsTable,
 				Symptoms.ONSET_DATE,
 				caseCriteria.getOnsetEpiWeeks(),
 				value -> value.getWeek());
@@ -551,7 +652,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			extendFilterBuilderWithQuarterOfYear(
 				caseFilterBuilder,
 				filterBuilderParameters,
-				Symptoms.TABLE_NAME,
+				symptomsTable,
 				Symptoms.ONSET_DATE,
 				caseCriteria.getOnsetQuartersOfYear(),
 				value -> value.getYear().getValue() * 10 + value.getQuarter().getValue());
@@ -561,7 +662,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			extendFilterBuilderWithMonthOfYear(
 				caseFilterBuilder,
 				filterBuilderParameters,
-				Symptoms.TABLE_NAME,
+				symptomsTable,
 				Symptoms.ONSET_DATE,
 				caseCriteria.getOnsetMonthsOfYear(),
 				value -> value.getYear().getValue() * 100 + (value.getMonth().ordinal() + 1));
@@ -571,7 +672,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			extendFilterBuilderWithEpiWeekOfYear(
 				caseFilterBuilder,
 				filterBuilderParameters,
-				Symptoms.TABLE_NAME,
+				symptomsTable,
 				Symptoms.ONSET_DATE,
 				caseCriteria.getOnsetEpiWeeksOfYear(),
 				value -> value.getYear() * 100 + value.getWeek());
@@ -583,7 +684,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 				filterBuilderParameters,
 				caseCriteria.getOnsetDateFrom(),
 				caseCriteria.getOnsetDateTo(),
-				Symptoms.TABLE_NAME,
+				symptomsTable,
 				Symptoms.ONSET_DATE);
 		}
 
@@ -592,7 +693,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 				caseFilterBuilder,
 				filterBuilderParameters,
 				"YEAR",
-				Case.TABLE_NAME,
+				caseTable,
 				Case.REPORT_DATE,
 				caseCriteria.getReportYears(),
 				dateValue -> (dateValue.getValue()));
@@ -603,7 +704,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 				caseFilterBuilder,
 				filterBuilderParameters,
 				"QUARTER",
-				Case.TABLE_NAME,
+				caseTable,
 				Case.REPORT_DATE,
 				caseCriteria.getReportQuarters(),
 				dateValue -> (dateValue.getValue()));
@@ -614,7 +715,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 				caseFilterBuilder,
 				filterBuilderParameters,
 				"MONTH",
-				Case.TABLE_NAME,
+				caseTable,
 				Case.REPORT_DATE,
 				caseCriteria.getReportMonths(),
 				dateValue -> (dateValue.ordinal() + 1));
@@ -624,7 +725,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			extendFilterBuilderWithEpiWeek(
 				caseFilterBuilder,
 				filterBuilderParameters,
-				Case.TABLE_NAME,
+				caseTable,
 				Case.REPORT_DATE,
 				caseCriteria.getReportEpiWeeks(),
 				value -> value.getWeek());
@@ -634,7 +735,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			extendFilterBuilderWithQuarterOfYear(
 				caseFilterBuilder,
 				filterBuilderParameters,
-				Case.TABLE_NAME,
+				caseTable,
 				Case.REPORT_DATE,
 				caseCriteria.getReportQuartersOfYear(),
 				value -> value.getYear().getValue() * 10 + value.getQuarter().getValue());
@@ -644,7 +745,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			extendFilterBuilderWithMonthOfYear(
 				caseFilterBuilder,
 				filterBuilderParameters,
-				Case.TABLE_NAME,
+				caseTable,
 				Case.REPORT_DATE,
 				caseCriteria.getReportMonthsOfYear(),
 				value -> value.getYear().getValue() * 100 + (value.getMonth().ordinal() + 1));
@@ -654,7 +755,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			extendFilterBuilderWithEpiWeekOfYear(
 				caseFilterBuilder,
 				filterBuilderParameters,
-				Case.TABLE_NAME,
+				caseTable,
 				Case.REPORT_DATE,
 				caseCriteria.getReportEpiWeeksOfYear(),
 				value -> value.getYear() * 100 + value.getWeek());
@@ -666,7 +767,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 				filterBuilderParameters,
 				caseCriteria.getReportDateFrom(),
 				caseCriteria.getReportDateTo(),
-				Case.TABLE_NAME,
+				caseTable,
 				Case.REPORT_DATE);
 		}
 
@@ -675,7 +776,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 				caseFilterBuilder,
 				filterBuilderParameters,
 				"YEAR",
-				Case.TABLE_NAME,
+				caseTable,
 				Case.OUTCOME_DATE,
 				caseCriteria.getOutcomeYears(),
 				dateValue -> (dateValue.getValue()));
@@ -686,7 +787,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 				caseFilterBuilder,
 				filterBuilderParameters,
 				"QUARTER",
-				Case.TABLE_NAME,
+				caseTable,
 				Case.OUTCOME_DATE,
 				caseCriteria.getOutcomeQuarters(),
 				dateValue -> (dateValue.getValue()));
@@ -697,7 +798,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 				caseFilterBuilder,
 				filterBuilderParameters,
 				"MONTH",
-				Case.TABLE_NAME,
+				caseTable,
 				Case.OUTCOME_DATE,
 				caseCriteria.getOutcomeMonths(),
 				dateValue -> (dateValue.ordinal() + 1));
@@ -707,7 +808,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			extendFilterBuilderWithEpiWeek(
 				caseFilterBuilder,
 				filterBuilderParameters,
-				Case.TABLE_NAME,
+				caseTable,
 				Case.OUTCOME_DATE,
 				caseCriteria.getOutcomeEpiWeeks(),
 				value -> value.getWeek());
@@ -717,7 +818,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			extendFilterBuilderWithQuarterOfYear(
 				caseFilterBuilder,
 				filterBuilderParameters,
-				Case.TABLE_NAME,
+				caseTable,
 				Case.OUTCOME_DATE,
 				caseCriteria.getOutcomeQuartersOfYear(),
 				value -> value.getYear().getValue() * 10 + value.getQuarter().getValue());
@@ -727,7 +828,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			extendFilterBuilderWithMonthOfYear(
 				caseFilterBuilder,
 				filterBuilderParameters,
-				Case.TABLE_NAME,
+				caseTable,
 				Case.OUTCOME_DATE,
 				caseCriteria.getOutcomeMonthsOfYear(),
 				value -> value.getYear().getValue() * 100 + (value.getMonth().ordinal() + 1));
@@ -737,7 +838,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			extendFilterBuilderWithEpiWeekOfYear(
 				caseFilterBuilder,
 				filterBuilderParameters,
-				Case.TABLE_NAME,
+				caseTable,
 				Case.OUTCOME_DATE,
 				caseCriteria.getOutcomeEpiWeeksOfYear(),
 				value -> value.getYear() * 100 + value.getWeek());
@@ -749,7 +850,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 				filterBuilderParameters,
 				caseCriteria.getOutcomeDateFrom(),
 				caseCriteria.getOutcomeDateTo(),
-				Case.TABLE_NAME,
+				caseTable,
 				Case.OUTCOME_DATE);
 		}
 
@@ -802,7 +903,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 				extendFilterBuilderWithSimpleValue(
 					subFilterBuilder,
 					filterBuilderParameters,
-					Person.TABLE_NAME,
+					personTable,
 					Person.SEX,
 					caseCriteria.getSexes(),
 					entry -> entry.name());
@@ -812,7 +913,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 				if (subFilterBuilder.length() > 0) {
 					subFilterBuilder.append(" OR ");
 				}
-				subFilterBuilder.append(Person.TABLE_NAME)
+				subFilterBuilder.append(personTable)
 					.append(".")
 					.append(Person.SEX)
 					.append(" IS ")
@@ -850,7 +951,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 				extendFilterBuilderWithSimpleValue(
 					subFilterBuilder,
 					filterBuilderParameters,
-					Case.TABLE_NAME,
+					caseTable,
 					Case.CASE_AGE,
 					agesList,
 					value -> value);
@@ -860,7 +961,11 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 				if (subFilterBuilder.length() > 0) {
 					subFilterBuilder.append(" OR ");
 				}
-				subFilterBuilder.append(Case.TABLE_NAME).append(".").append(Case.CASE_AGE).append(" >= ?").append(filterBuilderParameters.size() + 1);
+				subFilterBuilder.append(caseTable)
+					.append(".")
+					.append(Case.CASE_AGE)
+					.append(" >= ?")
+					.append(filterBuilderParameters.size() + 1);
 				filterBuilderParameters.add(upperRangeBoundary);
 			}
 
@@ -868,7 +973,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 				if (subFilterBuilder.length() > 0) {
 					subFilterBuilder.append(" OR ");
 				}
-				subFilterBuilder.append(Case.TABLE_NAME).append(".").append(Case.CASE_AGE).append(" IS NULL");
+				subFilterBuilder.append(caseTable).append(".").append(Case.CASE_AGE).append(" IS NULL");
 			}
 
 			caseFilterBuilder.append(subFilterBuilder);
@@ -879,7 +984,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			extendFilterBuilderWithSimpleValue(
 				caseFilterBuilder,
 				filterBuilderParameters,
-				Case.TABLE_NAME,
+				caseTable,
 				Case.DISEASE,
 				caseCriteria.getDiseases(),
 				entry -> entry.name());
@@ -889,7 +994,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			extendFilterBuilderWithSimpleValue(
 				caseFilterBuilder,
 				filterBuilderParameters,
-				Case.TABLE_NAME,
+				caseTable,
 				Case.CASE_CLASSIFICATION,
 				caseCriteria.getClassifications(),
 				entry -> entry.name());
@@ -899,7 +1004,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			extendFilterBuilderWithSimpleValue(
 				caseFilterBuilder,
 				filterBuilderParameters,
-				Case.TABLE_NAME,
+				caseTable,
 				Case.OUTCOME,
 				caseCriteria.getOutcomes(),
 				entry -> entry.name());
@@ -910,7 +1015,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			extendFilterBuilderWithSimpleValue(
 				caseFilterBuilder,
 				filterBuilderParameters,
-				Case.TABLE_NAME,
+				caseTable,
 				Case.RESPONSIBLE_REGION + "_id",
 				regionIds,
 				entry -> entry);
@@ -921,7 +1026,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			extendFilterBuilderWithSimpleValue(
 				caseFilterBuilder,
 				filterBuilderParameters,
-				Case.TABLE_NAME,
+				caseTable,
 				Case.RESPONSIBLE_DISTRICT + "_id",
 				districtIds,
 				entry -> entry);
@@ -932,7 +1037,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			extendFilterBuilderWithSimpleValue(
 				caseFilterBuilder,
 				filterBuilderParameters,
-				Case.TABLE_NAME,
+				caseTable,
 				Case.RESPONSIBLE_COMMUNITY + "_id",
 				communityIds,
 				entry -> entry);
@@ -943,7 +1048,7 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			extendFilterBuilderWithSimpleValue(
 				caseFilterBuilder,
 				filterBuilderParameters,
-				Case.TABLE_NAME,
+				caseTable,
 				Case.HEALTH_FACILITY + "_id",
 				facilityIds,
 				entry -> entry);
@@ -1563,23 +1668,40 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 		return QueryHelper.appendInFilterValues(filterBuilder, filterBuilderParameters, values, valueMapper);
 	}
 
-	private String buildCaseGroupingSelectQuery(StatisticsCaseAttribute grouping, StatisticsCaseSubAttribute subGrouping, String groupAlias) {
+	private String buildCaseGroupingSelectQuery(
+		StatisticsCaseAttribute grouping,
+		StatisticsCaseSubAttribute subGrouping,
+		String groupAlias,
+		boolean fromRollup) {
+
+		// the rollup table uses the column names of the tables it is built from
+		String caseTable = fromRollup ? CASE_STATISTICS_TABLE : Case.TABLE_NAME;
+		String symptomsTable = fromRollup ? CASE_STATISTICS_TABLE : Symptoms.TABLE_NAME;
+		String personTable = fromRollup ? CASE_STATISTICS_TABLE : Person.TABLE_NAME;
 
 		StringBuilder groupingSelectPartBuilder = new StringBuilder();
 		switch (grouping) {
 		case SEX:
-			groupingSelectPartBuilder.append(Person.TABLE_NAME).append(".").append(Person.SEX).append(" AS ").append(groupAlias);
+			groupingSelectPartBuilder.append(personTable).append(".").append(Person.SEX).append(" AS ").append(groupAlias);
 			break;
 		case DISEASE:
-			groupingSelectPartBuilder.append(Case.TABLE_NAME).append(".").append(Case.DISEASE).append(" AS ").append(groupAlias);
+			groupingSelectPartBuilder.append(caseTable).append(".").append(Case.DISEASE).append(" AS ").append(groupAlias);
 			break;
 		case CLASSIFICATION:
-			groupingSelectPartBuilder.append(Case.TABLE_NAME).append(".").append(Case.CASE_CLASSIFICATION).append(" AS ").append(groupAlias);
+			groupingSelectPartBuilder.append(caseTable).append(".").append(Case.CASE_CLASSIFICATION).append(" AS ").append(groupAlias);
 			break;
 		case OUTCOME:
-			groupingSelectPartBuilder.append(Case.TABLE_NAME).append(".").append(Case.OUTCOME).append(" AS ").append(groupAlias);
+			groupingSelectPartBuilder.append(caseTable).append(".").append(Case.OUTCOME).append(" AS ").append(groupAlias);
 			break;
 		case JURISDICTION: {
+			if (fromRollup) {
+				groupingSelectPartBuilder.append(caseTable)
+					.append(".")
+					.append(getJurisdictionColumn(subGrouping))
+					.append(" AS ")
+					.append(groupAlias);
+				break;
+			}
 			switch (subGrouping) {
 			case REGION:
 				groupingSelectPartBuilder.append(Region.TABLE_NAME).append(".").append(Region.ID).append(" AS ").append(groupAlias);
@@ -1604,30 +1726,30 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 		case AGE_INTERVAL_CHILDREN_FINE:
 		case AGE_INTERVAL_CHILDREN_MEDIUM:
 		case AGE_INTERVAL_BASIC:
-			extendGroupingBuilderWithAgeInterval(groupingSelectPartBuilder, grouping, groupAlias);
+			extendGroupingBuilderWithAgeInterval(groupingSelectPartBuilder, caseTable, grouping, groupAlias);
 			break;
 		case ONSET_TIME:
 			switch (subGrouping) {
 			case YEAR:
-				extendGroupingBuilderWithDate(groupingSelectPartBuilder, "YEAR", Symptoms.TABLE_NAME, Symptoms.ONSET_DATE, groupAlias);
+				extendGroupingBuilderWithDate(groupingSelectPartBuilder, "YEAR", symptomsTable, Symptoms.ONSET_DATE, groupAlias);
 				break;
 			case QUARTER:
-				extendGroupingBuilderWithDate(groupingSelectPartBuilder, "QUARTER", Symptoms.TABLE_NAME, Symptoms.ONSET_DATE, groupAlias);
+				extendGroupingBuilderWithDate(groupingSelectPartBuilder, "QUARTER", symptomsTable, Symptoms.ONSET_DATE, groupAlias);
 				break;
 			case MONTH:
-				extendGroupingBuilderWithDate(groupingSelectPartBuilder, "MONTH", Symptoms.TABLE_NAME, Symptoms.ONSET_DATE, groupAlias);
+				extendGroupingBuilderWithDate(groupingSelectPartBuilder, "MONTH", symptomsTable, Symptoms.ONSET_DATE, groupAlias);
 				break;
 			case EPI_WEEK:
-				extendGroupingBuilderWithEpiWeek(groupingSelectPartBuilder, Symptoms.TABLE_NAME, Symptoms.ONSET_DATE, groupAlias);
+				extendGroupingBuilderWithEpiWeek(groupingSelectPartBuilder, symptomsTable, Symptoms.ONSET_DATE, groupAlias);
 				break;
 			case QUARTER_OF_YEAR:
-				extendGroupingBuilderWithQuarterOfYear(groupingSelectPartBuilder, Symptoms.TABLE_NAME, Symptoms.ONSET_DATE, groupAlias);
+				extendGroupingBuilderWithQuarterOfYear(groupingSelectPartBuilder, symptomsTable, Symptoms.ONSET_DATE, groupAlias);
 				break;
 			case MONTH_OF_YEAR:
-				extendGroupingBuilderWithMonthOfYear(groupingSelectPartBuilder, Symptoms.TABLE_NAME, Symptoms.ONSET_DATE, groupAlias);
+				extendGroupingBuilderWithMonthOfYear(groupingSelectPartBuilder, symptomsTable, Symptoms.ONSET_DATE, groupAlias);
 				break;
 			case EPI_WEEK_OF_YEAR:
-				extendGroupingBuilderWithEpiWeekOfYear(groupingSelectPartBuilder, Symptoms.TABLE_NAME, Symptoms.ONSET_DATE, groupAlias);
+				extendGroupingBuilderWithEpiWeekOfYear(groupingSelectPartBuilder, symptomsTable, Symptoms.ONSET_DATE, groupAlias);
 				break;
 			default:
 				throw new IllegalArgumentException(subGrouping.toString());
@@ -1636,25 +1758,25 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 		case REPORT_TIME:
 			switch (subGrouping) {
 			case YEAR:
-				extendGroupingBuilderWithDate(groupingSelectPartBuilder, "YEAR", Case.TABLE_NAME, Case.REPORT_DATE, groupAlias);
+				extendGroupingBuilderWithDate(groupingSelectPartBuilder, "YEAR", caseTable, Case.REPORT_DATE, groupAlias);
 				break;
 			case QUARTER:
-				extendGroupingBuilderWithDate(groupingSelectPartBuilder, "QUARTER", Case.TABLE_NAME, Case.REPORT_DATE, groupAlias);
+				extendGroupingBuilderWithDate(groupingSelectPartBuilder, "QUARTER", caseTable, Case.REPORT_DATE, groupAlias);
 				break;
 			case MONTH:
-				extendGroupingBuilderWithDate(groupingSelectPartBuilder, "MONTH", Case.TABLE_NAME, Case.REPORT_DATE, groupAlias);
+				extendGroupingBuilderWithDate(groupingSelectPartBuilder, "MONTH", caseTable, Case.REPORT_DATE, groupAlias);
 				break;
 			case EPI_WEEK:
-				extendGroupingBuilderWithEpiWeek(groupingSelectPartBuilder, Case.TABLE_NAME, Case.REPORT_DATE, groupAlias);
+				extendGroupingBuilderWithEpiWeek(groupingSelectPartBuilder, caseTable, Case.REPORT_DATE, groupAlias);
 				break;
 			case QUARTER_OF_YEAR:
-				extendGroupingBuilderWithQuarterOfYear(groupingSelectPartBuilder, Case.TABLE_NAME, Case.REPORT_DATE, groupAlias);
+				extendGroupingBuilderWithQuarterOfYear(groupingSelectPartBuilder, caseTable, Case.REPORT_DATE, groupAlias);
 				break;
 			case MONTH_OF_YEAR:
-				extendGroupingBuilderWithMonthOfYear(groupingSelectPartBuilder, Case.TABLE_NAME, Case.REPORT_DATE, groupAlias);
+				extendGroupingBuilderWithMonthOfYear(groupingSelectPartBuilder, caseTable, Case.REPORT_DATE, groupAlias);
 				break;
 			case EPI_WEEK_OF_YEAR:
-				extendGroupingBuilderWithEpiWeekOfYear(groupingSelectPartBuilder, Case.TABLE_NAME, Case.REPORT_DATE, groupAlias);
+				extendGroupingBuilderWithEpiWeekOfYear(groupingSelectPartBuilder, caseTable, Case.REPORT_DATE, groupAlias);
 				break;
 			default:
 				throw new IllegalArgumentException(subGrouping.toString());
@@ -1663,25 +1785,25 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 		case OUTCOME_TIME:
 			switch (subGrouping) {
 			case YEAR:
-				extendGroupingBuilderWithDate(groupingSelectPartBuilder, "YEAR", Case.TABLE_NAME, Case.OUTCOME_DATE, groupAlias);
+				extendGroupingBuilderWithDate(groupingSelectPartBuilder, "YEAR", caseTable, Case.OUTCOME_DATE, groupAlias);
 				break;
 			case QUARTER:
-				extendGroupingBuilderWithDate(groupingSelectPartBuilder, "QUARTER", Case.TABLE_NAME, Case.OUTCOME_DATE, groupAlias);
+				extendGroupingBuilderWithDate(groupingSelectPartBuilder, "QUARTER", caseTable, Case.OUTCOME_DATE, groupAlias);
 				break;
 			case MONTH:
-				extendGroupingBuilderWithDate(groupingSelectPartBuilder, "MONTH", Case.TABLE_NAME, Case.OUTCOME_DATE, groupAlias);
+				extendGroupingBuilderWithDate(groupingSelectPartBuilder, "MONTH", caseTable, Case.OUTCOME_DATE, groupAlias);
 				break;
 			case EPI_WEEK:
-				extendGroupingBuilderWithEpiWeek(groupingSelectPartBuilder, Case.TABLE_NAME, Case.OUTCOME_DATE, groupAlias);
+				extendGroupingBuilderWithEpiWeek(groupingSelectPartBuilder, caseTable, Case.OUTCOME_DATE, groupAlias);
 				break;
 			case QUARTER_OF_YEAR:
-				extendGroupingBuilderWithQuarterOfYear(groupingSelectPartBuilder, Case.TABLE_NAME, Case.OUTCOME_DATE, groupAlias);
+				extendGroupingBuilderWithQuarterOfYear(groupingSelectPartBuilder, caseTable, Case.OUTCOME_DATE, groupAlias);
 				break;
 			case MONTH_OF_YEAR:
-				extendGroupingBuilderWithMonthOfYear(groupingSelectPartBuilder, Case.TABLE_NAME, Case.OUTCOME_DATE, groupAlias);
+				extendGroupingBuilderWithMonthOfYear(groupingSelectPartBuilder, caseTable, Case.OUTCOME_DATE, groupAlias);
 				break;
 			case EPI_WEEK_OF_YEAR:
-				extendGroupingBuilderWithEpiWeekOfYear(groupingSelectPartBuilder, Case.TABLE_NAME, Case.OUTCOME_DATE, groupAlias);
+				extendGroupingBuilderWithEpiWeekOfYear(groupingSelectPartBuilder, caseTable, Case.OUTCOME_DATE, groupAlias);
 				break;
 			default:
 				throw new IllegalArgumentException(subGrouping.toString());
@@ -1764,14 +1886,18 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			.append(groupAlias);
 	}
 
-	private void extendGroupingBuilderWithAgeInterval(StringBuilder groupingBuilder, StatisticsCaseAttribute grouping, String groupAlias) {
+	private void extendGroupingBuilderWithAgeInterval(
+		StringBuilder groupingBuilder,
+		String caseTable,
+		StatisticsCaseAttribute grouping,
+		String groupAlias) {
 
 		groupingBuilder.append("CASE ");
 		switch (grouping) {
 		case AGE_INTERVAL_1_YEAR:
 			for (int i = 0; i < 80; i++) {
 				groupingBuilder.append("WHEN ")
-					.append(Case.TABLE_NAME)
+					.append(caseTable)
 					.append(".")
 					.append(Case.CASE_AGE)
 					.append(" = ")
@@ -1784,22 +1910,22 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			break;
 		case AGE_INTERVAL_5_YEARS:
 			for (AgeGroup ageGroup : AgeGroup.values()) {
-				addAgeGroupToStringBuilder(groupingBuilder, ageGroup);
+				addAgeGroupToStringBuilder(groupingBuilder, caseTable, ageGroup);
 			}
 			break;
 		case AGE_INTERVAL_CHILDREN_COARSE:
-			addAgeIntervalToStringBuilder(groupingBuilder, 0, 14);
+			addAgeIntervalToStringBuilder(groupingBuilder, caseTable, 0, 14);
 			for (int i = 15; i < 30; i += 5) {
-				addAgeIntervalToStringBuilder(groupingBuilder, i, 4);
+				addAgeIntervalToStringBuilder(groupingBuilder, caseTable, i, 4);
 			}
 			for (int i = 30; i < 80; i += 10) {
-				addAgeIntervalToStringBuilder(groupingBuilder, i, 9);
+				addAgeIntervalToStringBuilder(groupingBuilder, caseTable, i, 9);
 			}
 			break;
 		case AGE_INTERVAL_CHILDREN_FINE:
 			for (int i = 0; i < 5; i++) {
 				groupingBuilder.append("WHEN ")
-					.append(Case.TABLE_NAME)
+					.append(caseTable)
 					.append(".")
 					.append(Case.CASE_AGE)
 					.append(" = ")
@@ -1812,42 +1938,42 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 					.append("' ");
 			}
 			for (int i = 5; i < 30; i += 5) {
-				addAgeIntervalToStringBuilder(groupingBuilder, i, 4);
+				addAgeIntervalToStringBuilder(groupingBuilder, caseTable, i, 4);
 			}
 			for (int i = 30; i < 80; i += 10) {
-				addAgeIntervalToStringBuilder(groupingBuilder, i, 9);
+				addAgeIntervalToStringBuilder(groupingBuilder, caseTable, i, 9);
 			}
 			break;
 		case AGE_INTERVAL_CHILDREN_MEDIUM:
 			for (int i = 0; i < 30; i += 5) {
-				addAgeIntervalToStringBuilder(groupingBuilder, i, 4);
+				addAgeIntervalToStringBuilder(groupingBuilder, caseTable, i, 4);
 			}
 			for (int i = 30; i < 80; i += 10) {
-				addAgeIntervalToStringBuilder(groupingBuilder, i, 9);
+				addAgeIntervalToStringBuilder(groupingBuilder, caseTable, i, 9);
 			}
 			break;
 		case AGE_INTERVAL_BASIC:
-			addAgeIntervalToStringBuilder(groupingBuilder, 0, 0);
-			addAgeIntervalToStringBuilder(groupingBuilder, 1, 3);
-			addAgeIntervalToStringBuilder(groupingBuilder, 5, 9);
-			groupingBuilder.append("WHEN ").append(Case.TABLE_NAME).append(".").append(Case.CASE_AGE).append(" >= 15 THEN '15+' ");
+			addAgeIntervalToStringBuilder(groupingBuilder, caseTable, 0, 0);
+			addAgeIntervalToStringBuilder(groupingBuilder, caseTable, 1, 3);
+			addAgeIntervalToStringBuilder(groupingBuilder, caseTable, 5, 9);
+			groupingBuilder.append("WHEN ").append(caseTable).append(".").append(Case.CASE_AGE).append(" >= 15 THEN '15+' ");
 			break;
 		default:
 			throw new IllegalArgumentException(grouping.toString());
 		}
 
 		if (grouping != StatisticsCaseAttribute.AGE_INTERVAL_BASIC && grouping != StatisticsCaseAttribute.AGE_INTERVAL_5_YEARS) {
-			groupingBuilder.append("WHEN ").append(Case.TABLE_NAME).append(".").append(Case.CASE_AGE).append(" >= 80 THEN '80+' ");
+			groupingBuilder.append("WHEN ").append(caseTable).append(".").append(Case.CASE_AGE).append(" >= 80 THEN '80+' ");
 		}
 		groupingBuilder.append("ELSE NULL END AS " + groupAlias);
 	}
 
-	private void addAgeIntervalToStringBuilder(StringBuilder groupingBuilder, int number, int increase) {
+	private void addAgeIntervalToStringBuilder(StringBuilder groupingBuilder, String caseTable, int number, int increase) {
 
 		String lowerNumberString = number < 10 ? "0" + number : String.valueOf(number);
 		String higherNumberString = number + increase < 10 ? "0" + (number + increase) : String.valueOf(number + increase);
 		groupingBuilder.append("WHEN ")
-			.append(Case.TABLE_NAME)
+			.append(caseTable)
 			.append(".")
 			.append(Case.CASE_AGE)
 			.append(" BETWEEN ")
@@ -1861,10 +1987,10 @@ public class CaseStatisticsFacadeEjb implements CaseStatisticsFacade {
 			.append("' ");
 	}
 
-	private void addAgeGroupToStringBuilder(StringBuilder groupingBuilder, AgeGroup ageGroup) {
+	private void addAgeGroupToStringBuilder(StringBuilder groupingBuilder, String caseTable, AgeGroup ageGroup) {
 
 		IntegerRange ageRange = ageGroup.toIntegerRange();
-		groupingBuilder.append("WHEN ").append(Case.TABLE_NAME).append(".").append(Case.CASE_AGE);
+		groupingBuilder.append("WHEN ").append(caseTable).append(".").append(Case.CASE_AGE);
 		if (ageRange.getTo() == null) {
 			groupingBuilder.append(" >= ").append(ageRange.getFrom());
 		} else {
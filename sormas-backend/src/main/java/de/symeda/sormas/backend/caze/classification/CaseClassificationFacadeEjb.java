@@ -19,16 +19,29 @@ package de.symeda.sormas.backend.caze.classification;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.annotation.security.PermitAll;
+import javax.ejb.Asynchronous;
 import javax.ejb.EJB;
 import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
+import javax.ejb.TransactionAttribute;
+import javax.ejb.TransactionAttributeType;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import de.symeda.sormas.api.CountryHelper;
 import de.symeda.sormas.api.Disease;
@@ -70,19 +83,28 @@ import de.symeda.sormas.api.sample.PathogenTestDto;
 import de.symeda.sormas.api.sample.PathogenTestType;
 import de.symeda.sormas.api.symptoms.SymptomState;
 import de.symeda.sormas.api.symptoms.SymptomsDto;
+import de.symeda.sormas.api.systemevents.SystemEventDto;
+import de.symeda.sormas.api.systemevents.SystemEventStatus;
+import de.symeda.sormas.api.systemevents.SystemEventType;
+import de.symeda.sormas.api.user.UserRight;
 import de.symeda.sormas.api.utils.DateHelper;
 import de.symeda.sormas.api.utils.YesNoUnknown;
+import de.symeda.sormas.backend.caze.CaseService;
 import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
+import de.symeda.sormas.backend.event.Event;
 import de.symeda.sormas.backend.event.EventFacadeEjb;
 import de.symeda.sormas.backend.event.EventService;
 import de.symeda.sormas.backend.immunization.ImmunizationService;
 import de.symeda.sormas.backend.person.PersonFacadeEjb.PersonFacadeEjbLocal;
+import de.symeda.sormas.backend.sample.PathogenTest;
 import de.symeda.sormas.backend.sample.PathogenTestFacadeEjb;
 import de.symeda.sormas.backend.sample.PathogenTestService;
+import de.symeda.sormas.backend.systemevent.SystemEventFacadeEjb.SystemEventFacadeEjbLocal;
+import de.symeda.sormas.backend.util.IterableHelper;
+import de.symeda.sormas.backend.util.RightsAllowed;
 
 /**
- * Stateless instead of Singleton. It's ok to have multiple instances with an
- * individual cache.
+ * Stateless instead of Singleton. The criteria are cached statically and shared by all instances.
  * 
  * @author Martin Wahnschaffe
  */
@@ -101,29 +123,157 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 	private EventService eventService;
 	@EJB
 	private ImmunizationService immunizationService;
+	@EJB
+	private CaseService caseService;
+	@EJB
+	private CaseReclassificationWorker reclassificationWorker;
+	@EJB
+	private SystemEventFacadeEjbLocal systemEventFacade;
+
+	/**
+	 * Number of cases that are reclassified in one transaction by {@link #reclassifyCases(Disease)}
+	 */
+	private static final int RECLASSIFICATION_BATCH_SIZE = 100;
+	/**
+	 * Number of transactions that are run in parallel by {@link #reclassifyCases(Disease)}
+	 */
+	private static final int RECLASSIFICATION_PARALLELISM = 4;
 
-	/** local cache */
-	private final Map<Disease, DiseaseClassificationCriteriaDto> criteriaMap = new HashMap<>();
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	/**
+	 * Criteria by country locale, because the visible symptoms depend on it. The criteria are built once and shared by all instances,
+	 * so the property accessors they resolve on their first evaluation are reused.
+	 */
+	private static final Map<String, Map<Disease, DiseaseClassificationCriteriaDto>> CRITERIA_BY_COUNTRY = new ConcurrentHashMap<>();
 
 	@Override
 	public CaseClassification getClassification(CaseDataDto caze) {
 
-		if (criteriaMap.isEmpty()) {
-			buildCriteria();
-		}
-
 		PersonDto person = personFacade.getByUuid(caze.getPerson().getUuid());
 		List<PathogenTestDto> pathogenTests = pathogenTestService.getAllByCase(caze.getUuid())
 			.stream()
 			.map(PathogenTestFacadeEjb.PathogenTestFacadeEjbLocal::toDto)
 			.collect(Collectors.toList());
 		List<EventDto> caseEvents = eventFacade.getAllByCase(caze);
+
+		return getClassification(caze, person, pathogenTests, caseEvents);
+	}
+
+	@Override
+	public Map<String, CaseClassification> getClassifications(List<CaseDataDto> cases) {
+
+		Map<String, CaseClassification> classifications = new HashMap<>(cases.size());
+		if (cases.isEmpty()) {
+			return classifications;
+		}
+
+		List<String> caseUuids = cases.stream().map(CaseDataDto::getUuid).collect(Collectors.toList());
+		Map<String, PersonDto> persons = personFacade
+			.getByUuids(cases.stream().map(c -> c.getPerson().getUuid()).distinct().collect(Collectors.toList()))
+			.stream()
+			.collect(Collectors.toMap(PersonDto::getUuid, Function.identity()));
+		Map<String, List<PathogenTest>> pathogenTests = pathogenTestService.getAllByCases(caseUuids);
+		Map<String, List<Event>> events = eventService.getAllByCases(caseUuids);
+
+		for (CaseDataDto caze : cases) {
+			List<PathogenTestDto> casePathogenTests = pathogenTests.getOrDefault(caze.getUuid(), Collections.emptyList())
+				.stream()
+				.map(PathogenTestFacadeEjb.PathogenTestFacadeEjbLocal::toDto)
+				.collect(Collectors.toList());
+			List<EventDto> caseEvents = eventFacade.toDtos(events.getOrDefault(caze.getUuid(), Collections.emptyList()).stream());
+
+			classifications
+				.put(caze.getUuid(), getClassification(caze, persons.get(caze.getPerson().getUuid()), casePathogenTests, caseEvents));
+		}
+
+		return classifications;
+	}
+
+	@Override
+	@Asynchronous
+	@TransactionAttribute(TransactionAttributeType.NOT_SUPPORTED)
+	@RightsAllowed(UserRight._CASE_RECLASSIFY)
+	public void reclassifyCases(Disease disease) {
+
+		if (!configFacade.isFeatureAutomaticCaseClassification()) {
+			logger.info("Skipping reclassification of {} cases as automatic case classification is disabled.", disease);
+			return;
+		}
+
+		systemEventFacade.markPreviouslyStartedAsUnclear(SystemEventType.CASE_RECLASSIFICATION);
+		SystemEventDto reclassification = SystemEventDto.build();
+		reclassification.setType(SystemEventType.CASE_RECLASSIFICATION);
+		reclassification.setStatus(SystemEventStatus.STARTED);
+		reclassification.setStartDate(new Date());
+		systemEventFacade.saveSystemEvent(reclassification);
+
+		long startTime = DateHelper.startTime();
+		int processedCases = 0;
+		int changedCases = 0;
+		try {
+			int windowSize = RECLASSIFICATION_BATCH_SIZE * RECLASSIFICATION_PARALLELISM;
+			Long lastId = null;
+			List<Long> caseIds;
+			do {
+				caseIds = caseService.getActiveIdsByDisease(disease, lastId, windowSize);
+
+				List<Future<Integer>> results = new ArrayList<>();
+				IterableHelper.executeBatched(
+					caseIds,
+					RECLASSIFICATION_BATCH_SIZE,
+					batch -> results.add(reclassificationWorker.reclassify(new ArrayList<>(batch))));
+				for (Future<Integer> result : results) {
+					changedCases += result.get();
+				}
+
+				if (!caseIds.isEmpty()) {
+					processedCases += caseIds.size();
+					lastId = caseIds.get(caseIds.size() - 1);
+					logger.info(
+						"Reclassification of {} cases: {} processed, {} changed, {} cases/s",
+						disease,
+						processedCases,
+						changedCases,
+						getThroughput(processedCases, startTime));
+				}
+			} while (caseIds.size() == windowSize);
+
+			systemEventFacade.reportSuccess(
+				reclassification,
+				String.format(
+					"%s: %d cases processed, %d changed, %d cases/s",
+					disease,
+					processedCases,
+					changedCases,
+					getThroughput(processedCases, startTime)),
+				new Date());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			systemEventFacade.reportError(reclassification, e.getMessage(), new Date());
+		} catch (ExecutionException | RuntimeException e) {
+			logger.error("Reclassification of {} cases failed after {} cases", disease, processedCases, e);
+			systemEventFacade.reportError(reclassification, e.getMessage(), new Date());
+		}
+	}
+
+	private static long getThroughput(int cases, long startTime) {
+		long durationMs = DateHelper.durationMillies(startTime);
+		return durationMs > 0 ? cases * 1000L / durationMs : cases;
+	}
+
+	private CaseClassification getClassification(
+		CaseDataDto caze,
+		PersonDto person,
+		List<PathogenTestDto> pathogenTests,
+		List<EventDto> caseEvents) {
+
 		Date lastVaccinationDate = null;
 		if (caze.getDisease() == Disease.YELLOW_FEVER && caze.getVaccinationStatus() == VaccinationStatus.VACCINATED) {
 			lastVaccinationDate = immunizationService.getLastVaccinationDateBefore(person.getUuid(), caze.getDisease(), CaseLogic.getStartDate(caze));
 		}
 
-		DiseaseClassificationCriteriaDto criteria = criteriaMap.get(caze.getDisease());
+		DiseaseClassificationCriteriaDto criteria = getCriteriaMap().get(caze.getDisease());
 
 		if (criteria != null) {
 			if (criteria.getConfirmedCriteria() != null
@@ -155,12 +305,8 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 	@PermitAll
 	public List<DiseaseClassificationCriteriaDto> getAllSince(Date changeDate) {
 
-		if (criteriaMap.isEmpty()) {
-			buildCriteria();
-		}
-
 		List<DiseaseClassificationCriteriaDto> results = new ArrayList<>();
-		for (DiseaseClassificationCriteriaDto criteria : criteriaMap.values()) {
+		for (DiseaseClassificationCriteriaDto criteria : getCriteriaMap().values()) {
 			if (criteria.getChangeDate().after(changeDate)) {
 				results.add(criteria);
 			}
@@ -171,15 +317,17 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 
 	@Override
 	public DiseaseClassificationCriteriaDto getByDisease(Disease disease) {
+		return getCriteriaMap().getOrDefault(disease, null);
+	}
 
-		if (criteriaMap.isEmpty()) {
-			buildCriteria();
-		}
-
-		return criteriaMap.getOrDefault(disease, null);
+	private Map<Disease, DiseaseClassificationCriteriaDto> getCriteriaMap() {
+		return CRITERIA_BY_COUNTRY
+			.computeIfAbsent(StringUtils.defaultString(configFacade.getCountryLocale()), countryLocale -> buildCriteria());
 	}
 
-	private void buildCriteria() {
+	private Map<Disease, DiseaseClassificationCriteriaDto> buildCriteria() {
+
+		Map<Disease, DiseaseClassificationCriteriaDto> criteriaMap = new EnumMap<>(Disease.class);
 
 		ClassificationCriteriaDto suspect;
 		ClassificationCriteriaDto probable;
@@ -211,7 +359,7 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 			suspect,
 			positiveTestResult(Disease.EVD, PathogenTestType.IGM_SERUM_ANTIBODY, PathogenTestType.PCR_RT_PCR, PathogenTestType.ISOLATION));
 
-		addCriteria(Disease.EVD, DateHelper.getDateZero(2020, 11, 6), suspect, probable, confirmed, extracted(Disease.EVD));
+		addCriteria(criteriaMap, Disease.EVD, DateHelper.getDateZero(2020, 11, 6), suspect, probable, confirmed, extracted(Disease.EVD));
 
 		// CSM
 		suspect = allOf(
@@ -224,7 +372,7 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 				symptom(SymptomsDto.BULGING_FONTANELLE)));
 		probable = allOf(caseData(CaseDataDto.OUTCOME, CaseOutcome.DECEASED), suspect, epiData(EpiDataDto.CONTACT_WITH_SOURCE_CASE_KNOWN));
 		confirmed = allOf(suspect, positiveTestResult(Disease.CSM, PathogenTestType.ISOLATION));
-		addCriteria(Disease.CSM, DateHelper.getDateZero(2020, 11, 6), suspect, probable, confirmed, extracted(Disease.CSM));
+		addCriteria(criteriaMap, Disease.CSM, DateHelper.getDateZero(2020, 11, 6), suspect, probable, confirmed, extracted(Disease.CSM));
 
 		// Lassa Fever
 		suspect = allOf(
@@ -247,7 +395,14 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 		confirmed = allOf(
 			suspect,
 			positiveTestResult(Disease.LASSA, PathogenTestType.IGM_SERUM_ANTIBODY, PathogenTestType.PCR_RT_PCR, PathogenTestType.ISOLATION));
-		addCriteria(Disease.LASSA, DateHelper.getDateZero(2020, 11, 6), suspect, probable, confirmed, extracted(Disease.LASSA));
+		addCriteria(
+			criteriaMap,
+			Disease.LASSA,
+			DateHelper.getDateZero(2020, 11, 6),
+			suspect,
+			probable,
+			confirmed,
+			extracted(Disease.LASSA));
 
 		// Yellow fever
 		suspect = allOf(symptom(SymptomsDto.FEVER), symptom(SymptomsDto.JAUNDICE));
@@ -282,7 +437,14 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 							PathogenTestType.IGM_SERUM_ANTIBODY,
 							PathogenTestType.IGG_SERUM_ANTIBODY }),
 					true)));
-		addCriteria(Disease.YELLOW_FEVER, DateHelper.getDateZero(2020, 11, 6), suspect, probable, confirmed, extracted(Disease.YELLOW_FEVER));
+		addCriteria(
+			criteriaMap,
+			Disease.YELLOW_FEVER,
+			DateHelper.getDateZero(2020, 11, 6),
+			suspect,
+			probable,
+			confirmed,
+			extracted(Disease.YELLOW_FEVER));
 
 		// Dengue fever
 		suspect = allOf(
@@ -314,7 +476,14 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 						new PathogenTestType[] {
 							PathogenTestType.IGG_SERUM_ANTIBODY }),
 					true)));
-		addCriteria(Disease.DENGUE, DateHelper.getDateZero(2020, 11, 6), suspect, probable, confirmed, extracted(Disease.DENGUE));
+		addCriteria(
+			criteriaMap,
+			Disease.DENGUE,
+			DateHelper.getDateZero(2020, 11, 6),
+			suspect,
+			probable,
+			confirmed,
+			extracted(Disease.DENGUE));
 
 		// Influenza (new subtype)
 		suspect = allOf(
@@ -341,7 +510,14 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 						new PathogenTestType[] {
 							PathogenTestType.IGG_SERUM_ANTIBODY }),
 					true)));
-		addCriteria(Disease.NEW_INFLUENZA, DateHelper.getDateZero(2020, 11, 6), suspect, probable, confirmed, extracted(Disease.NEW_INFLUENZA));
+		addCriteria(
+			criteriaMap,
+			Disease.NEW_INFLUENZA,
+			DateHelper.getDateZero(2020, 11, 6),
+			suspect,
+			probable,
+			confirmed,
+			extracted(Disease.NEW_INFLUENZA));
 
 		// Measles
 		suspect = allOf(
@@ -350,7 +526,14 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 			xOf(1, symptom(SymptomsDto.COUGH), symptom(SymptomsDto.RUNNY_NOSE), symptom(SymptomsDto.CONJUNCTIVITIS)));
 		probable = epiData(EpiDataDto.CONTACT_WITH_SOURCE_CASE_KNOWN);
 		confirmed = allOf(suspect, positiveTestResult(Disease.MEASLES, PathogenTestType.IGM_SERUM_ANTIBODY));
-		addCriteria(Disease.MEASLES, DateHelper.getDateZero(2020, 11, 6), suspect, probable, confirmed, extracted(Disease.MEASLES));
+		addCriteria(
+			criteriaMap,
+			Disease.MEASLES,
+			DateHelper.getDateZero(2020, 11, 6),
+			suspect,
+			probable,
+			confirmed,
+			extracted(Disease.MEASLES));
 
 		// Cholera
 		suspect = allOf(
@@ -363,7 +546,14 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 					oneOfCompact(caseData(CaseDataDto.OUTCOME, CaseOutcome.DECEASED), exposure(ExposureDto.RISK_AREA, ExposureType.TRAVEL)))));
 		probable = null;
 		confirmed = allOf(suspect, positiveTestResult(Disease.CHOLERA, PathogenTestType.ISOLATION));
-		addCriteria(Disease.CHOLERA, DateHelper.getDateZero(2020, 11, 6), suspect, probable, confirmed, extracted(Disease.CHOLERA));
+		addCriteria(
+			criteriaMap,
+			Disease.CHOLERA,
+			DateHelper.getDateZero(2020, 11, 6),
+			suspect,
+			probable,
+			confirmed,
+			extracted(Disease.CHOLERA));
 
 		// Monkey pox
 		suspect = allOf(symptom(SymptomsDto.FEVER), symptom(SymptomsDto.SKIN_RASH));
@@ -371,7 +561,14 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 		confirmed = allOf(
 			suspect,
 			positiveTestResult(Disease.MONKEYPOX, PathogenTestType.IGM_SERUM_ANTIBODY, PathogenTestType.PCR_RT_PCR, PathogenTestType.ISOLATION));
-		addCriteria(Disease.MONKEYPOX, DateHelper.getDateZero(2020, 11, 6), suspect, probable, confirmed, extracted(Disease.MONKEYPOX));
+		addCriteria(
+			criteriaMap,
+			Disease.MONKEYPOX,
+			DateHelper.getDateZero(2020, 11, 6),
+			suspect,
+			probable,
+			confirmed,
+			extracted(Disease.MONKEYPOX));
 
 		// Plague
 		suspect = allOf(
@@ -392,7 +589,14 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 			suspect,
 			xOf(1, exposure(ExposureDto.RISK_AREA, ExposureType.TRAVEL), positiveTestResult(Disease.PLAGUE, PathogenTestType.ANTIGEN_DETECTION)));
 		confirmed = allOf(suspect, positiveTestResult(Disease.PLAGUE, PathogenTestType.ISOLATION, PathogenTestType.PCR_RT_PCR));
-		addCriteria(Disease.PLAGUE, DateHelper.getDateZero(2020, 11, 6), suspect, probable, confirmed, extracted(Disease.PLAGUE));
+		addCriteria(
+			criteriaMap,
+			Disease.PLAGUE,
+			DateHelper.getDateZero(2020, 11, 6),
+			suspect,
+			probable,
+			confirmed,
+			extracted(Disease.PLAGUE));
 
 		// Congenital rubella
 		suspect = allOf(
@@ -450,6 +654,7 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 				PathogenTestType.IGM_SERUM_ANTIBODY,
 				PathogenTestType.PCR_RT_PCR));
 		addCriteria(
+			criteriaMap,
 			Disease.CONGENITAL_RUBELLA,
 			DateHelper.getDateZero(2020, 11, 6),
 			suspect,
@@ -508,6 +713,7 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 			noneOf(suspect));
 
 		addCriteria(
+			criteriaMap,
 			Disease.CORONAVIRUS,
 			DateHelper.getDateZero(2020, 11, 6),
 			suspect,
@@ -516,6 +722,8 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 			confirmedNoSymptoms,
 			confirmedUnknownSymptoms,
 			extracted(Disease.CORONAVIRUS));
+
+		return criteriaMap;
 	}
 
 	private ClassificationAllOfCriteriaDto extracted(Disease disease) {
@@ -523,6 +731,7 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 	}
 
 	private void addCriteria(
+		Map<Disease, DiseaseClassificationCriteriaDto> criteriaMap,
 		Disease disease,
 		Date changeDate,
 		ClassificationCriteriaDto suspect,
@@ -536,6 +745,7 @@ public class CaseClassificationFacadeEjb implements CaseClassificationFacade {
 	}
 
 	private void addCriteria(
+		Map<Disease, DiseaseClassificationCriteriaDto> criteriaMap,
 		Disease disease,
 		Date changeDate,
 		ClassificationCriteriaDto suspect,
@@ -0,0 +1,112 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.caze.classification;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import javax.ejb.AsyncResult;
+import javax.ejb.Asynchronous;
+import javax.ejb.EJB;
+import javax.ejb.LocalBean;
+import javax.ejb.Stateless;
+import javax.ejb.TransactionAttribute;
+import javax.ejb.TransactionAttributeType;
+
+import de.symeda.sormas.api.CountryHelper;
+import de.symeda.sormas.api.caze.CaseClassification;
+import de.symeda.sormas.api.caze.CaseDataDto;
+import de.symeda.sormas.api.caze.CaseReferenceDefinition;
+import de.symeda.sormas.backend.caze.Case;
+import de.symeda.sormas.backend.caze.CaseFacadeEjb.CaseFacadeEjbLocal;
+import de.symeda.sormas.backend.caze.CaseService;
+import de.symeda.sormas.backend.caze.classification.CaseClassificationFacadeEjb.CaseClassificationFacadeEjbLocal;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
+import de.symeda.sormas.backend.sample.PathogenTest;
+import de.symeda.sormas.backend.sample.PathogenTestService;
+
+/**
+ * Reclassifies batches of cases in their own transactions, so several batches can be processed in parallel.
+ */
+@Stateless
+@LocalBean
+public class CaseReclassificationWorker {
+
+	@EJB
+	private CaseService caseService;
+	@EJB
+	private CaseFacadeEjbLocal caseFacade;
+	@EJB
+	private CaseClassificationFacadeEjbLocal caseClassificationFacade;
+	@EJB
+	private PathogenTestService pathogenTestService;
+	@EJB
+	private ConfigFacadeEjbLocal configFacade;
+
+	/**
+	 * Applies the automatic classification to the given cases like it's done when a case is saved: Cases classified as
+	 * {@link CaseClassification#NO_CASE} are left untouched and the classification is only changed when the one calculated by the
+	 * system changes. The cases are changed as managed entities, so they are audited and their case reference definition is
+	 * updated the same way as on save.
+	 *
+	 * @return The number of cases whose classification has been changed.
+	 */
+	@Asynchronous
+	@TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
+	public Future<Integer> reclassify(List<Long> caseIds) {
+
+		List<Case> cases = caseService.getByIds(caseIds)
+			.stream()
+			.filter(c -> c.getCaseClassification() != CaseClassification.NO_CASE)
+			.collect(Collectors.toList());
+		List<CaseDataDto> caseDtos = cases.stream().map(caseFacade::toDto).collect(Collectors.toList());
+		Map<String, CaseClassification> classifications = caseClassificationFacade.getClassifications(caseDtos);
+
+		boolean updateCaseReferenceDefinition = configFacade.isConfiguredCountry(CountryHelper.COUNTRY_CODE_GERMANY);
+		Map<String, List<PathogenTest>> pathogenTests = updateCaseReferenceDefinition
+			? pathogenTestService.getAllByCases(caseDtos.stream().map(CaseDataDto::getUuid).collect(Collectors.toList()))
+			: Collections.emptyMap();
+
+		int changedCases = 0;
+		for (Case caze : cases) {
+			CaseClassification classification = classifications.get(caze.getUuid());
+			// only update when classification by system changes - user may overwrite this
+			if (classification != caze.getSystemCaseClassification()) {
+				caze.setSystemCaseClassification(classification);
+
+				if (classification != caze.getCaseClassification()) {
+					caze.setCaseClassification(classification);
+					caze.setClassificationUser(null);
+					caze.setClassificationDate(new Date());
+					changedCases++;
+				}
+			}
+
+			if (updateCaseReferenceDefinition) {
+				boolean fulfilled = caseService.isCaseReferenceDefinitionFulfilled(
+					classification,
+					() -> pathogenTests.getOrDefault(caze.getUuid(), Collections.emptyList()));
+				caze.setCaseReferenceDefinition(fulfilled ? CaseReferenceDefinition.FULFILLED : CaseReferenceDefinition.NOT_FULFILLED);
+			}
+		}
+
+		return new AsyncResult<>(changedCases);
+	}
+}
@@ -30,6 +30,13 @@ public class EtcdCentralClient {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(EtcdCentralClient.class);
 
+	/**
+	 * Shared by all instances, because setting up the TLS connection to etcd is expensive. Recreated when the configuration
+	 * changes.
+	 */
+	private static KvStoreClient sharedClient;
+	private static String sharedClientConfig;
+
 	private final ConfigFacadeEjb.ConfigFacadeEjbLocal configFacadeEjb;
 
 	private final ObjectMapper mapper = new ObjectMapper();
@@ -40,6 +47,43 @@ public class EtcdCentralClient {
 		mapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
 	}
 
+	private KvStoreClient getEtcdClient() {
+
+		String config = String.join(
+			"|",
+			configFacadeEjb.getCentralEtcdHost(),
+			configFacadeEjb.getCentralEtcdCaPath(),
+			configFacadeEjb.getCentralEtcdClientName(),
+			configFacadeEjb.getCentralEtcdClientPassword());
+
+		synchronized (EtcdCentralClient.class) {
+			if (sharedClient == null || !config.equals(sharedClientConfig)) {
+				closeSharedClient();
+				sharedClient = createEtcdClient();
+				sharedClientConfig = config;
+			}
+			return sharedClient;
+		}
+	}
+
+	/**
+	 * Closes the connection to etcd. A new one is opened with the next request.
+	 */
+	public static void closeSharedClient() {
+
+		synchronized (EtcdCentralClient.class) {
+			if (sharedClient != null) {
+				try {
+					sharedClient.close();
+				} catch (IOException | RuntimeException e) {
+					LOGGER.warn("Could not close etcd client: {}", e.getMessage());
+				}
+				sharedClient = null;
+				sharedClientConfig = null;
+			}
+		}
+	}
+
 	private KvStoreClient createEtcdClient() {
 		String[] hostPort = configFacadeEjb.getCentralEtcdHost().split(":");
 
@@ -67,52 +111,66 @@ public class EtcdCentralClient {
 		return client;
 	}
 
+	private KvClient getKvClient() {
+
+		KvStoreClient etcdClient = getEtcdClient();
+		if (etcdClient == null) {
+			LOGGER.error("Etcd could not be accessed.");
+			return null;
+		}
+		KvClient etcd = etcdClient.getKvClient();
+
+		if (etcd == null) {
+			LOGGER.error("Could not create an etcd KV client.");
+			return null;
+		}
+		return etcd;
+	}
+
 	public <T> T get(String key, Class<T> clazz) throws IOException {
-		// use resource auto-close
-		try (KvStoreClient etcdClient = createEtcdClient()) {
-			if (etcdClient == null) {
-				LOGGER.error("Etcd could not be accessed.");
-				return null;
-			}
-			KvClient etcd = etcdClient.getKvClient();
 
-			if (etcd == null) {
-				LOGGER.error("Could not create an etcd KV client.");
-				return null;
-			}
+		KvClient etcd = getKvClient();
+		if (etcd == null) {
+			return null;
+		}
 
-			RangeResponse range = etcd.get(ByteString.copyFromUtf8(key)).sync();
-			if (range.getCount() == 0) {
-				LOGGER.error("There is no value available for key {}", key);
-				return null;
-			}
-			return deserialize(range.getKvs(0), clazz);
+		RangeResponse range = etcd.get(ByteString.copyFromUtf8(key)).sync();
+		if (range.getCount() == 0) {
+			LOGGER.error("There is no value available for key {}", key);
+			return null;
 		}
+		return deserialize(range.getKvs(0), clazz);
 	}
 
 	public <T> List<T> getWithPrefix(String path, Class<T> clazz) throws IOException {
-		// use resource auto-close
-		try (KvStoreClient etcdClient = createEtcdClient()) {
-			if (etcdClient == null) {
-				LOGGER.error("Etcd could not be accessed.");
-				return Collections.emptyList();
-			}
-			KvClient etcd = etcdClient.getKvClient();
+		return getWithPrefix(path, clazz, 0).getValues();
+	}
 
-			if (etcd == null) {
-				LOGGER.error("Could not create an etcd KV client.");
-				return Collections.emptyList();
-			}
+	/**
+	 * @param minModRevision
+	 *            Only values modified in this etcd revision or later are returned. 0 to get all values.
+	 * @return The values and the etcd revision they have been read at. Pass the revision + 1 to only get the values modified
+	 *         since then with the next call.
+	 */
+	public <T> RevisionedValues<T> getWithPrefix(String path, Class<T> clazz, long minModRevision) throws IOException {
+
+		KvClient etcd = getKvClient();
+		if (etcd == null) {
+			return new RevisionedValues<>(Collections.emptyList(), minModRevision > 0 ? minModRevision - 1 : 0);
+		}
 
-			return etcd.get(ByteString.copyFromUtf8(path))
-				.asPrefix()
-				.sync()
-				.getKvsList()
-				.stream()
-				.map(kv -> deserialize(kv, clazz))
-				.filter(Objects::nonNull)
-				.collect(Collectors.toList());
+		KvClient.FluentRangeRequest request = etcd.get(ByteString.copyFromUtf8(path)).asPrefix();
+		if (minModRevision > 0) {
+			request = request.minModRevision(minModRevision);
 		}
+		RangeResponse range = request.sync();
+
+		List<T> values = range.getKvsList()
+			.stream()
+			.map(kv -> deserialize(kv, clazz))
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+		return new RevisionedValues<>(values, range.getHeader().getRevision());
 	}
 
 	private <T> T deserialize(KeyValue kv, Class<T> clazz) {
@@ -126,4 +184,22 @@ public class EtcdCentralClient {
 		}
 	}
 
+	public static final class RevisionedValues<T> {
+
+		private final List<T> values;
+		private final long revision;
+
+		public RevisionedValues(List<T> values, long revision) {
+			this.values = values;
+			this.revision = revision;
+		}
+
+		public List<T> getValues() {
+			return values;
+		}
+
+		public long getRevision() {
+			return revision;
+		}
+	}
 }
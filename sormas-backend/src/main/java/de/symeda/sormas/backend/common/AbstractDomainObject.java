@@ -67,6 +67,11 @@ public abstract class AbstractDomainObject implements Serializable, Cloneable, H
 
 	private static final String SEQ_GEN_NAME = "ENTITY_SEQ_GEN";
 	private static final String SEQ_SQL_NAME = "ENTITY_SEQ";
+	/**
+	 * Has to match the increment of the sequence in the database. Ids are reserved in blocks of this size (pooled optimizer),
+	 * so only every n-th insert needs a sequence round trip.
+	 */
+	private static final int SEQ_ALLOCATION_SIZE = 50;
 
 	public static final String HISTORY_TABLE_SUFFIX = "_history";
 
@@ -93,7 +98,7 @@ public abstract class AbstractDomainObject implements Serializable, Cloneable, H
 	}
 
 	@Id
-	@SequenceGenerator(name = SEQ_GEN_NAME, allocationSize = 1, sequenceName = SEQ_SQL_NAME)
+	@SequenceGenerator(name = SEQ_GEN_NAME, allocationSize = SEQ_ALLOCATION_SIZE, sequenceName = SEQ_SQL_NAME)
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SEQ_GEN_NAME)
 	public Long getId() {
 		return id;
@@ -101,10 +101,15 @@ public class ConfigFacadeEjb implements ConfigFacade {
 	public static final String SMS_AUTH_SECRET = "sms.auth.secret";
 
 	public static final String DUPLICATE_CHECKS_EXCLUDE_PERSONS_OF_ACHIVED_ENTRIES = "duplicatechecks.excludepersonsonlylinkedtoarchivedentries";
+	public static final String DUPLICATE_CHECKS_INDEX_MAX_PERSONS = "duplicatechecks.index.maxpersons";
 	public static final String NAME_SIMILARITY_THRESHOLD = "namesimilaritythreshold";
 
 	public static final String INFRASTRUCTURE_SYNC_THRESHOLD = "infrastructuresyncthreshold";
 
+	public static final String FEATURE_CONFIGURATIONS_CACHE_CHECK_INTERVAL = "featureconfigurations.cache.checkinterval";
+
+	public static final String STATISTICS_ROLLUP_ENABLED = "statistics.rollup.enabled";
+
 	public static final String INTERFACE_SYMPTOM_JOURNAL_URL = "interface.symptomjournal.url";
 	public static final String INTERFACE_SYMPTOM_JOURNAL_AUTH_URL = "interface.symptomjournal.authurl";
 	public static final String INTERFACE_SYMPTOM_JOURNAL_CLIENT_ID = "interface.symptomjournal.clientid";
@@ -168,11 +173,17 @@ public class ConfigFacadeEjb implements ConfigFacade {
 	private static final String AUDITOR_ATTRIBUTE_LOGGING = "auditor.attribute.logging";
 	private static final String AUDIT_LOGGER_CONFIG = "audit.logger.config";
 	private static final String AUDIT_SOURCE_SITE = "audit.source.site";
+	private static final String AUDIT_LOGGER_COLLECTION_LIMIT = "audit.logger.collection.limit";
+	private static final String AUDIT_LOGGER_QUEUE_SIZE = "audit.logger.queue.size";
+	private static final String AUDITLOG_QUEUE_SIZE = "auditlog.queue.size";
+	private static final String AUDITLOG_QUEUE_WRITE_WHEN_FULL = "auditlog.queue.writewhenfull";
 
 	private static final String CREATE_DEFAULT_ENTITIES = "createDefaultEntities";
 	private static final String SKIP_DEFAULT_PASSWORD_CHECK = "skipDefaultPasswordCheck";
 
 	private static final String STEP_SIZE_FOR_CSV_EXPORT = "stepSizeForCsvExport";
+	public static final String IMPORT_PARALLELISM = "importParallelism";
+	private static final String CASE_COMPLETENESS_BATCH_SIZE = "caseCompletenessBatchSize";
 
 	private static final String UI_URL = "ui.url";
 	public static final String SORMAS_STATS_URL = "sormasStats.url";
@@ -435,6 +446,11 @@ public class ConfigFacadeEjb implements ConfigFacade {
 		return getBoolean(DUPLICATE_CHECKS_EXCLUDE_PERSONS_OF_ACHIVED_ENTRIES, false);
 	}
 
+	@Override
+	public int getDuplicateChecksIndexMaxPersons() {
+		return getInt(DUPLICATE_CHECKS_INDEX_MAX_PERSONS, 200000);
+	}
+
 	@Override
 	public double getNameSimilarityThreshold() {
 		return getDouble(NAME_SIMILARITY_THRESHOLD, PersonHelper.DEFAULT_NAME_SIMILARITY_THRESHOLD);
@@ -714,6 +730,14 @@ public class ConfigFacadeEjb implements ConfigFacade {
 		return getProperty(DOCGENERATION_NULL_REPLACEMENT, "./.");
 	}
 
+	public int getFeatureConfigurationsCacheCheckInterval() {
+		return getInt(FEATURE_CONFIGURATIONS_CACHE_CHECK_INTERVAL, 10);
+	}
+
+	public boolean isStatisticsRollupEnabled() {
+		return getBoolean(STATISTICS_ROLLUP_ENABLED, true);
+	}
+
 	public String getCentralEtcdHost() {
 		return getProperty(CENTRAL_ETCD_HOST, null);
 	}
@@ -749,11 +773,41 @@ public class ConfigFacadeEjb implements ConfigFacade {
 		return getProperty(AUDIT_SOURCE_SITE, "");
 	}
 
+	@Override
+	public int getAuditLoggerCollectionLimit() {
+		return getInt(AUDIT_LOGGER_COLLECTION_LIMIT, 100);
+	}
+
+	@Override
+	public int getAuditLoggerQueueSize() {
+		return getInt(AUDIT_LOGGER_QUEUE_SIZE, 10000);
+	}
+
+	@Override
+	public int getAuditLogQueueSize() {
+		return getInt(AUDITLOG_QUEUE_SIZE, 10000);
+	}
+
+	@Override
+	public boolean isAuditLogWriteWhenQueueFull() {
+		return getBoolean(AUDITLOG_QUEUE_WRITE_WHEN_FULL, false);
+	}
+
 	@Override
 	public int getStepSizeForCsvExport() {
 		return getInt(STEP_SIZE_FOR_CSV_EXPORT, 5000);
 	}
 
+	@Override
+	public int getImportParallelism() {
+		return getInt(IMPORT_PARALLELISM, 1);
+	}
+
+	@Override
+	public int getCaseCompletenessBatchSize() {
+		return getInt(CASE_COMPLETENESS_BATCH_SIZE, 100);
+	}
+
 	@Override
 	public boolean isSmsServiceSetUp() {
 		return !StringUtils.isAnyBlank(getProperty(SMS_AUTH_KEY, null), getProperty(SMS_AUTH_SECRET, null));
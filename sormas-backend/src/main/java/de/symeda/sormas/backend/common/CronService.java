@@ -37,6 +37,7 @@ import de.symeda.sormas.api.task.TaskType;
 import de.symeda.sormas.api.user.UserRight;
 import de.symeda.sormas.api.utils.DateHelper;
 import de.symeda.sormas.backend.caze.CaseFacadeEjb.CaseFacadeEjbLocal;
+import de.symeda.sormas.backend.caze.CaseStatisticsFacadeEjb.CaseStatisticsFacadeEjbLocal;
 import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
 import de.symeda.sormas.backend.contact.ContactFacadeEjb.ContactFacadeEjbLocal;
 import de.symeda.sormas.backend.deletionconfiguration.CoreEntityDeletionService;
@@ -73,6 +74,8 @@ public class CronService {
 	@EJB
 	private CaseFacadeEjbLocal caseFacade;
 	@EJB
+	private CaseStatisticsFacadeEjbLocal caseStatisticsFacade;
+	@EJB
 	private EventFacadeEjbLocal eventFacade;
 	@EJB
 	private EventParticipantFacadeEjb.EventParticipantFacadeEjbLocal eventParticipantFacade;
@@ -100,7 +103,19 @@ public class CronService {
 	public void calculateCaseCompletion() {
 		long timeStart = DateHelper.startTime();
 		int casesUpdated = caseFacade.updateCompleteness();
-		logger.debug("calculateCaseCompletion finished. {} cases, {} s", casesUpdated, DateHelper.durationSeconds(timeStart));
+		long durationMs = DateHelper.durationMillies(timeStart);
+		logger.debug(
+			"calculateCaseCompletion finished. {} cases, {} s, {} cases/s",
+			casesUpdated,
+			durationMs / 1000,
+			durationMs > 0 ? casesUpdated * 1000 / durationMs : casesUpdated);
+	}
+
+	@Schedule(hour = "*", minute = "*", second = "30", persistent = false)
+	public void mergeCaseStatistics() {
+		long timeStart = DateHelper.startTime();
+		int rowsMerged = caseStatisticsFacade.mergeCaseStatistics();
+		logger.debug("mergeCaseStatistics finished. {} rows, {} ms", rowsMerged, DateHelper.durationMillies(timeStart));
 	}
 
 	@Schedule(hour = "1", minute = "0", second = "0", persistent = false)
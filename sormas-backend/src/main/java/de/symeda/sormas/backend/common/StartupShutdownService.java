@@ -79,6 +79,7 @@ import de.symeda.sormas.api.utils.DataHelper;
 import de.symeda.sormas.api.utils.DefaultEntityHelper;
 import de.symeda.sormas.api.utils.PasswordHelper;
 import de.symeda.sormas.backend.audit.AuditLoggerEjb;
+import de.symeda.sormas.backend.central.EtcdCentralClient;
 import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
 import de.symeda.sormas.backend.contact.Contact;
 import de.symeda.sormas.backend.contact.ContactService;
@@ -1018,6 +1019,7 @@ public class StartupShutdownService {
 	@PreDestroy
 	public void shutdown() {
 		auditLogger.logApplicationStop();
+		EtcdCentralClient.closeSharedClient();
 	}
 
 	@LocalBean
@@ -615,6 +615,33 @@ public class ContactFacadeEjb
 		int max,
 		ExportConfigurationDto exportConfiguration,
 		Language userLanguage) {
+		return getExportList(contactCriteria, selectedRows, first, null, max, exportConfiguration, userLanguage);
+	}
+
+	@Override
+	@RightsAllowed(UserRight._CONTACT_EXPORT)
+	public List<ContactExportDto> getExportListAfter(
+		ContactCriteria contactCriteria,
+		Collection<String> selectedRows,
+		Long lastId,
+		int max,
+		ExportConfigurationDto exportConfiguration,
+		Language userLanguage) {
+		return getExportList(contactCriteria, selectedRows, null, lastId, max, exportConfiguration, userLanguage);
+	}
+
+	/**
+	 * @param first
+	 *            Offset of the batch; if {@code null}, the batch after the contact with {@code lastId} is fetched in descending id order.
+	 */
+	private List<ContactExportDto> getExportList(
+		ContactCriteria contactCriteria,
+		Collection<String> selectedRows,
+		Integer first,
+		Long lastId,
+		int max,
+		ExportConfigurationDto exportConfiguration,
+		Language userLanguage) {
 
 		final CriteriaBuilder cb = em.getCriteriaBuilder();
 		final CriteriaQuery<ContactExportDto> cq = cb.createQuery(ContactExportDto.class);
@@ -727,7 +754,9 @@ public class ContactFacadeEjb
 
 		cq.orderBy(cb.desc(contact.get(Contact.REPORT_DATE_TIME)), cb.desc(contact.get(Contact.ID)));
 
-		List<ContactExportDto> exportContacts = QueryHelper.getResultList(em, cq, first, max);
+		List<ContactExportDto> exportContacts = first != null
+			? QueryHelper.getResultList(em, cq, first, max)
+			: QueryHelper.getResultListAfterId(em, cq, contact.get(Contact.ID), lastId, max);
 		List<String> resultContactsUuids = exportContacts.stream().map(ContactExportDto::getUuid).collect(Collectors.toList());
 
 		if (!exportContacts.isEmpty()) {
@@ -1868,52 +1897,67 @@ public class ContactFacadeEjb
 	@RightsAllowed(UserRight._SYSTEM)
 	public void generateContactFollowUpTasks() {
 
+		long startTime = System.currentTimeMillis();
+
 		// get all contacts that are followed up
 		LocalDateTime fromDateTime = LocalDate.now().atStartOfDay();
 		LocalDateTime toDateTime = fromDateTime.plusDays(1);
-		List<Contact> contacts = service.getFollowUpBetween(UtilDate.from(fromDateTime), UtilDate.from(toDateTime));
+		Date fromDate = UtilDate.from(fromDateTime);
+		Date toDate = UtilDate.from(toDateTime);
+		// Only generate tasks for contacts that are under follow-up
+		List<Contact> contacts = service.getFollowUpBetween(fromDate, toDate)
+			.stream()
+			.filter(c -> c.getFollowUpStatus() == FollowUpStatus.FOLLOW_UP || c.getFollowUpStatus() == FollowUpStatus.LOST)
+			.collect(Collectors.toList());
+		long contactsLoadedTime = System.currentTimeMillis();
+
+		// find already existing tasks for all contacts at once
+		List<Long> contactIds = contacts.stream().map(Contact::getId).collect(Collectors.toList());
+		Map<Long, Set<Long>> pendingTaskAssigneeIds =
+			taskService.getAssigneeIdsByContactIds(contactIds, TaskType.CONTACT_FOLLOW_UP, TaskStatus.IN_PROGRESS, TaskStatus.PENDING);
+		Set<Long> contactIdsWithDayTask =
+			taskService.getContactIdsWithTaskDueBetween(contactIds, TaskType.CONTACT_FOLLOW_UP, fromDate, toDate);
+		long tasksLoadedTime = System.currentTimeMillis();
+
+		Function<District, User> lookupByDistrict = userService.createRandomDistrictUserLookup(UserRight.CONTACT_RESPONSIBLE);
+		Function<Region, User> lookupByRegion = userService.createRandomRegionUserLookup(UserRight.CONTACT_RESPONSIBLE);
+		int createdTaskCount = 0;
 
 		for (Contact contact : contacts) {
-			// Only generate tasks for contacts that are under follow-up
-			if (!(contact.getFollowUpStatus().equals(FollowUpStatus.FOLLOW_UP) || contact.getFollowUpStatus().equals(FollowUpStatus.LOST))) {
+			if (contactIdsWithDayTask.contains(contact.getId())) {
+				// there is already a task for the exact day
 				continue;
 			}
 
 			User assignee;
 			try {
-				assignee = taskService.getTaskAssignee(contact);
+				assignee = taskService.getTaskAssignee(contact, lookupByDistrict, lookupByRegion);
 			} catch (TaskCreationException e) {
 				logger.warn(e.getMessage());
 				continue;
 			}
 
-			// find already existing tasks
-			List<Task> pendingUserTasks = taskService.findByAssigneeContactTypeAndStatuses(
-				assignee.toReference(),
-				contact.toReference(),
-				TaskType.CONTACT_FOLLOW_UP,
-				TaskStatus.IN_PROGRESS,
-				TaskStatus.PENDING);
-
-			if (!pendingUserTasks.isEmpty()) {
+			if (pendingTaskAssigneeIds.getOrDefault(contact.getId(), Collections.emptySet()).contains(assignee.getId())) {
 				// the user still has a pending task for this contact
 				continue;
 			}
 
-			TaskCriteria dayTaskCriteria = new TaskCriteria().contact(contact.toReference())
-				.taskType(TaskType.CONTACT_FOLLOW_UP)
-				.dueDateBetween(UtilDate.from(fromDateTime), UtilDate.from(toDateTime));
-			List<Task> dayTasks = taskService.findBy(dayTaskCriteria, true);
-
-			if (!dayTasks.isEmpty()) {
-				// there is already a task for the exact day
-				continue;
-			}
-
-			// none found -> create the task
-			Task task = createContactTask(TaskType.CONTACT_FOLLOW_UP, fromDateTime, toDateTime, contact, assignee);
-			taskService.ensurePersisted(task);
-		}
+			// none found -> create the task, it is inserted in JDBC batches on flush
+			taskService.persist(createContactTask(TaskType.CONTACT_FOLLOW_UP, fromDateTime, toDateTime, contact, assignee));
+			createdTaskCount++;
+		}
+		taskService.doFlush();
+
+		long endTime = System.currentTimeMillis();
+		logger.info(
+			"generateContactFollowUpTasks() finished. {} contacts, {} tasks created, {} ms "
+				+ "(contacts: {} ms, existing tasks: {} ms, task creation: {} ms)",
+			contacts.size(),
+			createdTaskCount,
+			endTime - startTime,
+			contactsLoadedTime - startTime,
+			tasksLoadedTime - contactsLoadedTime,
+			endTime - tasksLoadedTime);
 	}
 
 	private Task createContactTask(TaskType taskType, LocalDateTime fromDateTime, LocalDateTime toDateTime, Contact contact, User assignee) {
@@ -131,12 +131,20 @@ public class DashboardFacadeEjb implements DashboardFacade {
 		UserRight._DASHBOARD_SURVEILLANCE_VIEW,
 		UserRight._DASHBOARD_CONTACT_VIEW })
 	public Map<Date, Map<CaseClassification, Integer>> getEpiCurveSeriesElementsPerCaseClassification(DashboardCriteria dashboardCriteria) {
-		Map<Date, Map<CaseClassification, Integer>> epiCurveSeriesElements = new TreeMap<>();
 		List<Date> dates = buildListOfFilteredDates(
 			dashboardCriteria.getDateFrom(),
 			dashboardCriteria.getDateTo(),
 			dashboardCriteria.getEpiCurveGrouping(),
 			dashboardCriteria.isShowMinimumEntries());
+
+		Map<Date, Map<CaseClassification, Integer>> epiCurveSeriesElements =
+			dashboardService.getEpiCurveCasesCountByClassification(dashboardCriteria, dates);
+		if (epiCurveSeriesElements != null) {
+			return epiCurveSeriesElements;
+		}
+
+		// The new case date type can't be grouped by, so every interval has to be counted on its own
+		epiCurveSeriesElements = new TreeMap<>();
 		for (int i = 0; i < dates.size(); i++) {
 			dashboardCriteria = setNewCaseDatesInCaseCriteria(dates.get(i), dashboardCriteria);
 			Map<CaseClassification, Integer> caseCounts = getCasesCountByClassification(dashboardCriteria);
@@ -149,12 +157,20 @@ public class DashboardFacadeEjb implements DashboardFacade {
 
 	@RightsAllowed(UserRight._DASHBOARD_SURVEILLANCE_VIEW)
 	public Map<Date, Map<PresentCondition, Integer>> getEpiCurveSeriesElementsPerPresentCondition(DashboardCriteria dashboardCriteria) {
-		Map<Date, Map<PresentCondition, Integer>> epiCurveSeriesElements = new TreeMap<>();
 		List<Date> dates = buildListOfFilteredDates(
 			dashboardCriteria.getDateFrom(),
 			dashboardCriteria.getDateTo(),
 			dashboardCriteria.getEpiCurveGrouping(),
 			dashboardCriteria.isShowMinimumEntries());
+
+		Map<Date, Map<PresentCondition, Integer>> epiCurveSeriesElements =
+			dashboardService.getEpiCurveCasesCountPerPersonCondition(dashboardCriteria, dates);
+		if (epiCurveSeriesElements != null) {
+			return epiCurveSeriesElements;
+		}
+
+		// The new case date type can't be grouped by, so every interval has to be counted on its own
+		epiCurveSeriesElements = new TreeMap<>();
 		for (int i = 0; i < dates.size(); i++) {
 			dashboardCriteria = setNewCaseDatesInCaseCriteria(dates.get(i), dashboardCriteria);
 
@@ -370,29 +386,14 @@ public class DashboardFacadeEjb implements DashboardFacade {
 	}
 
 	protected Date getIntervalEndDate(Date intervalStartDate, EpiCurveGrouping epiCurveGrouping) {
-		switch (epiCurveGrouping) {
-		case DAY:
-			return DateHelper.getEndOfDay(intervalStartDate);
-		case WEEK:
-			return DateHelper.getEndOfWeek(intervalStartDate);
-		default:
-			return DateHelper.getEndOfMonth(intervalStartDate);
-		}
+		return DashboardService.getIntervalEndDate(intervalStartDate, epiCurveGrouping);
 	}
 
 	protected DashboardCriteria setNewCaseDatesInCaseCriteria(Date date, DashboardCriteria dashboardCriteria) {
 		EpiCurveGrouping epiCurveGrouping = dashboardCriteria.getEpiCurveGrouping();
-		switch (epiCurveGrouping) {
-		case DAY:
-			dashboardCriteria.dateBetween(DateHelper.getStartOfDay(date), DateHelper.getEndOfDay(date));
-			break;
-		case WEEK:
-			dashboardCriteria.dateBetween(DateHelper.getStartOfWeek(date), DateHelper.getEndOfWeek(date));
-			break;
-		default:
-			dashboardCriteria.dateBetween(DateHelper.getStartOfMonth(date), DateHelper.getEndOfMonth(date));
-
-		}
+		dashboardCriteria.dateBetween(
+			DashboardService.getIntervalStartDate(date, epiCurveGrouping),
+			DashboardService.getIntervalEndDate(date, epiCurveGrouping));
 		return dashboardCriteria;
 	}
 
@@ -6,6 +6,8 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.ejb.EJB;
@@ -31,12 +33,14 @@ import de.symeda.sormas.api.caze.CaseClassification;
 import de.symeda.sormas.api.dashboard.DashboardCaseDto;
 import de.symeda.sormas.api.dashboard.DashboardCriteria;
 import de.symeda.sormas.api.dashboard.DashboardEventDto;
+import de.symeda.sormas.api.dashboard.EpiCurveGrouping;
 import de.symeda.sormas.api.dashboard.PathogenTestResultDto;
 import de.symeda.sormas.api.event.EventStatus;
 import de.symeda.sormas.api.person.PresentCondition;
 import de.symeda.sormas.api.sample.PathogenTestResultType;
 import de.symeda.sormas.api.sample.SpecimenCondition;
 import de.symeda.sormas.api.utils.DateHelper;
+import de.symeda.sormas.backend.ExtendedPostgreSQL94Dialect;
 import de.symeda.sormas.backend.caze.Case;
 import de.symeda.sormas.backend.caze.CaseJoins;
 import de.symeda.sormas.backend.caze.CaseQueryContext;
@@ -210,6 +214,150 @@ public class DashboardService {
 		return result;
 	}
 
+	/**
+	 * Counts the cases per classification for all intervals of the epi curve that start at {@code intervalStartDates} with one
+	 * query over the whole time frame. Intervals without cases are contained with an empty map.
+	 *
+	 * @return null if the new case date type of the criteria can't be grouped by (see
+	 *         {@link CaseService#getNewCaseDateExpression(CaseQueryContext, de.symeda.sormas.api.utils.criteria.CriteriaDateType)}).
+	 */
+	public Map<Date, Map<CaseClassification, Integer>> getEpiCurveCasesCountByClassification(
+		DashboardCriteria dashboardCriteria,
+		List<Date> intervalStartDates) {
+
+		Map<Date, Map<CaseClassification, Long>> intervalCounts =
+			getEpiCurveCaseCounts(dashboardCriteria, intervalStartDates, caseQueryContext -> caseQueryContext.getRoot().get(Case.CASE_CLASSIFICATION));
+		if (intervalCounts == null) {
+			return null;
+		}
+
+		boolean aggregateConfirmed = !configFacade.isConfiguredCountry(CountryHelper.COUNTRY_CODE_GERMANY);
+		Map<Date, Map<CaseClassification, Integer>> result = new TreeMap<>();
+		intervalCounts.forEach((intervalStartDate, counts) -> {
+			List<Object[]> classificationCountList =
+				counts.entrySet().stream().map(e -> new Object[] {
+					e.getKey(),
+					e.getValue() }).collect(Collectors.toList());
+			result.put(intervalStartDate, getCasesCountByClassification(classificationCountList, aggregateConfirmed));
+		});
+
+		return result;
+	}
+
+	/**
+	 * Counts the cases per present condition of the person for all intervals of the epi curve that start at
+	 * {@code intervalStartDates} with one query over the whole time frame. Intervals without cases are contained with an empty map.
+	 *
+	 * @return null if the new case date type of the criteria can't be grouped by.
+	 */
+	public Map<Date, Map<PresentCondition, Integer>> getEpiCurveCasesCountPerPersonCondition(
+		DashboardCriteria dashboardCriteria,
+		List<Date> intervalStartDates) {
+
+		Map<Date, Map<PresentCondition, Long>> intervalCounts = getEpiCurveCaseCounts(
+			dashboardCriteria,
+			intervalStartDates,
+			caseQueryContext -> caseQueryContext.getJoins().getPerson().get(Person.PRESENT_CONDITION));
+		if (intervalCounts == null) {
+			return null;
+		}
+
+		Map<Date, Map<PresentCondition, Integer>> result = new TreeMap<>();
+		intervalCounts.forEach(
+			(intervalStartDate, counts) -> result.put(
+				intervalStartDate,
+				counts.entrySet()
+					.stream()
+					.collect(
+						Collectors.toMap(
+							e -> e.getKey() != null ? e.getKey() : PresentCondition.UNKNOWN,
+							e -> e.getValue().intValue(),
+							(v1, v2) -> v1 + v2))));
+
+		return result;
+	}
+
+	/**
+	 * Groups the cases matching the criteria by the day of their new case date and the value of {@code groupingExpression}, then
+	 * sums up the days into the epi curve intervals. Every interval is contained in the result, even if it has no cases.
+	 */
+	@SuppressWarnings("unchecked")
+	private <K> Map<Date, Map<K, Long>> getEpiCurveCaseCounts(
+		DashboardCriteria dashboardCriteria,
+		List<Date> intervalStartDates,
+		Function<CaseQueryContext, Expression<?>> groupingExpression) {
+
+		EpiCurveGrouping epiCurveGrouping = dashboardCriteria.getEpiCurveGrouping();
+
+		// interval start -> key of the interval in the result
+		TreeMap<Date, Date> intervals = new TreeMap<>();
+		Map<Date, Map<K, Long>> result = new TreeMap<>();
+		for (Date intervalStartDate : intervalStartDates) {
+			intervals.putIfAbsent(getIntervalStartDate(intervalStartDate, epiCurveGrouping), intervalStartDate);
+			result.put(intervalStartDate, new HashMap<>());
+		}
+		if (intervals.isEmpty()) {
+			return result;
+		}
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<Case> caze = cq.from(Case.class);
+		final CaseQueryContext caseQueryContext = new CaseQueryContext(cb, cq, caze);
+
+		Expression<Date> newCaseDate = caseService.getNewCaseDateExpression(caseQueryContext, dashboardCriteria.getNewCaseDateType());
+		if (newCaseDate == null) {
+			return null;
+		}
+
+		Date fromDate = intervals.firstKey();
+		Date toDate = getIntervalEndDate(intervals.lastKey(), epiCurveGrouping);
+
+		Predicate filter = caseService.createUserFilter(caseQueryContext, new CaseUserFilterCriteria().excludeCasesFromContacts(true));
+		filter = CriteriaBuilderHelper.and(cb, filter, createCaseCriteriaFilter(dashboardCriteria, caseQueryContext, fromDate, toDate));
+
+		Expression<Date> newCaseDay = cb.function(ExtendedPostgreSQL94Dialect.DATE, Date.class, newCaseDate);
+		Expression<?> groupingValue = groupingExpression.apply(caseQueryContext);
+
+		cq.multiselect(newCaseDay, groupingValue, cb.count(caze));
+		cq.where(filter);
+		cq.groupBy(newCaseDay, groupingValue);
+
+		for (Object[] row : em.createQuery(cq).getResultList()) {
+			Date newCaseDayValue = (Date) row[0];
+			Map.Entry<Date, Date> interval = newCaseDayValue != null ? intervals.floorEntry(newCaseDayValue) : null;
+			if (interval == null || newCaseDayValue.after(getIntervalEndDate(interval.getKey(), epiCurveGrouping))) {
+				continue;
+			}
+
+			result.get(interval.getValue()).merge((K) row[1], ((Number) row[2]).longValue(), Long::sum);
+		}
+
+		return result;
+	}
+
+	static Date getIntervalStartDate(Date date, EpiCurveGrouping epiCurveGrouping) {
+		switch (epiCurveGrouping) {
+		case DAY:
+			return DateHelper.getStartOfDay(date);
+		case WEEK:
+			return DateHelper.getStartOfWeek(date);
+		default:
+			return DateHelper.getStartOfMonth(date);
+		}
+	}
+
+	static Date getIntervalEndDate(Date date, EpiCurveGrouping epiCurveGrouping) {
+		switch (epiCurveGrouping) {
+		case DAY:
+			return DateHelper.getEndOfDay(date);
+		case WEEK:
+			return DateHelper.getEndOfWeek(date);
+		default:
+			return DateHelper.getEndOfMonth(date);
+		}
+	}
+
 	public Map<Disease, Long> getCaseCountByDisease(DashboardCriteria dashboardCriteria) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
@@ -451,6 +599,10 @@ public class DashboardService {
 	private <T extends AbstractDomainObject> Predicate createCaseCriteriaFilter(
 		DashboardCriteria dashboardCriteria,
 		CaseQueryContext caseQueryContext) {
+		return createCaseCriteriaFilter(dashboardCriteria, caseQueryContext, dashboardCriteria.getDateFrom(), dashboardCriteria.getDateTo());
+	}
+
+	private Predicate createCaseCriteriaFilter(DashboardCriteria dashboardCriteria, CaseQueryContext caseQueryContext, Date dateFrom, Date dateTo) {
 
 		final From<?, Case> from = caseQueryContext.getRoot();
 		final CriteriaBuilder cb = caseQueryContext.getCriteriaBuilder();
@@ -470,14 +622,14 @@ public class DashboardService {
 			filter =
 				CriteriaBuilderHelper.and(cb, filter, cb.equal(responsibleDistrict.get(District.UUID), dashboardCriteria.getDistrict().getUuid()));
 		}
-		if (dashboardCriteria.getDateFrom() != null && dashboardCriteria.getDateTo() != null) {
+		if (dateFrom != null && dateTo != null) {
 			filter = CriteriaBuilderHelper.and(
 				cb,
 				filter,
 				caseService.createNewCaseFilter(
 					caseQueryContext,
-					DateHelper.getStartOfDay(dashboardCriteria.getDateFrom()),
-					DateHelper.getEndOfDay(dashboardCriteria.getDateTo()),
+					DateHelper.getStartOfDay(dateFrom),
+					DateHelper.getEndOfDay(dateTo),
 					dashboardCriteria.getNewCaseDateType()));
 		}
 		if (!dashboardCriteria.shouldIncludeNotACaseClassification()) {
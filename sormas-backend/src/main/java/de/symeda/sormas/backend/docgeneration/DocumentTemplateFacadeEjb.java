@@ -27,6 +27,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -156,6 +157,30 @@ public class DocumentTemplateFacadeEjb implements DocumentTemplateFacade {
 		return generateDocumentDocx(templateFile, properties);
 	}
 
+	/**
+	 * Prepares the properties of a docx document like {@link #generateDocumentDocxFromEntities}, but leaves the rendering to
+	 * the returned task. The task does not access the database and can therefore be run on another thread.
+	 */
+	@PermitAll
+	public Callable<byte[]> prepareDocumentDocxFromEntities(
+		DocumentWorkflow documentWorkflow,
+		String templateName,
+		DocumentTemplateEntities entities,
+		Properties extraProperties)
+		throws DocumentTemplateException {
+		if (!documentWorkflow.isDocx()) {
+			throw new DocumentTemplateException(
+				String.format(I18nProperties.getString(Strings.messageWrongTemplateFileType), documentWorkflow, documentWorkflow.getFileExtension()));
+		}
+
+		File templateFile = getTemplateFile(documentWorkflow, templateName);
+		DocumentVariables documentVariables = getTemplateVariablesDocx(templateFile);
+		Properties properties = prepareProperties(documentWorkflow, entities, extraProperties, documentVariables);
+
+		TemplateEngine engine = templateEngine;
+		return () -> engine.generateDocumentDocx(properties, templateFile);
+	}
+
 	@Override
 	@PermitAll
 	public String generateDocumentTxtFromEntities(
@@ -331,11 +356,13 @@ public class DocumentTemplateFacadeEjb implements DocumentTemplateFacade {
 		} catch (IOException e) {
 			throw new DocumentTemplateException(I18nProperties.getString(Strings.errorCreatingTemplateDirectory));
 		}
-		try (FileOutputStream fileOutputStream =
-			new FileOutputStream(new File(workflowTemplateDirPath.resolve(FilenameUtils.getName(templateName)).toUri()))) {
+		File templateFile = new File(workflowTemplateDirPath.resolve(FilenameUtils.getName(templateName)).toUri());
+		try (FileOutputStream fileOutputStream = new FileOutputStream(templateFile)) {
 			fileOutputStream.write(document);
 		} catch (IOException e) {
 			throw new DocumentTemplateException(I18nProperties.getString(Strings.errorWritingTemplate));
+		} finally {
+			TemplateEngine.invalidateTemplate(templateFile);
 		}
 	}
 
@@ -344,6 +371,7 @@ public class DocumentTemplateFacadeEjb implements DocumentTemplateFacade {
 	public boolean deleteDocumentTemplate(DocumentWorkflow documentWorkflow, String fileName) throws DocumentTemplateException {
 		File templateFile = new File(getWorkflowTemplateDirPath(documentWorkflow).resolve(fileName).toUri());
 		if (templateFile.exists() && templateFile.isFile()) {
+			TemplateEngine.invalidateTemplate(templateFile);
 			return templateFile.delete();
 		} else {
 			throw new DocumentTemplateException(String.format(I18nProperties.getString(Strings.errorFileNotFound), fileName));
@@ -15,13 +15,34 @@
 
 package de.symeda.sormas.backend.docgeneration;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
+import javax.annotation.Resource;
 import javax.ejb.EJB;
 import javax.ejb.Stateless;
+import javax.enterprise.concurrent.ManagedScheduledExecutorService;
+
+import org.apache.commons.collections4.ListUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import de.symeda.sormas.api.Disease;
 import de.symeda.sormas.api.ReferenceDto;
@@ -29,13 +50,17 @@ import de.symeda.sormas.api.docgeneneration.DocumentTemplateEntities;
 import de.symeda.sormas.api.docgeneneration.DocumentTemplateException;
 import de.symeda.sormas.api.docgeneneration.DocumentVariables;
 import de.symeda.sormas.api.docgeneneration.DocumentWorkflow;
+import de.symeda.sormas.api.docgeneneration.GeneratedDocumentsArchive;
 import de.symeda.sormas.api.docgeneneration.QuarantineOrderFacade;
 import de.symeda.sormas.api.document.DocumentDto;
 import de.symeda.sormas.api.event.EventParticipantReferenceDto;
 import de.symeda.sormas.api.i18n.I18nProperties;
 import de.symeda.sormas.api.i18n.Strings;
+import de.symeda.sormas.api.importexport.ImportExportUtils;
 import de.symeda.sormas.api.sample.PathogenTestReferenceDto;
 import de.symeda.sormas.api.sample.SampleReferenceDto;
+import de.symeda.sormas.api.utils.DataHelper;
+import de.symeda.sormas.api.utils.DateHelper;
 import de.symeda.sormas.api.vaccination.VaccinationReferenceDto;
 import de.symeda.sormas.backend.common.ConfigFacadeEjb;
 import de.symeda.sormas.backend.docgeneration.DocumentTemplateFacadeEjb.DocumentTemplateFacadeEjbLocal;
@@ -43,6 +68,14 @@ import de.symeda.sormas.backend.docgeneration.DocumentTemplateFacadeEjb.Document
 @Stateless(name = "QuarantineOrderFacade")
 public class QuarantineOrderFacadeEjb implements QuarantineOrderFacade {
 
+	/**
+	 * Number of root entities whose data is loaded at once when generating a documents archive.
+	 */
+	private static final int ENTITIES_BATCH_SIZE = 100;
+	private static final int MAX_PARALLEL_RENDERINGS = 4;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
 	@EJB
 	private DocumentTemplateFacadeEjbLocal documentTemplateFacade;
 
@@ -55,6 +88,9 @@ public class QuarantineOrderFacadeEjb implements QuarantineOrderFacade {
 	@EJB
 	private ConfigFacadeEjb.ConfigFacadeEjbLocal configFacade;
 
+	@Resource
+	private ManagedScheduledExecutorService executorService;
+
 	@Override
 	public byte[] getGeneratedDocument(
 		String templateName,
@@ -155,6 +191,184 @@ public class QuarantineOrderFacadeEjb implements QuarantineOrderFacade {
 		return documents;
 	}
 
+	@Override
+	public GeneratedDocumentsArchive getGeneratedDocumentsArchive(
+		String templateName,
+		DocumentWorkflow workflow,
+		List<ReferenceDto> rootEntityReferences,
+		Properties extraProperties,
+		Boolean shouldUploadGeneratedDoc)
+		throws DocumentTemplateException {
+
+		return generateDocumentsArchive(
+			templateName,
+			workflow,
+			rootEntityReferences,
+			batch -> entitiesBuilder.getQuarantineOrderEntities(workflow, batch),
+			extraProperties,
+			shouldUploadGeneratedDoc);
+	}
+
+	@Override
+	public GeneratedDocumentsArchive getGeneratedDocumentsArchiveForEventParticipants(
+		String templateName,
+		List<EventParticipantReferenceDto> rootEntityReferences,
+		Disease eventDisease,
+		Properties extraProperties,
+		Boolean shouldUploadGeneratedDoc)
+		throws DocumentTemplateException {
+
+		return generateDocumentsArchive(
+			templateName,
+			DocumentWorkflow.QUARANTINE_ORDER_EVENT_PARTICIPANT,
+			rootEntityReferences,
+			batch -> entitiesBuilder.getEventParticipantQuarantineOrderEntities(batch, eventDisease),
+			extraProperties,
+			shouldUploadGeneratedDoc);
+	}
+
+	/**
+	 * Loads the entities in batches and renders their documents on the managed executor. Each document is written to the
+	 * archive (and uploaded) as soon as it is rendered, and no more than {@link #getMaxParallelRenderings()} documents are
+	 * pending at any time.
+	 */
+	private <R extends ReferenceDto> GeneratedDocumentsArchive generateDocumentsArchive(
+		String templateName,
+		DocumentWorkflow workflow,
+		List<R> rootEntityReferences,
+		EntitiesLoader<R> entitiesLoader,
+		Properties extraProperties,
+		Boolean shouldUploadGeneratedDoc)
+		throws DocumentTemplateException {
+
+		long startTime = System.currentTimeMillis();
+		int maxPendingDocuments = getMaxParallelRenderings();
+		List<String> uploadSizeLimitExceededUuids = new ArrayList<>();
+		int documentCount = 0;
+
+		Path zipPath = generateZipArchivePath();
+		try {
+			Files.createDirectories(zipPath.getParent());
+		} catch (IOException e) {
+			logger.error("Temp directory doesn't exist and creation failed.");
+			throw new DocumentTemplateException(I18nProperties.getString(Strings.errorProcessingTemplate));
+		}
+
+		try (OutputStream fos = Files.newOutputStream(zipPath); ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(fos))) {
+			CompletionService<GeneratedDocument> completionService = new ExecutorCompletionService<>(executorService);
+			int pendingDocuments = 0;
+
+			for (List<R> batch : ListUtils.partition(rootEntityReferences, ENTITIES_BATCH_SIZE)) {
+				for (Map.Entry<ReferenceDto, DocumentTemplateEntities> entities : entitiesLoader.load(batch).entrySet()) {
+					ReferenceDto rootEntityReference = entities.getKey();
+					Callable<byte[]> renderer = documentTemplateFacade
+						.prepareDocumentDocxFromEntities(workflow, templateName, entities.getValue(), extraProperties);
+					completionService.submit(() -> new GeneratedDocument(rootEntityReference, renderer.call()));
+					pendingDocuments++;
+
+					if (pendingDocuments >= maxPendingDocuments) {
+						GeneratedDocument document = takeGeneratedDocument(completionService);
+						pendingDocuments--;
+						writeDocument(zos, templateName, document, shouldUploadGeneratedDoc, uploadSizeLimitExceededUuids);
+						documentCount++;
+					}
+				}
+				logger.debug("Generated {} of {} documents", documentCount, rootEntityReferences.size());
+			}
+
+			for (; pendingDocuments > 0; pendingDocuments--) {
+				GeneratedDocument document = takeGeneratedDocument(completionService);
+				writeDocument(zos, templateName, document, shouldUploadGeneratedDoc, uploadSizeLimitExceededUuids);
+				documentCount++;
+			}
+		} catch (IOException e) {
+			deleteArchive(zipPath);
+			logger.error("Failed to generate a zip file for documents: {}", e.getMessage(), e);
+			throw new DocumentTemplateException(I18nProperties.getString(Strings.errorProcessingTemplate));
+		} catch (DocumentTemplateException | RuntimeException e) {
+			deleteArchive(zipPath);
+			throw e;
+		}
+
+		logger.debug("generateDocumentsArchive() finished. {} documents, {} ms", documentCount, System.currentTimeMillis() - startTime);
+		return new GeneratedDocumentsArchive(zipPath.toString(), documentCount, uploadSizeLimitExceededUuids);
+	}
+
+	private GeneratedDocument takeGeneratedDocument(CompletionService<GeneratedDocument> completionService)
+		throws DocumentTemplateException {
+
+		try {
+			return completionService.take().get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DocumentTemplateException(I18nProperties.getString(Strings.errorProcessingTemplate));
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof DocumentTemplateException) {
+				throw (DocumentTemplateException) e.getCause();
+			}
+			logger.error("Failed to generate a document: {}", e.getMessage(), e);
+			throw new DocumentTemplateException(I18nProperties.getString(Strings.errorProcessingTemplate));
+		}
+	}
+
+	private void writeDocument(
+		ZipOutputStream zos,
+		String templateName,
+		GeneratedDocument document,
+		Boolean shouldUploadGeneratedDoc,
+		List<String> uploadSizeLimitExceededUuids)
+		throws IOException, DocumentTemplateException {
+
+		zos.putNextEntry(new ZipEntry(DataHelper.getShortUuid(document.rootEntityReference) + '-' + templateName));
+		zos.write(document.content);
+		zos.closeEntry();
+
+		if (shouldUploadGeneratedDoc) {
+			if (isFileSizeLimitExceeded(document.content.length)) {
+				uploadSizeLimitExceededUuids.add(document.rootEntityReference.getUuid());
+			} else {
+				uploadDocument(templateName, document.rootEntityReference, document.content);
+			}
+		}
+	}
+
+	private int getMaxParallelRenderings() {
+		return Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), MAX_PARALLEL_RENDERINGS));
+	}
+
+	private Path generateZipArchivePath() {
+
+		String fileName = ImportExportUtils.TEMP_FILE_PREFIX + "_documents_" + DateHelper.formatDateForExport(new Date()) + "_"
+			+ new Random().nextInt(Integer.MAX_VALUE) + ".zip";
+		return Paths.get(configFacade.getTempFilesPath()).resolve(fileName);
+	}
+
+	private void deleteArchive(Path zipPath) {
+
+		try {
+			Files.deleteIfExists(zipPath);
+		} catch (IOException e) {
+			logger.warn("Could not delete incomplete documents archive {}", zipPath);
+		}
+	}
+
+	@FunctionalInterface
+	private interface EntitiesLoader<R extends ReferenceDto> {
+
+		Map<ReferenceDto, DocumentTemplateEntities> load(List<R> rootEntityReferences) throws DocumentTemplateException;
+	}
+
+	private static final class GeneratedDocument {
+
+		private final ReferenceDto rootEntityReference;
+		private final byte[] content;
+
+		private GeneratedDocument(ReferenceDto rootEntityReference, byte[] content) {
+			this.rootEntityReference = rootEntityReference;
+			this.content = content;
+		}
+	}
+
 	@Override
 	public List<String> getAvailableTemplates(DocumentWorkflow workflow) {
 		return documentTemplateFacade.getAvailableTemplates(workflow);
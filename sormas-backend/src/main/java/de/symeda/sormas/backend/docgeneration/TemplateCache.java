@@ -0,0 +1,84 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.docgeneration;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Keeps what has been loaded from template files, keyed by the file path. An entry is loaded again when the modification
+ * time or size of its file has changed.
+ */
+class TemplateCache<T> {
+
+	private final Map<String, Entry<T>> entries = new ConcurrentHashMap<>();
+	private final Consumer<T> onRemove;
+
+	/**
+	 * @param onRemove
+	 *            Called with values that have been replaced or invalidated, may be {@code null}.
+	 */
+	TemplateCache(Consumer<T> onRemove) {
+		this.onRemove = onRemove;
+	}
+
+	<E extends Exception> T get(File templateFile, Loader<T, E> loader) throws E {
+
+		String key = templateFile.getAbsolutePath();
+		long lastModified = templateFile.lastModified();
+		long length = templateFile.length();
+
+		Entry<T> entry = entries.get(key);
+		if (entry != null && entry.lastModified == lastModified && entry.length == length) {
+			return entry.value;
+		}
+
+		T value = loader.load(templateFile);
+		removed(entries.put(key, new Entry<>(lastModified, length, value)));
+		return value;
+	}
+
+	void invalidate(File templateFile) {
+		removed(entries.remove(templateFile.getAbsolutePath()));
+	}
+
+	private void removed(Entry<T> entry) {
+		if (entry != null && onRemove != null) {
+			onRemove.accept(entry.value);
+		}
+	}
+
+	@FunctionalInterface
+	interface Loader<T, E extends Exception> {
+
+		T load(File templateFile) throws E;
+	}
+
+	private static final class Entry<T> {
+
+		private final long lastModified;
+		private final long length;
+		private final T value;
+
+		private Entry(long lastModified, long length, T value) {
+			this.lastModified = lastModified;
+			this.length = length;
+			this.value = value;
+		}
+	}
+}
@@ -72,6 +72,14 @@ public class TemplateEngine {
 		HtmlHelper.EVENTACTION_WHITELIST.addAttributes("div", "class").addAttributes("span", "class").addAttributes("table", "class");
 	private static final Logger logger = LoggerFactory.getLogger(TemplateEngine.class);
 
+	/**
+	 * Compiled templates and their variables, shared by all instances. Reloaded when the template file changes.
+	 */
+	private static final TemplateCache<DocxTemplate> DOCX_TEMPLATES =
+		new TemplateCache<>(template -> XDocReportRegistry.getRegistry().unregisterReport(template.report));
+	private static final TemplateCache<DocumentVariables> TXT_VARIABLES = new TemplateCache<>(null);
+	private static final TemplateCache<Template> TXT_TEMPLATES = new TemplateCache<>(null);
+
 	private final Properties xdocVelocityProperties;
 
 	public TemplateEngine() {
@@ -88,37 +96,66 @@ public class TemplateEngine {
 		xdocVelocityProperties.setProperty(RuntimeConstants.EVENTHANDLER_INCLUDE, NoIncludesEventHandler.class.getCanonicalName());
 	}
 
+	/**
+	 * Removes the compiled template from the cache. To be called when the template file is replaced or deleted.
+	 */
+	public static void invalidateTemplate(File templateFile) {
+		DOCX_TEMPLATES.invalidate(templateFile);
+		TXT_VARIABLES.invalidate(templateFile);
+		TXT_TEMPLATES.invalidate(templateFile);
+	}
+
 	public DocumentVariables extractTemplateVariablesDocx(File templateFile) throws DocumentTemplateException {
-		try {
-			FileInputStream templateInputStream = new FileInputStream(templateFile);
+		return copyOf(DOCX_TEMPLATES.get(templateFile, this::loadDocxTemplate).variables);
+	}
+
+	public DocumentVariables extractTemplateVariablesTxt(File templateFile) throws DocumentTemplateException {
+		return copyOf(TXT_VARIABLES.get(templateFile, this::loadTemplateVariablesTxt));
+	}
+
+	private DocxTemplate loadDocxTemplate(File templateFile) throws DocumentTemplateException {
+		try (FileInputStream templateInputStream = new FileInputStream(templateFile)) {
 			IXDocReport report = readXDocReport(templateInputStream);
 
 			FieldsExtractor<FieldExtractor> extractor = FieldsExtractor.create();
 			report.extractFields(extractor);
 
-			return filterExtractedVariables(extractor);
+			return new DocxTemplate(report, filterExtractedVariables(extractor));
 		} catch (XDocReportException | IOException e) {
 			throw new DocumentTemplateException(String.format(I18nProperties.getString(Strings.errorReadingTemplate), templateFile.getName()));
 		}
 	}
 
-	public DocumentVariables extractTemplateVariablesTxt(File templateFile) throws DocumentTemplateException {
-		try {
-			FileReader templateFileReader = new FileReader(templateFile);
-			String templateName = templateFile.getName();
-
-			FieldsExtractor<FieldExtractor> extractor = getFieldExtractorTxt(templateFileReader, templateName);
-
-			return filterExtractedVariables(extractor);
+	private DocumentVariables loadTemplateVariablesTxt(File templateFile) throws DocumentTemplateException {
+		try (FileReader templateFileReader = new FileReader(templateFile)) {
+			return filterExtractedVariables(getFieldExtractorTxt(templateFileReader, templateFile.getName()));
 		} catch (IOException e) {
 			throw new DocumentTemplateException(String.format(I18nProperties.getString(Strings.errorReadingTemplate), templateFile.getName()));
 		}
 	}
 
+	private Template loadTemplateTxt(File templateFile) {
+		VelocityEngine velocityEngine = new VelocityEngine();
+		// Disable Reflection and Classloader related methods
+		velocityEngine.setProperty(RuntimeConstants.UBERSPECT_CLASSNAME, SecureUberspector.class.getCanonicalName());
+		// Disable Includes
+		velocityEngine.setProperty(RuntimeConstants.EVENTHANDLER_INCLUDE, NoIncludesEventHandler.class.getCanonicalName());
+		// Clean Html
+		velocityEngine.setProperty(RuntimeConstants.EVENTHANDLER_REFERENCEINSERTION, CleanHtmlReference.class.getCanonicalName());
+
+		velocityEngine.setProperty(RuntimeConstants.RESOURCE_LOADER, "file");
+		velocityEngine.setProperty(RuntimeConstants.FILE_RESOURCE_LOADER_PATH, FilenameUtils.getFullPathNoEndSeparator(templateFile.getPath()));
+		return velocityEngine.getTemplate(templateFile.getName());
+	}
+
+	private static DocumentVariables copyOf(DocumentVariables variables) {
+		// the variables are completed by the caller, so the cached instance must not be handed out
+		return new DocumentVariables(new HashSet<>(variables.getVariables()), new HashSet<>(variables.getNullableVariables()));
+	}
+
 	public byte[] generateDocumentDocx(Properties properties, File templateFile) throws DocumentTemplateException {
 		try {
-			FileInputStream templateInputStream = new FileInputStream(templateFile);
-			IXDocReport report = readXDocReport(templateInputStream);
+			IXDocReport report = DOCX_TEMPLATES.get(templateFile, this::loadDocxTemplate).report;
 			IContext context = report.createContext();
 
 			for (Object key : properties.keySet()) {
@@ -151,17 +188,7 @@ public class TemplateEngine {
 	}
 
 	public String generateDocumentTxt(Properties properties, File templateFile) {
-		VelocityEngine velocityEngine = new VelocityEngine();
-		// Disable Reflection and Classloader related methods
-		velocityEngine.setProperty(RuntimeConstants.UBERSPECT_CLASSNAME, SecureUberspector.class.getCanonicalName());
-		// Disable Includes
-		velocityEngine.setProperty(RuntimeConstants.EVENTHANDLER_INCLUDE, NoIncludesEventHandler.class.getCanonicalName());
-		// Clean Html
-		velocityEngine.setProperty(RuntimeConstants.EVENTHANDLER_REFERENCEINSERTION, CleanHtmlReference.class.getCanonicalName());
-
-		velocityEngine.setProperty(RuntimeConstants.RESOURCE_LOADER, "file");
-		velocityEngine.setProperty(RuntimeConstants.FILE_RESOURCE_LOADER_PATH, FilenameUtils.getFullPathNoEndSeparator(templateFile.getPath()));
-		Template template = velocityEngine.getTemplate(templateFile.getName());
+		Template template = TXT_TEMPLATES.get(templateFile, this::loadTemplateTxt);
 		VelocityContext velocityContext = new VelocityContext();
 
 		for (Object key : properties.keySet()) {
@@ -254,4 +281,15 @@ public class TemplateEngine {
 		}
 		return new DocumentVariables(variables, nullableVariables);
 	}
+
+	private static final class DocxTemplate {
+
+		private final IXDocReport report;
+		private final DocumentVariables variables;
+
+		private DocxTemplate(IXDocReport report, DocumentVariables variables) {
+			this.report = report;
+			this.variables = variables;
+		}
+	}
 }
@@ -749,6 +749,33 @@ public class EventParticipantFacadeEjb
 		int max,
 		Language userLanguage,
 		ExportConfigurationDto exportConfiguration) {
+		return getExportList(eventParticipantCriteria, selectedRows, first, null, max, userLanguage, exportConfiguration);
+	}
+
+	@Override
+	public List<EventParticipantExportDto> getExportListAfter(
+		EventParticipantCriteria eventParticipantCriteria,
+		Collection<String> selectedRows,
+		Long lastId,
+		int max,
+		Language userLanguage,
+		ExportConfigurationDto exportConfiguration) {
+		return getExportList(eventParticipantCriteria, selectedRows, null, lastId, max, userLanguage, exportConfiguration);
+	}
+
+	/**
+	 * @param first
+	 *            Offset of the batch; if {@code null}, the batch after the event participant with {@code lastId} is fetched in
+	 *            descending id order.
+	 */
+	private List<EventParticipantExportDto> getExportList(
+		EventParticipantCriteria eventParticipantCriteria,
+		Collection<String> selectedRows,
+		Integer first,
+		Long lastId,
+		int max,
+		Language userLanguage,
+		ExportConfigurationDto exportConfiguration) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
 		CriteriaQuery<EventParticipantExportDto> cq = cb.createQuery(EventParticipantExportDto.class);
@@ -837,7 +864,9 @@ public class EventParticipantFacadeEjb
 		filter = CriteriaBuilderHelper.andInValues(selectedRows, filter, cb, eventParticipant.get(EventParticipant.UUID));
 		cq.where(filter);
 
-		List<EventParticipantExportDto> eventParticipantResultList = QueryHelper.getResultList(em, cq, first, max);
+		List<EventParticipantExportDto> eventParticipantResultList = first != null
+			? QueryHelper.getResultList(em, cq, first, max)
+			: QueryHelper.getResultListAfterId(em, cq, eventParticipant.get(EventParticipant.ID), lastId, max);
 
 		if (!eventParticipantResultList.isEmpty()) {
 			Map<String, Long> eventParticipantContactCount = getContactCountPerEventParticipant(
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -28,6 +29,7 @@ import java.util.stream.Collectors;
 import javax.ejb.EJB;
 import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
+import javax.persistence.Tuple;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Expression;
@@ -1089,6 +1091,46 @@ public class EventService extends AbstractCoreAdoService<Event, EventJoins> {
 		return em.createQuery(cq).getResultList();
 	}
 
+	/**
+	 * @return The events of the given cases by case uuid, filtered like {@link #getAllByCase(String)}.
+	 */
+	public Map<String, List<Event>> getAllByCases(List<String> caseUuids) {
+
+		Map<String, List<Event>> eventsByCase = new HashMap<>();
+		if (caseUuids.isEmpty()) {
+			return eventsByCase;
+		}
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+		Root<Event> from = cq.from(getElementClass());
+		from.fetch(Event.EVENT_LOCATION);
+
+		EventQueryContext eventQueryContext = new EventQueryContext(cb, cq, from);
+		EventJoins joins = eventQueryContext.getJoins();
+		Path<String> caseUuid = joins.getEventParticipantCases().get(Case.UUID);
+
+		Predicate filter = createActiveEventsFilter(cb, from);
+
+		User user = getCurrentUser();
+		if (user != null) {
+			Predicate userFilter = createUserFilter(eventQueryContext);
+			filter = CriteriaBuilderHelper.and(cb, filter, userFilter);
+		}
+
+		filter = CriteriaBuilderHelper.and(cb, filter, caseUuid.in(caseUuids));
+
+		cq.multiselect(caseUuid, from);
+		cq.where(filter);
+		cq.distinct(true);
+
+		for (Tuple result : em.createQuery(cq).getResultList()) {
+			eventsByCase.computeIfAbsent(result.get(0, String.class), k -> new ArrayList<>()).add(result.get(1, Event.class));
+		}
+
+		return eventsByCase;
+	}
+
 	public boolean hasRegionAndDistrict(String eventUuid) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
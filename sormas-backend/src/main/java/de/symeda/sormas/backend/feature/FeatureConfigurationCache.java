@@ -0,0 +1,214 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.feature;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.ejb.ConcurrencyManagement;
+import javax.ejb.ConcurrencyManagementType;
+import javax.ejb.EJB;
+import javax.ejb.LocalBean;
+import javax.ejb.Singleton;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.TransactionPhase;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+
+import de.symeda.sormas.api.common.CoreEntityType;
+import de.symeda.sormas.api.feature.FeatureType;
+import de.symeda.sormas.api.feature.FeatureTypeProperty;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
+import de.symeda.sormas.backend.util.ModelConstants;
+
+/**
+ * Keeps an immutable snapshot of all feature configurations, so that feature checks do not have to query the database.
+ * <p>
+ * The snapshot is dropped when a transaction that saved or deleted a feature configuration on this server has completed.
+ * Changes made by other servers are detected by comparing the number of feature configurations and their latest change date
+ * with the database, which is done at most once per {@link ConfigFacadeEjbLocal#getFeatureConfigurationsCacheCheckInterval()}.
+ */
+@Singleton
+@LocalBean
+@ConcurrencyManagement(ConcurrencyManagementType.BEAN)
+public class FeatureConfigurationCache {
+
+	@PersistenceContext(unitName = ModelConstants.PERSISTENCE_UNIT_NAME)
+	private EntityManager em;
+
+	@EJB
+	private ConfigFacadeEjbLocal configFacade;
+
+	private volatile Snapshot snapshot;
+	private volatile long lastCheck;
+	/**
+	 * Read when a snapshot is built, so the configuration is not looked up for every feature check.
+	 */
+	private volatile long checkIntervalMillis;
+	/**
+	 * Incremented by {@link #invalidate()}, so snapshots loaded before are not published.
+	 */
+	private long invalidations;
+
+	public Snapshot getSnapshot() {
+
+		Snapshot current = snapshot;
+		long now = System.currentTimeMillis();
+		if (current != null && now - lastCheck < checkIntervalMillis) {
+			return current;
+		}
+
+		long loadedInvalidations;
+		synchronized (this) {
+			loadedInvalidations = invalidations;
+		}
+
+		// the version is read first, so changes made while loading are detected by the next check
+		Version version = loadVersion();
+		if (current == null || !current.version.equals(version)) {
+			checkIntervalMillis = configFacade.getFeatureConfigurationsCacheCheckInterval() * 1000L;
+			current = new Snapshot(version, loadEntries());
+		}
+
+		synchronized (this) {
+			if (invalidations == loadedInvalidations) {
+				snapshot = current;
+				lastCheck = now;
+			}
+		}
+
+		return current;
+	}
+
+	/**
+	 * Drops the snapshot when the transaction that saved or deleted a feature configuration has completed. Until then, other
+	 * transactions can't see the change, so a snapshot loaded by them would be outdated.
+	 */
+	public synchronized void invalidate(@Observes(during = TransactionPhase.AFTER_COMPLETION) FeatureConfigurationChangeEvent event) {
+		invalidations++;
+		snapshot = null;
+	}
+
+	private Version loadVersion() {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+		Root<FeatureConfiguration> root = cq.from(FeatureConfiguration.class);
+		cq.multiselect(cb.count(root), cb.greatest(root.<Date> get(FeatureConfiguration.CHANGE_DATE)));
+
+		Object[] result = em.createQuery(cq).getSingleResult();
+		return new Version((Long) result[0], (Date) result[1]);
+	}
+
+	private Map<FeatureType, List<Entry>> loadEntries() {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<FeatureConfiguration> cq = cb.createQuery(FeatureConfiguration.class);
+		cq.from(FeatureConfiguration.class);
+
+		Map<FeatureType, List<Entry>> entries = new EnumMap<>(FeatureType.class);
+		for (FeatureConfiguration configuration : em.createQuery(cq).getResultList()) {
+			entries.computeIfAbsent(configuration.getFeatureType(), k -> new ArrayList<>())
+				.add(new Entry(configuration.getEntityType(), configuration.isEnabled(), configuration.getProperties()));
+		}
+		entries.replaceAll((featureType, featureEntries) -> Collections.unmodifiableList(featureEntries));
+
+		return Collections.unmodifiableMap(entries);
+	}
+
+	/**
+	 * The feature configurations at one point in time.
+	 */
+	public static final class Snapshot {
+
+		private final Version version;
+		private final Map<FeatureType, List<Entry>> entries;
+
+		private Snapshot(Version version, Map<FeatureType, List<Entry>> entries) {
+			this.version = version;
+			this.entries = entries;
+		}
+
+		public List<Entry> getEntries(FeatureType featureType) {
+			return entries.getOrDefault(featureType, Collections.emptyList());
+		}
+	}
+
+	/**
+	 * The attributes of a feature configuration that are relevant for feature checks.
+	 */
+	public static final class Entry {
+
+		private final CoreEntityType entityType;
+		private final boolean enabled;
+		private final Map<FeatureTypeProperty, Object> properties;
+
+		private Entry(CoreEntityType entityType, boolean enabled, Map<FeatureTypeProperty, Object> properties) {
+			this.entityType = entityType;
+			this.enabled = enabled;
+			this.properties = properties != null ? Collections.unmodifiableMap(new HashMap<>(properties)) : null;
+		}
+
+		public CoreEntityType getEntityType() {
+			return entityType;
+		}
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public Map<FeatureTypeProperty, Object> getProperties() {
+			return properties;
+		}
+	}
+
+	private static final class Version {
+
+		private final long count;
+		private final Date lastChangeDate;
+
+		private Version(long count, Date lastChangeDate) {
+			this.count = count;
+			this.lastChangeDate = lastChangeDate;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			Version version = (Version) o;
+			return count == version.count && Objects.equals(lastChangeDate, version.lastChangeDate);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(count, lastChangeDate);
+		}
+	}
+}
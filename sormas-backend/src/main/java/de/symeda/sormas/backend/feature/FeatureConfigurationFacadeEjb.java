@@ -32,7 +32,7 @@ import javax.ejb.Stateless;
 import javax.ejb.TransactionAttribute;
 import javax.ejb.TransactionAttributeType;
 import javax.persistence.EntityManager;
-import javax.persistence.NoResultException;
+import javax.persistence.NonUniqueResultException;
 import javax.persistence.PersistenceContext;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -97,6 +97,8 @@ public class FeatureConfigurationFacadeEjb implements FeatureConfigurationFacade
 	private DistrictService districtService;
 	@EJB
 	private UserService userService;
+	@EJB
+	private FeatureConfigurationCache featureConfigurationCache;
 
 	@EJB
 	private CountryFacadeEjb.CountryFacadeEjbLocal countryFacadeEjb;
@@ -380,15 +382,7 @@ public class FeatureConfigurationFacadeEjb implements FeatureConfigurationFacade
 
 	@Override
 	public boolean isFeatureDisabled(FeatureType featureType) {
-
-		CriteriaBuilder cb = em.getCriteriaBuilder();
-		CriteriaQuery<Long> cq = cb.createQuery(Long.class);
-		Root<FeatureConfiguration> root = cq.from(FeatureConfiguration.class);
-
-		cq.where(cb.and(cb.equal(root.get(FeatureConfiguration.FEATURE_TYPE), featureType), cb.isFalse(root.get(FeatureConfiguration.ENABLED))));
-		cq.select(cb.count(root));
-
-		return em.createQuery(cq).getSingleResult() > 0;
+		return featureConfigurationCache.getSnapshot().getEntries(featureType).stream().anyMatch(e -> !e.isEnabled());
 	}
 
 	@Override
@@ -398,18 +392,10 @@ public class FeatureConfigurationFacadeEjb implements FeatureConfigurationFacade
 			throw new IllegalArgumentException("Entity type must be specified!");
 		}
 
-		CriteriaBuilder cb = em.getCriteriaBuilder();
-		CriteriaQuery<Long> cq = cb.createQuery(Long.class);
-		Root<FeatureConfiguration> root = cq.from(FeatureConfiguration.class);
-
-		cq.where(
-			cb.and(
-				cb.equal(root.get(FeatureConfiguration.FEATURE_TYPE), featureType),
-				cb.and(cb.isNotNull(root.get(FeatureConfiguration.ENTITY_TYPE)), cb.equal(root.get(FeatureConfiguration.ENTITY_TYPE), entityType)),
-				cb.isTrue(root.get(FeatureConfiguration.ENABLED))));
-		cq.select(cb.count(root));
-
-		return em.createQuery(cq).getSingleResult() > 0;
+		return featureConfigurationCache.getSnapshot()
+			.getEntries(featureType)
+			.stream()
+			.anyMatch(e -> entityType == e.getEntityType() && e.isEnabled());
 	}
 
 	public <T extends Object> T getProperty(FeatureType featureType, CoreEntityType entityType, FeatureTypeProperty property, Class<T> returnType) {
@@ -423,23 +409,7 @@ public class FeatureConfigurationFacadeEjb implements FeatureConfigurationFacade
 				"Feature type property " + property + " does not have specified return type " + returnType.getSimpleName() + ".");
 		}
 
-		final CriteriaBuilder cb = em.getCriteriaBuilder();
-		final CriteriaQuery<T> cq = cb.createQuery(returnType);
-		final Root<FeatureConfiguration> root = cq.from(FeatureConfiguration.class);
-
-		Predicate predicate = cb.equal(root.get(FeatureConfiguration.FEATURE_TYPE), featureType);
-		if (entityType != null) {
-			predicate = cb.and(predicate, cb.equal(root.get(FeatureConfiguration.ENTITY_TYPE), entityType));
-		}
-		cq.where(predicate);
-		cq.select(root.get(FeatureConfiguration.PROPERTIES));
-
-		Map<FeatureTypeProperty, Object> properties = null;
-		try {
-			properties = (Map<FeatureTypeProperty, Object>) em.createQuery(cq).getSingleResult();
-		} catch (NoResultException e) {
-			// NOOP
-		}
+		Map<FeatureTypeProperty, Object> properties = getSingleProperties(featureType, entityType);
 
 		if (properties != null && properties.containsKey(property)) {
 			return (T) properties.get(property);
@@ -461,19 +431,7 @@ public class FeatureConfigurationFacadeEjb implements FeatureConfigurationFacade
 				"Feature type property " + property + " does not have specified return type " + Boolean.class.getSimpleName() + ".");
 		}
 
-		CriteriaBuilder cb = em.getCriteriaBuilder();
-		CriteriaQuery<Object> cq = cb.createQuery(Object.class);
-		Root<FeatureConfiguration> root = cq.from(FeatureConfiguration.class);
-
-		cq.where(cb.and(cb.equal(root.get(FeatureConfiguration.FEATURE_TYPE), featureType)));
-		cq.select(root.get(FeatureConfiguration.PROPERTIES));
-
-		Map<FeatureTypeProperty, Object> properties = null;
-		try {
-			properties = (Map<FeatureTypeProperty, Object>) em.createQuery(cq).getSingleResult();
-		} catch (NoResultException e) {
-			// NOOP
-		}
+		Map<FeatureTypeProperty, Object> properties = getSingleProperties(featureType, null);
 
 		boolean result;
 		if (properties != null && properties.containsKey(property)) {
@@ -486,6 +444,26 @@ public class FeatureConfigurationFacadeEjb implements FeatureConfigurationFacade
 		return result;
 	}
 
+	/**
+	 * @return The properties of the only feature configuration of the feature type (and entity type, if not {@code null}), or
+	 *         {@code null} if there is none.
+	 * @throws NonUniqueResultException
+	 *             if there is more than one matching feature configuration.
+	 */
+	private Map<FeatureTypeProperty, Object> getSingleProperties(FeatureType featureType, CoreEntityType entityType) {
+
+		List<FeatureConfigurationCache.Entry> entries = featureConfigurationCache.getSnapshot()
+			.getEntries(featureType)
+			.stream()
+			.filter(e -> entityType == null || entityType == e.getEntityType())
+			.collect(Collectors.toList());
+
+		if (entries.size() > 1) {
+			throw new NonUniqueResultException("More than one feature configuration found for " + featureType);
+		}
+		return entries.isEmpty() ? null : entries.get(0).getProperties();
+	}
+
 	@Override
 	public boolean isFeatureEnabled(FeatureType featureType) {
 		return !isFeatureDisabled(featureType);
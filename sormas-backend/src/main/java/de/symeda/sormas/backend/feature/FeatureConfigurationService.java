@@ -8,6 +8,9 @@ import java.util.stream.Collectors;
 
 import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
+import javax.enterprise.event.Event;
+import javax.inject.Inject;
+import javax.persistence.EntityExistsException;
 import javax.persistence.Query;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -31,10 +34,31 @@ import de.symeda.sormas.backend.user.User;
 @LocalBean
 public class FeatureConfigurationService extends AdoServiceWithUserFilterAndJurisdiction<FeatureConfiguration> {
 
+	@Inject
+	private Event<FeatureConfigurationChangeEvent> featureConfigurationChangeEvent;
+
 	public FeatureConfigurationService() {
 		super(FeatureConfiguration.class);
 	}
 
+	@Override
+	public void ensurePersisted(FeatureConfiguration featureConfiguration) throws EntityExistsException {
+		super.ensurePersisted(featureConfiguration);
+		featureConfigurationChangeEvent.fire(new FeatureConfigurationChangeEvent());
+	}
+
+	@Override
+	public void persist(FeatureConfiguration featureConfiguration) {
+		super.persist(featureConfiguration);
+		featureConfigurationChangeEvent.fire(new FeatureConfigurationChangeEvent());
+	}
+
+	@Override
+	public void deletePermanent(FeatureConfiguration featureConfiguration) {
+		super.deletePermanent(featureConfiguration);
+		featureConfigurationChangeEvent.fire(new FeatureConfigurationChangeEvent());
+	}
+
 	public List<String> getDeletedUuids(Date since, User user) {
 
 		StringBuilder queryBuilder = new StringBuilder();
@@ -0,0 +1,80 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.geo;
+
+import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.strtree.STRtree;
+
+import de.symeda.sormas.api.geo.GeoLatLon;
+
+/**
+ * Spatial index of the shapes of regions or districts to find the shape containing a coordinate.
+ * Only the shapes whose bounding box contains the coordinate are tested, using prepared geometries.
+ *
+ * @param <T>
+ *            Either RegionReferenceDto or DistrictReferenceDto.
+ */
+public class GeoShapeIndex<T> {
+
+	private final STRtree tree = new STRtree();
+
+	public GeoShapeIndex(Map<T, MultiPolygon> multiPolygons) {
+
+		for (Map.Entry<T, MultiPolygon> multiPolygon : multiPolygons.entrySet()) {
+			tree.insert(
+				multiPolygon.getValue().getEnvelopeInternal(),
+				new IndexedShape<>(multiPolygon.getKey(), PreparedGeometryFactory.prepare(multiPolygon.getValue())));
+		}
+		// build now, so the index is immutable and can be queried concurrently
+		tree.build();
+	}
+
+	/**
+	 * @return The region/district whose shape contains the coordinate or {@code null}, if there is none.
+	 */
+	public T find(GeoLatLon latLon) {
+
+		Coordinate coordinate = new Coordinate(latLon.getLon(), latLon.getLat());
+
+		@SuppressWarnings("unchecked")
+		List<IndexedShape<T>> candidates = tree.query(new Envelope(coordinate));
+		for (IndexedShape<T> candidate : candidates) {
+			if (candidate.shape.contains(GeometryFactory.createPointFromInternalCoord(coordinate, candidate.shape.getGeometry()))) {
+				return candidate.infrastructure;
+			}
+		}
+		return null;
+	}
+
+	private static final class IndexedShape<T> {
+
+		private final T infrastructure;
+		private final PreparedGeometry shape;
+
+		private IndexedShape(T infrastructure, PreparedGeometry shape) {
+			this.infrastructure = infrastructure;
+			this.shape = shape;
+		}
+	}
+}
@@ -27,6 +27,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 import javax.ejb.EJB;
@@ -70,11 +71,13 @@ public class GeoShapeProviderEjb implements GeoShapeProvider {
 
 	private final Map<RegionReferenceDto, MultiPolygon> regionMultiPolygons = new HashMap<>();
 	private final Map<RegionReferenceDto, GeoLatLon[][]> regionShapes = new HashMap<>();
+	private GeoShapeIndex<RegionReferenceDto> regionIndex = new GeoShapeIndex<>(Collections.emptyMap());
 
 	private GeoLatLon regionsCenter;
 
 	private final Map<DistrictReferenceDto, MultiPolygon> districtMultiPolygons = new HashMap<>();
 	private final Map<DistrictReferenceDto, GeoLatLon[][]> districtShapes = new HashMap<>();
+	private GeoShapeIndex<DistrictReferenceDto> districtIndex = new GeoShapeIndex<>(Collections.emptyMap());
 
 	private GeoLatLon[][] countryShape;
 
@@ -90,15 +93,12 @@ public class GeoShapeProviderEjb implements GeoShapeProvider {
 
 	@Override
 	public RegionReferenceDto getRegionByCoord(GeoLatLon latLon) {
+		return regionIndex.find(latLon);
+	}
 
-		for (Entry<RegionReferenceDto, MultiPolygon> regionMultiPolygon : regionMultiPolygons.entrySet()) {
-			if (regionMultiPolygon.getValue()
-				.contains(
-					GeometryFactory.createPointFromInternalCoord(new Coordinate(latLon.getLon(), latLon.getLat()), regionMultiPolygon.getValue()))) {
-				return regionMultiPolygon.getKey();
-			}
-		}
-		return null;
+	@Override
+	public List<RegionReferenceDto> getRegionsByCoords(List<GeoLatLon> latLons) {
+		return latLons.stream().map(regionIndex::find).collect(Collectors.toList());
 	}
 
 	@Override
@@ -146,16 +146,12 @@ public class GeoShapeProviderEjb implements GeoShapeProvider {
 
 	@Override
 	public DistrictReferenceDto getDistrictByCoord(GeoLatLon latLon) {
+		return districtIndex.find(latLon);
+	}
 
-		for (Entry<DistrictReferenceDto, MultiPolygon> districtMultiPolygon : districtMultiPolygons.entrySet()) {
-			if (districtMultiPolygon.getValue()
-				.contains(
-					GeometryFactory
-						.createPointFromInternalCoord(new Coordinate(latLon.getLon(), latLon.getLat()), districtMultiPolygon.getValue()))) {
-				return districtMultiPolygon.getKey();
-			}
-		}
-		return null;
+	@Override
+	public List<DistrictReferenceDto> getDistrictsByCoords(List<GeoLatLon> latLons) {
+		return latLons.stream().map(districtIndex::find).collect(Collectors.toList());
 	}
 
 	@Override
@@ -179,6 +175,9 @@ public class GeoShapeProviderEjb implements GeoShapeProvider {
 			loadRegionData(countryName, wkt);
 			loadDistrictData(countryName, wkt);
 			buildCountryShape();
+
+			regionIndex = new GeoShapeIndex<>(regionMultiPolygons);
+			districtIndex = new GeoShapeIndex<>(districtMultiPolygons);
 		}
 	}
 
@@ -9,6 +9,8 @@ import java.util.Date;
 import java.util.List;
 
 import javax.annotation.security.PermitAll;
+import javax.ejb.TransactionAttribute;
+import javax.ejb.TransactionAttributeType;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
@@ -114,6 +116,16 @@ public abstract class AbstractInfrastructureFacadeEjb<ADO extends Infrastructure
 		return doSave(dtoToSave, true, false, false, true);
 	}
 
+	/**
+	 * Saves the given DTOs received from central like {@link #saveFromCentral(InfrastructureDto)}, but in one new transaction.
+	 * Only used by the central infrastructure sync, so it is not part of {@link InfrastructureFacade}.
+	 */
+	@RightsAllowed(UserRight._SYSTEM)
+	@TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
+	public void saveAllFromCentral(List<DTO> dtos) {
+		dtos.forEach(this::saveFromCentral);
+	}
+
 	protected DTO doSave(DTO dtoToSave, boolean allowMerge, boolean includeArchived, boolean checkChangeDate, boolean allowUuidOverwrite) {
 		if (dtoToSave == null) {
 			return null;
@@ -1,24 +1,25 @@
 package de.symeda.sormas.backend.infrastructure.central;
 
 import java.io.IOException;
-import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.ejb.EJB;
 import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
+import javax.ejb.TransactionAttribute;
+import javax.ejb.TransactionAttributeType;
 import javax.inject.Inject;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import de.symeda.sormas.api.InfrastructureDataReferenceDto;
 import de.symeda.sormas.api.feature.FeatureType;
 import de.symeda.sormas.api.infrastructure.InfrastructureDto;
-import de.symeda.sormas.api.infrastructure.InfrastructureFacade;
 import de.symeda.sormas.api.infrastructure.area.AreaDto;
 import de.symeda.sormas.api.infrastructure.community.CommunityDto;
 import de.symeda.sormas.api.infrastructure.continent.ContinentDto;
@@ -28,10 +29,10 @@ import de.symeda.sormas.api.infrastructure.region.RegionDto;
 import de.symeda.sormas.api.infrastructure.subcontinent.SubcontinentDto;
 import de.symeda.sormas.api.systemevents.SystemEventDto;
 import de.symeda.sormas.api.systemevents.SystemEventType;
-import de.symeda.sormas.api.utils.criteria.BaseCriteria;
 import de.symeda.sormas.backend.central.EtcdCentralClient;
 import de.symeda.sormas.backend.common.ConfigFacadeEjb;
 import de.symeda.sormas.backend.feature.FeatureConfigurationFacadeEjb;
+import de.symeda.sormas.backend.infrastructure.AbstractInfrastructureFacadeEjb;
 import de.symeda.sormas.backend.infrastructure.area.AreaFacadeEjb;
 import de.symeda.sormas.backend.infrastructure.community.CommunityFacadeEjb;
 import de.symeda.sormas.backend.infrastructure.continent.ContinentFacadeEjb;
@@ -40,6 +41,7 @@ import de.symeda.sormas.backend.infrastructure.district.DistrictFacadeEjb;
 import de.symeda.sormas.backend.infrastructure.region.RegionFacadeEjb;
 import de.symeda.sormas.backend.infrastructure.subcontinent.SubcontinentFacadeEjb;
 import de.symeda.sormas.backend.systemevent.sync.SyncFacadeEjb;
+import de.symeda.sormas.backend.util.IterableHelper;
 
 @LocalBean
 @Stateless
@@ -53,6 +55,15 @@ public class CentralInfraSyncFacade {
 	public static final String DISTRICT = "district";
 	public static final String COMMUNITY = "community";
 	public static final String CENTRAL_LOCATION_TEMPLATE = "/central/location/%s/";
+
+	private static final int SAVE_BATCH_SIZE = 500;
+
+	/**
+	 * The etcd revision up to which the entities of each type have been imported. Only entities modified after this revision
+	 * are loaded with the next sync. Not persisted, so the first sync after a restart loads all entities again.
+	 */
+	private static final Map<String, Long> SYNCED_REVISIONS = new ConcurrentHashMap<>();
+
 	private final Logger logger = LoggerFactory.getLogger(getClass());
 
 	@EJB
@@ -78,26 +89,29 @@ public class CentralInfraSyncFacade {
 	@EJB
 	private FeatureConfigurationFacadeEjb.FeatureConfigurationFacadeEjbLocal featureConfigurationFacadeEjb;
 
-	private <DTO extends InfrastructureDto, INDEX_DTO extends Serializable, REF_DTO extends InfrastructureDataReferenceDto, CRITERIA extends BaseCriteria> Date loadAndStore(
+	<DTO extends InfrastructureDto> Date loadAndStore(
 		String type,
 		Class<DTO> clazz,
-		InfrastructureFacade<DTO, INDEX_DTO, REF_DTO, CRITERIA> facade,
+		AbstractInfrastructureFacadeEjb<?, DTO, ?, ?, ?, ?> facade,
 		Date lastSync) {
-		List<DTO> dtos;
+		EtcdCentralClient.RevisionedValues<DTO> values;
 
+		long syncedRevision = SYNCED_REVISIONS.getOrDefault(type, 0L);
 		try {
-			dtos = centralClient.getWithPrefix(String.format(CENTRAL_LOCATION_TEMPLATE, type), clazz);
+			values = centralClient.getWithPrefix(String.format(CENTRAL_LOCATION_TEMPLATE, type), clazz, syncedRevision + 1);
 		} catch (IOException e) {
 			logger.error("Could not load all entities of type {} from central: %s", type, e);
 			return lastSync;
 		}
-		logger.info("Loaded {} entities of type {}", dtos.size(), type);
+		List<DTO> dtos = values.getValues();
+		logger.info("Loaded {} entities of type {} changed after revision {}", dtos.size(), type, syncedRevision);
 
 		List<DTO> newDtos = dtos.stream().filter(d -> d.getChangeDate().after(lastSync)).collect(Collectors.toList());
 		newDtos.forEach(d -> d.setCentrallyManaged(true));
 
 		logger.info("Importing {} entities of type {}", newDtos.size(), type);
 		if (newDtos.isEmpty()) {
+			SYNCED_REVISIONS.put(type, values.getRevision());
 			return lastSync;
 		}
 
@@ -105,14 +119,17 @@ public class CentralInfraSyncFacade {
 		Date newestChangeDate = newDtos.stream().map(DTO::getChangeDate).max(Date::compareTo).orElse(lastSync);
 		logger.info("The newest change date is {}", newestChangeDate);
 
-		newDtos.forEach(d -> {
-			logger.info("Processing: {} - {}", d, d.getUuid());
-			facade.saveFromCentral(d);
+		// each batch is saved in its own transaction
+		IterableHelper.executeBatched(newDtos, SAVE_BATCH_SIZE, batch -> {
+			logger.debug("Processing {} entities of type {}", batch.size(), type);
+			facade.saveAllFromCentral(batch);
 		});
+		SYNCED_REVISIONS.put(type, values.getRevision());
 		logger.info("Successfully imported all entities from central");
 		return newestChangeDate;
 	}
 
+	@TransactionAttribute(TransactionAttributeType.NOT_SUPPORTED)
 	public void syncAll() {
 		if (!configFacade.isCentralLocationSync()) {
 			logger.info("Skipping synchronization with central as feature is disabled.");
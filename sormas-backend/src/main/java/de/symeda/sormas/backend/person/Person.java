@@ -26,10 +26,12 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import javax.enterprise.inject.spi.CDI;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Convert;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
@@ -38,6 +40,9 @@ import javax.persistence.JoinTable;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
 import javax.persistence.Temporal;
 import javax.persistence.TemporalType;
 import javax.persistence.Transient;
@@ -75,6 +80,7 @@ import de.symeda.sormas.backend.travelentry.TravelEntry;
 
 @Entity
 @Audited
+@EntityListeners(Person.PersonListener.class)
 public class Person extends AbstractDomainObject implements HasExternalData {
 
 	private static final long serialVersionUID = -1735038738114840087L;
@@ -810,4 +816,14 @@ public class Person extends AbstractDomainObject implements HasExternalData {
 	public boolean isEnrolledInExternalJournal() {
 		return SymptomJournalStatus.ACCEPTED.equals(symptomJournalStatus) || SymptomJournalStatus.REGISTERED.equals(symptomJournalStatus);
 	}
+
+	static class PersonListener {
+
+		@PostPersist
+		@PostUpdate
+		@PostRemove
+		private void afterAnyUpdate(Person person) {
+			CDI.current().getBeanManager().getEvent().fire(new PersonChangeEvent(person.getId()));
+		}
+	}
 }
@@ -0,0 +1,33 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.person;
+
+/**
+ * Event fired when a person is created, changed or deleted. Observers that need to see the change in the database have to
+ * observe it after the transaction succeeded.
+ */
+public class PersonChangeEvent {
+
+	private final Long personId;
+
+	public PersonChangeEvent(Long personId) {
+		this.personId = personId;
+	}
+
+	public Long getPersonId() {
+		return personId;
+	}
+}
@@ -0,0 +1,456 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+
+import de.symeda.sormas.api.person.PersonSimilarityCriteria;
+import de.symeda.sormas.api.person.Sex;
+
+/**
+ * In-memory blocking index over the persons that may be found as duplicates, used to skip the expensive similarity query of
+ * {@link PersonService#getSimilarPersonDtos(Integer, PersonSimilarityCriteria)} for persons that certainly have no match.
+ * <p>
+ * Persons are blocked by the trigrams of their names and by the substrings of their names, UUID and tokens, then scored locally
+ * with the same rules as the database query (trigram similarity, birth date, sex, national health id and passport number).
+ * The index only answers whether a match is possible: if any candidate remains, the database query has to decide.
+ * Criteria that can not be evaluated safely (short or non-latin names, strict name comparison) are always ambiguous.
+ */
+public class PersonDuplicateIndex {
+
+	/**
+	 * Local trigram similarity is compared to a slightly lower threshold, so small differences to pg_trgm (e.g. in case
+	 * conversion) lead to a database check instead of a missed duplicate.
+	 */
+	static final double SIMILARITY_SLACK = 0.05;
+
+	private static final int GRAM_LENGTH = 3;
+	private static final Map<Character, String> UNACCENT_REPLACEMENTS = new HashMap<>();
+
+	static {
+		UNACCENT_REPLACEMENTS.put('ø', "o");
+		UNACCENT_REPLACEMENTS.put('æ', "ae");
+		UNACCENT_REPLACEMENTS.put('œ', "oe");
+		UNACCENT_REPLACEMENTS.put('ß', "ss");
+		UNACCENT_REPLACEMENTS.put('ł', "l");
+		UNACCENT_REPLACEMENTS.put('đ', "d");
+		UNACCENT_REPLACEMENTS.put('ð', "d");
+		UNACCENT_REPLACEMENTS.put('þ', "th");
+		UNACCENT_REPLACEMENTS.put('ı', "i");
+	}
+
+	private final List<Candidate> candidates = new ArrayList<>();
+	private final Map<Long, Integer> candidateIndexById = new HashMap<>();
+	/**
+	 * Padded trigrams of first and last names as used by pg_trgm.
+	 */
+	private final Map<String, Postings> nameTrigrams = new HashMap<>();
+	/**
+	 * Plain three-character substrings of the normalized names, UUID and tokens.
+	 */
+	private final Map<String, Postings> substrings = new HashMap<>();
+	/**
+	 * Persons with names that can not be normalized like the database does. Always considered when matching substrings.
+	 */
+	private final BitSet irregularCandidates = new BitSet();
+
+	/**
+	 * Adds the person to the index or replaces the already indexed version of it.
+	 */
+	public void add(Candidate candidate) {
+
+		Integer existingIndex = candidateIndexById.get(candidate.id);
+		if (existingIndex != null) {
+			Candidate existing = candidates.get(existingIndex);
+			if (Objects.equals(existing.changeDate, candidate.changeDate)) {
+				return;
+			}
+			// the postings of the old version are kept, but skipped when scoring
+			existing.replaced = true;
+		}
+
+		int index = candidates.size();
+		candidates.add(candidate);
+		candidateIndexById.put(candidate.id, index);
+
+		Set<String> trigrams = new LinkedHashSet<>(trigrams(candidate.firstNameLower));
+		trigrams.addAll(trigrams(candidate.lastNameLower));
+		trigrams.forEach(trigram -> nameTrigrams.computeIfAbsent(trigram, k -> new Postings()).add(index));
+
+		Set<String> grams = new LinkedHashSet<>();
+		for (String field : candidate.normalizedFields) {
+			addSubstrings(field, grams);
+		}
+		grams.forEach(gram -> substrings.computeIfAbsent(gram, k -> new Postings()).add(index));
+
+		if (!isAscii(candidate.normalizedFields[0]) || !isAscii(candidate.normalizedFields[1])) {
+			irregularCandidates.set(index);
+		}
+	}
+
+	public int size() {
+		return candidateIndexById.size();
+	}
+
+	/**
+	 * @return {@code false} if no indexed person can match the criteria, {@code true} if the database has to be checked.
+	 */
+	public boolean mayHaveSimilarPersons(PersonSimilarityCriteria criteria, double similarityThreshold) {
+
+		// only the criteria built by PersonSimilarityCriteria.forPerson(person) are supported
+		String nameLike = criteria.getNameUuidExternalIdExternalTokenLike();
+		if (StringUtils.isNotBlank(criteria.getFirstName())
+			|| StringUtils.isNotBlank(criteria.getLastName())
+			|| StringUtils.isBlank(nameLike)) {
+			return true;
+		}
+
+		double threshold = similarityThreshold - SIMILARITY_SLACK;
+		if (threshold <= 0) {
+			return true;
+		}
+
+		List<Word> words = new ArrayList<>();
+		for (String text : nameLike.split("\\s+")) {
+			if (StringUtils.isEmpty(text)) {
+				continue;
+			}
+			Word word = new Word(text);
+			if (!word.isIndexable()) {
+				return true;
+			}
+			words.add(word);
+		}
+
+		BitSet matching = null;
+		for (Word word : words) {
+			BitSet wordCandidates = getCandidates(word, threshold);
+			if (matching == null) {
+				matching = wordCandidates;
+			} else {
+				matching.and(wordCandidates);
+			}
+			if (matching.isEmpty()) {
+				return false;
+			}
+		}
+		if (matching == null) {
+			return true;
+		}
+
+		for (int i = matching.nextSetBit(0); i >= 0; i = matching.nextSetBit(i + 1)) {
+			Candidate candidate = candidates.get(i);
+			if (!candidate.replaced && matchesAttributes(candidate, criteria) && matchesWords(candidate, i, words, threshold)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private BitSet getCandidates(Word word, double threshold) {
+
+		BitSet result = new BitSet(candidates.size());
+
+		// a field containing the word contains each of its substrings, so the rarest one is sufficient
+		Postings substringPostings = null;
+		for (String substring : word.substrings) {
+			Postings postings = substrings.get(substring);
+			if (postings == null) {
+				// no field contains this substring
+				substringPostings = null;
+				break;
+			}
+			if (substringPostings == null || postings.size < substringPostings.size) {
+				substringPostings = postings;
+			}
+		}
+		if (substringPostings != null) {
+			substringPostings.addTo(result);
+		}
+		result.or(irregularCandidates);
+
+		// a name with a similarity >= threshold shares at least ceil(threshold * n) of the n trigrams of the word,
+		// so it has to contain one of the n - ceil(threshold * n) + 1 rarest trigrams
+		List<String> trigrams = new ArrayList<>(word.trigrams);
+		if (!trigrams.isEmpty()) {
+			trigrams.sort(Comparator.comparingInt(t -> nameTrigrams.containsKey(t) ? nameTrigrams.get(t).size : 0));
+			int requiredShared = Math.max(1, (int) Math.ceil(threshold * trigrams.size()));
+			for (String trigram : trigrams.subList(0, trigrams.size() - requiredShared + 1)) {
+				Postings postings = nameTrigrams.get(trigram);
+				if (postings != null) {
+					postings.addTo(result);
+				}
+			}
+		}
+
+		return result;
+	}
+
+	private boolean matchesWords(Candidate candidate, int index, List<Word> words, double threshold) {
+
+		for (Word word : words) {
+			if (!matchesWord(candidate, index, word, threshold)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean matchesWord(Candidate candidate, int index, Word word, double threshold) {
+
+		if (irregularCandidates.get(index)) {
+			return true;
+		}
+		for (String field : candidate.normalizedFields) {
+			if (field.contains(word.normalized)) {
+				return true;
+			}
+		}
+		return similarity(trigrams(candidate.firstNameLower), word.trigrams) >= threshold
+			|| similarity(trigrams(candidate.lastNameLower), word.trigrams) >= threshold;
+	}
+
+	/**
+	 * Same rules as {@link PersonService#buildSimilarityCriteriaFilter}: the passport number is an alternative to sex, birth date
+	 * and national health id.
+	 */
+	private static boolean matchesAttributes(Candidate candidate, PersonSimilarityCriteria criteria) {
+
+		boolean matchMissingInfo = Boolean.TRUE.equals(criteria.getMatchMissingInfo());
+
+		Boolean attributesMatch = null;
+		if (criteria.getSex() != null) {
+			attributesMatch = candidate.sex == null
+				|| candidate.sex == Sex.UNKNOWN
+				|| criteria.getSex() == Sex.UNKNOWN
+				|| candidate.sex == criteria.getSex();
+		}
+		if (criteria.getBirthdateYYYY() != null) {
+			attributesMatch = matches(attributesMatch, candidate.birthdateYYYY, criteria.getBirthdateYYYY(), matchMissingInfo);
+		}
+		if (criteria.getBirthdateMM() != null) {
+			attributesMatch = matches(attributesMatch, candidate.birthdateMM, criteria.getBirthdateMM(), matchMissingInfo);
+		}
+		if (criteria.getBirthdateDD() != null) {
+			attributesMatch = matches(attributesMatch, candidate.birthdateDD, criteria.getBirthdateDD(), matchMissingInfo);
+		}
+		if (StringUtils.isNotBlank(criteria.getNationalHealthId())) {
+			attributesMatch = matches(attributesMatch, candidate.nationalHealthId, criteria.getNationalHealthId(), matchMissingInfo);
+		}
+
+		if (StringUtils.isNotBlank(criteria.getPassportNumber())) {
+			boolean passportMatches = criteria.getPassportNumber().equals(candidate.passportNumber);
+			return passportMatches || Boolean.TRUE.equals(attributesMatch);
+		}
+		return attributesMatch == null || attributesMatch;
+	}
+
+	private static Boolean matches(Boolean previous, Object candidateValue, Object criteriaValue, boolean matchMissingInfo) {
+
+		boolean matches = criteriaValue.equals(candidateValue) || (!matchMissingInfo && candidateValue == null);
+		return (previous == null || previous) && matches;
+	}
+
+	/**
+	 * Trigrams as generated by pg_trgm: lower case words of letters and digits, padded with two spaces in front and one behind.
+	 */
+	static Set<String> trigrams(String lowerCaseText) {
+
+		Set<String> trigrams = new LinkedHashSet<>();
+		if (lowerCaseText == null) {
+			return trigrams;
+		}
+
+		int wordStart = -1;
+		for (int i = 0; i <= lowerCaseText.length(); i++) {
+			boolean wordChar = i < lowerCaseText.length() && Character.isLetterOrDigit(lowerCaseText.charAt(i));
+			if (wordChar && wordStart < 0) {
+				wordStart = i;
+			} else if (!wordChar && wordStart >= 0) {
+				String padded = "  " + lowerCaseText.substring(wordStart, i) + " ";
+				for (int j = 0; j + GRAM_LENGTH <= padded.length(); j++) {
+					trigrams.add(padded.substring(j, j + GRAM_LENGTH));
+				}
+				wordStart = -1;
+			}
+		}
+		return trigrams;
+	}
+
+	/**
+	 * Same as pg_trgm's similarity: the number of shared trigrams divided by the number of distinct trigrams of both texts.
+	 */
+	static double similarity(Set<String> trigrams, Set<String> otherTrigrams) {
+
+		if (trigrams.isEmpty() || otherTrigrams.isEmpty()) {
+			return 0;
+		}
+
+		int shared = 0;
+		for (String trigram : otherTrigrams) {
+			if (trigrams.contains(trigram)) {
+				shared++;
+			}
+		}
+		return (double) shared / (trigrams.size() + otherTrigrams.size() - shared);
+	}
+
+	/**
+	 * Approximates the database's unaccent and lower for comparisons with ilike.
+	 */
+	static String normalize(String text) {
+
+		if (text == null) {
+			return "";
+		}
+
+		String lowerCase = StringUtils.stripAccents(text).toLowerCase(Locale.ROOT);
+		StringBuilder normalized = new StringBuilder(lowerCase.length());
+		for (char c : lowerCase.toCharArray()) {
+			String replacement = UNACCENT_REPLACEMENTS.get(c);
+			if (replacement != null) {
+				normalized.append(replacement);
+			} else {
+				normalized.append(c);
+			}
+		}
+		return normalized.toString();
+	}
+
+	private static void addSubstrings(String text, Set<String> substrings) {
+
+		for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+			substrings.add(text.substring(i, i + GRAM_LENGTH));
+		}
+	}
+
+	private static boolean isAscii(String text) {
+		return text.chars().allMatch(c -> c < 0x80);
+	}
+
+	private static String toLowerCase(String text) {
+		return text != null ? text.toLowerCase(Locale.ROOT) : null;
+	}
+
+	private static final class Word {
+
+		private final String normalized;
+		private final Set<String> trigrams;
+		private final Set<String> substrings = new LinkedHashSet<>();
+
+		private Word(String text) {
+			normalized = normalize(text);
+			trigrams = trigrams(toLowerCase(text));
+			addSubstrings(normalized, substrings);
+		}
+
+		/**
+		 * Short words, words with like wildcards and words that can not be normalized like the database does can not be blocked.
+		 */
+		private boolean isIndexable() {
+			return normalized.length() >= GRAM_LENGTH && isAscii(normalized) && StringUtils.containsNone(normalized, '%', '_', '\\');
+		}
+	}
+
+	private static final class Postings {
+
+		private int[] indexes = new int[4];
+		private int size;
+
+		private void add(int index) {
+
+			if (size == indexes.length) {
+				indexes = Arrays.copyOf(indexes, size * 2);
+			}
+			indexes[size++] = index;
+		}
+
+		private void addTo(BitSet bitSet) {
+
+			for (int i = 0; i < size; i++) {
+				bitSet.set(indexes[i]);
+			}
+		}
+	}
+
+	public static final class Candidate {
+
+		private final Long id;
+		private final Date changeDate;
+		private final String firstNameLower;
+		private final String lastNameLower;
+		/**
+		 * First name, last name, UUID, internal token, external id and external token as compared by ilike.
+		 */
+		private final String[] normalizedFields;
+		private final Sex sex;
+		private final Integer birthdateYYYY;
+		private final Integer birthdateMM;
+		private final Integer birthdateDD;
+		private final String nationalHealthId;
+		private final String passportNumber;
+
+		private boolean replaced;
+
+		public Candidate(
+			Long id,
+			String uuid,
+			Date changeDate,
+			String firstName,
+			String lastName,
+			String internalToken,
+			String externalId,
+			String externalToken,
+			Sex sex,
+			Integer birthdateYYYY,
+			Integer birthdateMM,
+			Integer birthdateDD,
+			String nationalHealthId,
+			String passportNumber) {
+
+			this.id = id;
+			this.changeDate = changeDate;
+			this.firstNameLower = toLowerCase(firstName);
+			this.lastNameLower = toLowerCase(lastName);
+			this.normalizedFields = new String[] {
+				normalize(firstName),
+				normalize(lastName),
+				normalize(uuid),
+				normalize(internalToken),
+				normalize(externalId),
+				normalize(externalToken) };
+			this.sex = sex;
+			this.birthdateYYYY = birthdateYYYY;
+			this.birthdateMM = birthdateMM;
+			this.birthdateDD = birthdateDD;
+			this.nationalHealthId = nationalHealthId;
+			this.passportNumber = passportNumber;
+		}
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.ejb.ConcurrencyManagement;
+import javax.ejb.ConcurrencyManagementType;
+import javax.ejb.EJB;
+import javax.ejb.LocalBean;
+import javax.ejb.Schedule;
+import javax.ejb.Singleton;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.TransactionPhase;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.symeda.sormas.api.person.PersonSimilarityCriteria;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
+
+/**
+ * Keeps a {@link PersonDuplicateIndex} of all persons while data is imported, so the persons only have to be loaded once.
+ * <p>
+ * The index is shared by all users and contains every person, so a person that becomes visible to a user through a new case,
+ * contact or event participant is already indexed; the database check applies the user's filters. Persons are added again once
+ * the transaction that changed them is committed, so the index doesn't depend on change dates of transactions that are still
+ * running.
+ * <p>
+ * The persons are counted before they are loaded, and not loaded at all if there are more than
+ * {@link ConfigFacadeEjbLocal#getDuplicateChecksIndexMaxPersons()}. Checks that happen while the index is loaded use the
+ * database instead of waiting for it.
+ */
+@Singleton
+@LocalBean
+@ConcurrencyManagement(ConcurrencyManagementType.BEAN)
+public class PersonDuplicateIndexCache {
+
+	private static final long IDLE_TIMEOUT_MILLIS = 10 * 60 * 1000L;
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	/**
+	 * Persons changed by committed transactions that are not indexed yet.
+	 */
+	private final Queue<Long> changedPersonIds = new ConcurrentLinkedQueue<>();
+	/**
+	 * Whether changes have to be collected, because the index is loaded or being loaded.
+	 */
+	private volatile boolean collectChanges;
+	private volatile long lastAccess;
+
+	private final Object indexLock = new Object();
+	private IndexState indexState = IndexState.NOT_LOADED;
+	private PersonDuplicateIndex index;
+
+	@EJB
+	private PersonService personService;
+	@EJB
+	private ConfigFacadeEjbLocal configFacade;
+
+	private enum IndexState {
+		NOT_LOADED,
+		LOADING,
+		LOADED,
+		TOO_LARGE
+	}
+
+	/**
+	 * @return {@code false} if the current user certainly can not find a person similar to the criteria, {@code true} if the
+	 *         database has to be checked.
+	 */
+	public boolean mayHaveSimilarPersons(PersonSimilarityCriteria criteria) {
+
+		int maxPersons = configFacade.getDuplicateChecksIndexMaxPersons();
+		if (maxPersons <= 0) {
+			return true;
+		}
+
+		boolean load;
+		synchronized (indexLock) {
+			lastAccess = System.currentTimeMillis();
+			load = indexState == IndexState.NOT_LOADED;
+			if (load) {
+				// changes committed from now on are either loaded with the index or collected to be added afterwards
+				indexState = IndexState.LOADING;
+				collectChanges = true;
+				changedPersonIds.clear();
+			}
+		}
+		if (load) {
+			// other checks use the database while the index is loaded
+			loadIndex(maxPersons);
+		}
+
+		synchronized (indexLock) {
+			if (indexState != IndexState.LOADED) {
+				return true;
+			}
+
+			addChangedPersons();
+			if (index.size() > maxPersons) {
+				logger.info("More than {} persons for duplicate checks, checking in the database only", maxPersons);
+				discardIndex(IndexState.TOO_LARGE);
+				return true;
+			}
+
+			return index.mayHaveSimilarPersons(criteria, configFacade.getNameSimilarityThreshold());
+		}
+	}
+
+	public void onPersonChanged(@Observes(during = TransactionPhase.AFTER_SUCCESS) PersonChangeEvent event) {
+
+		if (collectChanges && event.getPersonId() != null) {
+			changedPersonIds.add(event.getPersonId());
+		}
+	}
+
+	private void loadIndex(int maxPersons) {
+
+		long startTime = System.currentTimeMillis();
+		PersonDuplicateIndex loadedIndex = null;
+		IndexState loadedState = IndexState.NOT_LOADED;
+		try {
+			// persons created in the meantime are still caught by the size check when the changes are added
+			if (personService.count() > maxPersons) {
+				logger.info("More than {} persons for duplicate checks, checking in the database only", maxPersons);
+				loadedState = IndexState.TOO_LARGE;
+			} else {
+				loadedIndex = new PersonDuplicateIndex();
+				personService.getDuplicateIndexCandidates(maxPersons + 1).forEach(loadedIndex::add);
+				logger.debug("Indexed {} persons for duplicate checks in {} ms", loadedIndex.size(), System.currentTimeMillis() - startTime);
+				loadedState = IndexState.LOADED;
+			}
+		} finally {
+			synchronized (indexLock) {
+				// the index may have been evicted in the meantime
+				if (indexState == IndexState.LOADING) {
+					if (loadedState == IndexState.LOADED) {
+						index = loadedIndex;
+						indexState = IndexState.LOADED;
+					} else {
+						discardIndex(loadedState);
+					}
+				}
+			}
+		}
+	}
+
+	private void addChangedPersons() {
+
+		List<Long> personIds = new ArrayList<>();
+		Long personId;
+		while ((personId = changedPersonIds.poll()) != null) {
+			personIds.add(personId);
+		}
+		if (!personIds.isEmpty()) {
+			// deleted persons are not found and stay in the index, which only leads to additional database checks
+			personService.getDuplicateIndexCandidatesByIds(personIds).forEach(index::add);
+		}
+	}
+
+	/**
+	 * Drops the index. It is not loaded again until the state is reset to {@link IndexState#NOT_LOADED}.
+	 */
+	private void discardIndex(IndexState newState) {
+
+		collectChanges = false;
+		changedPersonIds.clear();
+		index = null;
+		indexState = newState;
+	}
+
+	@Schedule(hour = "*", minute = "*/5", persistent = false)
+	public void evictIdleIndex() {
+
+		synchronized (indexLock) {
+			if (indexState != IndexState.NOT_LOADED && lastAccess < System.currentTimeMillis() - IDLE_TIMEOUT_MILLIS) {
+				discardIndex(IndexState.NOT_LOADED);
+			}
+		}
+	}
+}
@@ -253,6 +253,8 @@ public class PersonFacadeEjb extends AbstractBaseEjb<Person, PersonDto, PersonIn
 	private EventService eventService;
 	@EJB
 	private SampleService sampleService;
+	@EJB
+	private PersonDuplicateIndexCache personDuplicateIndexCache;
 
 	public PersonFacadeEjb() {
 	}
@@ -1776,6 +1778,11 @@ public class PersonFacadeEjb extends AbstractBaseEjb<Person, PersonDto, PersonIn
 
 		PersonSimilarityCriteria criteria = PersonSimilarityCriteria.forPerson(referencePerson);
 
+		// used by imports: most imported persons have no duplicate, so they are ruled out without querying the database
+		if (!personDuplicateIndexCache.mayHaveSimilarPersons(criteria)) {
+			return false;
+		}
+
 		return checkMatchingNameInDatabase(userFacade.getCurrentUser().toReference(), criteria);
 	}
 
@@ -665,6 +665,62 @@ public class PersonService extends AdoServiceWithUserFilterAndJurisdiction<Perso
 		return persons.stream().filter(p -> personsInJurisdiction.contains(p.getId())).map(this::toSimilarPersonDto).collect(Collectors.toList());
 	}
 
+	/**
+	 * @return All persons, as candidates for {@link #getSimilarPersonDtos(Integer, PersonSimilarityCriteria)} regardless of the
+	 *         associations and the jurisdiction of the current user.
+	 */
+	public List<PersonDuplicateIndex.Candidate> getDuplicateIndexCandidates(int maxResults) {
+
+		final CriteriaBuilder cb = em.getCriteriaBuilder();
+		final CriteriaQuery<PersonDuplicateIndex.Candidate> cq = cb.createQuery(PersonDuplicateIndex.Candidate.class);
+		final Root<Person> personRoot = cq.from(Person.class);
+
+		selectDuplicateIndexCandidate(cb, cq, personRoot);
+
+		return em.createQuery(cq).setMaxResults(maxResults).getResultList();
+	}
+
+	public List<PersonDuplicateIndex.Candidate> getDuplicateIndexCandidatesByIds(List<Long> personIds) {
+
+		List<PersonDuplicateIndex.Candidate> candidates = new ArrayList<>();
+		IterableHelper.executeBatched(personIds, ModelConstants.PARAMETER_LIMIT, batchedPersonIds -> {
+			final CriteriaBuilder cb = em.getCriteriaBuilder();
+			final CriteriaQuery<PersonDuplicateIndex.Candidate> cq = cb.createQuery(PersonDuplicateIndex.Candidate.class);
+			final Root<Person> personRoot = cq.from(Person.class);
+
+			selectDuplicateIndexCandidate(cb, cq, personRoot);
+			cq.where(personRoot.get(Person.ID).in(batchedPersonIds));
+
+			candidates.addAll(em.createQuery(cq).getResultList());
+		});
+
+		return candidates;
+	}
+
+	private void selectDuplicateIndexCandidate(
+		CriteriaBuilder cb,
+		CriteriaQuery<PersonDuplicateIndex.Candidate> cq,
+		Root<Person> personRoot) {
+
+		cq.select(
+			cb.construct(
+				PersonDuplicateIndex.Candidate.class,
+				personRoot.get(Person.ID),
+				personRoot.get(Person.UUID),
+				personRoot.get(Person.CHANGE_DATE),
+				personRoot.get(Person.FIRST_NAME),
+				personRoot.get(Person.LAST_NAME),
+				personRoot.get(Person.INTERNAL_TOKEN),
+				personRoot.get(Person.EXTERNAL_ID),
+				personRoot.get(Person.EXTERNAL_TOKEN),
+				personRoot.get(Person.SEX),
+				personRoot.get(Person.BIRTHDATE_YYYY),
+				personRoot.get(Person.BIRTHDATE_MM),
+				personRoot.get(Person.BIRTHDATE_DD),
+				personRoot.get(Person.NATIONAL_HEALTH_ID),
+				personRoot.get(Person.PASSPORT_NUMBER)));
+	}
+
 	private Predicate buildAssociationFilter(PersonQueryContext queryContext, boolean activeEntriesOnly) {
 
 		CriteriaBuilder cb = queryContext.getCriteriaBuilder();
@@ -22,13 +22,16 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.ejb.EJB;
 import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
 import javax.ejb.TransactionAttribute;
 import javax.ejb.TransactionAttributeType;
+import javax.persistence.Tuple;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.CriteriaUpdate;
@@ -37,6 +40,7 @@ import javax.persistence.criteria.From;
 import javax.persistence.criteria.Join;
 import javax.persistence.criteria.JoinType;
 import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
@@ -179,6 +183,34 @@ public class PathogenTestService extends AbstractDeletableAdoService<PathogenTes
 		return em.createQuery(cq).getResultList();
 	}
 
+	/**
+	 * @return The pathogen tests of the given cases by case uuid, ordered like {@link #getAllByCase(String)}.
+	 */
+	public Map<String, List<PathogenTest>> getAllByCases(List<String> caseUuids) {
+
+		Map<String, List<PathogenTest>> pathogenTestsByCase = new HashMap<>();
+		if (caseUuids.isEmpty()) {
+			return pathogenTestsByCase;
+		}
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+		Root<PathogenTest> from = cq.from(getElementClass());
+
+		Join<Object, Object> sampleJoin = from.join(PathogenTest.SAMPLE);
+		Path<String> caseUuid = sampleJoin.join(Sample.ASSOCIATED_CASE).get(Case.UUID);
+
+		cq.multiselect(caseUuid, from);
+		cq.where(cb.and(createDefaultFilter(cb, from), caseUuid.in(caseUuids)));
+		cq.orderBy(cb.desc(from.get(PathogenTest.TEST_DATE_TIME)));
+
+		for (Tuple result : em.createQuery(cq).getResultList()) {
+			pathogenTestsByCase.computeIfAbsent(result.get(0, String.class), k -> new ArrayList<>()).add(result.get(1, PathogenTest.class));
+		}
+
+		return pathogenTestsByCase;
+	}
+
 	public Long countByCase(Case caze) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
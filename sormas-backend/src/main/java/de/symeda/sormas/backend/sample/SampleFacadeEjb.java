@@ -510,11 +510,16 @@ public class SampleFacadeEjb implements SampleFacade {
 		}
 	}
 
+	/**
+	 * @param first
+	 *            Offset of the batch; if {@code null}, the batch after the sample with {@code lastId} is fetched in descending id order.
+	 */
 	private List<SampleExportDto> getExportList(
 		SampleCriteria sampleCriteria,
 		CaseCriteria caseCriteria,
 		Collection<String> selectedRows,
-		int first,
+		Integer first,
+		Long lastId,
 		int max) {
 
 		CriteriaBuilder cb = em.getCriteriaBuilder();
@@ -649,7 +654,9 @@ public class SampleFacadeEjb implements SampleFacade {
 
 		cq.orderBy(cb.desc(sampleRoot.get(Sample.REPORT_DATE_TIME)), cb.desc(sampleRoot.get(AbstractDomainObject.ID)));
 
-		List<SampleExportDto> resultList = QueryHelper.getResultList(em, cq, first, max);
+		List<SampleExportDto> resultList = first != null
+			? QueryHelper.getResultList(em, cq, first, max)
+			: QueryHelper.getResultListAfterId(em, cq, sampleRoot.get(AbstractDomainObject.ID), lastId, max);
 
 		for (SampleExportDto exportDto : resultList) {
 			Sample sampleFromExportDto = sampleService.getById(exportDto.getId());
@@ -718,13 +725,25 @@ public class SampleFacadeEjb implements SampleFacade {
 	@Override
 	@RightsAllowed(UserRight._SAMPLE_EXPORT)
 	public List<SampleExportDto> getExportList(SampleCriteria criteria, Collection<String> selectedRows, int first, int max) {
-		return getExportList(criteria, null, selectedRows, first, max);
+		return getExportList(criteria, null, selectedRows, first, null, max);
 	}
 
 	@Override
 	@RightsAllowed(UserRight._SAMPLE_EXPORT)
 	public List<SampleExportDto> getExportList(CaseCriteria criteria, Collection<String> selectedRows, int first, int max) {
-		return getExportList(null, criteria, selectedRows, first, max);
+		return getExportList(null, criteria, selectedRows, first, null, max);
+	}
+
+	@Override
+	@RightsAllowed(UserRight._SAMPLE_EXPORT)
+	public List<SampleExportDto> getExportListAfter(SampleCriteria criteria, Collection<String> selectedRows, Long lastId, int max) {
+		return getExportList(criteria, null, selectedRows, null, lastId, max);
+	}
+
+	@Override
+	@RightsAllowed(UserRight._SAMPLE_EXPORT)
+	public List<SampleExportDto> getExportListAfter(CaseCriteria criteria, Collection<String> selectedRows, Long lastId, int max) {
+		return getExportList(null, criteria, selectedRows, null, lastId, max);
 	}
 
 	@Override
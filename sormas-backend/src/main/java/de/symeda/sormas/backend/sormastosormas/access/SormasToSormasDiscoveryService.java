@@ -17,6 +17,8 @@ package de.symeda.sormas.backend.sormastosormas.access;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -34,6 +36,13 @@ public class SormasToSormasDiscoveryService {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(SormasToSormasDiscoveryService.class);
 
+	private static final long DESCRIPTOR_TTL_MILLIS = 60000;
+
+	/**
+	 * Descriptors change rarely, but are needed several times for every request sent to another server.
+	 */
+	private static final Map<String, CachedDescriptor> DESCRIPTORS_BY_KEY = new ConcurrentHashMap<>();
+
 	private final SormasToSormasFacadeEjb.SormasToSormasFacadeEjbLocal sormasToSormasFacadeEjb;
 
 	private final ConfigFacadeEjbLocal configFacadeEjb;
@@ -57,7 +66,19 @@ public class SormasToSormasDiscoveryService {
 
 		try {
 			String key = String.format(configFacadeEjb.getS2SConfig().getKeyPrefixTemplate(), id);
+
+			long now = System.currentTimeMillis();
+			CachedDescriptor cachedDescriptor = DESCRIPTORS_BY_KEY.get(key);
+			if (cachedDescriptor != null && now < cachedDescriptor.expiresAt) {
+				return cachedDescriptor.descriptor;
+			}
+
 			SormasServerDescriptor descriptor = centralClient.get(key, SormasServerDescriptor.class);
+			if (descriptor != null) {
+				DESCRIPTORS_BY_KEY.put(key, new CachedDescriptor(descriptor, now + DESCRIPTOR_TTL_MILLIS));
+			} else {
+				DESCRIPTORS_BY_KEY.remove(key);
+			}
 
 			LOGGER.info("Fetched SormasServerDescriptor for {}.", id);
 			return descriptor;
@@ -93,4 +114,14 @@ public class SormasToSormasDiscoveryService {
 		}
 	}
 
+	private static final class CachedDescriptor {
+
+		private final SormasServerDescriptor descriptor;
+		private final long expiresAt;
+
+		private CachedDescriptor(SormasServerDescriptor descriptor, long expiresAt) {
+			this.descriptor = descriptor;
+			this.expiresAt = expiresAt;
+		}
+	}
 }
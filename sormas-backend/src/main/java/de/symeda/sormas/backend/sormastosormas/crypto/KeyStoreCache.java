@@ -0,0 +1,95 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.sormastosormas.crypto;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.UnrecoverableKeyException;
+import java.security.cert.CertificateException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps loaded PKCS12 key stores and their unlocked private keys, because loading and unlocking them is expensive.
+ * A key store is loaded again when its file has been modified.
+ */
+class KeyStoreCache {
+
+	private final Map<Path, CachedKeyStore> keyStores = new ConcurrentHashMap<>();
+
+	KeyStore getKeyStore(Path path, String password) throws KeyStoreException, IOException, NoSuchAlgorithmException, CertificateException {
+		return getCachedKeyStore(path, password).keyStore;
+	}
+
+	/**
+	 * @return The private key stored for the alias, unlocked with the key store password or {@code null}, if there is none.
+	 */
+	PrivateKey getPrivateKey(Path path, String password, String alias)
+		throws KeyStoreException, IOException, NoSuchAlgorithmException, CertificateException, UnrecoverableKeyException {
+
+		CachedKeyStore cachedKeyStore = getCachedKeyStore(path, password);
+
+		PrivateKey privateKey = cachedKeyStore.privateKeys.get(alias);
+		if (privateKey == null) {
+			privateKey = (PrivateKey) cachedKeyStore.keyStore.getKey(alias, password.toCharArray());
+			if (privateKey != null) {
+				cachedKeyStore.privateKeys.put(alias, privateKey);
+			}
+		}
+		return privateKey;
+	}
+
+	private CachedKeyStore getCachedKeyStore(Path path, String password)
+		throws KeyStoreException, IOException, NoSuchAlgorithmException, CertificateException {
+
+		FileTime lastModified = Files.getLastModifiedTime(path);
+
+		CachedKeyStore cachedKeyStore = keyStores.get(path);
+		if (cachedKeyStore == null
+			|| !cachedKeyStore.lastModified.equals(lastModified)
+			|| !Objects.equals(cachedKeyStore.password, password)) {
+			KeyStore keyStore = KeyStore.getInstance("pkcs12");
+			try (BufferedInputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+				keyStore.load(in, password.toCharArray());
+			}
+			cachedKeyStore = new CachedKeyStore(lastModified, password, keyStore);
+			keyStores.put(path, cachedKeyStore);
+		}
+		return cachedKeyStore;
+	}
+
+	private static final class CachedKeyStore {
+
+		private final FileTime lastModified;
+		private final String password;
+		private final KeyStore keyStore;
+		private final Map<String, PrivateKey> privateKeys = new ConcurrentHashMap<>();
+
+		private CachedKeyStore(FileTime lastModified, String password, KeyStore keyStore) {
+			this.lastModified = lastModified;
+			this.password = password;
+			this.keyStore = keyStore;
+		}
+	}
+}
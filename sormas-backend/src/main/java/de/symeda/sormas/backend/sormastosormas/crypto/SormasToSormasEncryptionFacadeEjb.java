@@ -14,11 +14,9 @@
  */
 package de.symeda.sormas.backend.sormastosormas.crypto;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.InvalidKeyException;
@@ -70,6 +68,9 @@ import de.symeda.sormas.backend.sormastosormas.rest.SormasToSormasRestClient;
 public class SormasToSormasEncryptionFacadeEjb implements SormasToSormasEncryptionFacade {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(SormasToSormasEncryptionFacadeEjb.class);
+
+	private static final KeyStoreCache KEY_STORE_CACHE = new KeyStoreCache();
+
 	private final ObjectMapper objectMapper;
 
 	@EJB
@@ -99,13 +100,11 @@ public class SormasToSormasEncryptionFacadeEjb implements SormasToSormasEncrypti
 	}
 
 	private KeyStore loadStore(String name, String password) throws KeyStoreException, IOException, NoSuchAlgorithmException, CertificateException {
-		String filePath = configFacadeEjb.getS2SConfig().getPath();
-		Path storePath = Paths.get(filePath, name);
-		KeyStore store = KeyStore.getInstance("pkcs12");
-		try (BufferedInputStream in = new BufferedInputStream(Files.newInputStream(storePath))) {
-			store.load(in, password.toCharArray());
-		}
-		return store;
+		return KEY_STORE_CACHE.getKeyStore(getStorePath(name), password);
+	}
+
+	private Path getStorePath(String name) {
+		return Paths.get(configFacadeEjb.getS2SConfig().getPath(), name);
 	}
 
 	@Override
@@ -124,9 +123,11 @@ public class SormasToSormasEncryptionFacadeEjb implements SormasToSormasEncrypti
 
 	private PrivateKey loadOwnPrivateKey()
 		throws CertificateException, KeyStoreException, IOException, NoSuchAlgorithmException, UnrecoverableKeyException {
-		KeyStore keystore = getKeystore();
 		SormasToSormasConfig sormasToSormasConfig = configFacadeEjb.getS2SConfig();
-		PrivateKey privKey = (PrivateKey) keystore.getKey(sormasToSormasConfig.getId(), sormasToSormasConfig.getKeystorePass().toCharArray());
+		PrivateKey privKey = KEY_STORE_CACHE.getPrivateKey(
+			getStorePath(sormasToSormasConfig.getKeystoreName()),
+			sormasToSormasConfig.getKeystorePass(),
+			sormasToSormasConfig.getId());
 		if (privKey == null) {
 			LOGGER.error("Could not load private key.");
 			throw new KeyStoreException("Unable to load private key.");
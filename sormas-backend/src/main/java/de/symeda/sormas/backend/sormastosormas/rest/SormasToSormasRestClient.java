@@ -19,12 +19,14 @@ import static de.symeda.sormas.api.sormastosormas.SormasToSormasApiConstants.SOR
 
 import java.io.IOException;
 import java.net.ConnectException;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import javax.ws.rs.HttpMethod;
 import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.client.ResponseProcessingException;
@@ -33,6 +35,7 @@ import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriBuilder;
 
 import org.apache.http.HttpStatus;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,7 +56,7 @@ import de.symeda.sormas.api.sormastosormas.validation.ValidationErrors;
 import de.symeda.sormas.backend.common.ConfigFacadeEjb;
 import de.symeda.sormas.backend.sormastosormas.access.SormasToSormasDiscoveryService;
 import de.symeda.sormas.backend.sormastosormas.crypto.SormasToSormasEncryptionFacadeEjb.SormasToSormasEncryptionFacadeEjbLocal;
-import de.symeda.sormas.backend.sormastosormas.rest.auth.Oidc;
+import de.symeda.sormas.backend.sormastosormas.rest.auth.AccessTokenCache;
 import de.symeda.sormas.backend.util.ClientHelper;
 
 /**
@@ -66,6 +69,17 @@ public class SormasToSormasRestClient {
 	public static final String SORMAS_REST_URL_TEMPLATE = "https://%s" + SORMAS_REST_PATH + "%s";
 	private static final Logger LOGGER = LoggerFactory.getLogger(SormasToSormasRestClient.class);
 
+	private static final int MAX_CONNECTIONS_PER_SERVER = 10;
+	private static final int MAX_CONNECTIONS = 50;
+	private static final long CONNECTION_TTL_SECONDS = 60;
+
+	/**
+	 * Shared by all instances, so connections to the other servers are kept alive and TLS handshakes are not repeated for every
+	 * request.
+	 */
+	private static Client client;
+	private static final AccessTokenCache ACCESS_TOKEN_CACHE = new AccessTokenCache();
+
 	private final SormasToSormasDiscoveryService sormasToSormasDiscoveryService;
 	private final SormasToSormasEncryptionFacadeEjbLocal sormasToSormasEncryptionEjb;
 	private final ConfigFacadeEjb.ConfigFacadeEjbLocal configFacadeEjb;
@@ -104,19 +118,33 @@ public class SormasToSormasRestClient {
 		String authToken;
 		try {
 			SormasToSormasConfig sormasToSormasConfig = configFacadeEjb.getS2SConfig();
-			authToken = Oidc.requestAccessToken(
+			authToken = ACCESS_TOKEN_CACHE.getAccessToken(
 				sormasToSormasConfig.getOidcRealmTokenEndpoint(),
 				sormasToSormasConfig.getOidcClientId(),
 				sormasToSormasConfig.getOidcClientSecret(),
-				Collections.singletonList(scope));
+				scope);
 		} catch (Exception e) {
 			LOGGER.info("Could not requested access token for {}: {}", targetId, e);
 			throw SormasToSormasException.fromStringProperty(Strings.errorSormasToSormasRequestToken);
 		}
-		LOGGER.info(String.format("Successfully requested access token for %s", targetId));
 		return String.format("Bearer %s", authToken);
 	}
 
+	private static synchronized Client getClient() {
+
+		if (client == null) {
+			ClientBuilder clientBuilder = ClientHelper.newBuilderWithProxy();
+			if (clientBuilder instanceof ResteasyClientBuilder) {
+				// the default RESTEasy client only has a single connection and can't be used by several threads
+				((ResteasyClientBuilder) clientBuilder).connectionPoolSize(MAX_CONNECTIONS)
+					.maxPooledPerRoute(MAX_CONNECTIONS_PER_SERVER)
+					.connectionTTL(CONNECTION_TTL_SECONDS, TimeUnit.SECONDS);
+			}
+			client = clientBuilder.build();
+		}
+		return client;
+	}
+
 	private Invocation.Builder buildRestClient(String receiverId, String endpoint) throws SormasToSormasException {
 		SormasServerDescriptor targetServerDescriptor = sormasToSormasDiscoveryService.getSormasServerDescriptorById(receiverId);
 		if (targetServerDescriptor == null) {
@@ -126,9 +154,7 @@ public class SormasToSormasRestClient {
 		String host = targetServerDescriptor.getHostName();
 		String authToken = buildAuthToken(targetServerDescriptor.getId());
 
-		return ClientHelper.newBuilderWithProxy()
-			.build()
-			.target(String.format(SORMAS_REST_URL_TEMPLATE, host, endpoint))
+		return getClient().target(String.format(SORMAS_REST_URL_TEMPLATE, host, endpoint))
 			.request()
 			.header("Authorization", authToken);
 	}
@@ -182,6 +208,15 @@ public class SormasToSormasRestClient {
 	}
 
 	private <T> T handleResponse(Response response, Class<T> responseType) throws SormasToSormasException {
+		try {
+			return readResponse(response, responseType);
+		} finally {
+			// release the connection to the pool, also when the entity is not read
+			response.close();
+		}
+	}
+
+	private <T> T readResponse(Response response, Class<T> responseType) throws SormasToSormasException {
 		int statusCode = response.getStatus();
 		if (statusCode != HttpStatus.SC_NO_CONTENT && statusCode != HttpStatus.SC_OK) {
 			String errorMessage = response.readEntity(String.class);
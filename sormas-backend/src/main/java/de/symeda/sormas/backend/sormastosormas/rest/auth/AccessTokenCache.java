@@ -0,0 +1,85 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.sormastosormas.rest.auth;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import com.google.api.client.auth.oauth2.TokenResponse;
+
+/**
+ * Keeps OIDC access tokens until shortly before they expire, so not every request has to request a new token.
+ * Tokens without an expiry are not cached.
+ */
+public class AccessTokenCache {
+
+	/**
+	 * Tokens are requested again this long before they expire, so they are still valid when the request arrives.
+	 */
+	static final long REFRESH_AHEAD_MILLIS = 30000;
+
+	private final Map<String, CachedToken> tokens = new ConcurrentHashMap<>();
+	private final TokenRequester tokenRequester;
+	private final LongSupplier clock;
+
+	public AccessTokenCache() {
+		this(Oidc::requestToken, System::currentTimeMillis);
+	}
+
+	AccessTokenCache(TokenRequester tokenRequester, LongSupplier clock) {
+		this.tokenRequester = tokenRequester;
+		this.clock = clock;
+	}
+
+	public String getAccessToken(String tokenEndpoint, String clientId, String clientSecret, String scope) throws Exception {
+
+		String key = String.join("|", tokenEndpoint, clientId, scope);
+		long now = clock.getAsLong();
+
+		CachedToken cachedToken = tokens.get(key);
+		if (cachedToken != null && now < cachedToken.refreshAt) {
+			return cachedToken.accessToken;
+		}
+
+		TokenResponse response = tokenRequester.requestToken(tokenEndpoint, clientId, clientSecret, Collections.singletonList(scope));
+		if (response.getExpiresInSeconds() != null) {
+			tokens.put(key, new CachedToken(response.getAccessToken(), now + response.getExpiresInSeconds() * 1000 - REFRESH_AHEAD_MILLIS));
+		} else {
+			tokens.remove(key);
+		}
+		return response.getAccessToken();
+	}
+
+	@FunctionalInterface
+	interface TokenRequester {
+
+		TokenResponse requestToken(String tokenEndpoint, String clientId, String clientSecret, List<String> scopes) throws Exception;
+	}
+
+	private static final class CachedToken {
+
+		private final String accessToken;
+		private final long refreshAt;
+
+		private CachedToken(String accessToken, long refreshAt) {
+			this.accessToken = accessToken;
+			this.refreshAt = refreshAt;
+		}
+	}
+}
@@ -17,11 +17,22 @@ public class Oidc {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(Oidc.class);
 
+	// thread-safe, shared to reuse connections to the token endpoint
+	private static final NetHttpTransport HTTP_TRANSPORT = new NetHttpTransport();
+	private static final GsonFactory JSON_FACTORY = new GsonFactory();
+
 	public static String requestAccessToken(String tokenEndpoint, String clientId, String clientSecret, List<String> scopes) throws Exception {
+		return requestToken(tokenEndpoint, clientId, clientSecret, scopes).getAccessToken();
+	}
+
+	/**
+	 * @return The token response with a non-empty access token.
+	 */
+	public static TokenResponse requestToken(String tokenEndpoint, String clientId, String clientSecret, List<String> scopes) throws Exception {
 		ClientParametersAuthentication clientAuth = new ClientParametersAuthentication(clientId, clientSecret);
 		try {
 			LOGGER.info(String.format("Requesting access token for client %s at %s with scope: %s", clientId, tokenEndpoint, scopes));
-			TokenResponse response = new ClientCredentialsTokenRequest(new NetHttpTransport(), new GsonFactory(), new GenericUrl(tokenEndpoint))
+			TokenResponse response = new ClientCredentialsTokenRequest(HTTP_TRANSPORT, JSON_FACTORY, new GenericUrl(tokenEndpoint))
 				.setClientAuthentication(clientAuth)
 				.setScopes(scopes)
 				.execute();
@@ -31,7 +42,7 @@ public class Oidc {
 				LOGGER.error("Could not retrieve access token.");
 				throw new Exception("Could not retrieve access token.");
 			}
-			return token;
+			return response;
 		} catch (IOException e) {
 			LOGGER.error("Unable to connect to Keycloak.", e);
 			throw e;
@@ -21,10 +21,14 @@ import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 import javax.ejb.EJB;
@@ -85,7 +89,9 @@ import de.symeda.sormas.backend.travelentry.services.TravelEntryService;
 import de.symeda.sormas.backend.user.User;
 import de.symeda.sormas.backend.user.UserRole;
 import de.symeda.sormas.backend.user.UserService;
+import de.symeda.sormas.backend.util.IterableHelper;
 import de.symeda.sormas.backend.util.JurisdictionHelper;
+import de.symeda.sormas.backend.util.ModelConstants;
 
 @Stateless
 @LocalBean
@@ -643,13 +649,25 @@ public class TaskService extends AdoServiceWithUserFilterAndJurisdiction<Task>
 
 	public User getTaskAssignee(Contact contact) throws TaskCreationException {
 
+		return getTaskAssignee(
+			contact,
+			district -> userService.getRandomDistrictUser(district, UserRight.CONTACT_RESPONSIBLE),
+			region -> userService.getRandomRegionUser(region, UserRight.CONTACT_RESPONSIBLE));
+	}
+
+	/**
+	 * Same as {@link #getTaskAssignee(Contact)}, but the random users with user right CONTACT_RESPONSIBLE are picked by the
+	 * given functions, so bulk operations can reuse the candidates of a district or region.
+	 */
+	public User getTaskAssignee(Contact contact, Function<District, User> lookupByDistrict, Function<Region, User> lookupByRegion)
+		throws TaskCreationException {
+
 		User assignee = null;
 		if (contact.getContactOfficer() != null) {
 			// 1) The contact officer that is responsible for the contact
 			assignee = contact.getContactOfficer();
 		} else {
 			// 2) A random user with user right CONTACT_RESPONSIBLE from the contact's, contact person's or contact case's district
-			Function<District, User> lookupByDistrict = district -> userService.getRandomDistrictUser(district, UserRight.CONTACT_RESPONSIBLE);
 			if (contact.getDistrict() != null) {
 				assignee = lookupByDistrict.apply(contact.getDistrict());
 			}
@@ -668,7 +686,6 @@ public class TaskService extends AdoServiceWithUserFilterAndJurisdiction<Task>
 
 		if (assignee == null) {
 			// 3) Assign a random user with user right CONTACT_RESPONSIBLE from the contact's, contact person's or contact case's region
-			Function<Region, User> lookupByRegion = region -> userService.getRandomRegionUser(region, UserRight.CONTACT_RESPONSIBLE);
 			if (contact.getRegion() != null) {
 				assignee = lookupByRegion.apply(contact.getRegion());
 			}
@@ -726,6 +743,59 @@ public class TaskService extends AdoServiceWithUserFilterAndJurisdiction<Task>
 		return em.createQuery(cq).getResultList();
 	}
 
+	/**
+	 * Set-based variant of {@link #findByAssigneeContactTypeAndStatuses} for many contacts.
+	 * 
+	 * @return The ids of the users that are assigned to a task of the given type and status, by contact id.
+	 */
+	public Map<Long, Set<Long>> getAssigneeIdsByContactIds(Collection<Long> contactIds, TaskType type, TaskStatus... statuses) {
+
+		Map<Long, Set<Long>> assigneeIds = new HashMap<>();
+		IterableHelper.executeBatched(new ArrayList<>(contactIds), ModelConstants.PARAMETER_LIMIT, batchedIds -> {
+			final CriteriaBuilder cb = em.getCriteriaBuilder();
+			final CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+			final Root<Task> from = cq.from(getElementClass());
+
+			cq.multiselect(from.get(Task.CONTACT).get(Contact.ID), from.get(Task.ASSIGNEE_USER).get(User.ID));
+			cq.where(
+				from.get(Task.CONTACT).get(Contact.ID).in(batchedIds),
+				cb.equal(from.get(Task.TASK_TYPE), type),
+				from.get(Task.TASK_STATUS).in(Arrays.asList(statuses)));
+
+			for (Object[] result : em.createQuery(cq).getResultList()) {
+				assigneeIds.computeIfAbsent((Long) result[0], k -> new HashSet<>()).add((Long) result[1]);
+			}
+		});
+
+		return assigneeIds;
+	}
+
+	/**
+	 * @return The ids of the contacts that have a task of the given type with a due date in [{@code dueDateFrom},
+	 *         {@code dueDateTo}).
+	 */
+	public Set<Long> getContactIdsWithTaskDueBetween(Collection<Long> contactIds, TaskType type, Date dueDateFrom, Date dueDateTo) {
+
+		Set<Long> result = new HashSet<>();
+		IterableHelper.executeBatched(new ArrayList<>(contactIds), ModelConstants.PARAMETER_LIMIT, batchedIds -> {
+			final CriteriaBuilder cb = em.getCriteriaBuilder();
+			final CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+			final Root<Task> from = cq.from(getElementClass());
+
+			cq.select(from.get(Task.CONTACT).get(Contact.ID));
+			cq.where(
+				from.get(Task.CONTACT).get(Contact.ID).in(batchedIds),
+				cb.equal(from.get(Task.TASK_TYPE), type),
+				cb.greaterThanOrEqualTo(from.get(Task.DUE_DATE), dueDateFrom),
+				cb.lessThan(from.get(Task.DUE_DATE), dueDateTo));
+			cq.distinct(true);
+
+			result.addAll(em.createQuery(cq).getResultList());
+		});
+
+		return result;
+	}
+
 	@TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
 	public void updateArchived(List<String> taskUuids, boolean archived) {
 
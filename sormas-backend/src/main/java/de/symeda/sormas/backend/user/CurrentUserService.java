@@ -7,6 +7,8 @@ import javax.ejb.LocalBean;
 import javax.ejb.SessionContext;
 import javax.ejb.Stateless;
 import javax.enterprise.context.RequestScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.TransactionPhase;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.persistence.TypedQuery;
@@ -33,9 +35,11 @@ public class CurrentUserService {
 	private EntityManager em;
 
 	private final UserCache userCache;
+	private final UserRightsCache userRightsCache;
 
 	public CurrentUserService() {
 		this.userCache = UserCache.getInstance();
+		this.userRightsCache = UserRightsCache.getInstance();
 	}
 
 	/**
@@ -75,22 +79,54 @@ public class CurrentUserService {
 		// this only works for user rights that are used in RolesAllowed or DeclareRoles annotations.
 		// return context.isCallerInRole(userRight.name());
 		// We don't want to have to do this for all the user rights, so we check against the user rights of the current user instead
-		if (getCurrentUser() == null || getCurrentUser().getUserRoles() == null) {
-			return false;
-		}
-
-		return getCurrentUser().hasUserRight(userRight); // todo cache this?
+		UserRightsCache.UserRights currentUserRights = getCurrentUserRights();
+		return currentUserRights != null && currentUserRights.hasUserRight(userRight);
 	}
 
 	public boolean hasAnyUserRight(Set<UserRight> userRights) {
 		// this only works for user rights that are used in RolesAllowed or DeclareRoles annotations.
 		// return context.isCallerInRole(userRight.name());
 		// We don't want to have to do this for all the user rights, so we check against the user rights of the current user instead
-		if (getCurrentUser() == null || getCurrentUser().getUserRoles() == null) {
-			return false;
+		UserRightsCache.UserRights currentUserRights = getCurrentUserRights();
+		return currentUserRights != null && currentUserRights.hasAnyUserRight(userRights);
+	}
+
+	private UserRightsCache.UserRights getCurrentUserRights() {
+		final String currentUsername = context.getCallerPrincipal().getName();
+
+		if (currentUsername == null) {
+			return null;
+		}
+
+		UserRightsCache.UserRights cachedUserRights = userRightsCache.get(currentUsername);
+		if (cachedUserRights != null) {
+			return cachedUserRights;
 		}
 
-		return getCurrentUser().hasAnyUserRight(userRights);
+		final User currentUser = getCurrentUser();
+		if (currentUser == null || currentUser.getUserRoles() == null) {
+			return null;
+		}
+
+		final UserRightsCache.UserRights currentUserRights = new UserRightsCache.UserRights(currentUser.getUserRoles());
+		userRightsCache.put(currentUsername, currentUserRights);
+		return currentUserRights;
+	}
+
+	/**
+	 * Drops the cached rights when the transaction that changed a user or a user role has completed. Until then, other
+	 * transactions can't see the change, so rights cached by them in the meantime would be outdated. The cached users are dropped
+	 * as well, because the rights are built from their user roles.
+	 */
+	public void onUserRightsChanged(@Observes(during = TransactionPhase.AFTER_COMPLETION) UserRightsChangeEvent event) {
+
+		if (event.getUserName() != null) {
+			userCache.remove(event.getUserName());
+			userRightsCache.remove(event.getUserName());
+		} else {
+			userCache.flush();
+			userRightsCache.flush();
+		}
 	}
 
 	// We need a clean transaction as we do not want call potential entity listeners which would lead to recursion
@@ -23,6 +23,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Set;
 
+import javax.enterprise.inject.spi.CDI;
 import javax.persistence.Cacheable;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
@@ -36,6 +37,7 @@ import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
 import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
 import javax.persistence.PostUpdate;
 import javax.persistence.PrePersist;
 import javax.persistence.PreUpdate;
@@ -394,8 +396,10 @@ public class User extends AbstractDomainObject {
 
 		@PostPersist
 		@PostUpdate
+		@PostRemove
 		private void afterAnyUpdate(User user) {
 			UserCache.getInstance().remove(user.getUserName());
+			CDI.current().getBeanManager().getEvent().fire(new UserRightsChangeEvent(user.getUserName()));
 		}
 	}
 }
@@ -0,0 +1,97 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.user;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import de.symeda.sormas.api.user.UserRight;
+
+/**
+ * Keeps the effective user rights of recently active users, so the user roles don't have to be walked for every rights check.
+ * The least recently used entries are evicted once {@link #MAX_SIZE} users are cached. Changed entries are dropped after commit
+ * by {@link CurrentUserService#onUserRightsChanged(UserRightsChangeEvent)}.
+ */
+public final class UserRightsCache {
+
+	static final int MAX_SIZE = 1000;
+
+	private static UserRightsCache instance;
+
+	private final Map<String, UserRights> cache;
+
+	private UserRightsCache() {
+		cache = Collections.synchronizedMap(new LinkedHashMap<String, UserRights>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, UserRights> eldest) {
+				return size() > MAX_SIZE;
+			}
+		});
+	}
+
+	public static synchronized UserRightsCache getInstance() {
+		if (instance == null) {
+			instance = new UserRightsCache();
+		}
+		return instance;
+	}
+
+	public void flush() {
+		cache.clear();
+	}
+
+	public void put(String name, UserRights userRights) {
+		cache.put(name.toLowerCase(), userRights);
+	}
+
+	public UserRights get(String name) {
+		return cache.get(name.toLowerCase());
+	}
+
+	public void remove(String name) {
+		cache.remove(name.toLowerCase());
+	}
+
+	int size() {
+		return cache.size();
+	}
+
+	public static final class UserRights {
+
+		private final EnumSet<UserRight> userRights;
+
+		public UserRights(Collection<UserRole> userRoles) {
+
+			this.userRights = EnumSet.noneOf(UserRight.class);
+			userRoles.forEach(userRole -> this.userRights.addAll(userRole.getUserRights()));
+		}
+
+		public boolean hasUserRight(UserRight userRight) {
+			return userRights.contains(userRight);
+		}
+
+		public boolean hasAnyUserRight(Set<UserRight> userRights) {
+			return userRights.stream().anyMatch(this.userRights::contains);
+		}
+	}
+}
@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.enterprise.inject.spi.CDI;
 import javax.persistence.Cacheable;
 import javax.persistence.CollectionTable;
 import javax.persistence.Column;
@@ -36,6 +37,7 @@ import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
 import javax.persistence.JoinColumn;
 import javax.persistence.PrePersist;
+import javax.persistence.PreRemove;
 import javax.persistence.PreUpdate;
 import javax.persistence.UniqueConstraint;
 
@@ -232,8 +234,10 @@ public class UserRole extends AbstractDomainObject {
 
 		@PrePersist
 		@PreUpdate
+		@PreRemove
 		private void beforeAnyUpdate(UserRole userRole) {
 			UserCache.getInstance().flush();
+			CDI.current().getBeanManager().getEvent().fire(new UserRightsChangeEvent(null));
 		}
 	}
 }
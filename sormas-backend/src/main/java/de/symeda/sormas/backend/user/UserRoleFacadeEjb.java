@@ -39,6 +39,8 @@ import javax.annotation.security.PermitAll;
 import javax.ejb.EJB;
 import javax.ejb.LocalBean;
 import javax.ejb.Stateless;
+import javax.enterprise.event.Event;
+import javax.inject.Inject;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.persistence.criteria.CriteriaBuilder;
@@ -100,6 +102,8 @@ public class UserRoleFacadeEjb implements UserRoleFacade {
 	private UserService userService;
 	@EJB
 	private ConfigFacadeEjb.ConfigFacadeEjbLocal configFacade;
+	@Inject
+	private Event<UserRightsChangeEvent> userRightsChangeEvent;
 
 	@Override
 	@PermitAll
@@ -152,6 +156,9 @@ public class UserRoleFacadeEjb implements UserRoleFacade {
 		UserRole entity = fillOrBuildEntity(dto, existingUserRole, true);
 
 		userRoleService.ensurePersisted(entity);
+		// changed user rights have to be used for the next rights checks of the users with this role
+		UserCache.getInstance().flush();
+		userRightsChangeEvent.fire(new UserRightsChangeEvent(null));
 
 		userService.getAllWithRole(entity).forEach(user -> userService.syncUserAsync(user));
 
@@ -240,6 +247,8 @@ public class UserRoleFacadeEjb implements UserRoleFacade {
 
 		UserRole entity = userRoleService.getByUuid(dto.getUuid());
 		userRoleService.deletePermanent(entity);
+		UserCache.getInstance().flush();
+		userRightsChangeEvent.fire(new UserRightsChangeEvent(null));
 	}
 
 	@Override
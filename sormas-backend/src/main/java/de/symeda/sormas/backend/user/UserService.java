@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.ejb.EJB;
@@ -550,6 +551,53 @@ public class UserService extends AdoServiceWithUserFilterAndJurisdiction<User> {
 				Arrays.asList(userRights)));
 	}
 
+	/**
+	 * Picks users like {@link #getRandomDistrictUser}, but the candidates of each district are loaded only once. Meant for bulk
+	 * operations within one transaction.
+	 */
+	public Function<District, User> createRandomDistrictUserLookup(UserRight... userRights) {
+
+		return createRandomUserLookup(
+			district -> getUserReferencesByJurisdictions(
+				null,
+				Collections.singletonList(district.getUuid()),
+				null,
+				Collections.singletonList(JurisdictionLevel.DISTRICT),
+				Arrays.asList(userRights)));
+	}
+
+	/**
+	 * Picks users like {@link #getRandomRegionUser}, but the candidates of each region are loaded only once. Meant for bulk
+	 * operations within one transaction.
+	 */
+	public Function<Region, User> createRandomRegionUserLookup(UserRight... userRights) {
+
+		return createRandomUserLookup(
+			region -> getUserReferencesByJurisdictions(
+				Collections.singletonList(region.getUuid()),
+				null,
+				null,
+				Collections.singletonList(JurisdictionLevel.REGION),
+				Arrays.asList(userRights)));
+	}
+
+	private <J> Function<J, User> createRandomUserLookup(Function<J, List<UserReference>> candidatesLookup) {
+
+		Map<J, List<UserReference>> candidatesByJurisdiction = new HashMap<>();
+		Map<String, User> users = new HashMap<>();
+		Random random = new Random();
+
+		return jurisdiction -> {
+			List<UserReference> candidates = candidatesByJurisdiction.computeIfAbsent(jurisdiction, candidatesLookup);
+			if (CollectionUtils.isEmpty(candidates)) {
+				return null;
+			}
+
+			UserReference chosenUser = candidates.get(random.nextInt(candidates.size()));
+			return users.computeIfAbsent(chosenUser.getUuid(), this::getByUuid);
+		};
+	}
+
 	public User getRandomUser(List<UserReference> candidates) {
 
 		if (CollectionUtils.isEmpty(candidates)) {
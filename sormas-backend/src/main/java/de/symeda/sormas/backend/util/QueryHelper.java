@@ -9,6 +9,8 @@ import javax.persistence.NonUniqueResultException;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
 import org.apache.commons.lang3.StringUtils;
@@ -146,6 +148,39 @@ public final class QueryHelper {
 		return resultList;
 	}
 
+	/**
+	 * Executes a query and returns the batch of at most {@code max} entries that follows the entry with {@code lastId}
+	 * in descending order of {@code id}. In contrast to {@link #getResultList(EntityManager, CriteriaQuery, Integer, Integer)}
+	 * the database does not have to skip all previous entries, so fetching late batches of big results does not get slower.
+	 * Any order set on {@code cq} is replaced.
+	 *
+	 * @param <T>
+	 *            Entity, DTO or simple type for the returned list.
+	 * @param em
+	 *            The {@link EntityManager} to be invoked.
+	 * @param cq
+	 *            The {@link CriteriaQuery} to be executed.
+	 * @param id
+	 *            The unique id the entries are ordered by.
+	 * @param lastId
+	 *            The id of the last entry of the previous batch, {@code null} to fetch the first batch.
+	 * @param max
+	 *            The maximum number of entries to be fetched.
+	 * @return
+	 */
+	public static <T> List<T> getResultListAfterId(EntityManager em, CriteriaQuery<T> cq, Expression<Long> id, Long lastId, int max) {
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		if (lastId != null) {
+			Predicate restriction = cq.getRestriction();
+			Predicate afterLastId = cb.lessThan(id, lastId);
+			cq.where(restriction != null ? cb.and(restriction, afterLastId) : afterLastId);
+		}
+		cq.orderBy(cb.desc(id));
+
+		return em.createQuery(cq).setMaxResults(max).getResultList();
+	}
+
 	/**
 	 * Executes a query and returns the result. Can be selected down to a definite batch
 	 * starting at {@code first} and limited by {@code max}.
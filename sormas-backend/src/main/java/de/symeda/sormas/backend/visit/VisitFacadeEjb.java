@@ -429,6 +429,33 @@ public class VisitFacadeEjb extends AbstractBaseEjb<Visit, VisitDto, VisitIndexD
 		int first,
 		int max,
 		ExportConfigurationDto exportConfiguration) {
+		return getVisitsExportList(visitCriteria, selectedRows, exportType, first, null, max, exportConfiguration);
+	}
+
+	@Override
+	@TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
+	public List<VisitExportDto> getVisitsExportListAfter(
+		VisitCriteria visitCriteria,
+		Collection<String> selectedRows,
+		VisitExportType exportType,
+		Long lastId,
+		int max,
+		ExportConfigurationDto exportConfiguration) {
+		return getVisitsExportList(visitCriteria, selectedRows, exportType, null, lastId, max, exportConfiguration);
+	}
+
+	/**
+	 * @param first
+	 *            Offset of the batch; if {@code null}, the batch after the visit with {@code lastId} is fetched in descending id order.
+	 */
+	private List<VisitExportDto> getVisitsExportList(
+		VisitCriteria visitCriteria,
+		Collection<String> selectedRows,
+		VisitExportType exportType,
+		Integer first,
+		Long lastId,
+		int max,
+		ExportConfigurationDto exportConfiguration) {
 
 		final CriteriaBuilder cb = em.getCriteriaBuilder();
 		final CriteriaQuery<VisitExportDto> cq = cb.createQuery(VisitExportDto.class);
@@ -464,7 +491,9 @@ public class VisitFacadeEjb extends AbstractBaseEjb<Visit, VisitDto, VisitIndexD
 		}
 		cq.orderBy(cb.desc(visitRoot.get(Visit.VISIT_DATE_TIME)), cb.desc(visitRoot.get(Case.ID)));
 
-		List<VisitExportDto> resultList = QueryHelper.getResultList(em, cq, first, max);
+		List<VisitExportDto> resultList = first != null
+			? QueryHelper.getResultList(em, cq, first, max)
+			: QueryHelper.getResultListAfterId(em, cq, visitRoot.get(Visit.ID), lastId, max);
 
 		if (!resultList.isEmpty()) {
 
@@ -12345,4 +12345,228 @@ CREATE TRIGGER externalmessage_tsv_update BEFORE INSERT OR UPDATE OF externalmes
 
 INSERT INTO schema_version (version_number, comment) VALUES (513, '[DEMIS2SORMAS] Introduce a messages content search field #7647');
 
+-- 2023-04-03 Pooled id allocation for entity_seq
+ALTER SEQUENCE entity_seq INCREMENT BY 50;
+
+INSERT INTO schema_version (version_number, comment) VALUES (514, 'Pooled id allocation for entity_seq');
+
+-- 2023-04-05 Rollup table for case statistics
+-- Case counts per combination of the attributes the statistics can be grouped and filtered by. The triggers only append the
+-- changes to casestatistics_delta, so concurrent transactions don't update or lock shared counter rows. merge_casestatistics()
+-- is called periodically and adds the changes to casestatistics_merged. The casestatistics view sums up both tables.
+-- The columns are named like the columns of cases, symptoms and person they are taken from. No history tables are needed.
+CREATE TABLE casestatistics_merged (
+    dimensionkey varchar(32) not null,
+    reportdate date,
+    onsetdate date,
+    outcomedate date,
+    responsibleregion_id bigint,
+    responsibledistrict_id bigint,
+    responsiblecommunity_id bigint,
+    healthfacility_id bigint,
+    disease varchar(255),
+    caseclassification varchar(255),
+    outcome varchar(255),
+    sex varchar(255),
+    caseage integer,
+    casecount bigint not null,
+    PRIMARY KEY (dimensionkey)
+);
+ALTER TABLE casestatistics_merged OWNER TO sormas_user;
+CREATE INDEX IF NOT EXISTS idx_casestatistics_merged_empty ON casestatistics_merged (dimensionkey) WHERE casecount <= 0;
+
+CREATE TABLE casestatistics_delta (LIKE casestatistics_merged);
+ALTER TABLE casestatistics_delta OWNER TO sormas_user;
+
+CREATE VIEW casestatistics AS
+SELECT dimensionkey, reportdate, onsetdate, outcomedate, responsibleregion_id, responsibledistrict_id, responsiblecommunity_id,
+    healthfacility_id, disease, caseclassification, outcome, sex, caseage, sum(casecount)::bigint AS casecount
+FROM (SELECT * FROM casestatistics_merged UNION ALL SELECT * FROM casestatistics_delta) counts
+GROUP BY dimensionkey, reportdate, onsetdate, outcomedate, responsibleregion_id, responsibledistrict_id, responsiblecommunity_id,
+    healthfacility_id, disease, caseclassification, outcome, sex, caseage
+HAVING sum(casecount) > 0;
+ALTER VIEW casestatistics OWNER TO sormas_user;
+
+CREATE INDEX IF NOT EXISTS idx_cases_symptoms_id ON cases USING btree (symptoms_id);
+
+CREATE OR REPLACE FUNCTION append_casestatistics(_case cases, _onsetdate timestamp, _sex varchar, _delta bigint) RETURNS void AS $$
+DECLARE
+    _row casestatistics_delta;
+BEGIN
+    IF _case.deleted IS TRUE THEN
+        RETURN;
+    END IF;
+
+    _row.reportdate := _case.reportdate::date;
+    _row.onsetdate := _onsetdate::date;
+    _row.outcomedate := _case.outcomedate::date;
+    _row.responsibleregion_id := _case.responsibleregion_id;
+    _row.responsibledistrict_id := _case.responsibledistrict_id;
+    _row.responsiblecommunity_id := _case.responsiblecommunity_id;
+    _row.healthfacility_id := _case.healthfacility_id;
+    _row.disease := _case.disease;
+    _row.caseclassification := _case.caseclassification;
+    _row.outcome := _case.outcome;
+    _row.sex := _sex;
+    _row.caseage := _case.caseage;
+    _row.dimensionkey := md5(ROW(_row.reportdate, _row.onsetdate, _row.outcomedate, _row.responsibleregion_id,
+        _row.responsibledistrict_id, _row.responsiblecommunity_id, _row.healthfacility_id, _row.disease, _row.caseclassification,
+        _row.outcome, _row.sex, _row.caseage)::text);
+    _row.casecount := _delta;
+
+    INSERT INTO casestatistics_delta VALUES (_row.*);
+END
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION merge_casestatistics() RETURNS integer AS $$
+DECLARE
+    _merged integer;
+BEGIN
+    -- only one server merges at a time, the others skip this run
+    IF NOT pg_try_advisory_xact_lock(hashtext('merge_casestatistics')) THEN
+        RETURN 0;
+    END IF;
+
+    -- changes of transactions that are still running are not visible yet and are merged by a later run
+    WITH changes AS (
+        DELETE FROM casestatistics_delta RETURNING *
+    )
+    INSERT INTO casestatistics_merged
+    SELECT dimensionkey, reportdate, onsetdate, outcomedate, responsibleregion_id, responsibledistrict_id, responsiblecommunity_id,
+        healthfacility_id, disease, caseclassification, outcome, sex, caseage, sum(casecount)
+    FROM changes
+    GROUP BY dimensionkey, reportdate, onsetdate, outcomedate, responsibleregion_id, responsibledistrict_id, responsiblecommunity_id,
+        healthfacility_id, disease, caseclassification, outcome, sex, caseage
+    HAVING sum(casecount) <> 0
+    ORDER BY dimensionkey
+    ON CONFLICT (dimensionkey) DO UPDATE SET casecount = casestatistics_merged.casecount + excluded.casecount;
+    GET DIAGNOSTICS _merged = ROW_COUNT;
+
+    DELETE FROM casestatistics_merged WHERE casecount <= 0;
+
+    RETURN _merged;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION casestatistics_cases_trigger() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'UPDATE'
+        AND OLD.deleted IS NOT DISTINCT FROM NEW.deleted
+        AND OLD.reportdate::date IS NOT DISTINCT FROM NEW.reportdate::date
+        AND OLD.outcomedate::date IS NOT DISTINCT FROM NEW.outcomedate::date
+        AND OLD.responsibleregion_id IS NOT DISTINCT FROM NEW.responsibleregion_id
+        AND OLD.responsibledistrict_id IS NOT DISTINCT FROM NEW.responsibledistrict_id
+        AND OLD.responsiblecommunity_id IS NOT DISTINCT FROM NEW.responsiblecommunity_id
+        AND OLD.healthfacility_id IS NOT DISTINCT FROM NEW.healthfacility_id
+        AND OLD.disease IS NOT DISTINCT FROM NEW.disease
+        AND OLD.caseclassification IS NOT DISTINCT FROM NEW.caseclassification
+        AND OLD.outcome IS NOT DISTINCT FROM NEW.outcome
+        AND OLD.caseage IS NOT DISTINCT FROM NEW.caseage
+        AND OLD.symptoms_id IS NOT DISTINCT FROM NEW.symptoms_id
+        AND OLD.person_id IS NOT DISTINCT FROM NEW.person_id THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'UPDATE' OR TG_OP = 'DELETE' THEN
+        PERFORM append_casestatistics(OLD, (SELECT onsetdate FROM symptoms WHERE id = OLD.symptoms_id),
+            (SELECT sex FROM person WHERE id = OLD.person_id), -1);
+    END IF;
+    IF TG_OP = 'INSERT' OR TG_OP = 'UPDATE' THEN
+        PERFORM append_casestatistics(NEW, (SELECT onsetdate FROM symptoms WHERE id = NEW.symptoms_id),
+            (SELECT sex FROM person WHERE id = NEW.person_id), 1);
+    END IF;
+
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION casestatistics_symptoms_trigger() RETURNS TRIGGER AS $$
+DECLARE
+    _case cases%ROWTYPE;
+    _sex varchar;
+BEGIN
+    IF OLD.onsetdate::date IS DISTINCT FROM NEW.onsetdate::date THEN
+        FOR _case IN SELECT * FROM cases WHERE symptoms_id = NEW.id LOOP
+            _sex := (SELECT sex FROM person WHERE id = _case.person_id);
+            PERFORM append_casestatistics(_case, OLD.onsetdate, _sex, -1);
+            PERFORM append_casestatistics(_case, NEW.onsetdate, _sex, 1);
+        END LOOP;
+    END IF;
+
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION casestatistics_person_trigger() RETURNS TRIGGER AS $$
+DECLARE
+    _case cases%ROWTYPE;
+    _onsetdate timestamp;
+BEGIN
+    IF OLD.sex IS DISTINCT FROM NEW.sex THEN
+        FOR _case IN SELECT * FROM cases WHERE person_id = NEW.id LOOP
+            _onsetdate := (SELECT onsetdate FROM symptoms WHERE id = _case.symptoms_id);
+            PERFORM append_casestatistics(_case, _onsetdate, OLD.sex, -1);
+            PERFORM append_casestatistics(_case, _onsetdate, NEW.sex, 1);
+        END LOOP;
+    END IF;
+
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER casestatistics_trigger AFTER INSERT OR UPDATE OR DELETE ON cases
+    FOR EACH ROW EXECUTE PROCEDURE casestatistics_cases_trigger();
+CREATE TRIGGER casestatistics_trigger AFTER UPDATE OF onsetdate ON symptoms
+    FOR EACH ROW EXECUTE PROCEDURE casestatistics_symptoms_trigger();
+CREATE TRIGGER casestatistics_trigger AFTER UPDATE OF sex ON person
+    FOR EACH ROW EXECUTE PROCEDURE casestatistics_person_trigger();
+
+INSERT INTO casestatistics_merged (dimensionkey, reportdate, onsetdate, outcomedate, responsibleregion_id, responsibledistrict_id,
+    responsiblecommunity_id, healthfacility_id, disease, caseclassification, outcome, sex, caseage, casecount)
+SELECT md5(ROW(c.reportdate::date, s.onsetdate::date, c.outcomedate::date, c.responsibleregion_id, c.responsibledistrict_id,
+        c.responsiblecommunity_id, c.healthfacility_id, c.disease::varchar, c.caseclassification::varchar, c.outcome::varchar,
+        p.sex::varchar, c.caseage)::text),
+    c.reportdate::date, s.onsetdate::date, c.outcomedate::date, c.responsibleregion_id, c.responsibledistrict_id,
+    c.responsiblecommunity_id, c.healthfacility_id, c.disease, c.caseclassification, c.outcome, p.sex, c.caseage, count(*)
+FROM cases c
+    LEFT JOIN symptoms s ON s.id = c.symptoms_id
+    LEFT JOIN person p ON p.id = c.person_id
+WHERE c.deleted IS NOT TRUE
+GROUP BY c.reportdate::date, s.onsetdate::date, c.outcomedate::date, c.responsibleregion_id, c.responsibledistrict_id,
+    c.responsiblecommunity_id, c.healthfacility_id, c.disease, c.caseclassification, c.outcome, p.sex, c.caseage;
+
+INSERT INTO schema_version (version_number, comment) VALUES (515, 'Rollup table for case statistics');
+
+-- 2023-04-06 Extracted campaign form values for campaign diagrams
+CREATE TABLE campaignformvalue (
+    campaignformdata_id bigint NOT NULL,
+    campaign_id bigint,
+    campaignformmeta_id bigint,
+    region_id bigint,
+    district_id bigint,
+    community_id bigint,
+    elementid varchar(255),
+    numericvalue bigint,
+    textvalue text
+);
+ALTER TABLE campaignformvalue OWNER TO sormas_user;
+ALTER TABLE campaignformvalue ADD CONSTRAINT fk_campaignformvalue_campaignformdata_id FOREIGN KEY (campaignformdata_id) REFERENCES campaignformdata(id) ON DELETE CASCADE;
+
+CREATE INDEX idx_campaignformvalue_campaignformdata_id ON campaignformvalue USING btree (campaignformdata_id);
+CREATE INDEX idx_campaignformvalue_campaignformmeta_id_elementid ON campaignformvalue USING btree (campaignformmeta_id, elementid, campaign_id);
+
+INSERT INTO campaignformvalue (campaignformdata_id, campaign_id, campaignformmeta_id, region_id, district_id, community_id, elementid,
+    numericvalue, textvalue)
+SELECT d.id, d.campaign_id, d.campaignformmeta_id, d.region_id, d.district_id, d.community_id, v->>'id',
+    CASE WHEN v->>'value' ~ '^\s*[+-]?[0-9]{1,18}\s*$' THEN cast(v->>'value' AS bigint) END, v->>'value'
+FROM campaignformdata d, json_array_elements(d.formvalues) v
+WHERE v->>'value' IS NOT NULL;
+
+INSERT INTO schema_version (version_number, comment) VALUES (516, 'Extracted campaign form values for campaign diagrams');
+
+-- 2023-04-06 Reclassify all cases of a disease outside of dev mode
+INSERT INTO userroles_userrights (userrole_id, userright) SELECT id, 'CASE_RECLASSIFY' FROM public.userroles WHERE userroles.linkeddefaultuserrole = 'ADMIN';
+
+INSERT INTO schema_version (version_number, comment) VALUES (517, 'Reclassify all cases of a disease outside of dev mode');
+
 -- *** Insert new sql commands BEFORE this line. Remember to always consider _history tables. ***
@@ -19,10 +19,19 @@ package de.symeda.auditlog.api.value.reflection;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import de.symeda.auditlog.api.sample.Entity;
+
 public class EntityInspectorTest {
 
 	@Test
@@ -37,4 +46,20 @@ public class EntityInspectorTest {
 		fieldName = EntityInspector.buildFieldName("someStrangeNameRemainsTheSame");
 		assertThat(fieldName, is(equalTo("someStrangeNameRemainsTheSame")));
 	}
+
+	@Test
+	public void testGetAuditedAttributesCachedPerClass() {
+
+		List<Method> auditedAttributes = new EntityInspector(new Entity("uuid-1", false, "someValue", 2)).getAuditedAttributes();
+		assertThat(
+			auditedAttributes.stream().map(EntityInspector::buildFieldName).collect(Collectors.toList()),
+			containsInAnyOrder(Entity.FLAG, Entity.STRING, Entity.INTEGER));
+
+		// A second entity of the same class reuses the attributes inspected before
+		assertThat(
+			new EntityInspector(new Entity("uuid-2", true, "otherValue", 3)).getAuditedAttributes(),
+			is(sameInstance(auditedAttributes)));
+
+		assertThat(new EntityInspector(null).getAuditedAttributes(), is(empty()));
+	}
 }
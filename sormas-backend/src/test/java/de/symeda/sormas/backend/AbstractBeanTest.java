@@ -123,6 +123,8 @@ import de.symeda.sormas.backend.caze.CaseFacadeEjb;
 import de.symeda.sormas.backend.caze.CaseFacadeEjb.CaseFacadeEjbLocal;
 import de.symeda.sormas.backend.caze.CaseService;
 import de.symeda.sormas.backend.caze.CaseStatisticsFacadeEjb.CaseStatisticsFacadeEjbLocal;
+import de.symeda.sormas.backend.caze.classification.CaseClassificationFacadeEjb;
+import de.symeda.sormas.backend.caze.classification.CaseClassificationFacadeEjb.CaseClassificationFacadeEjbLocal;
 import de.symeda.sormas.backend.caze.porthealthinfo.PortHealthInfoFacadeEjb.PortHealthInfoFacadeEjbLocal;
 import de.symeda.sormas.backend.caze.surveillancereport.SurveillanceReportFacadeEjb;
 import de.symeda.sormas.backend.caze.surveillancereport.SurveillanceReportService;
@@ -434,6 +436,10 @@ public abstract class AbstractBeanTest {
 		return getBean(CaseService.class);
 	}
 
+	public CaseClassificationFacadeEjb getCaseClassificationFacade() {
+		return getBean(CaseClassificationFacadeEjbLocal.class);
+	}
+
 	public ImmunizationFacadeEjbLocal getImmunizationFacade() {
 		return getBean(ImmunizationFacadeEjbLocal.class);
 	}
@@ -16,6 +16,7 @@ public class ExtendedH2Dialect extends H2Dialect {
 	public final static String ARRAY_AGG = "array_agg";
 	public final static String CONCAT_FUNCTION = "concat_function";
 	public final static String GREATEST = "greatest";
+	public final static String DATE = "date";
 
 	public ExtendedH2Dialect() {
 		super();
@@ -39,6 +40,7 @@ public class ExtendedH2Dialect extends H2Dialect {
 				StandardBasicTypes.LONG,
 				"COUNT(?1) OVER (PARTITION BY ?2 RANGE BETWEEN UNBOUNDED PRECEDING AND UNBOUNDED FOLLOWING)"));
 		registerFunction(GREATEST, new StandardSQLFunction(GREATEST));
+		registerFunction(DATE, new SQLFunctionTemplate(StandardBasicTypes.DATE, "CAST(?1 AS DATE)"));
 	}
 
 	/**
@@ -135,6 +135,10 @@ public class MockProducer implements InitialContextFactory {
 		properties.setProperty(ConfigFacadeEjb.COUNTRY_NAME, "nigeria");
 		properties.setProperty(ConfigFacadeEjb.CSV_SEPARATOR, ";");
 		properties.setProperty(ConfigFacadeEjb.TEMP_FILES_PATH, TMP_PATH);
+		// tests change feature configurations directly in the database
+		properties.setProperty(ConfigFacadeEjb.FEATURE_CONFIGURATIONS_CACHE_CHECK_INTERVAL, "0");
+		// the case statistics rollup table is maintained by PostgreSQL triggers
+		properties.setProperty(ConfigFacadeEjb.STATISTICS_ROLLUP_ENABLED, "false");
 	}
 
 	public static void wireMocks() {
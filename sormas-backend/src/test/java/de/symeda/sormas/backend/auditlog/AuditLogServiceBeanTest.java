@@ -0,0 +1,107 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.auditlog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.TransactionPhase;
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import de.symeda.auditlog.api.ChangeEvent;
+import de.symeda.auditlog.api.ChangeType;
+import de.symeda.auditlog.api.EntityId;
+import de.symeda.auditlog.api.TransactionId;
+import de.symeda.auditlog.api.UserId;
+import de.symeda.sormas.backend.caze.Case;
+
+@ExtendWith(MockitoExtension.class)
+public class AuditLogServiceBeanTest {
+
+	@Mock
+	private EntityManager entityManager;
+	@Mock
+	private AuditLogWriter auditLogWriter;
+
+	@InjectMocks
+	private AuditLogServiceBean auditLogService;
+
+	@Test
+	public void testChangesAreReceivedAfterCommit() throws NoSuchMethodException {
+
+		Observes observes = AuditLogServiceBean.class.getMethod("receiveChanges", ChangeEvent.class).getParameters()[0]
+			.getAnnotation(Observes.class);
+
+		assertEquals(TransactionPhase.AFTER_SUCCESS, observes.during());
+	}
+
+	@Test
+	public void testReceivedChangeIsQueued() {
+
+		Map<String, String> newValues = Collections.singletonMap("caseClassification", "CONFIRMED");
+		TransactionId transactionId = new TransactionId();
+		ChangeEvent event = new ChangeEvent(
+			new EntityId(Case.class, "case-uuid"),
+			newValues,
+			ChangeType.UPDATE,
+			LocalDateTime.now(),
+			new UserId("user"),
+			transactionId);
+
+		auditLogService.receiveChanges(event);
+
+		ArgumentCaptor<AuditLogEntry> entry = ArgumentCaptor.forClass(AuditLogEntry.class);
+		verify(auditLogWriter).enqueue(entry.capture());
+		assertEquals(Case.class.getName(), entry.getValue().getClazz());
+		assertEquals("case-uuid", entry.getValue().getUuid());
+		assertEquals(ChangeType.UPDATE, entry.getValue().getChangeType());
+		assertEquals("user", entry.getValue().getEditingUser());
+		assertEquals(transactionId.getTransactionId(), entry.getValue().getTransactionId());
+		assertEquals(newValues, entry.getValue().getAttributes());
+		verifyNoInteractions(entityManager);
+	}
+
+	@Test
+	public void testPersistFlushesPerJdbcBatch() {
+
+		List<AuditLogEntry> entries =
+			IntStream.range(0, 2 * AuditLogServiceBean.JDBC_BATCH_SIZE + 50).mapToObj(i -> new AuditLogEntry()).collect(Collectors.toList());
+
+		auditLogService.persist(entries);
+
+		verify(entityManager, times(entries.size())).persist(any(AuditLogEntry.class));
+		verify(entityManager, times(2)).flush();
+		verify(entityManager, times(2)).clear();
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.auditlog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.PersistenceException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import de.symeda.auditlog.api.ChangeType;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb.ConfigFacadeEjbLocal;
+
+@ExtendWith(MockitoExtension.class)
+public class AuditLogWriterTest {
+
+	@Mock
+	private AuditLogServiceBean auditLogService;
+	@Mock
+	private ConfigFacadeEjbLocal configFacade;
+
+	@InjectMocks
+	private AuditLogWriter writer;
+
+	private final List<List<String>> persistedBatches = new ArrayList<>();
+
+	@Test
+	public void testFlushWritesQueuedEntriesInBatches() {
+
+		initWriter(10000, false);
+		recordPersistedBatches();
+		List<String> uuids = enqueue(2 * AuditLogWriter.FLUSH_BATCH_SIZE + 500);
+
+		verify(auditLogService, never()).persist(anyList());
+
+		writer.flushScheduled();
+
+		assertEquals(3, persistedBatches.size());
+		assertEquals(AuditLogWriter.FLUSH_BATCH_SIZE, persistedBatches.get(0).size());
+		assertEquals(AuditLogWriter.FLUSH_BATCH_SIZE, persistedBatches.get(1).size());
+		assertEquals(500, persistedBatches.get(2).size());
+		assertEquals(uuids, persistedBatches.stream().flatMap(List::stream).collect(Collectors.toList()));
+		assertEquals(0, writer.getQueueSize());
+	}
+
+	@Test
+	public void testFailedBatchIsRetriedInOriginalOrder() {
+
+		initWriter(10000, false);
+		List<String> uuids = enqueue(AuditLogWriter.FLUSH_BATCH_SIZE + 1);
+
+		doThrow(new PersistenceException("auditlog database not available")).when(auditLogService).persist(anyList());
+		writer.flushScheduled();
+		assertEquals(uuids.size(), writer.getQueueSize());
+
+		recordPersistedBatches();
+		writer.flushScheduled();
+
+		assertEquals(uuids, persistedBatches.stream().flatMap(List::stream).collect(Collectors.toList()));
+		assertEquals(0, writer.getQueueSize());
+	}
+
+	@Test
+	public void testShutdownDrainsQueue() {
+
+		initWriter(10000, false);
+		recordPersistedBatches();
+		List<String> uuids = enqueue(AuditLogWriter.FLUSH_BATCH_SIZE + 1);
+
+		writer.flushOnShutdown();
+
+		assertEquals(uuids, persistedBatches.stream().flatMap(List::stream).collect(Collectors.toList()));
+		assertEquals(0, writer.getQueueSize());
+	}
+
+	@Test
+	public void testFullQueueDropsEntriesWithoutWriting() {
+
+		initWriter(2, false);
+		List<String> uuids = enqueue(3);
+
+		verify(auditLogService, never()).persist(anyList());
+		assertEquals(2, writer.getQueueSize());
+
+		recordPersistedBatches();
+		writer.flushScheduled();
+
+		assertEquals(Collections.singletonList(uuids.subList(0, 2)), persistedBatches);
+	}
+
+	@Test
+	public void testFullQueueIsWrittenByCallerWhenConfigured() {
+
+		initWriter(2, true);
+		recordPersistedBatches();
+		List<String> uuids = enqueue(3);
+
+		assertEquals(Collections.singletonList(uuids.subList(0, 2)), persistedBatches);
+		assertEquals(1, writer.getQueueSize());
+	}
+
+	private void initWriter(int queueSize, boolean writeWhenQueueFull) {
+
+		when(configFacade.getAuditLogQueueSize()).thenReturn(queueSize);
+		when(configFacade.isAuditLogWriteWhenQueueFull()).thenReturn(writeWhenQueueFull);
+		writer.init();
+	}
+
+	private void recordPersistedBatches() {
+
+		doAnswer(invocation -> {
+			List<AuditLogEntry> batch = invocation.getArgument(0);
+			persistedBatches.add(batch.stream().map(AuditLogEntry::getUuid).collect(Collectors.toList()));
+			return null;
+		}).when(auditLogService).persist(anyList());
+	}
+
+	private List<String> enqueue(int count) {
+
+		return IntStream.range(0, count).mapToObj(i -> {
+			AuditLogEntry entry = new AuditLogEntry();
+			entry.setUuid("entry-" + i);
+			entry.setChangeType(ChangeType.UPDATE);
+			entry.setAttributes(Collections.emptyMap());
+			writer.enqueue(entry);
+			return entry.getUuid();
+		}).collect(Collectors.toList());
+	}
+}
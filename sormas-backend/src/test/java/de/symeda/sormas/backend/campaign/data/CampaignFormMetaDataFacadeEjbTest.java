@@ -25,14 +25,21 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import de.symeda.sormas.api.campaign.CampaignDto;
+import de.symeda.sormas.api.campaign.CampaignJurisdictionLevel;
+import de.symeda.sormas.api.campaign.CampaignReferenceDto;
 import de.symeda.sormas.api.campaign.data.CampaignFormDataDto;
 import de.symeda.sormas.api.campaign.data.CampaignFormDataEntry;
+import de.symeda.sormas.api.campaign.diagram.CampaignDiagramCriteria;
+import de.symeda.sormas.api.campaign.diagram.CampaignDiagramDataDto;
+import de.symeda.sormas.api.campaign.diagram.CampaignDiagramSeries;
 import de.symeda.sormas.api.campaign.form.CampaignFormMetaDto;
 import de.symeda.sormas.api.user.UserDto;
 import de.symeda.sormas.backend.AbstractBeanTest;
@@ -122,4 +129,77 @@ public class CampaignFormMetaDataFacadeEjbTest extends AbstractBeanTest {
 
 		assertNull(deletedCampaignFormDataDto);
 	}
+
+	@Test
+	public void testGetDiagramData() throws Exception {
+
+		final TestDataCreator.RDCF rdcf = creator.createRDCF("Region", "District", "Community", "Facility");
+		final UserDto user = creator.createSurveillanceSupervisor(rdcf);
+		final CampaignDto campaign = creator.createCampaign(user);
+		final CampaignFormMetaDto campaignForm = creator.createCampaignForm(campaign);
+
+		creator.createCampaignFormData(campaign, campaignForm, rdcf, creator.getCampaignFormData());
+		CampaignFormDataDto campaignFormData = creator.createCampaignFormData(
+			campaign,
+			campaignForm,
+			rdcf,
+			"[{\"id\": \"oneMemberResident\", \"value\": \"no\"},{\"id\": \"numberOfChw\",\"value\": \"3\"}]");
+
+		CampaignDiagramSeries numberSeries = new CampaignDiagramSeries("numberOfChw", campaignForm.getFormId(), null, "numbers");
+		CampaignDiagramSeries yesSeries = new CampaignDiagramSeries("oneMemberResident", campaignForm.getFormId(), "yes", "yes");
+		CampaignDiagramSeries noSeries = new CampaignDiagramSeries("oneMemberResident", campaignForm.getFormId(), "no", "no");
+		CampaignDiagramSeries formSeries = new CampaignDiagramSeries(null, campaignForm.getFormId(), null, "forms");
+		CampaignDiagramCriteria criteria =
+			new CampaignDiagramCriteria(new CampaignReferenceDto(campaign.getUuid()), null, null, null, CampaignJurisdictionLevel.REGION);
+
+		List<List<CampaignDiagramSeries>> diagramsSeries =
+			Arrays.asList(Arrays.asList(numberSeries, yesSeries, noSeries), Collections.singletonList(formSeries));
+		List<List<CampaignDiagramDataDto>> diagramsData = getCampaignFormDataFacade().getDashboardDiagramData(diagramsSeries, criteria);
+
+		assertEquals(2, diagramsData.size());
+		List<CampaignDiagramDataDto> diagramData = diagramsData.get(0);
+		assertEquals(3, diagramData.size());
+		assertDiagramData(diagramData.get(0), "numberOfChw", "No. of CHW", 10, rdcf.region.getUuid(), "numbers");
+		assertDiagramData(
+			diagramData.get(1),
+			"oneMemberResident",
+			"1) At least one team member is resident of same area (villages)?",
+			1,
+			null,
+			"yes");
+		assertDiagramData(diagramData.get(2), "oneMemberResident", null, 1, null, "no");
+		assertEquals(1, diagramsData.get(1).size());
+		assertDiagramData(diagramsData.get(1).get(0), null, null, 2, rdcf.region.getUuid(), "forms");
+
+		// the extracted values are replaced on save
+		campaignFormData.setFormValues(Collections.singletonList(new CampaignFormDataEntry("numberOfChw", "5")));
+		getCampaignFormDataFacade().saveCampaignFormData(campaignFormData);
+		diagramData = getCampaignFormDataFacade().getDiagramData(Arrays.asList(numberSeries, noSeries), criteria);
+		assertEquals(2, diagramData.size());
+		assertDiagramData(diagramData.get(0), "numberOfChw", null, 12, null, "numbers");
+		assertDiagramData(diagramData.get(1), "oneMemberResident", null, 0, null, "no");
+
+		getCampaignFormDataFacade().deleteCampaignFormData(campaignFormData.getUuid());
+		diagramData = getCampaignFormDataFacade().getDiagramData(Collections.singletonList(numberSeries), criteria);
+		assertDiagramData(diagramData.get(0), "numberOfChw", null, 7, null, "numbers");
+	}
+
+	private static void assertDiagramData(
+		CampaignDiagramDataDto diagramData,
+		String fieldId,
+		String fieldCaption,
+		long valueSum,
+		String groupingKey,
+		String stack) {
+
+		assertEquals(fieldId, diagramData.getFieldId());
+		if (fieldCaption != null) {
+			assertEquals(fieldCaption, diagramData.getFieldCaption());
+		}
+		assertEquals(valueSum, diagramData.getValueSum().longValue());
+		if (groupingKey != null) {
+			assertEquals(groupingKey, diagramData.getGroupingKey());
+		}
+		assertEquals(stack, diagramData.getStack());
+	}
 }
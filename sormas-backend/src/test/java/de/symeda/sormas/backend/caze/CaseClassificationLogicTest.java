@@ -18,11 +18,14 @@
 package de.symeda.sormas.backend.caze;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import org.jboss.weld.exceptions.UnsupportedOperationException;
 import org.junit.jupiter.api.BeforeEach;
@@ -1183,6 +1186,75 @@ public class CaseClassificationLogicTest extends AbstractBeanTest {
 		}
 	}
 
+	@Test
+	public void testBulkClassification() {
+
+		CaseDataDto suspectCase = getCaseFacade().save(buildSuspectCase(Disease.EVD));
+		CaseDataDto confirmedCase = getCaseFacade().save(buildSuspectCase(Disease.EVD));
+		creator.createPathogenTest(confirmedCase, Disease.EVD, PathogenTestType.PCR_RT_PCR, PathogenTestResultType.POSITIVE);
+		confirmedCase = getCaseFacade().getCaseDataByUuid(confirmedCase.getUuid());
+		CaseDataDto notClassifiedCase = getCaseFacade().save(buildSuspectCaseBasis(Disease.EVD));
+
+		List<CaseDataDto> cases = Arrays.asList(suspectCase, confirmedCase, notClassifiedCase);
+		Map<String, CaseClassification> classifications = getCaseClassificationFacade().getClassifications(cases);
+
+		assertEquals(CaseClassification.SUSPECT, classifications.get(suspectCase.getUuid()));
+		assertEquals(CaseClassification.CONFIRMED, classifications.get(confirmedCase.getUuid()));
+		assertEquals(CaseClassification.NOT_CLASSIFIED, classifications.get(notClassifiedCase.getUuid()));
+		for (CaseDataDto caze : cases) {
+			assertEquals(getCaseClassificationFacade().getClassification(caze), classifications.get(caze.getUuid()));
+		}
+	}
+
+	@Test
+	public void testReclassifyCases() {
+
+		CaseDataDto suspectCase = getCaseFacade().save(buildSuspectCase(Disease.EVD));
+		CaseDataDto otherDiseaseCase = getCaseFacade().save(buildSuspectCase(Disease.CSM));
+
+		// simulate cases classified before the case definition has changed
+		executeInTransaction(em -> {
+			em.createQuery(
+				"update cases set " + Case.CASE_CLASSIFICATION + " = :classification, " + Case.SYSTEM_CASE_CLASSIFICATION + " = :classification")
+				.setParameter("classification", CaseClassification.NOT_CLASSIFIED)
+				.executeUpdate();
+		});
+
+		getCaseClassificationFacade().reclassifyCases(Disease.EVD);
+
+		Case reclassifiedCase = getCaseService().getByUuid(suspectCase.getUuid());
+		assertEquals(CaseClassification.SUSPECT, reclassifiedCase.getCaseClassification());
+		assertEquals(CaseClassification.SUSPECT, reclassifiedCase.getSystemCaseClassification());
+		assertNull(reclassifiedCase.getClassificationUser());
+		assertEquals(CaseClassification.NOT_CLASSIFIED, getCaseService().getByUuid(otherDiseaseCase.getUuid()).getCaseClassification());
+	}
+
+	@Test
+	public void testReclassifyCasesUpdatesReferenceDefinitionGermanServer() {
+
+		MockProducer.getProperties().setProperty(ConfigFacadeEjb.COUNTRY_LOCALE, "de");
+		CaseDataDto caze = getCaseFacade().save(buildSuspectCase(Disease.CORONAVIRUS));
+		creator.createPathogenTest(caze, Disease.CORONAVIRUS, PathogenTestType.PCR_RT_PCR, PathogenTestResultType.POSITIVE);
+
+		executeInTransaction(em -> {
+			em.createQuery(
+				"update cases set " + Case.CASE_CLASSIFICATION + " = :classification, " + Case.SYSTEM_CASE_CLASSIFICATION
+					+ " = :classification, " + Case.CASE_REFERENCE_DEFINITION + " = :referenceDefinition")
+				.setParameter("classification", CaseClassification.SUSPECT)
+				.setParameter("referenceDefinition", CaseReferenceDefinition.NOT_FULFILLED)
+				.executeUpdate();
+		});
+		Date changeDate = getCaseService().getByUuid(caze.getUuid()).getChangeDate();
+
+		getCaseClassificationFacade().reclassifyCases(Disease.CORONAVIRUS);
+
+		Case reclassifiedCase = getCaseService().getByUuid(caze.getUuid());
+		assertEquals(CaseClassification.CONFIRMED, reclassifiedCase.getCaseClassification());
+		assertEquals(CaseReferenceDefinition.FULFILLED, reclassifiedCase.getCaseReferenceDefinition());
+		// changed through the entity, so the change is versioned and audited like a regular save
+		assertTrue(reclassifiedCase.getChangeDate().after(changeDate));
+	}
+
 	/**
 	 * Builds a case for the specified disease that meets all requirements that are needed for
 	 * every suspect classification scenario, but that can not be classified as suspect yet
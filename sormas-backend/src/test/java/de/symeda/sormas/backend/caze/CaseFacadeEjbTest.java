@@ -1104,6 +1104,35 @@ public class CaseFacadeEjbTest extends AbstractBeanTest {
 		assertEquals(exportDto.getNumberOfDoses(), "");
 	}
 
+	@Test
+	public void testGetExportListAfter() {
+
+		List<String> caseUuids = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			caseUuids.add(creator.createCase(surveillanceSupervisor.toReference(), creator.createPerson().toReference(), rdcf).getUuid());
+		}
+
+		List<CaseExportDto> firstBatch =
+			getCaseFacade().getExportListAfter(new CaseCriteria(), Collections.emptySet(), CaseExportType.CASE_SURVEILLANCE, null, 3, null, Language.EN);
+		assertEquals(3, firstBatch.size());
+
+		List<CaseExportDto> secondBatch = getCaseFacade().getExportListAfter(
+			new CaseCriteria(),
+			Collections.emptySet(),
+			CaseExportType.CASE_SURVEILLANCE,
+			firstBatch.get(2).getId(),
+			3,
+			null,
+			Language.EN);
+		assertEquals(2, secondBatch.size());
+
+		List<CaseExportDto> allRows = new ArrayList<>(firstBatch);
+		allRows.addAll(secondBatch);
+		// newest cases first, each case exactly once
+		Collections.reverse(caseUuids);
+		assertEquals(caseUuids, allRows.stream().map(CaseExportDto::getUuid).collect(Collectors.toList()));
+	}
+
 	/**
 	 * Assure that n cardinalities do not duplicate case
 	 */
@@ -2682,6 +2711,42 @@ public class CaseFacadeEjbTest extends AbstractBeanTest {
 		MatcherAssert.assertThat(changedCasesAfterUpdateCompleteness, is(0));
 	}
 
+	@Test
+	public void testCaseCompletenessBatch() {
+
+		PersonDto cazePerson = creator.createPerson("Case", "Person", Sex.MALE, 1980, 1, 1);
+		CaseDataDto caseWithSample = creator.createCase(
+			nationalUser.toReference(),
+			cazePerson.toReference(),
+			Disease.EVD,
+			CaseClassification.NOT_CLASSIFIED,
+			InvestigationStatus.PENDING,
+			new Date(),
+			rdcf);
+		SampleDto sample = creator.createSample(caseWithSample.toReference(), surveillanceSupervisor.toReference(), rdcf.facility);
+
+		PersonDto cazePerson2 = creator.createPerson("Case2", "Person2", Sex.FEMALE, 1981, 1, 1);
+		CaseDataDto caseWithoutSample = creator.createCase(
+			nationalUser.toReference(),
+			cazePerson2.toReference(),
+			Disease.EVD,
+			CaseClassification.NOT_CLASSIFIED,
+			InvestigationStatus.DONE,
+			new Date(),
+			rdcf);
+
+		MatcherAssert.assertThat(getCaseFacade().updateCompleteness(), is(2));
+		assertEquals(0.25f, getCaseService().getByUuid(caseWithSample.getUuid()).getCompleteness(), 0.0001f);
+		assertEquals(0.3f, getCaseService().getByUuid(caseWithoutSample.getUuid()).getCompleteness(), 0.0001f);
+
+		// deleting the sample has to trigger the recalculation of the case
+		getSampleFacade().deleteAllSamples(Collections.singletonList(sample.getUuid()), new DeletionDetails(DeletionReason.OTHER_REASON, "test"));
+		assertNull(getCaseService().getByUuid(caseWithSample.getUuid()).getCompleteness());
+
+		MatcherAssert.assertThat(getCaseFacade().updateCompleteness(), is(1));
+		assertEquals(0.1f, getCaseService().getByUuid(caseWithSample.getUuid()).getCompleteness(), 0.0001f);
+	}
+
 	@Test
 	public void testStringLengthValidations() {
 
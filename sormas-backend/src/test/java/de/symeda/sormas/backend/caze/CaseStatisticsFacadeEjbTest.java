@@ -9,10 +9,12 @@ import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.persistence.Query;
 
 import org.apache.commons.lang3.time.DateUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
 
 import de.symeda.sormas.api.Disease;
@@ -31,11 +33,14 @@ import de.symeda.sormas.api.statistics.StatisticsCaseAttribute;
 import de.symeda.sormas.api.statistics.StatisticsCaseCountDto;
 import de.symeda.sormas.api.statistics.StatisticsCaseCriteria;
 import de.symeda.sormas.api.statistics.StatisticsCaseSubAttribute;
+import de.symeda.sormas.api.statistics.StatisticsGroupingKey;
 import de.symeda.sormas.api.user.UserDto;
 import de.symeda.sormas.api.utils.DateHelper;
 import de.symeda.sormas.api.utils.UtilDate;
 import de.symeda.sormas.backend.AbstractBeanTest;
+import de.symeda.sormas.backend.MockProducer;
 import de.symeda.sormas.backend.TestDataCreator.RDCF;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb;
 
 public class CaseStatisticsFacadeEjbTest extends AbstractBeanTest {
 
@@ -240,4 +245,89 @@ public class CaseStatisticsFacadeEjbTest extends AbstractBeanTest {
 			null);
 		assertEquals(157, resultsEpiWeek.size());
 	}
+
+	@Test
+	public void testQueryCaseCountFromRollup() {
+
+		RDCF rdcf = creator.createRDCF();
+		UserDto user = creator.createSurveillanceSupervisor(rdcf);
+		PersonDto cazePerson = creator.createPerson("Case", "Person", Sex.FEMALE);
+		cazePerson.setApproximateAge(30);
+		cazePerson.setApproximateAgeReferenceDate(new Date());
+		cazePerson.setApproximateAgeType(ApproximateAgeType.YEARS);
+		cazePerson = getPersonFacade().save(cazePerson);
+		creator.createCase(
+			user.toReference(),
+			cazePerson.toReference(),
+			Disease.EVD,
+			CaseClassification.PROBABLE,
+			InvestigationStatus.PENDING,
+			new Date(),
+			rdcf);
+		creator.createCase(
+			user.toReference(),
+			creator.createPerson("Second", "Person", Sex.MALE).toReference(),
+			Disease.CHOLERA,
+			CaseClassification.CONFIRMED,
+			InvestigationStatus.PENDING,
+			DateHelper.subtractDays(new Date(), 40),
+			rdcf);
+
+		// the rollup table is maintained by triggers in PostgreSQL, so it is filled here like in the schema migration
+		executeInTransaction(em -> {
+			em.createNativeQuery(
+				"CREATE TABLE casestatistics (dimensionkey varchar(32), reportdate date, onsetdate date, outcomedate date, "
+					+ "responsibleregion_id bigint, responsibledistrict_id bigint, responsiblecommunity_id bigint, "
+					+ "healthfacility_id bigint, "
+					+ "disease varchar(255), caseclassification varchar(255), outcome varchar(255), sex varchar(255), caseage integer, "
+					+ "casecount bigint)")
+				.executeUpdate();
+			em.createNativeQuery(
+				"INSERT INTO casestatistics SELECT c.uuid, CAST(c.reportdate AS date), CAST(s.onsetdate AS date), "
+					+ "CAST(c.outcomedate AS date), "
+					+ "c.responsibleregion_id, c.responsibledistrict_id, c.responsiblecommunity_id, c.healthfacility_id, "
+					+ "c.disease, c.caseclassification, c.outcome, p.sex, c.caseage, 1 "
+					+ "FROM cases c LEFT JOIN symptoms s ON s.id = c.symptoms_id LEFT JOIN person p ON p.id = c.person_id")
+				.executeUpdate();
+		});
+
+		StatisticsCaseCriteria criteria = new StatisticsCaseCriteria();
+		criteria.dateRange(
+			DateHelper.getStartOfDay(DateHelper.subtractDays(new Date(), 100)),
+			DateHelper.getEndOfDay(new Date()),
+			StatisticsCaseAttribute.REPORT_TIME);
+		criteria.addAgeIntervals(Arrays.asList(new IntegerRange(10, 40), new IntegerRange(null, null)));
+
+		for (StatisticsCaseAttribute groupingAttribute : StatisticsCaseAttribute.values()) {
+			if (groupingAttribute == StatisticsCaseAttribute.REPORTING_USER_ROLE) {
+				continue;
+			}
+
+			if (groupingAttribute.getSubAttributes().length == 0) {
+				assertEquals(
+					queryCaseCounts(criteria, groupingAttribute, null, false),
+					queryCaseCounts(criteria, groupingAttribute, null, true));
+			}
+			for (StatisticsCaseSubAttribute subGroupingAttribute : groupingAttribute.getSubAttributes()) {
+				if (subGroupingAttribute.isUsedForGrouping()) {
+					assertEquals(
+						queryCaseCounts(criteria, groupingAttribute, subGroupingAttribute, false),
+						queryCaseCounts(criteria, groupingAttribute, subGroupingAttribute, true));
+				}
+			}
+		}
+	}
+
+	private List<Pair<StatisticsGroupingKey, Integer>> queryCaseCounts(
+		StatisticsCaseCriteria criteria,
+		StatisticsCaseAttribute grouping,
+		StatisticsCaseSubAttribute subGrouping,
+		boolean fromRollup) {
+
+		MockProducer.getProperties().setProperty(ConfigFacadeEjb.STATISTICS_ROLLUP_ENABLED, Boolean.toString(fromRollup));
+		return getCaseStatisticsFacade().queryCaseCount(criteria, grouping, subGrouping, null, null, false, false, null)
+			.stream()
+			.map(result -> Pair.of(result.getRowKey(), result.getCaseCount()))
+			.collect(Collectors.toList());
+	}
 }
@@ -0,0 +1,179 @@
+package de.symeda.sormas.backend.caze;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assume.assumeNoException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import de.hilling.junit.cdi.CdiTestJunitExtension;
+import de.symeda.sormas.backend.common.HistoryTablesTest.SormasPostgresSQLContainer;
+
+/**
+ * Checks the triggers and the merge that maintain the casestatistics rollup view on a PostgreSQL database set up with
+ * sormas_schema.sql. The unit tests run on H2, which doesn't have these triggers.
+ */
+@ExtendWith(CdiTestJunitExtension.class)
+public class CaseStatisticsTriggersTest {
+
+	private static final String ROLLUP_QUERY = "SELECT reportdate, onsetdate, outcomedate, responsibleregion_id, responsibledistrict_id, "
+		+ "responsiblecommunity_id, healthfacility_id, disease, caseclassification, outcome, sex, caseage, casecount FROM casestatistics";
+
+	/**
+	 * Counts the cases like the schema update does when it fills the rollup table.
+	 */
+	private static final String LIVE_QUERY = "SELECT c.reportdate::date, s.onsetdate::date, c.outcomedate::date, c.responsibleregion_id, "
+		+ "c.responsibledistrict_id, c.responsiblecommunity_id, c.healthfacility_id, c.disease, c.caseclassification, c.outcome, p.sex, "
+		+ "c.caseage, count(*) FROM cases c LEFT JOIN symptoms s ON s.id = c.symptoms_id LEFT JOIN person p ON p.id = c.person_id "
+		+ "WHERE c.deleted IS NOT TRUE GROUP BY 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12";
+
+	@Test
+	public void testTriggersKeepRollupInSync() throws SQLException {
+
+		SormasPostgresSQLContainer container = new SormasPostgresSQLContainer();
+		start(container);
+
+		try (Connection connection = container.createConnection(""); Statement statement = connection.createStatement()) {
+			insertUserAndPerson(statement);
+			statement.executeUpdate(
+				"INSERT INTO symptoms (id, uuid, changedate, creationdate, onsetdate) "
+					+ "VALUES (2, 'symptoms-2', now(), now(), '2023-03-01 08:00')");
+			statement.executeUpdate(
+				"INSERT INTO symptoms (id, uuid, changedate, creationdate, onsetdate) "
+					+ "VALUES (3, 'symptoms-3', now(), now(), '2023-03-01 20:00')");
+			statement.executeUpdate(
+				"INSERT INTO cases (id, uuid, changedate, creationdate, reportinguser_id, person_id, symptoms_id, reportdate, disease) "
+					+ "VALUES (4, 'case-4', now(), now(), 10, 1, 2, '2023-03-02 10:00', 'CORONAVIRUS')");
+			assertRollup(statement, 1, 1);
+
+			// same day, so the second case is counted in the same row
+			statement.executeUpdate(
+				"INSERT INTO cases (id, uuid, changedate, creationdate, reportinguser_id, person_id, symptoms_id, reportdate, disease) "
+					+ "VALUES (5, 'case-5', now(), now(), 10, 1, 3, '2023-03-02 16:00', 'CORONAVIRUS')");
+			assertRollup(statement, 1, 2);
+
+			statement.executeUpdate("UPDATE symptoms SET onsetdate = '2023-02-28 08:00' WHERE id = 2");
+			assertRollup(statement, 2, 2);
+
+			statement.executeUpdate("UPDATE person SET sex = 'FEMALE' WHERE id = 1");
+			assertRollup(statement, 2, 2);
+
+			statement.executeUpdate("UPDATE cases SET caseclassification = 'CONFIRMED', caseage = 42 WHERE id = 4");
+			assertRollup(statement, 2, 2);
+
+			// changes that don't move a case to another row
+			statement.executeUpdate("UPDATE cases SET reportdate = '2023-03-02 11:00', description = 'changed' WHERE id = 4");
+			assertRollup(statement, 2, 2);
+
+			statement.executeUpdate("UPDATE cases SET deleted = true WHERE id = 4");
+			assertRollup(statement, 1, 1);
+
+			statement.executeUpdate("DELETE FROM cases WHERE id = 5");
+			assertRollup(statement, 0, 0);
+		}
+	}
+
+	/**
+	 * Two transactions that insert cases counted in the same row must not wait for each other, because the triggers only append
+	 * to casestatistics_delta.
+	 */
+	@Test
+	public void testConcurrentInsertsDoNotBlock() throws SQLException {
+
+		SormasPostgresSQLContainer container = new SormasPostgresSQLContainer();
+		start(container);
+
+		try (Connection first = container.createConnection("");
+			Connection second = container.createConnection("");
+			Statement firstStatement = first.createStatement();
+			Statement secondStatement = second.createStatement()) {
+			insertUserAndPerson(firstStatement);
+
+			first.setAutoCommit(false);
+			second.setAutoCommit(false);
+			// fails instead of waiting, if the second insert has to wait for a lock held by the first transaction
+			secondStatement.execute("SET lock_timeout = '1s'");
+
+			firstStatement.executeUpdate(
+				"INSERT INTO cases (id, uuid, changedate, creationdate, reportinguser_id, person_id, reportdate, disease) "
+					+ "VALUES (2, 'case-2', now(), now(), 10, 1, '2023-03-02 10:00', 'CORONAVIRUS')");
+			secondStatement.executeUpdate(
+				"INSERT INTO cases (id, uuid, changedate, creationdate, reportinguser_id, person_id, reportdate, disease) "
+					+ "VALUES (3, 'case-3', now(), now(), 10, 1, '2023-03-02 16:00', 'CORONAVIRUS')");
+
+			// the merge doesn't wait for the running transactions either, their changes are merged by the next run
+			try (Connection merge = container.createConnection(""); Statement mergeStatement = merge.createStatement()) {
+				mergeStatement.execute("SET lock_timeout = '1s'");
+				mergeStatement.execute("SELECT merge_casestatistics()");
+			}
+
+			second.commit();
+			first.commit();
+			assertRollup(firstStatement, 1, 2);
+		}
+	}
+
+	/**
+	 * Inserts the reporting user (id 10) and the person (id 1) of the cases.
+	 */
+	private static void insertUserAndPerson(Statement statement) throws SQLException {
+
+		statement.executeUpdate(
+			"INSERT INTO users (id, uuid, changedate, creationdate, active, firstname, lastname, username, password, seed, jurisdictionlevel) "
+				+ "VALUES (10, 'user-10', now(), now(), true, 'Sur', 'Veillance', 'surv', 'password', 'seed', 'NATION')");
+		statement.executeUpdate(
+			"INSERT INTO person (id, uuid, changedate, creationdate, firstname, lastname, sex) "
+				+ "VALUES (1, 'person-1', now(), now(), 'John', 'Doe', 'MALE')");
+	}
+
+	/**
+	 * Compares the rollup view with the case counts computed from the source tables, before and after the changes are merged.
+	 */
+	private static void assertRollup(Statement statement, int expectedRows, int expectedCases) throws SQLException {
+
+		assertRollupMatches(statement, expectedRows, expectedCases);
+
+		statement.execute("SELECT merge_casestatistics()");
+		if (!statement.getConnection().getAutoCommit()) {
+			statement.getConnection().commit();
+		}
+		try (ResultSet resultSet = statement.executeQuery("SELECT count(*) FROM casestatistics_delta")) {
+			resultSet.next();
+			assertEquals(0, resultSet.getLong(1), "Changes that were not merged");
+		}
+		assertRollupMatches(statement, expectedRows, expectedCases);
+	}
+
+	private static void assertRollupMatches(Statement statement, int expectedRows, int expectedCases) throws SQLException {
+
+		try (ResultSet resultSet = statement.executeQuery(
+			"SELECT count(*) FROM ((" + ROLLUP_QUERY + " EXCEPT " + LIVE_QUERY + ") UNION ALL (" + LIVE_QUERY + " EXCEPT " + ROLLUP_QUERY
+				+ ")) difference")) {
+			resultSet.next();
+			assertEquals(0, resultSet.getLong(1), "Rows of casestatistics that don't match the cases");
+		}
+
+		try (ResultSet resultSet = statement.executeQuery("SELECT count(*), coalesce(sum(casecount), 0) FROM casestatistics")) {
+			resultSet.next();
+			assertEquals(expectedRows, resultSet.getLong(1));
+			assertEquals(expectedCases, resultSet.getLong(2));
+		}
+	}
+
+	private static void start(SormasPostgresSQLContainer container) {
+
+		try {
+			container.start();
+		} catch (IllegalStateException e) {
+			assertThat(e.getMessage(), equalTo("Could not find a valid Docker environment. Please see logs and check configuration"));
+			assumeNoException("Could not find a valid Docker environment, skipping test", e);
+		}
+	}
+}
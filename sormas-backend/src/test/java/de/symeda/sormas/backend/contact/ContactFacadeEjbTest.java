@@ -464,6 +464,66 @@ public class ContactFacadeEjbTest extends AbstractBeanTest {
 		assertEquals(1, tasks.size());
 	}
 
+	@Test
+	public void testGenerateContactFollowUpTasksWithPendingTask() {
+
+		RDCF rdcf = creator.createRDCF();
+		UserDto user = creator.createSurveillanceSupervisor(rdcf);
+		UserDto contactOfficer = creator.createContactOfficer(rdcf);
+		PersonDto cazePerson = creator.createPerson("Case", "Person");
+		CaseDataDto caze = creator.createCase(
+			user.toReference(),
+			cazePerson.toReference(),
+			Disease.EVD,
+			CaseClassification.PROBABLE,
+			InvestigationStatus.PENDING,
+			new Date(),
+			rdcf);
+		ContactDto contact = creator.createContact(
+			user.toReference(),
+			contactOfficer.toReference(),
+			creator.createPerson("Contact", "Person").toReference(),
+			caze,
+			new Date(),
+			new Date(),
+			null);
+		ContactDto otherContact = creator.createContact(
+			user.toReference(),
+			contactOfficer.toReference(),
+			creator.createPerson("Other", "Person").toReference(),
+			caze,
+			new Date(),
+			new Date(),
+			null);
+
+		// the contact officer still has a pending follow-up task for the first contact
+		creator.createTask(
+			TaskContext.CONTACT,
+			TaskType.CONTACT_FOLLOW_UP,
+			TaskStatus.PENDING,
+			null,
+			contact.toReference(),
+			null,
+			DateHelper.addDays(new Date(), 3),
+			contactOfficer.toReference());
+
+		getContactFacade().generateContactFollowUpTasks();
+
+		List<TaskDto> tasks = getTaskFacade().getAllByContact(contact.toReference())
+			.stream()
+			.filter(t -> t.getTaskType() == TaskType.CONTACT_FOLLOW_UP)
+			.collect(Collectors.toList());
+		assertEquals(1, tasks.size());
+		assertEquals(UtilDate.toLocalDate(DateHelper.addDays(new Date(), 3)), UtilDate.toLocalDate(tasks.get(0).getDueDate()));
+
+		List<TaskDto> otherTasks = getTaskFacade().getAllByContact(otherContact.toReference())
+			.stream()
+			.filter(t -> t.getTaskType() == TaskType.CONTACT_FOLLOW_UP)
+			.collect(Collectors.toList());
+		assertEquals(1, otherTasks.size());
+		assertEquals(LocalDate.now(), UtilDate.toLocalDate(otherTasks.get(0).getDueDate()));
+	}
+
 	@Test
 	public void testMapContactListCreation() {
 
@@ -2,7 +2,9 @@ package de.symeda.sormas.backend.dashboard;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -19,6 +21,7 @@ import de.symeda.sormas.api.dashboard.DashboardCaseDto;
 import de.symeda.sormas.api.dashboard.DashboardCriteria;
 import de.symeda.sormas.api.dashboard.DashboardEventDto;
 import de.symeda.sormas.api.dashboard.DashboardFacade;
+import de.symeda.sormas.api.dashboard.EpiCurveGrouping;
 import de.symeda.sormas.api.disease.DiseaseBurdenDto;
 import de.symeda.sormas.api.event.EventDto;
 import de.symeda.sormas.api.event.EventInvestigationStatus;
@@ -293,6 +296,54 @@ public class DashboardFacadeEjbTest extends AbstractBeanTest {
 		assertEquals(6, dashboardCaseDtos.get(PresentCondition.UNKNOWN).intValue());
 	}
 
+	@Test
+	public void testGetEpiCurveSeriesElementsPerCaseClassification() {
+
+		RDCF rdcf = creator.createRDCF();
+		UserDto user = creator.createSurveillanceSupervisor(rdcf);
+		PersonReferenceDto person = creator.createPerson("Case", "Person").toReference();
+
+		Date today = new Date();
+		Date twoDaysAgo = DateHelper.subtractDays(today, 2);
+		creator.createCase(user.toReference(), person, Disease.EVD, CaseClassification.PROBABLE, InvestigationStatus.PENDING, twoDaysAgo, rdcf);
+		creator.createCase(user.toReference(), person, Disease.EVD, CaseClassification.SUSPECT, InvestigationStatus.PENDING, today, rdcf);
+		creator.createCase(user.toReference(), person, Disease.EVD, CaseClassification.SUSPECT, InvestigationStatus.PENDING, today, rdcf);
+		// outside of the time frame
+		creator.createCase(
+			user.toReference(),
+			person,
+			Disease.EVD,
+			CaseClassification.SUSPECT,
+			InvestigationStatus.PENDING,
+			DateHelper.subtractDays(today, 10),
+			rdcf);
+
+		DashboardCriteria dashboardCriteria = new DashboardCriteria().disease(Disease.EVD)
+			.newCaseDateType(NewCaseDateType.MOST_RELEVANT)
+			.epiCurveGrouping(EpiCurveGrouping.DAY)
+			.dateBetween(twoDaysAgo, today);
+
+		Map<Date, Map<CaseClassification, Integer>> series = getDashboardFacade().getEpiCurveSeriesElementsPerCaseClassification(dashboardCriteria);
+		assertEquals(3, series.size());
+
+		List<Map<CaseClassification, Integer>> values = series.values().stream().collect(Collectors.toList());
+		assertEquals(1, values.get(0).size());
+		assertEquals(1, values.get(0).get(CaseClassification.PROBABLE).intValue());
+		assertTrue(values.get(1).isEmpty());
+		assertEquals(1, values.get(2).size());
+		assertEquals(2, values.get(2).get(CaseClassification.SUSPECT).intValue());
+
+		Map<Date, Map<PresentCondition, Integer>> presentConditionSeries =
+			getDashboardFacade().getEpiCurveSeriesElementsPerPresentCondition(dashboardCriteria);
+		assertEquals(3, presentConditionSeries.size());
+		assertEquals(
+			Arrays.asList(1, 0, 2),
+			presentConditionSeries.values()
+				.stream()
+				.map(counts -> counts.values().stream().mapToInt(Integer::intValue).sum())
+				.collect(Collectors.toList()));
+	}
+
 	private void createCasesForPersonWithCondition(PresentCondition presentCondition, UserReferenceDto userReferenceDto, RDCF rdcf, int nrOfCases) {
 		PersonDto personDto = creator.createPerson("James Smith", presentCondition.name(), p -> {
 			p.setPresentCondition(presentCondition);
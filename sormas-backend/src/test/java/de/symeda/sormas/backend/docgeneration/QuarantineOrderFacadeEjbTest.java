@@ -23,6 +23,8 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -31,12 +33,16 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
 import org.apache.poi.xwpf.usermodel.XWPFDocument;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
 
 import de.symeda.sormas.api.Disease;
 import de.symeda.sormas.api.ReferenceDto;
@@ -47,6 +53,7 @@ import de.symeda.sormas.api.contact.ContactReferenceDto;
 import de.symeda.sormas.api.docgeneneration.DocumentTemplateException;
 import de.symeda.sormas.api.docgeneneration.DocumentVariables;
 import de.symeda.sormas.api.docgeneneration.DocumentWorkflow;
+import de.symeda.sormas.api.docgeneneration.GeneratedDocumentsArchive;
 import de.symeda.sormas.api.docgeneneration.QuarantineOrderFacade;
 import de.symeda.sormas.api.event.EventDto;
 import de.symeda.sormas.api.event.EventParticipantDto;
@@ -68,6 +75,7 @@ import de.symeda.sormas.api.travelentry.TravelEntryDto;
 import de.symeda.sormas.api.travelentry.TravelEntryReferenceDto;
 import de.symeda.sormas.api.user.DefaultUserRole;
 import de.symeda.sormas.api.user.UserDto;
+import de.symeda.sormas.api.utils.DataHelper;
 import de.symeda.sormas.backend.MockProducer;
 import de.symeda.sormas.backend.TestDataCreator;
 import de.symeda.sormas.backend.common.ConfigFacadeEjb;
@@ -261,6 +269,35 @@ public class QuarantineOrderFacadeEjbTest extends AbstractDocGenerationTest {
 		verifyGeneratedDocument(rootEntityReference, workflow, "QuarantineContact.cmp", documentContents.get(rootEntityReference));
 	}
 
+	@Test
+	public void testBulkCaseDocumentArchiveCreation() throws DocumentTemplateException, IOException {
+		// render the documents on the calling thread
+		Mockito.doAnswer(invocation -> {
+			((Runnable) invocation.getArgument(0)).run();
+			return null;
+		}).when(MockProducer.getManagedScheduledExecutorService()).execute(ArgumentMatchers.any(Runnable.class));
+
+		ReferenceDto rootEntityReference = caseDataDto.toReference();
+
+		Properties properties = new Properties();
+		properties.setProperty("extraremark1", "the first remark");
+		properties.setProperty("extra.remark.no3", "the third remark");
+
+		DocumentWorkflow workflow = DocumentWorkflow.QUARANTINE_ORDER_CASE;
+		GeneratedDocumentsArchive archive = quarantineOrderFacadeEjb
+			.getGeneratedDocumentsArchive("Quarantine.docx", workflow, Collections.singletonList(rootEntityReference), properties, false);
+
+		assertEquals(1, archive.getDocumentCount());
+		assertTrue(archive.getUploadSizeLimitExceededUuids().isEmpty());
+
+		try (ZipFile zipFile = new ZipFile(archive.getFilePath())) {
+			ZipEntry entry = zipFile.getEntry(DataHelper.getShortUuid(rootEntityReference) + "-Quarantine.docx");
+			verifyGeneratedDocument(rootEntityReference, workflow, "QuarantineCase.cmp", IOUtils.toByteArray(zipFile.getInputStream(entry)));
+		} finally {
+			Files.delete(Paths.get(archive.getFilePath()));
+		}
+	}
+
 	@Test
 	public void testBulkEventParticipantDocumentCreation() throws DocumentTemplateException, IOException {
 		EventParticipantReferenceDto rootEntityReference = eventParticipantDto.toReference();
@@ -0,0 +1,67 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.docgeneration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TemplateCacheTest {
+
+	@Test
+	public void testTemplateReloadedOnChange(@TempDir Path tempDir) throws Exception {
+
+		Path templatePath = tempDir.resolve("template.txt");
+		Files.write(templatePath, "first".getBytes(StandardCharsets.UTF_8));
+		File templateFile = templatePath.toFile();
+
+		List<String> removed = new ArrayList<>();
+		TemplateCache<String> cache = new TemplateCache<>(removed::add);
+		AtomicInteger loadCount = new AtomicInteger();
+		TemplateCache.Loader<String, Exception> loader = file -> {
+			loadCount.incrementAndGet();
+			return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+		};
+
+		assertThat(cache.get(templateFile, loader), is("first"));
+		assertThat(cache.get(templateFile, loader), is("first"));
+		assertThat(loadCount.get(), is(1));
+
+		Files.write(templatePath, "second".getBytes(StandardCharsets.UTF_8));
+		Files.setLastModifiedTime(templatePath, FileTime.fromMillis(templateFile.lastModified() + 1000));
+
+		assertThat(cache.get(templateFile, loader), is("second"));
+		assertThat(loadCount.get(), is(2));
+		assertThat(removed, contains("first"));
+
+		cache.invalidate(templateFile);
+		assertThat(removed, contains("first", "second"));
+		assertThat(cache.get(templateFile, loader), is("second"));
+		assertThat(loadCount.get(), is(3));
+	}
+}
@@ -3,6 +3,7 @@ package de.symeda.sormas.backend.feature;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 
@@ -19,7 +20,9 @@ import de.symeda.sormas.api.user.DefaultUserRole;
 import de.symeda.sormas.api.user.UserReferenceDto;
 import de.symeda.sormas.api.utils.DataHelper;
 import de.symeda.sormas.backend.AbstractBeanTest;
+import de.symeda.sormas.backend.MockProducer;
 import de.symeda.sormas.backend.TestDataCreator.RDCF;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb;
 
 public class FeatureConfigurationFacadeEjbTest extends AbstractBeanTest {
 
@@ -40,6 +43,22 @@ public class FeatureConfigurationFacadeEjbTest extends AbstractBeanTest {
 		assertEquals(0, caseTasks.size());
 	}
 
+	@Test
+	public void testSavedFeatureConfigurationIsCheckedWithoutDelay() {
+
+		MockProducer.getProperties().setProperty(ConfigFacadeEjb.FEATURE_CONFIGURATIONS_CACHE_CHECK_INTERVAL, "3600");
+		assertTrue(getFeatureConfigurationFacade().isFeatureEnabled(FeatureType.TASK_GENERATION_CASE_SURVEILLANCE));
+
+		FeatureConfigurationIndexDto featureConfiguration =
+			new FeatureConfigurationIndexDto(DataHelper.createUuid(), null, null, null, null, null, false, null);
+		getFeatureConfigurationFacade().saveFeatureConfiguration(featureConfiguration, FeatureType.TASK_GENERATION_CASE_SURVEILLANCE);
+		assertTrue(getFeatureConfigurationFacade().isFeatureDisabled(FeatureType.TASK_GENERATION_CASE_SURVEILLANCE));
+
+		FeatureConfigurationService featureConfigurationService = getBean(FeatureConfigurationService.class);
+		featureConfigurationService.deletePermanent(featureConfigurationService.getByUuid(featureConfiguration.getUuid()));
+		assertTrue(getFeatureConfigurationFacade().isFeatureEnabled(FeatureType.TASK_GENERATION_CASE_SURVEILLANCE));
+	}
+
 	@Test
 	public void testIsPropertyValue() {
 
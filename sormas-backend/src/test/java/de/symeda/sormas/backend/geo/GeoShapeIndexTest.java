@@ -0,0 +1,82 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.geo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
+
+import de.symeda.sormas.api.geo.GeoLatLon;
+
+public class GeoShapeIndexTest {
+
+	private final GeometryFactory factory = new GeometryFactory();
+
+	@Test
+	public void testFind() {
+
+		Map<String, MultiPolygon> multiPolygons = new HashMap<>();
+		multiPolygons.put("west", createSquare(0, 0, 10));
+		// L-shaped district whose bounding box contains the "west" square
+		multiPolygons.put(
+			"surrounding",
+			factory.createMultiPolygon(
+				new Polygon[] {
+					factory.createPolygon(
+						new Coordinate[] {
+							new Coordinate(-5, -5),
+							new Coordinate(20, -5),
+							new Coordinate(20, 20),
+							new Coordinate(15, 20),
+							new Coordinate(15, 0),
+							new Coordinate(-5, 0),
+							new Coordinate(-5, -5) }) }));
+
+		GeoShapeIndex<String> index = new GeoShapeIndex<>(multiPolygons);
+
+		assertEquals("west", index.find(new GeoLatLon(5.0, 5.0)));
+		assertEquals("surrounding", index.find(new GeoLatLon(-2.0, 5.0)));
+		assertEquals("surrounding", index.find(new GeoLatLon(10.0, 17.0)));
+		assertNull(index.find(new GeoLatLon(12.0, 12.0)));
+		assertNull(index.find(new GeoLatLon(50.0, 50.0)));
+	}
+
+	@Test
+	public void testFindEmpty() {
+		assertNull(new GeoShapeIndex<String>(Collections.emptyMap()).find(new GeoLatLon(5.0, 5.0)));
+	}
+
+	private MultiPolygon createSquare(double x, double y, double size) {
+		return factory.createMultiPolygon(
+			new Polygon[] {
+				factory.createPolygon(
+					new Coordinate[] {
+						new Coordinate(x, y),
+						new Coordinate(x + size, y),
+						new Coordinate(x + size, y + size),
+						new Coordinate(x, y + size),
+						new Coordinate(x, y) }) });
+	}
+}
@@ -0,0 +1,144 @@
+package de.symeda.sormas.backend.infrastructure.central;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import de.symeda.sormas.api.infrastructure.region.RegionDto;
+import de.symeda.sormas.backend.central.EtcdCentralClient;
+import de.symeda.sormas.backend.central.EtcdCentralClient.RevisionedValues;
+import de.symeda.sormas.backend.infrastructure.region.RegionFacadeEjb.RegionFacadeEjbLocal;
+
+@ExtendWith(MockitoExtension.class)
+public class CentralInfraSyncFacadeTest {
+
+	private static final Date LAST_SYNC = new Date(1000);
+
+	@Mock
+	private EtcdCentralClient centralClient;
+	@Mock
+	private RegionFacadeEjbLocal regionFacade;
+
+	@InjectMocks
+	private CentralInfraSyncFacade centralInfraSyncFacade;
+
+	private final List<Integer> savedBatchSizes = new ArrayList<>();
+
+	@Test
+	public void testSyncOnlyLoadsEntitiesChangedAfterImportedRevision() throws IOException {
+
+		// the imported revisions are kept per type, so each test uses its own type
+		String type = "region-incremental";
+		mockCentral(type, 1, createRegions(2), 10);
+		recordSavedBatches();
+
+		Date newestChangeDate = centralInfraSyncFacade.loadAndStore(type, RegionDto.class, regionFacade, LAST_SYNC);
+		assertEquals(new Date(2000), newestChangeDate);
+		assertEquals(Collections.singletonList(2), savedBatchSizes);
+
+		// nothing changed on central since revision 10
+		mockCentral(type, 11, Collections.emptyList(), 12);
+		assertEquals(LAST_SYNC, centralInfraSyncFacade.loadAndStore(type, RegionDto.class, regionFacade, LAST_SYNC));
+
+		mockCentral(type, 13, createRegions(1), 13);
+		centralInfraSyncFacade.loadAndStore(type, RegionDto.class, regionFacade, LAST_SYNC);
+		assertEquals(List.of(2, 1), savedBatchSizes);
+	}
+
+	@Test
+	public void testEntitiesAreSavedInBatches() throws IOException {
+
+		recordSavedBatches();
+
+		mockCentral("region-batch-499", 1, createRegions(499), 1);
+		centralInfraSyncFacade.loadAndStore("region-batch-499", RegionDto.class, regionFacade, LAST_SYNC);
+		assertEquals(List.of(499), savedBatchSizes);
+
+		savedBatchSizes.clear();
+		mockCentral("region-batch-500", 1, createRegions(500), 1);
+		centralInfraSyncFacade.loadAndStore("region-batch-500", RegionDto.class, regionFacade, LAST_SYNC);
+		assertEquals(List.of(500), savedBatchSizes);
+
+		savedBatchSizes.clear();
+		mockCentral("region-batch-1001", 1, createRegions(1001), 1);
+		centralInfraSyncFacade.loadAndStore("region-batch-1001", RegionDto.class, regionFacade, LAST_SYNC);
+		assertEquals(List.of(500, 500, 1), savedBatchSizes);
+	}
+
+	@Test
+	public void testEntitiesNotChangedAfterLastSyncAreSkipped() throws IOException {
+
+		String type = "region-unchanged";
+		List<RegionDto> regions = createRegions(2);
+		regions.get(0).setChangeDate(LAST_SYNC);
+		mockCentral(type, 1, regions, 5);
+		recordSavedBatches();
+
+		centralInfraSyncFacade.loadAndStore(type, RegionDto.class, regionFacade, LAST_SYNC);
+
+		assertEquals(List.of(1), savedBatchSizes);
+	}
+
+	@Test
+	public void testFailedSyncIsRepeatedFromImportedRevision() throws IOException {
+
+		String type = "region-failed";
+		mockCentral(type, 1, createRegions(1000), 20);
+		doAnswer(invocation -> {
+			if (!savedBatchSizes.isEmpty()) {
+				throw new IllegalStateException("second batch fails");
+			}
+			savedBatchSizes.add(invocation.<List<?>> getArgument(0).size());
+			return null;
+		}).when(regionFacade).saveAllFromCentral(anyList());
+
+		assertThrows(
+			IllegalStateException.class,
+			() -> centralInfraSyncFacade.loadAndStore(type, RegionDto.class, regionFacade, LAST_SYNC));
+
+		// the revision was not advanced, so all entities are loaded again
+		mockCentral(type, 1, Collections.emptyList(), 20);
+		assertEquals(LAST_SYNC, centralInfraSyncFacade.loadAndStore(type, RegionDto.class, regionFacade, LAST_SYNC));
+		assertEquals(List.of(500), savedBatchSizes);
+	}
+
+	private void mockCentral(String type, long minModRevision, List<RegionDto> regions, long revision) throws IOException {
+
+		String path = String.format(CentralInfraSyncFacade.CENTRAL_LOCATION_TEMPLATE, type);
+		when(centralClient.getWithPrefix(path, RegionDto.class, minModRevision)).thenReturn(new RevisionedValues<>(regions, revision));
+	}
+
+	private void recordSavedBatches() {
+
+		doAnswer(invocation -> {
+			savedBatchSizes.add(invocation.<List<?>> getArgument(0).size());
+			return null;
+		}).when(regionFacade).saveAllFromCentral(anyList());
+	}
+
+	private List<RegionDto> createRegions(int count) {
+
+		return IntStream.range(0, count).mapToObj(i -> {
+			RegionDto region = RegionDto.build();
+			region.setName("Region " + i);
+			region.setChangeDate(new Date(LAST_SYNC.getTime() + 1 + i % 2 * 999));
+			return region;
+		}).collect(Collectors.toList());
+	}
+}
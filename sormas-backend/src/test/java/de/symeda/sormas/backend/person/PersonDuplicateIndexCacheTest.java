@@ -0,0 +1,77 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.person;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.sql.Timestamp;
+
+import org.junit.jupiter.api.Test;
+
+import de.symeda.sormas.api.person.PersonDto;
+import de.symeda.sormas.api.person.PersonSimilarityCriteria;
+import de.symeda.sormas.api.utils.DateHelper;
+import de.symeda.sormas.backend.AbstractBeanTest;
+import de.symeda.sormas.backend.MockProducer;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb;
+
+public class PersonDuplicateIndexCacheTest extends AbstractBeanTest {
+
+	@Test
+	public void testPersonWithOldChangeDate() {
+
+		PersonDuplicateIndexCache cache = getBean(PersonDuplicateIndexCache.class);
+
+		PersonDto unsavedPerson = PersonDto.build();
+		unsavedPerson.setFirstName("Ferdinand");
+		unsavedPerson.setLastName("Quastenflosser");
+		PersonSimilarityCriteria criteria = PersonSimilarityCriteria.forPerson(unsavedPerson);
+
+		// loads the index
+		creator.createPerson("Thomas", "Anderson");
+		assertThat(cache.mayHaveSimilarPersons(criteria), is(false));
+
+		// e.g. saved by a transaction that was committed long after the change date was set
+		PersonDto person = creator.createPerson("Ferdinand", "Quastenflosser");
+		executeInTransaction(em -> {
+			em.createNativeQuery("UPDATE person SET changedate = :changeDate WHERE uuid = :uuid")
+				.setParameter("changeDate", new Timestamp(DateHelper.subtractDays(person.getChangeDate(), 30).getTime()))
+				.setParameter("uuid", person.getUuid())
+				.executeUpdate();
+		});
+
+		assertThat(cache.mayHaveSimilarPersons(criteria), is(true));
+	}
+
+	@Test
+	public void testMorePersonsThanMaxPersons() {
+
+		MockProducer.mockProperty(ConfigFacadeEjb.DUPLICATE_CHECKS_INDEX_MAX_PERSONS, "1");
+		PersonDuplicateIndexCache cache = getBean(PersonDuplicateIndexCache.class);
+
+		PersonDto unsavedPerson = PersonDto.build();
+		unsavedPerson.setFirstName("Ferdinand");
+		unsavedPerson.setLastName("Quastenflosser");
+		PersonSimilarityCriteria criteria = PersonSimilarityCriteria.forPerson(unsavedPerson);
+
+		// no index is loaded, so the database has to be checked
+		creator.createPerson("Thomas", "Anderson");
+		creator.createPerson("Trinity", "Smith");
+		assertThat(cache.mayHaveSimilarPersons(criteria), is(true));
+		assertThat(cache.mayHaveSimilarPersons(criteria), is(true));
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.person;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+import de.symeda.sormas.api.person.PersonDto;
+import de.symeda.sormas.api.person.PersonSimilarityCriteria;
+import de.symeda.sormas.api.person.Sex;
+import de.symeda.sormas.api.utils.DataHelper;
+
+public class PersonDuplicateIndexTest {
+
+	private static final double THRESHOLD = 0.65;
+
+	@Test
+	public void testTrigramSimilarity() {
+
+		assertThat(PersonDuplicateIndex.trigrams("word").size(), is(5));
+		assertThat(
+			PersonDuplicateIndex.similarity(PersonDuplicateIndex.trigrams("müller"), PersonDuplicateIndex.trigrams("müller")),
+			is(closeTo(1, 0.001)));
+		// 6 shared of 9 distinct trigrams, like pg_trgm
+		assertThat(
+			PersonDuplicateIndex.similarity(PersonDuplicateIndex.trigrams("miller"), PersonDuplicateIndex.trigrams("millers")),
+			is(closeTo(0.667, 0.001)));
+		assertThat(PersonDuplicateIndex.normalize("Søren Müller"), is("soren muller"));
+	}
+
+	@Test
+	public void testMayHaveSimilarPersons() {
+
+		PersonDuplicateIndex index = new PersonDuplicateIndex();
+		index.add(candidate(1L, "Thomas", "Anderson", Sex.MALE, 1971, "P123"));
+		index.add(candidate(2L, "Maria", "Schmidt", Sex.FEMALE, null, null));
+
+		// similar name with a matching birth year and sex
+		assertThat(index.mayHaveSimilarPersons(criteria("Thomas", "Andersonn", Sex.MALE, 1971, null), THRESHOLD), is(true));
+		// contained in the name
+		assertThat(index.mayHaveSimilarPersons(criteria("Thom", "Anders", Sex.MALE, null, null), THRESHOLD), is(true));
+		// missing birth year of the indexed person matches any year
+		assertThat(index.mayHaveSimilarPersons(criteria("Maria", "Schmidt", Sex.FEMALE, 1980, null), THRESHOLD), is(true));
+
+		assertThat(index.mayHaveSimilarPersons(criteria("Peter", "Anderson", Sex.MALE, 1971, null), THRESHOLD), is(false));
+		assertThat(index.mayHaveSimilarPersons(criteria("Thomas", "Anderson", Sex.MALE, 1972, null), THRESHOLD), is(false));
+		assertThat(index.mayHaveSimilarPersons(criteria("Thomas", "Anderson", Sex.FEMALE, 1971, null), THRESHOLD), is(false));
+
+		// the passport number replaces the other attributes
+		assertThat(index.mayHaveSimilarPersons(criteria("Thomas", "Anderson", Sex.FEMALE, 1972, "P123"), THRESHOLD), is(true));
+		assertThat(index.mayHaveSimilarPersons(criteria("Thomas", "Anderson", Sex.FEMALE, 1972, "P124"), THRESHOLD), is(false));
+	}
+
+	@Test
+	public void testAmbiguousCriteriaAreCheckedInDatabase() {
+
+		PersonDuplicateIndex index = new PersonDuplicateIndex();
+		index.add(candidate(1L, "Thomas", "Anderson", Sex.MALE, 1971, null));
+
+		// too short to be blocked
+		assertThat(index.mayHaveSimilarPersons(criteria("Li", "Wu", Sex.MALE, 1971, null), THRESHOLD), is(true));
+		// like wildcards
+		assertThat(index.mayHaveSimilarPersons(criteria("Tho%", "Anderson", Sex.MALE, 1971, null), THRESHOLD), is(true));
+
+		PersonSimilarityCriteria strictCriteria = new PersonSimilarityCriteria().firstName("Peter").lastName("Parker");
+		assertThat(index.mayHaveSimilarPersons(strictCriteria, THRESHOLD), is(true));
+	}
+
+	@Test
+	public void testReplaceCandidate() {
+
+		PersonDuplicateIndex index = new PersonDuplicateIndex();
+		index.add(candidate(1L, "Thomas", "Anderson", Sex.MALE, 1971, null));
+		index.add(candidate(1L, "Thomas", "Anderson", Sex.MALE, 1981, null));
+
+		assertThat(index.size(), is(1));
+		assertThat(index.mayHaveSimilarPersons(criteria("Thomas", "Anderson", Sex.MALE, 1971, null), THRESHOLD), is(false));
+		assertThat(index.mayHaveSimilarPersons(criteria("Thomas", "Anderson", Sex.MALE, 1981, null), THRESHOLD), is(true));
+	}
+
+	private static PersonDuplicateIndex.Candidate candidate(
+		Long id,
+		String firstName,
+		String lastName,
+		Sex sex,
+		Integer birthdateYYYY,
+		String passportNumber) {
+
+		return new PersonDuplicateIndex.Candidate(
+			id,
+			DataHelper.createUuid(),
+			new Date(id * 1000 + (birthdateYYYY != null ? birthdateYYYY : 0)),
+			firstName,
+			lastName,
+			null,
+			null,
+			null,
+			sex,
+			birthdateYYYY,
+			null,
+			null,
+			null,
+			passportNumber);
+	}
+
+	private static PersonSimilarityCriteria criteria(
+		String firstName,
+		String lastName,
+		Sex sex,
+		Integer birthdateYYYY,
+		String passportNumber) {
+
+		PersonDto person = PersonDto.build();
+		person.setFirstName(firstName);
+		person.setLastName(lastName);
+		person.setSex(sex);
+		person.setBirthdateYYYY(birthdateYYYY);
+		person.setPassportNumber(passportNumber);
+		return PersonSimilarityCriteria.forPerson(person);
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.sormastosormas.crypto;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class KeyStoreCacheTest {
+
+	private static final String KEYSTORE_PASSWORD = "1234";
+
+	@Test
+	public void testKeyStoreReloadedOnChange(@TempDir Path tempDir) throws Exception {
+
+		Path keyStorePath = tempDir.resolve("keystore.p12");
+		Files.copy(
+			Paths.get("src/test/java/de/symeda/sormas/backend/sormastosormas/serveraccessdefault/sormas_a.sormas2sormas.keystore.p12"),
+			keyStorePath);
+
+		KeyStoreCache cache = new KeyStoreCache();
+		KeyStore keyStore = cache.getKeyStore(keyStorePath, KEYSTORE_PASSWORD);
+		String alias = keyStore.aliases().nextElement();
+		PrivateKey privateKey = cache.getPrivateKey(keyStorePath, KEYSTORE_PASSWORD, alias);
+
+		assertThat(privateKey, is(notNullValue()));
+		assertThat(cache.getKeyStore(keyStorePath, KEYSTORE_PASSWORD), is(sameInstance(keyStore)));
+		assertThat(cache.getPrivateKey(keyStorePath, KEYSTORE_PASSWORD, alias), is(sameInstance(privateKey)));
+		assertThat(cache.getPrivateKey(keyStorePath, KEYSTORE_PASSWORD, "unknown"), is(nullValue()));
+
+		Files.setLastModifiedTime(keyStorePath, FileTime.fromMillis(Files.getLastModifiedTime(keyStorePath).toMillis() + 1000));
+
+		assertThat(cache.getKeyStore(keyStorePath, KEYSTORE_PASSWORD), is(not(sameInstance(keyStore))));
+		assertThat(cache.getPrivateKey(keyStorePath, KEYSTORE_PASSWORD, alias), is(not(sameInstance(privateKey))));
+	}
+}
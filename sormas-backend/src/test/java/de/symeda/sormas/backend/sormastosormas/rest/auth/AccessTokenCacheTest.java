@@ -0,0 +1,63 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.sormastosormas.rest.auth;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.api.client.auth.oauth2.TokenResponse;
+
+public class AccessTokenCacheTest {
+
+	@Test
+	public void testTokenCachedUntilShortlyBeforeExpiry() throws Exception {
+
+		AtomicLong now = new AtomicLong(0);
+		AtomicInteger requests = new AtomicInteger();
+		AccessTokenCache cache = new AccessTokenCache((endpoint, clientId, clientSecret, scopes) -> {
+			requests.incrementAndGet();
+			return new TokenResponse().setAccessToken(scopes.get(0) + "-" + requests.get()).setExpiresInSeconds(300L);
+		}, now::get);
+
+		assertThat(cache.getAccessToken("endpoint", "client", "secret", "s2s-a"), is("s2s-a-1"));
+		assertThat(cache.getAccessToken("endpoint", "client", "secret", "s2s-b"), is("s2s-b-2"));
+
+		now.set(300000 - AccessTokenCache.REFRESH_AHEAD_MILLIS - 1);
+		assertThat(cache.getAccessToken("endpoint", "client", "secret", "s2s-a"), is("s2s-a-1"));
+		assertThat(requests.get(), is(2));
+
+		now.set(300000 - AccessTokenCache.REFRESH_AHEAD_MILLIS);
+		assertThat(cache.getAccessToken("endpoint", "client", "secret", "s2s-a"), is("s2s-a-3"));
+	}
+
+	@Test
+	public void testTokenWithoutExpiryNotCached() throws Exception {
+
+		AtomicInteger requests = new AtomicInteger();
+		AccessTokenCache cache = new AccessTokenCache((endpoint, clientId, clientSecret, scopes) -> {
+			requests.incrementAndGet();
+			return new TokenResponse().setAccessToken("token-" + requests.get());
+		}, () -> 0);
+
+		assertThat(cache.getAccessToken("endpoint", "client", "secret", "s2s-a"), is("token-1"));
+		assertThat(cache.getAccessToken("endpoint", "client", "secret", "s2s-a"), is("token-2"));
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * SORMAS® - Surveillance Outbreak Response Management & Analysis System
+ * Copyright © 2016-2022 Helmholtz-Zentrum für Infektionsforschung GmbH (HZI)
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package de.symeda.sormas.backend.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class UserRightsCacheTest {
+
+	@AfterEach
+	public void flushCache() {
+		UserRightsCache.getInstance().flush();
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEntriesAreEvicted() {
+
+		UserRightsCache cache = UserRightsCache.getInstance();
+		for (int i = 0; i < UserRightsCache.MAX_SIZE; i++) {
+			cache.put("User" + i, new UserRightsCache.UserRights(Collections.emptySet()));
+		}
+		assertNotNull(cache.get("user0"));
+
+		cache.put("Another user", new UserRightsCache.UserRights(Collections.emptySet()));
+		assertEquals(UserRightsCache.MAX_SIZE, cache.size());
+		assertNotNull(cache.get("user0"));
+		assertNull(cache.get("user1"));
+	}
+}
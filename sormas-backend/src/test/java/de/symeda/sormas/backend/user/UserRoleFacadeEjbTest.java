@@ -1,10 +1,14 @@
 package de.symeda.sormas.backend.user;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import org.junit.jupiter.api.Test;
 
 import de.symeda.sormas.api.i18n.I18nProperties;
 import de.symeda.sormas.api.i18n.Validations;
 import de.symeda.sormas.api.user.JurisdictionLevel;
+import de.symeda.sormas.api.user.UserRight;
 import de.symeda.sormas.api.user.UserRoleDto;
 import de.symeda.sormas.api.utils.ValidationRuntimeException;
 import de.symeda.sormas.backend.AbstractBeanTest;
@@ -28,4 +32,22 @@ public class UserRoleFacadeEjbTest extends AbstractBeanTest {
 			I18nProperties.getValidationError(Validations.jurisdictionChangeUserAssignment),
 			() -> getUserRoleFacade().saveUserRole(finalUserRole));
 	}
+
+	@Test
+	public void testChangedUserRightsAreUsedForRightsChecks() {
+
+		UserRoleDto userRole = UserRoleDto.build();
+		userRole.setUserRights(UserRight.getWithRequiredUserRights(UserRight.CASE_VIEW));
+		userRole.setJurisdictionLevel(JurisdictionLevel.NATION);
+		userRole.setCaption("Test user role");
+		userRole = getUserRoleFacade().saveUserRole(userRole);
+
+		loginWith(creator.createUser(creator.createRDCF(), userRole.toReference()));
+		assertTrue(getCurrentUserService().hasUserRight(UserRight.CASE_VIEW));
+		assertFalse(getCurrentUserService().hasUserRight(UserRight.CASE_EDIT));
+
+		userRole.setUserRights(UserRight.getWithRequiredUserRights(UserRight.CASE_VIEW, UserRight.CASE_EDIT));
+		getUserRoleFacade().saveUserRole(userRole);
+		assertTrue(getCurrentUserService().hasUserRight(UserRight.CASE_EDIT));
+	}
 }
@@ -17,7 +17,7 @@
 SELECT 'missing column' as remark, concat(c.table_name, '_history') as table_name, c.column_name as column_name, c.data_type as data_type FROM information_schema."columns" c
 LEFT OUTER JOIN information_schema."columns" c_hist
 ON concat(c.table_name, '_history') = c_hist.table_name AND c.column_name = c_hist.column_name
-WHERE c.table_schema = 'public' AND c.table_name NOT LIKE '%_history' AND c.table_name NOT IN ('schema_version', 'systemevent') AND c.table_name NOT like 'pg_%'
+WHERE c.table_schema = 'public' AND c.table_name NOT LIKE '%_history' AND c.table_name NOT IN ('schema_version', 'systemevent', 'casestatistics', 'casestatistics_merged', 'casestatistics_delta', 'campaignformvalue') AND c.table_name NOT like 'pg_%'
 AND c_hist.column_name IS NULL
 /* exclude tables where the history table is missing altogether */
 AND c.table_name NOT IN
@@ -26,14 +26,14 @@ AND c.table_name NOT IN
    AND (SELECT COUNT(t_hist.table_name) FROM information_schema."tables" t_hist WHERE concat(t.table_name,'_history') = t_hist .table_name) = 0)
 UNION
 SELECT 'no history table' as remark, t.table_name, null as column_name, null as data_type FROM information_schema."tables" t
-WHERE t.table_schema = 'public' AND t.table_name NOT LIKE '%_history' AND t.table_name NOT IN ('schema_version', 'systemevent') AND t.table_name NOT like 'pg_%'
+WHERE t.table_schema = 'public' AND t.table_name NOT LIKE '%_history' AND t.table_name NOT IN ('schema_version', 'systemevent', 'casestatistics', 'casestatistics_merged', 'casestatistics_delta', 'campaignformvalue') AND t.table_name NOT like 'pg_%'
 AND (SELECT COUNT(t_hist.table_name) FROM information_schema."tables" t_hist WHERE concat(t.table_name,'_history') = t_hist .table_name) = 0
 UNION
 SELECT 'missing delete history trigger' as remark, t.table_name, null as column_name, null as data_type FROM information_schema."tables" t
 WHERE t.table_schema = 'public'
   AND t.table_name NOT LIKE '%_history'
   AND t.table_name NOT LIKE '%_%'
-  AND t.table_name NOT IN ('schema_version', 'systemevent')
+  AND t.table_name NOT IN ('schema_version', 'systemevent', 'casestatistics', 'casestatistics_merged', 'casestatistics_delta', 'campaignformvalue')
   AND t.table_name NOT like 'pg_%'
   AND NOT exists(SELECT trigger_name
                  FROM information_schema.triggers
@@ -43,7 +43,7 @@ UNION
 SELECT 'missing versioning trigger' as remark, t.table_name, null as column_name, 'INSERT' as data_type FROM information_schema."tables" t
 WHERE t.table_schema = 'public'
   AND t.table_name NOT LIKE '%_history'
-  AND t.table_name NOT IN ('schema_version', 'systemevent')
+  AND t.table_name NOT IN ('schema_version', 'systemevent', 'casestatistics', 'casestatistics_merged', 'casestatistics_delta', 'campaignformvalue')
   AND t.table_name NOT like 'pg_%'
   AND NOT exists(SELECT trigger_name
                  FROM information_schema.triggers
@@ -54,7 +54,7 @@ UNION
 SELECT 'missing versioning trigger' as remark, t.table_name, null as column_name, 'UPDATE' as data_type FROM information_schema."tables" t
 WHERE t.table_schema = 'public'
   AND t.table_name NOT LIKE '%_history'
-  AND t.table_name NOT IN ('schema_version', 'systemevent')
+  AND t.table_name NOT IN ('schema_version', 'systemevent', 'casestatistics', 'casestatistics_merged', 'casestatistics_delta', 'campaignformvalue')
   AND t.table_name NOT like 'pg_%'
   AND NOT exists(SELECT trigger_name
                  FROM information_schema.triggers
@@ -66,7 +66,7 @@ SELECT 'missing versioning trigger' as remark, t.table_name, null as column_name
 WHERE t.table_schema = 'public'
   AND t.table_name ~* '_'
   AND t.table_name NOT LIKE '%_history'
-  AND t.table_name NOT IN ('schema_version', 'systemevent')
+  AND t.table_name NOT IN ('schema_version', 'systemevent', 'casestatistics', 'casestatistics_merged', 'casestatistics_delta', 'campaignformvalue')
   AND t.table_name NOT like 'pg_%'
   AND NOT exists(SELECT trigger_name
                  FROM information_schema.triggers
@@ -78,7 +78,7 @@ SELECT 'invalid versioning trigger' as remark, t.table_name, null as column_name
 WHERE t.table_schema = 'public'
   AND NOT (t.table_name ~* '_')
   AND t.table_name NOT LIKE '%_history'
-  AND t.table_name NOT IN ('schema_version', 'systemevent')
+  AND t.table_name NOT IN ('schema_version', 'systemevent', 'casestatistics', 'casestatistics_merged', 'casestatistics_delta', 'campaignformvalue')
   AND t.table_name NOT like 'pg_%'
   AND exists(SELECT trigger_name
                  FROM information_schema.triggers
@@ -1,9 +1,12 @@
 package de.symeda.sormas.rest;
 
+import java.util.List;
 import java.util.function.Function;
 
+import javax.annotation.Resource;
 import javax.annotation.security.PermitAll;
 import javax.ejb.LocalBean;
+import javax.ejb.SessionContext;
 import javax.ejb.Stateless;
 import javax.ejb.TransactionAttribute;
 import javax.ejb.TransactionAttributeType;
@@ -26,6 +29,9 @@ import javax.ejb.TransactionAttributeType;
 @PermitAll
 public class TransactionWrapper {
 
+	@Resource
+	private SessionContext sessionContext;
+
 	/**
 	 * Calls the passed function in a new JTA transaction.
 	 *
@@ -42,4 +48,27 @@ public class TransactionWrapper {
 
 		return function.apply(data);
 	}
+
+	/**
+	 * Calls the passed function for all of the passed data in one new JTA transaction.
+	 * If the function fails for any of the data, the whole transaction is rolled back, also for application exceptions that
+	 * would not roll back the transaction on their own (e.g. {@link de.symeda.sormas.api.utils.ValidationRuntimeException}).
+	 *
+	 * @param function
+	 *            The business logic to be executed for each entry of {@code data}.
+	 * @param data
+	 *            The data to be processed.
+	 */
+	@TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
+	public <T, R> void executeAll(Function<T, R> function, List<T> data) {
+
+		try {
+			for (T entry : data) {
+				function.apply(entry);
+			}
+		} catch (RuntimeException e) {
+			sessionContext.setRollbackOnly();
+			throw e;
+		}
+	}
 }
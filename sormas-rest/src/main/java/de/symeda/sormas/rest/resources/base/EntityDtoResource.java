@@ -51,6 +51,12 @@ public abstract class EntityDtoResource<DTO> {
 	@Context
 	private Providers providers;
 
+	/**
+	 * Number of posted entities that are saved in one transaction. Only when saving one of them fails, the entities of the batch
+	 * are saved again one by one in separate transactions to determine the result of each entity.
+	 */
+	private static final int PUSH_BATCH_SIZE = 100;
+
 	protected <T> Response savePostedDtosNonAtomic(List<T> dtos, UnaryOperator<T> saveEntityDto) {
 		if (dtos == null || dtos.isEmpty()) {
 			return Response.status(HttpStatus.SC_OK).build();
@@ -58,20 +64,34 @@ public abstract class EntityDtoResource<DTO> {
 
 		List<PostResponse> results = new ArrayList<>(dtos.size());
 
-		for (T dto : dtos) {
+		if (dtos.size() == 1) {
+			results.add(savePostedDto(dtos.get(0), saveEntityDto));
+			return Response.status(results.get(0).getStatusCode()).entity(results).build();
+		}
+
+		for (int batchStart = 0; batchStart < dtos.size(); batchStart += PUSH_BATCH_SIZE) {
+			List<T> batch = dtos.subList(batchStart, Math.min(batchStart + PUSH_BATCH_SIZE, dtos.size()));
 			try {
-				transactionWrapper.execute(saveEntityDto, dto);
+				transactionWrapper.executeAll(saveEntityDto, batch);
 				// save a few bytes by setting only the status code
-				results.add(new PostResponse(HttpStatus.SC_OK, null));
+				batch.forEach(dto -> results.add(new PostResponse(HttpStatus.SC_OK, null)));
 			} catch (Exception e) {
-				results.add(getPostResultError(e));
+				// the whole batch has been rolled back - save each entity separately to find the ones that fail
+				batch.forEach(dto -> results.add(savePostedDto(dto, saveEntityDto)));
 			}
 		}
 
-		if (dtos.size() == 1) {
-			return Response.status(results.get(0).getStatusCode()).entity(results).build();
-		} else {
-			return Response.status(HttpStatus.SC_MULTI_STATUS).entity(results).build();
+		return Response.status(HttpStatus.SC_MULTI_STATUS).entity(results).build();
+	}
+
+	private <T> PostResponse savePostedDto(T dto, UnaryOperator<T> saveEntityDto) {
+
+		try {
+			transactionWrapper.execute(saveEntityDto, dto);
+			// save a few bytes by setting only the status code
+			return new PostResponse(HttpStatus.SC_OK, null);
+		} catch (Exception e) {
+			return getPostResultError(e);
 		}
 	}
 
@@ -35,6 +35,7 @@ import com.vaadin.server.Sizeable.Unit;
 import com.vaadin.shared.ui.ContentMode;
 import com.vaadin.ui.Alignment;
 import com.vaadin.ui.Button;
+import com.vaadin.ui.ComboBox;
 import com.vaadin.ui.Component;
 import com.vaadin.ui.HorizontalLayout;
 import com.vaadin.ui.Label;
@@ -495,6 +496,46 @@ public class CaseController {
 		SormasUI.get().getNavigator().navigateTo(navigationState);
 	}
 
+	public void openReclassifyCasesPopup() {
+
+		VerticalLayout layout = new VerticalLayout();
+		layout.setMargin(false);
+
+		Label infoLabel = new Label(I18nProperties.getString(Strings.infoReclassifyCases));
+		infoLabel.setWidthFull();
+		layout.addComponent(infoLabel);
+
+		ComboBox<Disease> diseaseField = new ComboBox<>(
+			I18nProperties.getCaption(Captions.disease),
+			FacadeProvider.getDiseaseConfigurationFacade().getAllDiseases(true, true, true));
+		diseaseField.setEmptySelectionAllowed(false);
+		diseaseField.setRequiredIndicatorVisible(true);
+		layout.addComponent(diseaseField);
+
+		VaadinUiUtil.showConfirmationPopup(
+			I18nProperties.getCaption(Captions.actionReclassifyCases),
+			layout,
+			I18nProperties.getCaption(Captions.actionReclassifyCases),
+			I18nProperties.getCaption(Captions.actionCancel),
+			640,
+			confirmed -> {
+				if (!confirmed) {
+					return true;
+				}
+				if (diseaseField.getValue() == null) {
+					return false;
+				}
+
+				FacadeProvider.getCaseClassificationFacade().reclassifyCases(diseaseField.getValue());
+				VaadinUiUtil.showSimplePopupWindow(
+					I18nProperties.getString(Strings.headingCaseReclassificationStarted),
+					I18nProperties.getString(Strings.messageCaseReclassificationStarted),
+					ContentMode.TEXT,
+					640);
+				return true;
+			});
+	}
+
 	public void navigateToMergeCasesView(CaseCriteria criteria) {
 		ViewModelProvider viewModelProvider = ViewModelProviders.of(MergeCasesView.class);
 
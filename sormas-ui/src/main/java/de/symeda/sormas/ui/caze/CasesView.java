@@ -338,8 +338,9 @@ public class CasesView extends AbstractView {
 				StreamResource sampleExportStreamResource = DownloadUtil.createCsvExportStreamResource(
 					SampleExportDto.class,
 					null,
-					(Integer start, Integer max) -> FacadeProvider.getSampleFacade()
-						.getExportList(grid.getCriteria(), this.getSelectedRows(), start, max),
+					(Long lastId, Integer max) -> FacadeProvider.getSampleFacade()
+						.getExportListAfter(grid.getCriteria(), this.getSelectedRows(), lastId, max),
+					SampleExportDto::getId,
 					(propertyId, type) -> {
 						String caption = I18nProperties.findPrefixCaption(
 							propertyId,
@@ -464,6 +465,16 @@ public class CasesView extends AbstractView {
 			moreButton.addMenuEntry(mergeDuplicatesButton);
 		}
 
+		if (UserProvider.getCurrent().hasUserRight(UserRight.CASE_RECLASSIFY)
+			&& FacadeProvider.getConfigFacade().isFeatureAutomaticCaseClassification()) {
+			Button reclassifyCasesButton = ButtonHelper.createIconButton(Captions.actionReclassifyCases, VaadinIcons.REFRESH, e -> {
+				ControllerProvider.getCaseController().openReclassifyCasesPopup();
+				moreButton.setPopupVisible(false);
+			}, ValoTheme.BUTTON_PRIMARY);
+			reclassifyCasesButton.setWidth(100, Unit.PERCENTAGE);
+			moreButton.addMenuEntry(reclassifyCasesButton);
+		}
+
 		Button searchSpecificCaseButton = ButtonHelper.createIconButton(Captions.caseSearchSpecificCase, VaadinIcons.SEARCH, e -> {
 			buildAndOpenSearchSpecificCaseWindow();
 			moreButton.setPopupVisible(false);
@@ -119,16 +119,17 @@ public class ContactVisitsView extends AbstractContactView {
 				StreamResource exportStreamResource = DownloadUtil.createCsvExportStreamResource(
 					VisitExportDto.class,
 					VisitExportType.CONTACT_VISITS,
-					(Integer start, Integer max) -> FacadeProvider.getVisitFacade()
-						.getVisitsExportList(
+					(Long lastId, Integer max) -> FacadeProvider.getVisitFacade()
+						.getVisitsExportListAfter(
 							grid.getCriteria(),
 							grid.getSelectionModel() instanceof MultiSelectionModelImpl
 								? grid.asMultiSelect().getSelectedItems().stream().map(VisitIndexDto::getUuid).collect(Collectors.toSet())
 								: null,
 							VisitExportType.CONTACT_VISITS,
-							start,
+							lastId,
 							max,
 							null),
+					VisitExportDto::getId,
 					(propertyId, type) -> {
 						String caption = findPrefixCaption(
 							propertyId,
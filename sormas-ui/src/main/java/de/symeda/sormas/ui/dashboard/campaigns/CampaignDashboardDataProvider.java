@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -173,51 +174,66 @@ public class CampaignDashboardDataProvider {
 
 	protected void createDiagramsData(String tabId, String subTabId) {
 
-		getCampaignDashboardDiagrams().forEach(campaignDashboardDiagramDto -> {
+		final CampaignDiagramCriteria campaignDiagramCriteria =
+			new CampaignDiagramCriteria(campaign, area, region, district, campaignJurisdictionLevelGroupBy);
+		final List<CampaignDashboardDiagramDto> tabDiagrams = getCampaignDashboardDiagrams().stream().filter(campaignDashboardDiagramDto -> {
 			final CampaignDashboardElement campaignDashboardElement = campaignDashboardDiagramDto.getCampaignDashboardElement();
-			if (campaignDashboardElement.getTabId().equals(tabId) && (subTabId == null || campaignDashboardElement.getSubTabId().equals(subTabId))) {
-				List<CampaignDiagramDataDto> diagramData = FacadeProvider.getCampaignFormDataFacade()
-					.getDiagramData(
-						campaignDashboardDiagramDto.getCampaignDiagramDefinitionDto().getCampaignDiagramSeries(),
-						new CampaignDiagramCriteria(campaign, area, region, district, campaignJurisdictionLevelGroupBy));
-				campaignFormDataMap.put(campaignDashboardDiagramDto, diagramData);
-				List<CampaignDiagramSeries> campaignSeriesTotal =
-					campaignDashboardDiagramDto.getCampaignDiagramDefinitionDto().getCampaignSeriesTotal();
-
-				List<CampaignDiagramDataDto> percentageDiagramData = null;
-				if (campaignSeriesTotal != null) {
-					Optional populationGroup = campaignSeriesTotal.stream().filter(e -> Objects.nonNull(e.getPopulationGroup())).findFirst();
-					Optional formIdOptional = campaignSeriesTotal.stream().filter(e -> Objects.nonNull(e.getFormId())).findFirst();
-					{
-						if (populationGroup.isPresent()) {
-							percentageDiagramData = FacadeProvider.getCampaignFormDataFacade()
-								.getDiagramDataByAgeGroup(
-									(CampaignDiagramSeries) populationGroup.get(),
-									campaignDashboardDiagramDto.getCampaignDiagramDefinitionDto().getCampaignDiagramSeries().get(0),
-									new CampaignDiagramCriteria(campaign, area, region, district, campaignJurisdictionLevelGroupBy));
-							if (formIdOptional.isPresent()) {
-								logger.warn(String.format(I18nProperties.getString(Strings.errorFormIdPopulationAgeGroup)));
-							}
-						} else {
-							percentageDiagramData = FacadeProvider.getCampaignFormDataFacade()
-								.getDiagramData(
-									campaignDashboardDiagramDto.getCampaignDiagramDefinitionDto().getCampaignSeriesTotal(),
-									new CampaignDiagramCriteria(campaign, area, region, district, campaignJurisdictionLevelGroupBy));
-						}
-						Map<CampaignDashboardTotalsReference, Double> percentageMap = new HashMap<>();
-						for (CampaignDiagramDataDto data : percentageDiagramData) {
-							CampaignDashboardTotalsReference totals = new CampaignDashboardTotalsReference(data.getGroupingKey(), data.getStack());
-							Double value = percentageMap.getOrDefault(totals, 0D);
-							value += data.getValueSum().doubleValue();
-							percentageMap.put(totals, value);
+			return campaignDashboardElement.getTabId().equals(tabId)
+				&& (subTabId == null || campaignDashboardElement.getSubTabId().equals(subTabId));
+		}).collect(Collectors.toList());
+
+		// the data of all diagrams and of their totals not based on population is loaded at once
+		final List<List<CampaignDiagramSeries>> diagramsSeries = new ArrayList<>();
+		tabDiagrams.forEach(campaignDashboardDiagramDto -> {
+			final CampaignDiagramDefinitionDto campaignDiagramDefinitionDto = campaignDashboardDiagramDto.getCampaignDiagramDefinitionDto();
+			diagramsSeries.add(campaignDiagramDefinitionDto.getCampaignDiagramSeries());
+			List<CampaignDiagramSeries> campaignSeriesTotal = campaignDiagramDefinitionDto.getCampaignSeriesTotal();
+			if (campaignSeriesTotal != null && !getPopulationGroupSeries(campaignSeriesTotal).isPresent()) {
+				diagramsSeries.add(campaignSeriesTotal);
+			}
+		});
+		final Iterator<List<CampaignDiagramDataDto>> diagramsData =
+			FacadeProvider.getCampaignFormDataFacade().getDashboardDiagramData(diagramsSeries, campaignDiagramCriteria).iterator();
+
+		tabDiagrams.forEach(campaignDashboardDiagramDto -> {
+			campaignFormDataMap.put(campaignDashboardDiagramDto, diagramsData.next());
+			List<CampaignDiagramSeries> campaignSeriesTotal =
+				campaignDashboardDiagramDto.getCampaignDiagramDefinitionDto().getCampaignSeriesTotal();
+
+			List<CampaignDiagramDataDto> percentageDiagramData = null;
+			if (campaignSeriesTotal != null) {
+				Optional<CampaignDiagramSeries> populationGroup = getPopulationGroupSeries(campaignSeriesTotal);
+				Optional formIdOptional = campaignSeriesTotal.stream().filter(e -> Objects.nonNull(e.getFormId())).findFirst();
+				{
+					if (populationGroup.isPresent()) {
+						percentageDiagramData = FacadeProvider.getCampaignFormDataFacade()
+							.getDiagramDataByAgeGroup(
+								populationGroup.get(),
+								campaignDashboardDiagramDto.getCampaignDiagramDefinitionDto().getCampaignDiagramSeries().get(0),
+								campaignDiagramCriteria);
+						if (formIdOptional.isPresent()) {
+							logger.warn(String.format(I18nProperties.getString(Strings.errorFormIdPopulationAgeGroup)));
 						}
-						campaignFormTotalsMap.put(campaignDashboardDiagramDto, percentageMap);
+					} else {
+						percentageDiagramData = diagramsData.next();
 					}
+					Map<CampaignDashboardTotalsReference, Double> percentageMap = new HashMap<>();
+					for (CampaignDiagramDataDto data : percentageDiagramData) {
+						CampaignDashboardTotalsReference totals = new CampaignDashboardTotalsReference(data.getGroupingKey(), data.getStack());
+						Double value = percentageMap.getOrDefault(totals, 0D);
+						value += data.getValueSum().doubleValue();
+						percentageMap.put(totals, value);
+					}
+					campaignFormTotalsMap.put(campaignDashboardDiagramDto, percentageMap);
 				}
 			}
 		});
 	}
 
+	private static Optional<CampaignDiagramSeries> getPopulationGroupSeries(List<CampaignDiagramSeries> campaignSeriesTotal) {
+		return campaignSeriesTotal.stream().filter(e -> Objects.nonNull(e.getPopulationGroup())).findFirst();
+	}
+
 	public List<String> getTabIds() {
 		if (campaign != null) {
 			return getCampaignDashboardDiagrams().stream()
@@ -19,10 +19,14 @@ import static de.symeda.sormas.ui.docgeneration.DocGenerationHelper.isFileSizeLi
 
 import de.symeda.sormas.api.Disease;
 import de.symeda.sormas.api.event.EventParticipantReferenceDto;
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +46,7 @@ import de.symeda.sormas.api.FacadeProvider;
 import de.symeda.sormas.api.ReferenceDto;
 import de.symeda.sormas.api.docgeneneration.DocumentWorkflow;
 import de.symeda.sormas.api.docgeneneration.EventDocumentFacade;
+import de.symeda.sormas.api.docgeneneration.GeneratedDocumentsArchive;
 import de.symeda.sormas.api.docgeneneration.QuarantineOrderFacade;
 import de.symeda.sormas.api.event.EventReferenceDto;
 import de.symeda.sormas.api.i18n.Captions;
@@ -95,10 +100,10 @@ public class DocGenerationController {
 			new QuarantineOrderLayout(workflow, null, null, null, (templateFile, sample, pathogenTest, vaccination, extraProperties, shouldUploadGeneratedDoc) -> {
 				QuarantineOrderFacade quarantineOrderFacade = FacadeProvider.getQuarantineOrderFacade();
 
-				Map<ReferenceDto, byte[]> generatedDocumentContents =
-					quarantineOrderFacade.getGeneratedDocuments(templateFile, workflow, referenceDtos, extraProperties, shouldUploadGeneratedDoc);
+				GeneratedDocumentsArchive archive = quarantineOrderFacade
+					.getGeneratedDocumentsArchive(templateFile, workflow, referenceDtos, extraProperties, shouldUploadGeneratedDoc);
 
-				return generateZip(templateFile, shouldUploadGeneratedDoc, generatedDocumentContents);
+				return openArchive(archive);
 
 			}, (templateFile) -> filename));
 	}
@@ -109,14 +114,33 @@ public class DocGenerationController {
 			new QuarantineOrderLayout(DocumentWorkflow.QUARANTINE_ORDER_EVENT_PARTICIPANT, null, null, null, (templateFile, sample, pathogenTest, vaccination, extraProperties, shouldUploadGeneratedDoc) -> {
 				QuarantineOrderFacade quarantineOrderFacade = FacadeProvider.getQuarantineOrderFacade();
 
-				Map<ReferenceDto, byte[]> generatedDocumentContents =
-					quarantineOrderFacade.getGeneratedDocumentsForEventParticipants(templateFile, referenceDtos, eventDisease, extraProperties, shouldUploadGeneratedDoc);
+				GeneratedDocumentsArchive archive = quarantineOrderFacade.getGeneratedDocumentsArchiveForEventParticipants(
+					templateFile,
+					referenceDtos,
+					eventDisease,
+					extraProperties,
+					shouldUploadGeneratedDoc);
 
-				return generateZip(templateFile, shouldUploadGeneratedDoc, generatedDocumentContents);
+				return openArchive(archive);
 
 			}, (templateFile) -> filename));
 	}
 
+	private InputStream openArchive(GeneratedDocumentsArchive archive) {
+
+		if (!archive.getUploadSizeLimitExceededUuids().isEmpty()) {
+			buildDocumentUploadWarningWindow(
+				archive.getUploadSizeLimitExceededUuids(),
+				FacadeProvider.getConfigFacade().getDocumentUploadSizeLimitMb());
+		}
+
+		try {
+			return new BufferedInputStream(Files.newInputStream(Paths.get(archive.getFilePath())));
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
 	private ByteArrayInputStream generateZip(
 		String templateFile,
 		Boolean shouldUploadGeneratedDoc,
@@ -17,16 +17,29 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.ParseException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.ejb.EJBException;
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
 import javax.validation.ConstraintViolation;
 import javax.validation.Validation;
 import javax.validation.Validator;
@@ -46,6 +59,7 @@ import com.vaadin.ui.UI;
 import com.vaadin.ui.Window;
 
 import de.symeda.sormas.api.FacadeProvider;
+import de.symeda.sormas.api.Language;
 import de.symeda.sormas.api.caze.CaseDataDto;
 import de.symeda.sormas.api.customizableenum.CustomizableEnumType;
 import de.symeda.sormas.api.i18n.Captions;
@@ -94,6 +108,7 @@ import de.symeda.sormas.ui.utils.components.progress.ProgressResult;
 public abstract class DataImporter {
 
 	protected static final String ERROR_COLUMN_NAME = I18nProperties.getCaption(Captions.importErrorDescription);
+	private static final String MANAGED_EXECUTOR_SERVICE_JNDI = "java:comp/DefaultManagedExecutorService";
 
 	protected final Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -119,11 +134,11 @@ public abstract class DataImporter {
 	/**
 	 * Whether the import should be canceled after the current line.
 	 */
-	private boolean cancelAfterCurrent;
+	private volatile boolean cancelAfterCurrent;
 	/**
 	 * Whether or not the current import has resulted in at least one error.
 	 */
-	private boolean hasImportError;
+	private volatile boolean hasImportError;
 	/**
 	 * CSV separator used in the file
 	 */
@@ -133,6 +148,19 @@ public abstract class DataImporter {
 	private CSVWriter errorReportCsvWriter;
 
 	private final EnumCaptionCache enumCaptionCache;
+	/**
+	 * Infrastructure and user references already resolved during this import, by type and name.
+	 */
+	private final Map<List<Object>, Object> referenceLookupTable = new ConcurrentHashMap<>();
+	/**
+	 * Import errors of the line currently imported by a worker thread, to be written to the error report in the order of the lines.
+	 */
+	private final ThreadLocal<List<String[]>> importErrorBuffer = new ThreadLocal<>();
+	/**
+	 * Executor for parallel imports, resolved before the import thread is started, because JNDI lookups of container resources
+	 * only work on threads managed by the container.
+	 */
+	private Executor importExecutor;
 
 	public DataImporter(File inputFile, boolean hasEntityClassRow, UserDto currentUser, ValueSeparator csvSeparator) throws IOException {
 		this.inputFile = inputFile;
@@ -170,6 +198,10 @@ public abstract class DataImporter {
 		window.setClosable(false);
 		currentUI.addWindow(window);
 
+		if (isParallelImportSupported() && FacadeProvider.getConfigFacade().getImportParallelism() > 1) {
+			importExecutor = getImportExecutor();
+		}
+
 		Thread importThread = new Thread(() -> {
 			try {
 				currentUI.setPollInterval(300);
@@ -291,18 +323,25 @@ public abstract class DataImporter {
 				return ImportResultStatus.CANCELED_WITH_ERRORS;
 			}
 
-			int lineCounter = 0;
-			while (nextLine != null) {
-				ImportLineResult lineResult = importDataFromCsvLine(nextLine, entityClasses, entityProperties, entityPropertyPaths, lineCounter == 0);
-				logger.debug("runImport - line {}", lineCounter);
-				if (importedLineCallback != null) {
-					importedLineCallback.accept(lineResult);
-				}
-				if (cancelAfterCurrent) {
-					break;
+			int lineCounter;
+			int parallelism = isParallelImportSupported() ? FacadeProvider.getConfigFacade().getImportParallelism() : 1;
+			if (parallelism > 1) {
+				lineCounter = importLinesInParallel(csvReader, nextLine, entityClasses, entityProperties, entityPropertyPaths, parallelism);
+			} else {
+				lineCounter = 0;
+				while (nextLine != null) {
+					ImportLineResult lineResult =
+						importDataFromCsvLine(nextLine, entityClasses, entityProperties, entityPropertyPaths, lineCounter == 0);
+					logger.debug("runImport - line {}", lineCounter);
+					if (importedLineCallback != null) {
+						importedLineCallback.accept(lineResult);
+					}
+					if (cancelAfterCurrent) {
+						break;
+					}
+					nextLine = readNextValidLine(csvReader);
+					lineCounter++;
 				}
-				nextLine = readNextValidLine(csvReader);
-				lineCounter++;
 			}
 
 			if (logger.isDebugEnabled()) {
@@ -329,6 +368,137 @@ public abstract class DataImporter {
 		}
 	}
 
+	/**
+	 * Imports the lines of the import file with the worker threads of the container. The next lines are read while the workers are
+	 * busy, but the error report and the progress callback still get the lines in the order of the import file.
+	 * Lines with the same {@link #getParallelImportKey(String[], String[]) key} are assigned to the same lane and imported one after
+	 * another, so checks for existing entities done by the facades see the lines imported before.
+	 *
+	 * @return The number of imported lines
+	 */
+	private int importLinesInParallel(
+		CSVReader csvReader,
+		String[] firstLine,
+		String[] entityClasses,
+		String[] entityProperties,
+		String[][] entityPropertyPaths,
+		int parallelism)
+		throws IOException, InvalidColumnException, InterruptedException, CsvValidationException {
+
+		Language language = I18nProperties.getUserLanguage();
+		Executor executor = importExecutor != null ? importExecutor : getImportExecutor();
+		CompletableFuture<?>[] lanes = new CompletableFuture<?>[parallelism];
+		Arrays.fill(lanes, CompletableFuture.completedFuture(null));
+		Deque<CompletableFuture<ImportedLine>> pendingLines = new ArrayDeque<>();
+		int lineCounter = 0;
+
+		try {
+			// The first line is imported on its own, because it might alter the logic for the following lines
+			ImportLineResult firstLineResult = importDataFromCsvLine(firstLine, entityClasses, entityProperties, entityPropertyPaths, true);
+			if (importedLineCallback != null) {
+				importedLineCallback.accept(firstLineResult);
+			}
+			lineCounter++;
+
+			String[] nextLine = cancelAfterCurrent ? null : readNextValidLine(csvReader);
+			while (nextLine != null || !pendingLines.isEmpty()) {
+				// Keep the workers busy, but don't read ahead too far, so memory usage is bounded
+				while (nextLine != null && pendingLines.size() < parallelism * 2) {
+					final String[] values = nextLine;
+					String key = getParallelImportKey(values, entityProperties);
+					int lane = key != null ? Math.floorMod(key.hashCode(), parallelism) : 0;
+					// The line is started when the previous line of its lane is done, no matter whether that one failed
+					CompletableFuture<ImportedLine> pendingLine = lanes[lane].handleAsync((previous, previousError) -> {
+						// The workers are pooled threads of the server, so the language is removed again afterwards, like in SessionFilter
+						I18nProperties.setUserLanguage(language);
+						importErrorBuffer.set(new ArrayList<>());
+						try {
+							ImportLineResult result = importDataFromCsvLine(values, entityClasses, entityProperties, entityPropertyPaths, false);
+							return new ImportedLine(result, importErrorBuffer.get());
+						} catch (IOException | InvalidColumnException | InterruptedException e) {
+							throw new CompletionException(e);
+						} finally {
+							importErrorBuffer.remove();
+							I18nProperties.removeUserLanguage();
+						}
+					}, executor);
+					lanes[lane] = pendingLine;
+					pendingLines.add(pendingLine);
+					nextLine = readNextValidLine(csvReader);
+				}
+
+				ImportedLine importedLine = getImportedLine(pendingLines.poll());
+				for (String[] errorLine : importedLine.errorLines) {
+					hasImportError = true;
+					errorReportCsvWriter.writeNext(errorLine);
+				}
+				logger.debug("runImport - line {}", lineCounter);
+				if (importedLineCallback != null) {
+					importedLineCallback.accept(importedLine.result);
+				}
+				lineCounter++;
+
+				if (cancelAfterCurrent) {
+					// lines already passed to the workers are still finished and reported
+					nextLine = null;
+				}
+			}
+		} finally {
+			// The executor is managed by the container and must not be shut down; lines that have not been started are dropped
+			pendingLines.forEach(pendingLine -> pendingLine.cancel(false));
+		}
+
+		return lineCounter;
+	}
+
+	private ImportedLine getImportedLine(Future<ImportedLine> pendingLine) throws IOException, InvalidColumnException, InterruptedException {
+
+		try {
+			return pendingLine.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			} else if (cause instanceof InvalidColumnException) {
+				throw (InvalidColumnException) cause;
+			} else if (cause instanceof InterruptedException) {
+				throw (InterruptedException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new RuntimeException(cause);
+		}
+	}
+
+	/**
+	 * Whether the lines of the import file can be imported without user interaction, so they can be imported by several threads at
+	 * once (see {@link de.symeda.sormas.api.ConfigFacade#getImportParallelism()}). Lines that depend on each other must be assigned
+	 * the same {@link #getParallelImportKey(String[], String[]) key}.
+	 */
+	protected boolean isParallelImportSupported() {
+		return false;
+	}
+
+	/**
+	 * Lines with the same key are imported one after another when importing in parallel. {@code null} puts the line in the same
+	 * lane as all other lines without a key.
+	 */
+	protected String getParallelImportKey(String[] values, String[] entityProperties) {
+		return null;
+	}
+
+	/**
+	 * The executor used to import lines in parallel. This is the default managed executor of the application server, so the
+	 * workers get the container context they need to call the facades.
+	 */
+	protected Executor getImportExecutor() {
+		try {
+			return (Executor) new InitialContext().lookup(MANAGED_EXECUTOR_SERVICE_JNDI);
+		} catch (NamingException e) {
+			throw new IllegalStateException("Managed executor service is not available: " + MANAGED_EXECUTOR_SERVICE_JNDI, e);
+		}
+	}
+
 	public void cancelImport() {
 		cancelAfterCurrent = true;
 	}
@@ -477,7 +647,8 @@ public abstract class DataImporter {
 			return true;
 		}
 		if (propertyType.isAssignableFrom(AreaReferenceDto.class)) {
-			List<AreaReferenceDto> areas = FacadeProvider.getAreaFacade().getByName(entry, false);
+			List<AreaReferenceDto> areas =
+				lookupReference(() -> FacadeProvider.getAreaFacade().getByName(entry, false), AreaReferenceDto.class, entry);
 			if (areas.isEmpty()) {
 				throw new ImportErrorException(
 					I18nProperties.getValidationError(Validations.importEntryDoesNotExist, entry, buildEntityProperty(entryHeaderPath)));
@@ -490,7 +661,8 @@ public abstract class DataImporter {
 			}
 		}
 		if (propertyType.isAssignableFrom(SubcontinentReferenceDto.class)) {
-			List<SubcontinentReferenceDto> subcontinents = FacadeProvider.getSubcontinentFacade().getByDefaultName(entry, false);
+			List<SubcontinentReferenceDto> subcontinents =
+				lookupReference(() -> FacadeProvider.getSubcontinentFacade().getByDefaultName(entry, false), SubcontinentReferenceDto.class, entry);
 			if (subcontinents.isEmpty()) {
 				throw new ImportErrorException(
 					I18nProperties.getValidationError(Validations.importEntryDoesNotExist, entry, buildEntityProperty(entryHeaderPath)));
@@ -503,7 +675,8 @@ public abstract class DataImporter {
 			}
 		}
 		if (propertyType.isAssignableFrom(CountryReferenceDto.class)) {
-			List<CountryReferenceDto> countries = FacadeProvider.getCountryFacade().getByDefaultName(entry, false);
+			List<CountryReferenceDto> countries =
+				lookupReference(() -> FacadeProvider.getCountryFacade().getByDefaultName(entry, false), CountryReferenceDto.class, entry);
 			if (countries.isEmpty()) {
 				throw new ImportErrorException(
 					I18nProperties.getValidationError(Validations.importEntryDoesNotExist, entry, buildEntityProperty(entryHeaderPath)));
@@ -516,7 +689,8 @@ public abstract class DataImporter {
 			}
 		}
 		if (propertyType.isAssignableFrom(ContinentReferenceDto.class)) {
-			List<ContinentReferenceDto> continents = FacadeProvider.getContinentFacade().getByDefaultName(entry, false);
+			List<ContinentReferenceDto> continents =
+				lookupReference(() -> FacadeProvider.getContinentFacade().getByDefaultName(entry, false), ContinentReferenceDto.class, entry);
 			if (continents.isEmpty()) {
 				throw new ImportErrorException(
 					I18nProperties.getValidationError(Validations.importEntryDoesNotExist, entry, buildEntityProperty(entryHeaderPath)));
@@ -529,7 +703,8 @@ public abstract class DataImporter {
 			}
 		}
 		if (propertyType.isAssignableFrom(RegionReferenceDto.class)) {
-			List<RegionDto> regions = FacadeProvider.getRegionFacade().getByName(entry, false);
+			List<RegionDto> regions =
+				lookupReference(() -> FacadeProvider.getRegionFacade().getByName(entry, false), RegionReferenceDto.class, entry);
 			if (regions.isEmpty()) {
 				throw new ImportErrorException(
 					I18nProperties.getValidationError(Validations.importEntryDoesNotExist, entry, buildEntityProperty(entryHeaderPath)));
@@ -538,7 +713,9 @@ public abstract class DataImporter {
 					I18nProperties.getValidationError(Validations.importRegionNotUnique, entry, buildEntityProperty(entryHeaderPath)));
 			} else {
 				RegionDto region = regions.get(0);
-				CountryReferenceDto serverCountry = FacadeProvider.getCountryFacade().getServerCountry();
+				CountryReferenceDto serverCountry =
+					lookupReference(() -> Optional.ofNullable(FacadeProvider.getCountryFacade().getServerCountry()), CountryReferenceDto.class)
+						.orElse(null);
 
 				if (region.getCountry() != null && !region.getCountry().equals(serverCountry)) {
 					throw new ImportErrorException(
@@ -550,9 +727,10 @@ public abstract class DataImporter {
 			}
 		}
 		if (propertyType.isAssignableFrom(UserReferenceDto.class)) {
-			UserDto user = FacadeProvider.getUserFacade().getByUserName(entry);
-			if (user != null) {
-				pd.getWriteMethod().invoke(element, user.toReference());
+			Optional<UserDto> user =
+				lookupReference(() -> Optional.ofNullable(FacadeProvider.getUserFacade().getByUserName(entry)), UserReferenceDto.class, entry);
+			if (user.isPresent()) {
+				pd.getWriteMethod().invoke(element, user.get().toReference());
 				return true;
 			} else {
 				throw new ImportErrorException(
@@ -567,6 +745,27 @@ public abstract class DataImporter {
 		return false;
 	}
 
+	/**
+	 * Resolves infrastructure or user references only once per import; they are not supposed to change during the import.
+	 *
+	 * @param lookup
+	 *            Resolves the reference if it has not been resolved yet; must not return {@code null}
+	 * @param key
+	 *            Identifies the reference, e.g. its type and name
+	 */
+	@SuppressWarnings("unchecked")
+	protected <T> T lookupReference(Supplier<T> lookup, Object... key) {
+
+		List<Object> lookupKey = Arrays.asList(key);
+		Object reference = referenceLookupTable.get(lookupKey);
+		if (reference == null) {
+			reference = lookup.get();
+			referenceLookupTable.putIfAbsent(lookupKey, reference);
+		}
+
+		return (T) reference;
+	}
+
 	/**
 	 * Provides the structure to insert a whole line into the object entity. The actual inserting has to take
 	 * place in a callback.
@@ -677,11 +876,18 @@ public abstract class DataImporter {
 	}
 
 	protected void writeImportError(String[] errorLine, String message) throws IOException {
-		hasImportError = true;
 		List<String> errorLineAsList = new ArrayList<>();
 		errorLineAsList.add(message);
 		errorLineAsList.addAll(Arrays.asList(errorLine));
-		errorReportCsvWriter.writeNext(errorLineAsList.toArray(new String[errorLineAsList.size()]));
+		String[] errorReportLine = errorLineAsList.toArray(new String[errorLineAsList.size()]);
+
+		List<String[]> bufferedErrorLines = importErrorBuffer.get();
+		if (bufferedErrorLines != null) {
+			bufferedErrorLines.add(errorReportLine);
+		} else {
+			hasImportError = true;
+			errorReportCsvWriter.writeNext(errorReportLine);
+		}
 	}
 
 	protected String buildEntityProperty(String[] entityPropertyPath) {
@@ -718,6 +924,17 @@ public abstract class DataImporter {
 		return errorReportFileName;
 	}
 
+	private static final class ImportedLine {
+
+		private final ImportLineResult result;
+		private final List<String[]> errorLines;
+
+		private ImportedLine(ImportLineResult result, List<String[]> errorLines) {
+			this.result = result;
+			this.errorLines = errorLines;
+		}
+	}
+
 	protected <T> ImportLineResultDto<T> validateConstraints(T object) {
 		ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
 		Validator validator = factory.getValidator();
@@ -27,6 +27,7 @@ import de.symeda.sormas.api.infrastructure.district.DistrictReferenceDto;
 import de.symeda.sormas.api.infrastructure.facility.FacilityDto;
 import de.symeda.sormas.api.infrastructure.pointofentry.PointOfEntryDto;
 import de.symeda.sormas.api.infrastructure.region.RegionDto;
+import de.symeda.sormas.api.infrastructure.region.RegionReferenceDto;
 import de.symeda.sormas.api.infrastructure.subcontinent.SubcontinentDto;
 import de.symeda.sormas.api.user.UserDto;
 import de.symeda.sormas.api.utils.ValidationRuntimeException;
@@ -50,6 +51,27 @@ public class InfrastructureImporter extends DataImporter {
 		this.allowOverwrite = allowOverwrite;
 	}
 
+	@Override
+	protected boolean isParallelImportSupported() {
+		return true;
+	}
+
+	/**
+	 * An import file only contains one infrastructure type, so parent entities are never created by the same file. Lines only depend
+	 * on each other through the duplicate check, which is based on the name.
+	 */
+	@Override
+	protected String getParallelImportKey(String[] values, String[] entityProperties) {
+		String nameProperty =
+			type == InfrastructureType.CONTINENT || type == InfrastructureType.SUBCONTINENT ? ContinentDto.DEFAULT_NAME : RegionDto.NAME;
+		for (int i = 0; i < entityProperties.length && i < values.length; i++) {
+			if (nameProperty.equalsIgnoreCase(entityProperties[i])) {
+				return StringUtils.lowerCase(StringUtils.trimToNull(values[i]));
+			}
+		}
+		return null;
+	}
+
 	@Override
 	protected ImportLineResult importDataFromCsvLine(
 		String[] values,
@@ -181,21 +203,26 @@ public class InfrastructureImporter extends DataImporter {
 					// is referenced in the imported object does not exist in the database
 					if (!executeDefaultInvoke(pd, currentElement, value, entityPropertyPath)) {
 						if (propertyType.isAssignableFrom(DistrictReferenceDto.class)) {
-							List<DistrictReferenceDto> district;
+							RegionReferenceDto region;
 							switch (type) {
 							case COMMUNITY:
-								district = FacadeProvider.getDistrictFacade().getByName(value, ((CommunityDto) newEntityDto).getRegion(), false);
+								region = ((CommunityDto) newEntityDto).getRegion();
 								break;
 							case FACILITY:
-								district = FacadeProvider.getDistrictFacade().getByName(value, ((FacilityDto) newEntityDto).getRegion(), false);
+								region = ((FacilityDto) newEntityDto).getRegion();
 								break;
 							case POINT_OF_ENTRY:
-								district = FacadeProvider.getDistrictFacade().getByName(value, ((PointOfEntryDto) newEntityDto).getRegion(), false);
+								region = ((PointOfEntryDto) newEntityDto).getRegion();
 								break;
 							default:
 								throw new UnsupportedOperationException(
 									I18nProperties.getValidationError(Validations.importPropertyTypeNotAllowed, propertyType.getName()));
 							}
+							List<DistrictReferenceDto> district = lookupReference(
+								() -> FacadeProvider.getDistrictFacade().getByName(value, region, false),
+								DistrictReferenceDto.class,
+								value,
+								region);
 							if (district.isEmpty()) {
 								throw new ImportErrorException(
 									I18nProperties.getValidationError(
@@ -212,7 +239,12 @@ public class InfrastructureImporter extends DataImporter {
 						} else if (propertyType.isAssignableFrom(CommunityReferenceDto.class)) {
 							List<CommunityReferenceDto> community;
 							if (type == InfrastructureType.FACILITY) {
-								community = FacadeProvider.getCommunityFacade().getByName(value, ((FacilityDto) newEntityDto).getDistrict(), false);
+								DistrictReferenceDto district = ((FacilityDto) newEntityDto).getDistrict();
+								community = lookupReference(
+									() -> FacadeProvider.getCommunityFacade().getByName(value, district, false),
+									CommunityReferenceDto.class,
+									value,
+									district);
 							} else {
 								throw new UnsupportedOperationException(
 									I18nProperties.getValidationError(Validations.importPropertyTypeNotAllowed, propertyType.getName()));
@@ -47,8 +47,9 @@ public class CaseDownloadUtil {
 		return DownloadUtil.createCsvExportStreamResource(
 			CaseExportDto.class,
 			exportType,
-			(Integer start, Integer max) -> FacadeProvider.getCaseFacade()
-				.getExportList(criteria, selectedRows.get(), exportType, start, max, exportConfiguration, I18nProperties.getUserLanguage()),
+			(Long lastId, Integer max) -> FacadeProvider.getCaseFacade()
+				.getExportListAfter(criteria, selectedRows.get(), exportType, lastId, max, exportConfiguration, I18nProperties.getUserLanguage()),
+			CaseExportDto::getId,
 			CaseDownloadUtil::captionProvider,
 			ExportEntityName.CASES,
 			exportConfiguration);
@@ -45,8 +45,9 @@ public class ContactDownloadUtil {
 		return DownloadUtil.createCsvExportStreamResource(
 			ContactExportDto.class,
 			null,
-			(Integer start, Integer max) -> FacadeProvider.getContactFacade()
-				.getExportList(contactCriteria, selectedRows.get(), start, max, exportConfiguration, I18nProperties.getUserLanguage()),
+			(Long lastId, Integer max) -> FacadeProvider.getContactFacade()
+				.getExportListAfter(contactCriteria, selectedRows.get(), lastId, max, exportConfiguration, I18nProperties.getUserLanguage()),
+			ContactExportDto::getId,
 			ContactDownloadUtil::captionProvider,
 			ExportEntityName.CONTACTS,
 			exportConfiguration);
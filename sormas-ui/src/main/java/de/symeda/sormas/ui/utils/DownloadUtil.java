@@ -43,6 +43,7 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -564,17 +565,50 @@ public final class DownloadUtil {
 		ExportEntityName entityName,
 		ExportConfigurationDto exportConfiguration) {
 
+		return createCsvExportStreamResource(
+			entityName,
+			out -> CsvStreamUtils.writeCsvContentToStream(
+				exportRowClass,
+				exportRowsSupplier,
+				propertyIdCaptionFunction,
+				exportConfiguration,
+				(o) -> exportType == null || hasExportTarget(exportType, (Method) o),
+				FacadeProvider.getConfigFacade(),
+				out));
+	}
+
+	/**
+	 * Like {@link #createCsvExportStreamResource(Class, Enum, CsvStreamUtils.SupplierBiFunction, CsvStreamUtils.SupplierBiFunction,
+	 * ExportEntityName, ExportConfigurationDto)}, but fetches the rows batch-wise after the id of the last exported row.
+	 */
+	public static <T> StreamResource createCsvExportStreamResource(
+		Class<T> exportRowClass,
+		Enum<?> exportType,
+		CsvStreamUtils.SupplierBiFunction<Long, Integer, List<T>> exportRowsAfterIdSupplier,
+		Function<T, Long> exportRowIdGetter,
+		CsvStreamUtils.SupplierBiFunction<String, Class<?>, String> propertyIdCaptionFunction,
+		ExportEntityName entityName,
+		ExportConfigurationDto exportConfiguration) {
+
+		return createCsvExportStreamResource(
+			entityName,
+			out -> CsvStreamUtils.writeCsvContentToStream(
+				exportRowClass,
+				exportRowsAfterIdSupplier,
+				exportRowIdGetter,
+				propertyIdCaptionFunction,
+				exportConfiguration,
+				(o) -> exportType == null || hasExportTarget(exportType, (Method) o),
+				FacadeProvider.getConfigFacade(),
+				out));
+	}
+
+	private static StreamResource createCsvExportStreamResource(ExportEntityName entityName, Consumer<OutputStream> writeCsvContent) {
+
 		String exportFileName = createFileNameWithCurrentDate(entityName, ".csv");
 		StreamResource extendedStreamResource = new StreamResource(() -> new DelayedInputStream((out) -> {
 			try {
-				CsvStreamUtils.writeCsvContentToStream(
-					exportRowClass,
-					exportRowsSupplier,
-					propertyIdCaptionFunction,
-					exportConfiguration,
-					(o) -> exportType == null || hasExportTarget(exportType, (Method) o),
-					FacadeProvider.getConfigFacade(),
-					out);
+				writeCsvContent.accept(out);
 			} catch (Exception e) {
 				LoggerFactory.getLogger(DownloadUtil.class).error(e.getMessage(), e);
 
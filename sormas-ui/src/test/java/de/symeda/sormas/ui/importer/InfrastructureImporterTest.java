@@ -12,7 +12,13 @@ import java.io.Writer;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.enterprise.context.control.RequestContextController;
 
 import org.junit.jupiter.api.Test;
 
@@ -31,6 +37,8 @@ import de.symeda.sormas.api.infrastructure.region.RegionCriteria;
 import de.symeda.sormas.api.infrastructure.region.RegionReferenceDto;
 import de.symeda.sormas.api.user.DefaultUserRole;
 import de.symeda.sormas.api.user.UserDto;
+import de.symeda.sormas.backend.MockProducer;
+import de.symeda.sormas.backend.common.ConfigFacadeEjb;
 import de.symeda.sormas.ui.AbstractUiBeanTest;
 
 public class InfrastructureImporterTest extends AbstractUiBeanTest {
@@ -255,10 +263,68 @@ public class InfrastructureImporterTest extends AbstractUiBeanTest {
 		assertEquals(3, getDistrictFacade().count(new DistrictCriteria()));
 	}
 
+	@Test
+	public void testParallelImportDoesNotCreateDuplicates()
+		throws IOException, InvalidColumnException, InterruptedException, CsvValidationException, URISyntaxException {
+		var rdcf = creator.createRDCF("Default Region", "Default District", "Default Community", "Default Facility");
+		UserDto user = creator.createUser(
+			rdcf.region.getUuid(),
+			rdcf.district.getUuid(),
+			rdcf.facility.getUuid(),
+			"Default",
+			"User",
+			creator.getUserRoleReference(DefaultUserRole.ADMIN));
+
+		MockProducer.mockProperty(ConfigFacadeEjb.IMPORT_PARALLELISM, "4");
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			// Each line is imported in its own request context, like the managed executor of the server does
+			Executor executor = task -> executorService.execute(() -> {
+				RequestContextController requestContextController = getBean(RequestContextController.class);
+				requestContextController.activate();
+				try {
+					task.run();
+				} finally {
+					requestContextController.deactivate();
+				}
+			});
+
+			// Each region name occurs three times in the file
+			File regionCsvFile = new File(getClass().getClassLoader().getResource("sormas_region_import_test_parallel.csv").toURI());
+			InfrastructureImporter importer = new InfrastructureImporterExtension(regionCsvFile, user, InfrastructureType.REGION, executor);
+			assertEquals(ImportResultStatus.COMPLETED_WITH_ERRORS, importer.runImport());
+		} finally {
+			executorService.shutdownNow();
+		}
+
+		// Default Region + 6 imported regions
+		assertEquals(7, getRegionFacade().count(new RegionCriteria()));
+		for (String name : Arrays.asList("Alpha", "Bravo", "Charlie", "Delta", "Echo", "Foxtrot")) {
+			assertThat(getRegionFacade().getReferencesByName("Region " + name, false), hasSize(1));
+		}
+	}
+
 	private static class InfrastructureImporterExtension extends InfrastructureImporter {
 
+		private final Executor importExecutor;
+
 		private InfrastructureImporterExtension(File inputFile, UserDto currentUser, InfrastructureType infrastructureType) throws IOException {
+			this(inputFile, currentUser, infrastructureType, null);
+		}
+
+		private InfrastructureImporterExtension(
+			File inputFile,
+			UserDto currentUser,
+			InfrastructureType infrastructureType,
+			Executor importExecutor)
+			throws IOException {
 			super(inputFile, currentUser, infrastructureType, ValueSeparator.COMMA);
+			this.importExecutor = importExecutor;
+		}
+
+		@Override
+		protected Executor getImportExecutor() {
+			return importExecutor;
 		}
 
 		protected Writer createErrorReportWriter() {